@@ -106,4 +106,52 @@ public interface OgmProperties {
 	 * </ul>
 	 */
 	String ERROR_HANDLER = "hibernate.ogm.error_handler";
+
+	/**
+	 * Property for specifying the maximum number of blocks an id generator may reserve with a single round trip to the
+	 * datastore, a block being the increment size of the generator (or a single value if no optimizer is used). The
+	 * number of reserved blocks adapts to the rate at which ids are requested, up to the given maximum. Accepts
+	 * {@code int}. Defaults to 1, i.e. one round trip per block.
+	 */
+	String ID_BLOCK_RESERVATION_MAX_BLOCKS = "hibernate.ogm.id.block_reservation.max_blocks";
+
+	/**
+	 * Property for specifying the number of threads used to execute the batched operations of a flush in parallel.
+	 * The operations are partitioned by the table (collection, cache etc.) of the entities they apply to; the
+	 * partitions are executed concurrently and the flush completes once all of them are done. The operations are not
+	 * ordered across tables, so they must not depend on each other, e.g. by references checked by the datastore; if
+	 * the operations of one table fail, the ones of the other tables may still be applied. Only applies to
+	 * datastores with a dialect supporting batched operations and without transactions of their own; it is ignored for
+	 * datastores whose transactions are bound to the flushing thread. Accepts {@code int}. Defaults to 0, i.e. the
+	 * operations are executed sequentially.
+	 */
+	String PARALLEL_FLUSH_THREADS = "hibernate.ogm.datastore.parallel_flush_threads";
+
+	/**
+	 * Property for specifying the number of entities returned by {@code Query#scroll()} or {@code Query#iterate()} of a
+	 * JP-QL query after which an entity returned earlier is evicted from the persistence context, so that large
+	 * results can be processed in constant memory. Entities must not be modified once evicted. Accepts {@code int}.
+	 * Defaults to 0, i.e. no entities are evicted.
+	 */
+	String QUERY_RESULT_EVICTION_WINDOW = "hibernate.ogm.query.result_eviction_window";
+
+	/**
+	 * Property for specifying the maximum number of parsed native queries kept in the cache, keyed by query string.
+	 * Accepts {@code int}. Defaults to 500; 0 disables the cache.
+	 */
+	String NATIVE_QUERY_CACHE_MAX_SIZE = "hibernate.ogm.query.native_query_cache.max_size";
+
+	/**
+	 * Property for enabling the collection of statistics on the operations invoked on the grid dialect, i.e. latency
+	 * distributions as well as invocation, tuple and error counts per operation and entity table or association role.
+	 * The statistics are accessible via the {@link org.hibernate.ogm.statistics.DatastoreStatistics} service and can
+	 * be switched off and on again at runtime. Accepts {@code boolean}. Defaults to {@code false}.
+	 */
+	String DATASTORE_STATISTICS = "hibernate.ogm.datastore.statistics";
+
+	/**
+	 * Property for specifying whether the {@link org.hibernate.ogm.statistics.DatastoreStatistics} are registered as
+	 * MBean with the platform MBean server. Accepts {@code boolean}. Defaults to {@code false}.
+	 */
+	String DATASTORE_STATISTICS_JMX_ENABLED = "hibernate.ogm.datastore.statistics.jmx_enabled";
 }
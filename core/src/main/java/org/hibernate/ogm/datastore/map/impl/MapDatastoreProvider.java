@@ -166,10 +166,14 @@ public void removeAssociation(AssociationKey key) {
 		associationsKeyValueStorage.remove( key );
 	}
 
+	/**
+	 * Returns the current value of the given sequence and advances it by the given increment, i.e. the values
+	 * {@code [value, value + increment)} are reserved to the caller.
+	 */
 	public int getSharedAtomicInteger(IdSourceKey key, int initialValue, int increment) {
-		AtomicInteger valueProposal = new AtomicInteger( initialValue );
+		AtomicInteger valueProposal = new AtomicInteger( initialValue + increment );
 		AtomicInteger previous = sequencesStorage.putIfAbsent( key, valueProposal );
-		return previous == null ? initialValue : previous.addAndGet( increment );
+		return previous == null ? initialValue : previous.getAndAdd( increment );
 	}
 
 	/**
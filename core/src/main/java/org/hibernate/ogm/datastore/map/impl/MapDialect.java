@@ -26,6 +26,7 @@
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.OperationContext;
+import org.hibernate.ogm.dialect.spi.PartitionedModelConsumer;
 import org.hibernate.ogm.dialect.spi.TransactionContext;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.dialect.spi.TuplesSupplier;
@@ -39,6 +40,7 @@
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleColumnIndex;
 import org.hibernate.persister.entity.Lockable;
 
 /**
@@ -82,7 +84,7 @@ public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 			return null;
 		}
 		else {
-			return new Tuple( new MapTupleSnapshot( entityMap ), SnapshotType.UPDATE );
+			return new Tuple( new MapTupleSnapshot( entityMap ), SnapshotType.UPDATE, operationContext.getTupleTypeContext().getColumnIndex() );
 		}
 	}
 
@@ -90,9 +92,10 @@ public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		List<Map<String, Object>> mapResults = provider.getEntityTuples( keys );
 		List<Tuple> results = new ArrayList<>( mapResults.size() );
+		TupleColumnIndex columnIndex = tupleContext.getTupleTypeContext().getColumnIndex();
 		// should be done with a lambda for the tuple creation but that's for demo purposes
 		for ( Map<String, Object> entry : mapResults ) {
-			results.add( entry != null ? new Tuple( new MapTupleSnapshot( entry ), SnapshotType.UPDATE ) : null );
+			results.add( entry != null ? new Tuple( new MapTupleSnapshot( entry ), SnapshotType.UPDATE, columnIndex ) : null );
 		}
 		return results;
 	}
@@ -101,7 +104,7 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 		HashMap<String,Object> tuple = new HashMap<String, Object>();
 		provider.putEntity( key, tuple );
-		return new Tuple( new MapTupleSnapshot( tuple ), SnapshotType.INSERT );
+		return new Tuple( new MapTupleSnapshot( tuple ), SnapshotType.INSERT, operationContext.getTupleTypeContext().getColumnIndex() );
 	}
 
 	@Override
@@ -153,22 +156,36 @@ public Number nextValue(NextValueRequest request) {
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata metadata) {
 		Map<EntityKey, Map<String, Object>> entityMap = provider.getEntityMap();
-		consumer.consume( new MapTuplesSupplier( entityMap, metadata ) );
+		if ( consumer instanceof PartitionedModelConsumer && ( (PartitionedModelConsumer) consumer ).getPartitions() > 1 ) {
+			int partitions = ( (PartitionedModelConsumer) consumer ).getPartitions();
+			List<TuplesSupplier> suppliers = new ArrayList<>( partitions );
+			for ( int partition = 0; partition < partitions; partition++ ) {
+				suppliers.add( new MapTuplesSupplier( entityMap, metadata, partition, partitions ) );
+			}
+			( (PartitionedModelConsumer) consumer ).consume( suppliers );
+		}
+		else {
+			consumer.consume( new MapTuplesSupplier( entityMap, metadata, 0, 1 ) );
+		}
 	}
 
 	private static class MapTuplesSupplier implements TuplesSupplier {
 
 		private final Map<EntityKey, Map<String, Object>> entityMap;
 		private final EntityKeyMetadata metadata;
+		private final int partition;
+		private final int partitions;
 
-		public MapTuplesSupplier(Map<EntityKey, Map<String, Object>> entityMap, EntityKeyMetadata metadata) {
+		public MapTuplesSupplier(Map<EntityKey, Map<String, Object>> entityMap, EntityKeyMetadata metadata, int partition, int partitions) {
 			this.entityMap = entityMap;
 			this.metadata = metadata;
+			this.partition = partition;
+			this.partitions = partitions;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			return new MapTupleIterator( entityMap, metadata );
+			return new MapTupleIterator( entityMap, metadata, partition, partitions );
 		}
 	}
 
@@ -177,12 +194,16 @@ private static class MapTupleIterator implements ClosableIterator<Tuple> {
 		private final EntityKeyMetadata metadata;
 		private final Map<EntityKey, Map<String, Object>> entityMap;
 		private final Iterator<EntityKey> iterator;
+		private final int partition;
+		private final int partitions;
 		private EntityKey next;
 		private boolean hasNext = false;
 
-		public MapTupleIterator(Map<EntityKey, Map<String, Object>> entityMap, EntityKeyMetadata metadata) {
+		public MapTupleIterator(Map<EntityKey, Map<String, Object>> entityMap, EntityKeyMetadata metadata, int partition, int partitions) {
 			this.entityMap = entityMap;
 			this.metadata = metadata;
+			this.partition = partition;
+			this.partitions = partitions;
 			this.iterator = entityMap.keySet().iterator();
 			this.next = next( this.iterator );
 		}
@@ -204,7 +225,8 @@ private EntityKey next(Iterator<EntityKey> iterator) {
 		}
 
 		public boolean isValidKey(EntityKey key) {
-			return key.getTable().equals( metadata.getTable() );
+			return key.getTable().equals( metadata.getTable() )
+					&& ( key.hashCode() & Integer.MAX_VALUE ) % partitions == partition;
 		}
 
 		@Override
@@ -61,21 +61,25 @@ public static Map<String, Object> associationRowToMap(Tuple associationRow) {
 
 	public static void updateAssociation(Association association) {
 		Map<RowKey, Map<String, Object>> underlyingMap = ( (MapAssociationSnapshot) association.getSnapshot() ).getUnderlyingMap();
+		applyAssociationOpsOnMap( association, underlyingMap );
+		// the snapshot has been updated so we have to clear the various operations added to the Association
+		association.reset();
+	}
+
+	public static void applyAssociationOpsOnMap(Association association, Map<RowKey, Map<String, Object>> map) {
 		for ( AssociationOperation action : association.getOperations() ) {
 			switch ( action.getType() ) {
 				case CLEAR:
-					underlyingMap.clear();
+					map.clear();
 					break;
 				case PUT:
-					underlyingMap.put( action.getKey(), MapHelpers.associationRowToMap( action.getValue() ) );
+					map.put( action.getKey(), MapHelpers.associationRowToMap( action.getValue() ) );
 					break;
 				case REMOVE:
-					underlyingMap.remove( action.getKey() );
+					map.remove( action.getKey() );
 					break;
 			}
 		}
-		// the snapshot has been updated so we have to clear the various operations added to the Association
-		association.reset();
 	}
 
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.dialect.batch.spi;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -127,6 +129,13 @@ public boolean isInTheInsertionQueue(EntityKey key) {
 		return insertionQueue.contains( key );
 	}
 
+	/**
+	 * @return a read-only view of the operations in the queue, in the order they are polled
+	 */
+	public Collection<Operation> getOperations() {
+		return Collections.unmodifiableCollection( operations );
+	}
+
 	/**
 	 * @return the length of the queue
 	 */
@@ -7,6 +7,7 @@
 package org.hibernate.ogm.dialect.impl;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
@@ -100,6 +101,11 @@ public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 		return super.getTuple( key, contextWithQueue );
 	}
 
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		return super.getTuples( keys, new TupleContextImpl( (TupleContextImpl) tupleContext, getOperationQueue() ) );
+	}
+
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
 		if ( isBatchDisabled() ) {
@@ -125,6 +131,15 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return super.getAssociation( key, withQueue( associationContext ) );
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		AssociationContext[] contextsWithQueue = new AssociationContext[associationContexts.length];
+		for ( int i = 0; i < associationContexts.length; i++ ) {
+			contextsWithQueue[i] = withQueue( associationContexts[i] );
+		}
+		return super.getAssociations( keys, contextsWithQueue );
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		return super.createAssociation( key, withQueue( associationContext ) );
@@ -18,6 +18,8 @@
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.statistics.DatastoreStatistics;
+import org.hibernate.ogm.statistics.impl.DatastoreStatisticsImpl;
 import org.hibernate.ogm.util.configurationreader.impl.DefaultClassPropertyReaderContext;
 import org.hibernate.ogm.util.configurationreader.impl.Instantiator;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
@@ -54,11 +56,13 @@ public GridDialect initiateService(Map configurationValues, ServiceRegistryImple
 		EventContextManager eventContext = registry.getService( EventContextManager.class );
 
 		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader( configurationValues, registry.getService( ClassLoaderService.class ) );
+		ParallelFlushExecutor parallelFlushExecutor = registry.getService( ParallelFlushExecutor.class );
+		DatastoreStatisticsImpl statistics = (DatastoreStatisticsImpl) registry.getService( DatastoreStatistics.class );
 
 		return ( (DefaultClassPropertyReaderContext<GridDialect>) propertyReader.property( OgmProperties.GRID_DIALECT, GridDialect.class )
 				.instantiate() )
 				.withDefaultImplementation( registry.getService( DatastoreProvider.class ).getDefaultDialect() )
-				.withInstantiator( new GridDialectInstantiator( datastore, errorHandlerConfigured, eventContext ) )
+				.withInstantiator( new GridDialectInstantiator( datastore, errorHandlerConfigured, parallelFlushExecutor, statistics, eventContext ) )
 				.getValue();
 	}
 
@@ -66,11 +70,15 @@ private static class GridDialectInstantiator implements Instantiator<GridDialect
 
 		private final DatastoreProvider datastore;
 		private final boolean errorHandlerConfigured;
+		private final ParallelFlushExecutor parallelFlushExecutor;
+		private final DatastoreStatisticsImpl statistics;
 		private final EventContextManager eventContext;
 
-		public GridDialectInstantiator(DatastoreProvider datastore, boolean errorHandlerConfigured, EventContextManager eventContext) {
+		public GridDialectInstantiator(DatastoreProvider datastore, boolean errorHandlerConfigured, ParallelFlushExecutor parallelFlushExecutor, DatastoreStatisticsImpl statistics, EventContextManager eventContext) {
 			this.datastore = datastore;
 			this.errorHandlerConfigured = errorHandlerConfigured;
+			this.parallelFlushExecutor = parallelFlushExecutor;
+			this.statistics = statistics;
 			this.eventContext = eventContext;
 		}
 
@@ -93,12 +101,24 @@ public GridDialect newInstance(Class<? extends GridDialect> clazz) {
 				}
 				GridDialect gridDialect = (GridDialect) injector.newInstance( datastore );
 
+				boolean batchable = GridDialects.hasFacet( gridDialect, BatchableGridDialect.class ) ||
+						GridDialects.hasFacet( gridDialect, GroupingByEntityDialect.class );
+
+				// only measures the time spent in the actual dialect
+				if ( statistics != null && statistics.isCollecting() ) {
+					gridDialect = new InstrumentedGridDialect( gridDialect, statistics );
+				}
+
+				// must not be wrapped by the other delegators, they depend on the thread-bound event context
+				if ( batchable && parallelFlushExecutor.isEnabled() ) {
+					gridDialect = new ParallelFlushGridDialect( gridDialect, parallelFlushExecutor );
+				}
+
 				if ( errorHandlerConfigured ) {
 					gridDialect = new InvocationCollectingGridDialect( gridDialect, eventContext );
 				}
 
-				if ( GridDialects.hasFacet( gridDialect, BatchableGridDialect.class ) ||
-						GridDialects.hasFacet( gridDialect, GroupingByEntityDialect.class ) ) {
+				if ( batchable ) {
 					gridDialect = new BatchOperationsDelegator( gridDialect, eventContext );
 				}
 
@@ -0,0 +1,391 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.OperationContext;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.EntityMetadataInformation;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.statistics.DatastoreOperation;
+import org.hibernate.ogm.statistics.impl.DatastoreStatisticsImpl;
+import org.hibernate.ogm.statistics.impl.OperationRecorder;
+
+/**
+ * A wrapper dialect that records the latency, the number of invocations, failures and tuples as well as the size of
+ * the written data of the performance-relevant calls performed on the real dialect.
+ * <p>
+ * Wraps the real dialect directly, so only the time spent in the datastore is measured. While the collection of
+ * statistics is paused, calls are passed to the real dialect right away.
+ *
+ * @see OgmProperties#DATASTORE_STATISTICS
+ * @see GridDialectInitiator
+ */
+public class InstrumentedGridDialect extends ForwardingGridDialect<Serializable> {
+
+	private final DatastoreStatisticsImpl statistics;
+
+	public InstrumentedGridDialect(GridDialect gridDialect, DatastoreStatisticsImpl statistics) {
+		super( gridDialect );
+		this.statistics = statistics;
+	}
+
+	@Override
+	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
+		if ( !statistics.isEnabled() ) {
+			return super.getTuple( key, operationContext );
+		}
+
+		long start = System.nanoTime();
+		Tuple tuple = null;
+		boolean failed = true;
+		try {
+			tuple = super.getTuple( key, operationContext );
+			failed = false;
+			return tuple;
+		}
+		finally {
+			record( DatastoreOperation.GET_TUPLE, key.getTable(), start, tuple == null ? 0 : 1, 0, failed );
+		}
+	}
+
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		if ( !statistics.isEnabled() ) {
+			return super.getTuples( keys, tupleContext );
+		}
+
+		long start = System.nanoTime();
+		List<Tuple> tuples = null;
+		boolean failed = true;
+		try {
+			tuples = super.getTuples( keys, tupleContext );
+			failed = false;
+			return tuples;
+		}
+		finally {
+			// an empty batch of keys is not related to a table
+			record( DatastoreOperation.GET_TUPLES, keys.length == 0 ? null : keys[0].getTable(), start, tuples == null ? 0 : countFound( tuples ), 0, failed );
+		}
+	}
+
+	@Override
+	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
+		if ( !statistics.isEnabled() ) {
+			super.insertOrUpdateTuple( key, tuplePointer, tupleContext );
+			return;
+		}
+
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			super.insertOrUpdateTuple( key, tuplePointer, tupleContext );
+			failed = false;
+		}
+		finally {
+			record( DatastoreOperation.INSERT_OR_UPDATE_TUPLE, key.getTable(), start, 1, tuplePointer.getTuple().getOperationCount(), failed );
+		}
+	}
+
+	@Override
+	public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		if ( !statistics.isEnabled() ) {
+			super.removeTuple( key, tupleContext );
+			return;
+		}
+
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			super.removeTuple( key, tupleContext );
+			failed = false;
+		}
+		finally {
+			record( DatastoreOperation.REMOVE_TUPLE, key.getTable(), start, 1, 0, failed );
+		}
+	}
+
+	@Override
+	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		if ( !statistics.isEnabled() ) {
+			return super.getAssociation( key, associationContext );
+		}
+
+		long start = System.nanoTime();
+		Association association = null;
+		boolean failed = true;
+		try {
+			association = super.getAssociation( key, associationContext );
+			failed = false;
+			return association;
+		}
+		finally {
+			record( DatastoreOperation.GET_ASSOCIATION, role( key ), start, association == null ? 0 : association.size(), 0, failed );
+		}
+	}
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		if ( !statistics.isEnabled() ) {
+			return super.getAssociations( keys, associationContexts );
+		}
+
+		long start = System.nanoTime();
+		List<Association> associations = null;
+		boolean failed = true;
+		try {
+			associations = super.getAssociations( keys, associationContexts );
+			failed = false;
+			return associations;
+		}
+		finally {
+			record( DatastoreOperation.GET_ASSOCIATIONS, keys.length == 0 ? null : role( keys[0] ), start, associations == null ? 0 : countRows( associations ), 0, failed );
+		}
+	}
+
+	@Override
+	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		if ( !statistics.isEnabled() ) {
+			super.insertOrUpdateAssociation( key, association, associationContext );
+			return;
+		}
+
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			super.insertOrUpdateAssociation( key, association, associationContext );
+			failed = false;
+		}
+		finally {
+			record( DatastoreOperation.INSERT_OR_UPDATE_ASSOCIATION, role( key ), start, 0, association.getOperationCount(), failed );
+		}
+	}
+
+	@Override
+	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		if ( !statistics.isEnabled() ) {
+			super.removeAssociation( key, associationContext );
+			return;
+		}
+
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			super.removeAssociation( key, associationContext );
+			failed = false;
+		}
+		finally {
+			record( DatastoreOperation.REMOVE_ASSOCIATION, role( key ), start, 0, 0, failed );
+		}
+	}
+
+	@Override
+	public Number nextValue(NextValueRequest request) {
+		if ( !statistics.isEnabled() ) {
+			return super.nextValue( request );
+		}
+
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			Number value = super.nextValue( request );
+			failed = false;
+			return value;
+		}
+		finally {
+			record( DatastoreOperation.NEXT_VALUE, request.getKey().getTable(), start, 0, 0, failed );
+		}
+	}
+
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !statistics.isEnabled() ) {
+			super.executeBatch( queue );
+			return;
+		}
+
+		// the queue is drained by the dialect, so the operations are counted per table and role beforehand
+		Map<String, BatchedWrites> writesPerTarget = new HashMap<>();
+		for ( Operation operation : queue.getOperations() ) {
+			countWrites( operation, writesPerTarget );
+		}
+
+		int size = queue.size();
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			super.executeBatch( queue );
+			failed = false;
+		}
+		finally {
+			statistics.getRecorder( DatastoreOperation.EXECUTE_BATCH, null ).record( System.nanoTime() - start, 0, size, failed );
+			// the time of the batch is not split among the targets, it would be counted several times otherwise
+			for ( Entry<String, BatchedWrites> writes : writesPerTarget.entrySet() ) {
+				statistics.getRecorder( DatastoreOperation.EXECUTE_BATCH, writes.getKey() )
+						.recordCounts( writes.getValue().tuples, writes.getValue().changes, failed );
+			}
+		}
+	}
+
+	private static void countWrites(Operation operation, Map<String, BatchedWrites> writesPerTarget) {
+		if ( operation instanceof GroupedChangesToEntityOperation ) {
+			for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+				countWrites( groupedOperation, writesPerTarget );
+			}
+		}
+		else if ( operation instanceof InsertOrUpdateTupleOperation ) {
+			InsertOrUpdateTupleOperation insertOrUpdate = (InsertOrUpdateTupleOperation) operation;
+			writes( insertOrUpdate.getEntityKey().getTable(), writesPerTarget )
+					.add( 1, insertOrUpdate.getTuplePointer().getTuple().getOperationCount() );
+		}
+		else if ( operation instanceof RemoveTupleOperation ) {
+			writes( ( (RemoveTupleOperation) operation ).getEntityKey().getTable(), writesPerTarget ).add( 1, 0 );
+		}
+		else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			InsertOrUpdateAssociationOperation insertOrUpdate = (InsertOrUpdateAssociationOperation) operation;
+			writes( role( insertOrUpdate.getAssociationKey() ), writesPerTarget )
+					.add( 0, insertOrUpdate.getAssociation().getOperationCount() );
+		}
+		else if ( operation instanceof RemoveAssociationOperation ) {
+			writes( role( ( (RemoveAssociationOperation) operation ).getAssociationKey() ), writesPerTarget ).add( 0, 0 );
+		}
+	}
+
+	private static BatchedWrites writes(String target, Map<String, BatchedWrites> writesPerTarget) {
+		BatchedWrites writes = writesPerTarget.get( target );
+		if ( writes == null ) {
+			writes = new BatchedWrites();
+			writesPerTarget.put( target, writes );
+		}
+		return writes;
+	}
+
+	@Override
+	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<Serializable> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		if ( !statistics.isEnabled() ) {
+			return super.executeBackendQuery( query, queryParameters, tupleContext );
+		}
+
+		EntityMetadataInformation metadata = query.getSingleEntityMetadataInformationOrNull();
+		OperationRecorder recorder = statistics.getRecorder(
+				DatastoreOperation.EXECUTE_BACKEND_QUERY,
+				metadata == null ? null : metadata.getEntityKeyMetadata().getTable() );
+
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			ClosableIterator<Tuple> tuples = super.executeBackendQuery( query, queryParameters, tupleContext );
+			failed = false;
+			return new TupleCountingIterator( tuples, recorder );
+		}
+		finally {
+			recorder.record( System.nanoTime() - start, 0, 0, failed );
+		}
+	}
+
+	private void record(DatastoreOperation operation, String target, long start, int tupleCount, int changeCount, boolean failed) {
+		statistics.getRecorder( operation, target ).record( System.nanoTime() - start, tupleCount, changeCount, failed );
+	}
+
+	private static String role(AssociationKey key) {
+		String role = key.getMetadata().getCollectionRole();
+		return role != null ? role : key.getTable();
+	}
+
+	private static int countFound(List<Tuple> tuples) {
+		int found = 0;
+		for ( Tuple tuple : tuples ) {
+			if ( tuple != null ) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	private static int countRows(List<Association> associations) {
+		int rows = 0;
+		for ( Association association : associations ) {
+			if ( association != null ) {
+				rows += association.size();
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * The tuples and changes written by a batch for one table or association role.
+	 */
+	private static class BatchedWrites {
+
+		private int tuples;
+		private int changes;
+
+		void add(int tupleCount, int changeCount) {
+			tuples += tupleCount;
+			changes += changeCount;
+		}
+	}
+
+	/**
+	 * Adds the tuples returned by a query to the statistics of the query as they are read.
+	 */
+	private static class TupleCountingIterator implements ClosableIterator<Tuple> {
+
+		private final ClosableIterator<Tuple> delegate;
+		private final OperationRecorder recorder;
+
+		TupleCountingIterator(ClosableIterator<Tuple> delegate, OperationRecorder recorder) {
+			this.delegate = delegate;
+			this.recorder = recorder;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public Tuple next() {
+			Tuple tuple = delegate.next();
+			recorder.recordTuples( 1 );
+			return tuple;
+		}
+
+		@Override
+		public void remove() {
+			delegate.remove();
+		}
+
+		@Override
+		public void close() {
+			delegate.close();
+		}
+	}
+}
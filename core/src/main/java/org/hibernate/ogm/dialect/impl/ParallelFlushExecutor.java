@@ -0,0 +1,49 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.massindex.impl.Executors;
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * A service holding the threads which execute the partitions of a batch flushed in parallel by
+ * {@link ParallelFlushGridDialect}. The threads are shut down together with the service registry.
+ *
+ * @see OgmProperties#PARALLEL_FLUSH_THREADS
+ */
+public class ParallelFlushExecutor implements Service, Stoppable {
+
+	private final ExecutorService executor;
+
+	/**
+	 * @param threads the number of threads; the parallel flush is disabled if it is 0
+	 */
+	public ParallelFlushExecutor(int threads) {
+		this.executor = threads > 0 ? Executors.newFixedThreadPool( threads, "parallel flush" ) : null;
+	}
+
+	public boolean isEnabled() {
+		return executor != null;
+	}
+
+	public <T> Future<T> submit(Callable<T> task) {
+		return executor.submit( task );
+	}
+
+	@Override
+	public void stop() {
+		if ( executor != null ) {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Contributes the {@link ParallelFlushExecutor} service.
+ *
+ * @see OgmProperties#PARALLEL_FLUSH_THREADS
+ */
+@SuppressWarnings("rawtypes")
+public class ParallelFlushExecutorInitiator implements StandardServiceInitiator<ParallelFlushExecutor> {
+
+	public static final ParallelFlushExecutorInitiator INSTANCE = new ParallelFlushExecutorInitiator();
+
+	private static final Log log = LoggerFactory.make();
+
+	private ParallelFlushExecutorInitiator() {
+	}
+
+	@Override
+	public Class<ParallelFlushExecutor> getServiceInitiated() {
+		return ParallelFlushExecutor.class;
+	}
+
+	@Override
+	public ParallelFlushExecutor initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		int threads = new ConfigurationPropertyReader( configurationValues ).property( OgmProperties.PARALLEL_FLUSH_THREADS, int.class )
+				.withDefault( 0 )
+				.getValue();
+
+		// the partitions are executed by other threads, outside of the transaction of the datastore
+		DatastoreProvider datastore = registry.getService( DatastoreProvider.class );
+		if ( threads > 0 && !datastore.allowsTransactionEmulation() ) {
+			log.parallelFlushNotSupported( OgmProperties.PARALLEL_FLUSH_THREADS, datastore.getClass().getName() );
+			threads = 0;
+		}
+
+		return new ParallelFlushExecutor( threads );
+	}
+}
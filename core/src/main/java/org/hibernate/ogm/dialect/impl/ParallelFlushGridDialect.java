@@ -0,0 +1,179 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.batch.spi.GroupableEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Executes the operations of a batch in parallel.
+ * <p>
+ * The queue is partitioned by the table of the entities the operations apply to, keeping the order of the operations
+ * within each partition. The partitions are passed to the wrapped dialect concurrently, one of them on the calling
+ * thread, and the batch is complete once all of them have been executed. The first failure is propagated to the
+ * caller (so a {@code TupleAlreadyExistsException} is handled as with a sequential flush), further failures are
+ * logged.
+ * <p>
+ * There is no order between the operations of different tables: an entity may be inserted before the entity it
+ * references, and the partitions following a failed one in the queue are executed nevertheless. So the operations of
+ * a batch must be independent across tables, which holds for datastores not checking references between tables as
+ * long as the other clients don't rely on the order of the changes of a flush.
+ * <p>
+ * This dialect must not be wrapped by dialects depending on the event context, such as
+ * {@code InvocationCollectingGridDialect}: it is bound to the flushing thread.
+ *
+ * @see OgmProperties#PARALLEL_FLUSH_THREADS
+ */
+public class ParallelFlushGridDialect extends ForwardingGridDialect<Serializable> {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final ParallelFlushExecutor executor;
+
+	public ParallelFlushGridDialect(GridDialect dialect, ParallelFlushExecutor executor) {
+		super( dialect );
+		this.executor = executor;
+	}
+
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( queue.isClosed() ) {
+			return;
+		}
+
+		Map<String, OperationsQueue> partitions = partition( queue );
+
+		try {
+			if ( partitions.size() == 1 ) {
+				super.executeBatch( partitions.values().iterator().next() );
+			}
+			else if ( partitions.size() > 1 ) {
+				executeInParallel( partitions );
+			}
+		}
+		finally {
+			queue.clear();
+		}
+	}
+
+	private Map<String, OperationsQueue> partition(OperationsQueue queue) {
+		Map<String, OperationsQueue> partitions = new LinkedHashMap<String, OperationsQueue>();
+
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			String table = getTable( operation );
+			OperationsQueue partition = partitions.get( table );
+			if ( partition == null ) {
+				partition = new OperationsQueue();
+				partitions.put( table, partition );
+			}
+			partition.add( operation );
+
+			operation = queue.poll();
+		}
+
+		return partitions;
+	}
+
+	private static String getTable(Operation operation) {
+		if ( operation instanceof GroupedChangesToEntityOperation ) {
+			return ( (GroupedChangesToEntityOperation) operation ).getEntityKey().getTable();
+		}
+		else if ( operation instanceof RemoveTupleOperation ) {
+			return ( (RemoveTupleOperation) operation ).getEntityKey().getTable();
+		}
+		else if ( operation instanceof GroupableEntityOperation ) {
+			return ( (GroupableEntityOperation) operation ).getEntityKey().getTable();
+		}
+		else {
+			// executed sequentially within one partition
+			return null;
+		}
+	}
+
+	private void executeInParallel(Map<String, OperationsQueue> partitions) {
+		Iterator<Entry<String, OperationsQueue>> iterator = partitions.entrySet().iterator();
+		Entry<String, OperationsQueue> local = iterator.next();
+
+		List<String> tables = new ArrayList<String>( partitions.size() - 1 );
+		List<Future<Void>> results = new ArrayList<Future<Void>>( partitions.size() - 1 );
+		while ( iterator.hasNext() ) {
+			final Entry<String, OperationsQueue> partition = iterator.next();
+			tables.add( partition.getKey() );
+			results.add( executor.submit( new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					ParallelFlushGridDialect.super.executeBatch( partition.getValue() );
+					return null;
+				}
+			} ) );
+		}
+
+		Throwable failure = null;
+		try {
+			super.executeBatch( local.getValue() );
+		}
+		catch (RuntimeException | Error e) {
+			failure = e;
+		}
+
+		for ( int i = 0; i < results.size(); i++ ) {
+			try {
+				results.get( i ).get();
+			}
+			catch (ExecutionException e) {
+				failure = onFailure( failure, tables.get( i ), e.getCause() );
+			}
+			catch (InterruptedException e) {
+				for ( Future<Void> result : results ) {
+					result.cancel( true );
+				}
+				Thread.currentThread().interrupt();
+				throw log.interruptedDuringParallelFlush( e );
+			}
+		}
+
+		if ( failure instanceof RuntimeException ) {
+			throw (RuntimeException) failure;
+		}
+		else if ( failure instanceof Error ) {
+			throw (Error) failure;
+		}
+		else if ( failure != null ) {
+			throw new HibernateException( failure );
+		}
+	}
+
+	private static Throwable onFailure(Throwable previousFailure, String table, Throwable failure) {
+		if ( previousFailure == null ) {
+			return failure;
+		}
+
+		log.additionalParallelFlushFailure( table, failure );
+		return previousFailure;
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import org.hibernate.ogm.dialect.spi.TupleRemovalContext;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * Gives access to the tuple of the entity to remove through the pointer shared with the session; the tuple is only
+ * read if the dialect asks for it.
+ */
+public class TupleRemovalContextImpl extends TupleContextImpl implements TupleRemovalContext {
+
+	private final TuplePointer tuplePointer;
+
+	public TupleRemovalContextImpl(TupleContextImpl original, TuplePointer tuplePointer) {
+		super( original, original.getTransactionContext() );
+		this.tuplePointer = tuplePointer;
+	}
+
+	@Override
+	public Tuple getTupleToRemove() {
+		return tuplePointer.getTuple();
+	}
+}
@@ -12,6 +12,7 @@
 
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
+import org.hibernate.ogm.model.spi.TupleColumnIndex;
 import org.hibernate.ogm.options.spi.OptionsContext;
 import org.hibernate.ogm.util.impl.StringHelper;
 
@@ -24,6 +25,7 @@
 public class TupleTypeContextImpl implements TupleTypeContext {
 
 	private final List<String> selectableColumns;
+	private final TupleColumnIndex columnIndex;
 	private final OptionsContext optionsContext;
 
 	private final String discriminatorColumn;
@@ -44,6 +46,7 @@ public TupleTypeContextImpl(List<String> selectableColumns,
 			Object discriminatorValue) {
 
 		this.selectableColumns = Collections.unmodifiableList( selectableColumns );
+		this.columnIndex = new TupleColumnIndex( selectableColumns );
 		this.associatedEntityMetadata = Collections.unmodifiableMap( associatedEntityMetadata );
 		this.roles = Collections.unmodifiableMap( roles );
 		this.optionsContext = optionsContext;
@@ -56,6 +59,11 @@ public List<String> getSelectableColumns() {
 		return selectableColumns;
 	}
 
+	@Override
+	public TupleColumnIndex getColumnIndex() {
+		return columnIndex;
+	}
+
 	@Override
 	public OptionsContext getOptionsContext() {
 		return optionsContext;
@@ -16,14 +16,22 @@ public class RowSelection {
 
 	private final Integer firstRow;
 	private final Integer maxRows;
+	private final Integer fetchSize;
+	private final Integer timeout;
 
 	public RowSelection(Integer firstRow, Integer maxRows) {
+		this( firstRow, maxRows, null, null );
+	}
+
+	public RowSelection(Integer firstRow, Integer maxRows, Integer fetchSize, Integer timeout) {
 		this.firstRow = firstRow;
 		this.maxRows = maxRows;
+		this.fetchSize = fetchSize;
+		this.timeout = timeout;
 	}
 
 	public static RowSelection fromOrmRowSelection(org.hibernate.engine.spi.RowSelection rowSelection) {
-		return new RowSelection( rowSelection.getFirstRow(), rowSelection.getMaxRows() );
+		return new RowSelection( rowSelection.getFirstRow(), rowSelection.getMaxRows(), rowSelection.getFetchSize(), rowSelection.getTimeout() );
 	}
 
 	public Integer getFirstRow() {
@@ -33,4 +41,20 @@ public Integer getFirstRow() {
 	public Integer getMaxRows() {
 		return maxRows;
 	}
+
+	/**
+	 * @return the number of results to be fetched from the datastore per round trip, as given via
+	 * {@code Query#setFetchSize()}; {@code null} if the datastore default is to be used
+	 */
+	public Integer getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * @return the timeout of the query in seconds, as given via {@code Query#setTimeout()}; {@code null} if the query is
+	 * not to time out
+	 */
+	public Integer getTimeout() {
+		return timeout;
+	}
 }
@@ -21,16 +21,22 @@ public class TypedGridValue {
 
 	private final GridType type;
 	private final Object value;
+	private final Object ormValue;
 
 	public TypedGridValue(GridType type, Object value) {
+		this( type, value, value );
+	}
+
+	public TypedGridValue(GridType type, Object value, Object ormValue) {
 		this.type = type;
 		this.value = value;
+		this.ormValue = ormValue;
 	}
 
 	public static TypedGridValue fromOrmTypedValue(TypedValue typedValue, TypeTranslator typeTranslator, SessionFactoryImplementor factory) {
 		GridType gridType = typeTranslator.getType( typedValue.getType() );
 		Object backendValue = gridType.convertToBackendType( typedValue.getValue(), factory );
-		return new TypedGridValue( gridType, backendValue );
+		return new TypedGridValue( gridType, backendValue, typedValue.getValue() );
 	}
 
 	public GridType getType() {
@@ -40,4 +46,12 @@ public GridType getType() {
 	public Object getValue() {
 		return value;
 	}
+
+	/**
+	 * Returns the value as given by the user, before its conversion by the grid type. Allows to convert it by the type
+	 * of the property it is compared with instead, if that is only known to the dialect.
+	 */
+	public Object getOrmValue() {
+		return ormValue;
+	}
 }
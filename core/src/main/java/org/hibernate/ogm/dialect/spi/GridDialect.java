@@ -141,6 +141,9 @@ public interface GridDialect extends Service {
 
 	/**
 	 * Returns the next value from the specified id generator with the specified increment.
+	 * <p>
+	 * The returned value is the current value of the id source, which is advanced by the requested increment; i.e. the
+	 * values {@code [value, value + increment)} are reserved to the caller.
 	 *
 	 * @param request Identifies a specific id generator
 	 * @return the next value from the specified id generator
@@ -0,0 +1,33 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.spi;
+
+import java.util.List;
+
+/**
+ * A {@link ModelConsumer} able to consume several {@link TuplesSupplier}s concurrently.
+ * <p>
+ * Dialects which can split the entities of one type into independent partitions (key ranges, segments etc.) should
+ * create (about) {@link #getPartitions()} suppliers and pass them all at once to {@link #consume(List)} from
+ * {@link GridDialect#forEachTuple(ModelConsumer, TupleTypeContext, org.hibernate.ogm.model.key.spi.EntityKeyMetadata)}.
+ * Other dialects simply invoke {@link #consume(TuplesSupplier)} as for any other consumer.
+ */
+public interface PartitionedModelConsumer extends ModelConsumer {
+
+	/**
+	 * @return the number of partitions the consumer would like to process concurrently
+	 */
+	int getPartitions();
+
+	/**
+	 * Consume the tuples of all the given suppliers, each supplier possibly on another thread. Returns once all the
+	 * suppliers have been consumed.
+	 *
+	 * @param suppliers the suppliers of the independent partitions of the tuples to consume
+	 */
+	void consume(List<TuplesSupplier> suppliers);
+}
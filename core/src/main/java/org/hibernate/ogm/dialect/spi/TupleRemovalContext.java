@@ -0,0 +1,25 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.spi;
+
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * The context passed to {@link GridDialect#removeTuple(EntityKey, TupleContext)} when the session knows the tuple of
+ * the entity to remove. Dialects which only remove a tuple if it hasn't been changed since it was read can check for
+ * it with {@code instanceof}.
+ */
+public interface TupleRemovalContext extends TupleContext {
+
+	/**
+	 * Provides the tuple of the entity to remove, as loaded or last written by the current session.
+	 *
+	 * @return the tuple of the entity to remove
+	 */
+	Tuple getTupleToRemove();
+}
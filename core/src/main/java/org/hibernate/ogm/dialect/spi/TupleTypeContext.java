@@ -11,6 +11,7 @@
 
 import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleColumnIndex;
 import org.hibernate.ogm.options.spi.OptionsContext;
 
 /**
@@ -37,6 +38,15 @@ public interface TupleTypeContext {
 	 */
 	List<String> getSelectableColumns();
 
+	/**
+	 * Returns an index assigning a fixed position to each of the {@link #getSelectableColumns() selectable columns}.
+	 * Dialects may pass it to {@link Tuple#Tuple(org.hibernate.ogm.model.spi.TupleSnapshot, Tuple.SnapshotType, TupleColumnIndex)}
+	 * so that the changes applied to the tuples of the given type are tracked in dense arrays rather than in a map.
+	 *
+	 * @return the column index of the given entity, never {@code null}
+	 */
+	TupleColumnIndex getColumnIndex();
+
 	/**
 	 * Whether the given column is part of a *-to-one association or not. If so, a dialect may choose to not persist the
 	 * column value in the corresponding tuple data structure itself but e.g. as a native relationship (in the case of
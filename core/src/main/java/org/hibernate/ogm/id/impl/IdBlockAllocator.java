@@ -0,0 +1,199 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.id.impl;
+
+import static org.hibernate.ogm.util.impl.CollectionHelper.newConcurrentHashMap;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.service.Service;
+
+/**
+ * Reserves the values of id sources in blocks, so that one invocation of
+ * {@link GridDialect#nextValue(NextValueRequest)} serves several subsequent value requests of an id generator.
+ * <p>
+ * The number of increments reserved with one round trip adapts to the observed allocation rate: it is doubled (up to
+ * the maximum given via {@link OgmProperties#ID_BLOCK_RESERVATION_MAX_BLOCKS}) if a block has been used up within
+ * {@link #FAST_CONSUMPTION_NANOS}, and it is halved if using up a block took longer than
+ * {@link #SLOW_CONSUMPTION_NANOS}. The values of a block are handed out without locking; only the thread replacing an
+ * exhausted block synchronizes on the state of the given id source.
+ * <p>
+ * This relies on {@code nextValue()} returning the current value of the id source while advancing it by the requested
+ * increment, i.e. an invocation returning {@code v} reserves the values {@code [v, v + increment)} to the caller. Values
+ * reserved but not used until the session factory is closed are lost.
+ * <p>
+ * One allocator is shared by all the id generators of a session factory, so generators using the same id source (e.g.
+ * the same sequence) take their values from the same block.
+ */
+public class IdBlockAllocator implements Service {
+
+	private static final Log log = LoggerFactory.make();
+
+	private static final long FAST_CONSUMPTION_NANOS = TimeUnit.SECONDS.toNanos( 1 );
+	private static final long SLOW_CONSUMPTION_NANOS = TimeUnit.SECONDS.toNanos( 30 );
+
+	private final int maxBlocks;
+	private final ConcurrentMap<IdSourceKey, IdSource> sources = newConcurrentHashMap();
+
+	/**
+	 * Obtains a new block of values from the datastore.
+	 */
+	public interface BlockSource {
+
+		/**
+		 * Returns the current value of the given id source and advances it by the given increment.
+		 *
+		 * @param request the request identifying the id source and the increment to apply
+		 * @return the first value of the reserved block
+		 */
+		Number reserve(NextValueRequest request);
+	}
+
+	public IdBlockAllocator(int maxBlocks) {
+		this.maxBlocks = maxBlocks;
+	}
+
+	/**
+	 * Whether more than one block may be reserved with one round trip; if not, id generators request their values
+	 * from the datastore directly.
+	 */
+	public boolean isEnabled() {
+		return maxBlocks > 1;
+	}
+
+	/**
+	 * Returns the next value of the given id source.
+	 *
+	 * @param key the id source
+	 * @param increment the increment the id generator would apply to the id source for each value
+	 * @param initialValue the initial value of the id source
+	 * @param blockSource used to reserve a new block of values if required
+	 * @return the next value of the given id source
+	 */
+	public long nextValue(IdSourceKey key, int increment, int initialValue, BlockSource blockSource) {
+		return getSource( key ).nextValue( increment, initialValue, blockSource );
+	}
+
+	/**
+	 * Returns the number of values currently reserved with one round trip to the datastore, per id source.
+	 *
+	 * @return the current reservation sizes, keyed by id source
+	 */
+	public Map<IdSourceKey, Integer> getReservationSizes() {
+		Map<IdSourceKey, Integer> reservationSizes = new HashMap<IdSourceKey, Integer>( sources.size() );
+		for ( Map.Entry<IdSourceKey, IdSource> entry : sources.entrySet() ) {
+			reservationSizes.put( entry.getKey(), entry.getValue().getReservationSize() );
+		}
+		return Collections.unmodifiableMap( reservationSizes );
+	}
+
+	private IdSource getSource(IdSourceKey key) {
+		IdSource source = sources.get( key );
+		if ( source == null ) {
+			IdSource newSource = new IdSource( key, maxBlocks );
+			source = sources.putIfAbsent( key, newSource );
+			if ( source == null ) {
+				source = newSource;
+			}
+		}
+		return source;
+	}
+
+	private static class IdSource {
+
+		private final IdSourceKey key;
+		private final int maxBlocks;
+
+		private volatile Block block;
+
+		// guarded by this
+		private int blocks = 1;
+		private long lastReservation;
+
+		private IdSource(IdSourceKey key, int maxBlocks) {
+			this.key = key;
+			this.maxBlocks = maxBlocks;
+		}
+
+		private long nextValue(int increment, int initialValue, BlockSource blockSource) {
+			while ( true ) {
+				Block current = block;
+				if ( current != null ) {
+					long value = current.next.getAndAdd( increment );
+					if ( value < current.end ) {
+						return value;
+					}
+				}
+
+				synchronized ( this ) {
+					// another thread may have replaced the block in the meantime
+					if ( block == current ) {
+						block = reserve( increment, initialValue, blockSource );
+					}
+				}
+			}
+		}
+
+		private Block reserve(int increment, int initialValue, BlockSource blockSource) {
+			long now = System.nanoTime();
+			if ( block != null ) {
+				adaptBlocks( now - lastReservation, increment );
+			}
+			lastReservation = now;
+
+			int reservationSize = blocks * increment;
+			Number first = blockSource.reserve( new NextValueRequest( key, reservationSize, initialValue ) );
+
+			return new Block( first.longValue(), reservationSize );
+		}
+
+		private void adaptBlocks(long consumptionNanos, int increment) {
+			int previousBlocks = blocks;
+
+			if ( consumptionNanos < FAST_CONSUMPTION_NANOS ) {
+				// don't let the increment passed to the dialect overflow
+				blocks = (int) Math.min( Math.min( blocks * 2L, maxBlocks ), Integer.MAX_VALUE / increment );
+			}
+			else if ( consumptionNanos > SLOW_CONSUMPTION_NANOS ) {
+				blocks = Math.max( blocks / 2, 1 );
+			}
+
+			if ( blocks != previousBlocks ) {
+				log.debugf( "Reserving %1$d values per round trip for id source %2$s", blocks * increment, key );
+			}
+		}
+
+		private int getReservationSize() {
+			Block current = block;
+			return current == null ? 0 : current.size;
+		}
+	}
+
+	private static class Block {
+
+		private final AtomicLong next;
+		private final long end;
+		private final int size;
+
+		private Block(long first, int size) {
+			this.next = new AtomicLong( first );
+			this.end = first + size;
+			this.size = size;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.id.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.statistics.DatastoreStatistics;
+import org.hibernate.ogm.statistics.impl.DatastoreStatisticsImpl;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Contributes the {@link IdBlockAllocator} service.
+ *
+ * @see OgmProperties#ID_BLOCK_RESERVATION_MAX_BLOCKS
+ */
+@SuppressWarnings("rawtypes")
+public class IdBlockAllocatorInitiator implements StandardServiceInitiator<IdBlockAllocator> {
+
+	public static final IdBlockAllocatorInitiator INSTANCE = new IdBlockAllocatorInitiator();
+
+	private IdBlockAllocatorInitiator() {
+	}
+
+	@Override
+	public Class<IdBlockAllocator> getServiceInitiated() {
+		return IdBlockAllocator.class;
+	}
+
+	@Override
+	public IdBlockAllocator initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		int maxBlocks = new ConfigurationPropertyReader( configurationValues ).property( OgmProperties.ID_BLOCK_RESERVATION_MAX_BLOCKS, int.class )
+				.withDefault( 1 )
+				.getValue();
+
+		IdBlockAllocator allocator = new IdBlockAllocator( maxBlocks );
+
+		// the reservation sizes are reported with the datastore statistics
+		if ( allocator.isEnabled() ) {
+			DatastoreStatistics statistics = registry.getService( DatastoreStatistics.class );
+			if ( statistics instanceof DatastoreStatisticsImpl ) {
+				( (DatastoreStatisticsImpl) statistics ).addIdBlockAllocator( allocator );
+			}
+		}
+
+		return allocator;
+	}
+}
@@ -60,6 +60,12 @@ public abstract class OgmGeneratorBase implements PersistentNoSqlIdentifierGener
 
 	private GridDialect gridDialect;
 
+	/**
+	 * Only set if reserving more than one block of values per round trip has been enabled; shared with the other
+	 * generators
+	 */
+	private IdBlockAllocator blockAllocator;
+
 	@Override
 	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
 		identifierType = type;
@@ -83,6 +89,11 @@ public void configure(Type type, Properties params, ServiceRegistry serviceRegis
 		);
 
 		gridDialect = ( (OgmDialect) serviceRegistry.getService( JdbcEnvironment.class ).getDialect() ).getGridDialect();
+
+		IdBlockAllocator allocator = serviceRegistry.getService( IdBlockAllocator.class );
+		if ( allocator.isEnabled() ) {
+			blockAllocator = allocator;
+		}
 	}
 
 	/**
@@ -113,11 +124,15 @@ protected GridDialect getGridDialect() {
 
 	@Override
 	public synchronized Serializable generate(final SessionImplementor session, Object obj) {
+		// the optimizers keep state without synchronizing on their own (e.g. PooledLoOptimizer)
 		return optimizer.generate(
 				new AccessCallback() {
 					@Override
 					public IntegralDataTypeHolder getNextValue() {
-						return (IntegralDataTypeHolder) doWorkInIsolationTransaction( session );
+						if ( blockAllocator != null ) {
+							return nextValueFromBlock( session );
+						}
+						return (IntegralDataTypeHolder) doWorkInIsolationTransaction( session, getGeneratorKey( session ), getSourceIncrement() );
 					}
 
 					@Override
@@ -128,16 +143,43 @@ public String getTenantIdentifier() {
 		);
 	}
 
+	private IntegralDataTypeHolder nextValueFromBlock(final SessionImplementor session) {
+		long nextValue = blockAllocator.nextValue(
+				getGeneratorKey( session ),
+				getSourceIncrement(),
+				initialValue,
+				new IdBlockAllocator.BlockSource() {
+
+					@Override
+					public Number reserve(NextValueRequest request) {
+						IntegralDataTypeHolder value = (IntegralDataTypeHolder) doWorkInIsolationTransaction( session, request.getKey(), request.getIncrement() );
+						return value.makeValue();
+					}
+				}
+		);
+
+		IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( identifierType.getReturnedClass() );
+		value.initialize( nextValue );
+
+		return value;
+	}
+
+	/**
+	 * The amount by which the id source is advanced for each value requested by the optimizer.
+	 */
+	private int getSourceIncrement() {
+		return optimizer.applyIncrementSizeToSourceValues() ? incrementSize : 1;
+	}
+
 	//copied and altered from TransactionHelper
-	private Serializable doWorkInIsolationTransaction(final SessionImplementor session)
+	private Serializable doWorkInIsolationTransaction(final SessionImplementor session, final IdSourceKey key, final int increment)
 			throws HibernateException {
 		class Work extends AbstractReturningWork<IntegralDataTypeHolder> {
-			private final SessionImplementor localSession = session;
 
 			@Override
 			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
 				try {
-					return doWorkInCurrentTransactionIfAny( localSession );
+					return doWorkInCurrentTransactionIfAny( key, increment );
 				}
 				catch ( RuntimeException sqle ) {
 					throw new HibernateException( "Could not get or update next value", sqle );
@@ -151,13 +193,11 @@ public IntegralDataTypeHolder execute(Connection connection) throws SQLException
 		return generatedValue;
 	}
 
-	private IntegralDataTypeHolder doWorkInCurrentTransactionIfAny(SessionImplementor session) {
-		IdSourceKey key = getGeneratorKey( session );
-
+	private IntegralDataTypeHolder doWorkInCurrentTransactionIfAny(IdSourceKey key, int increment) {
 		Number nextValue = gridDialect.nextValue(
 				new NextValueRequest(
 						key,
-						optimizer.applyIncrementSizeToSourceValues() ? incrementSize : 1,
+						increment,
 						initialValue
 				)
 		);
@@ -10,21 +10,47 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.collection.CollectionInitializer;
 import org.hibernate.ogm.persister.impl.OgmCollectionPersister;
 import org.hibernate.type.Type;
 
 /**
+ * Initializes collections, together with further uninitialized collections of the same role from the batch fetch
+ * queue if a batch size greater than 1 is given.
+ *
  * @author Emmanuel Bernard
  */
 public class OgmBasicCollectionLoader extends OgmLoader implements CollectionInitializer {
+
+	private final int batchSize;
+
 	public OgmBasicCollectionLoader(OgmCollectionPersister collectionPersister) {
+		this( collectionPersister, 1 );
+	}
+
+	public OgmBasicCollectionLoader(OgmCollectionPersister collectionPersister, int batchSize) {
 		super( new OgmCollectionPersister[] { collectionPersister } );
+		this.batchSize = batchSize;
 	}
 
 	@Override
 	public void initialize(Serializable id, SessionImplementor session)
 	throws HibernateException {
+		if ( batchSize > 1 ) {
+			Serializable[] batch = session.getPersistenceContext()
+					.getBatchFetchQueue()
+					.getCollectionBatch( getCollectionPersisters()[0], id, batchSize );
+
+			int numberOfIds = ArrayHelper.countNonNull( batch );
+			if ( numberOfIds > 1 ) {
+				Serializable[] idsToLoad = new Serializable[numberOfIds];
+				System.arraycopy( batch, 0, idsToLoad, 0, numberOfIds );
+				loadCollectionBatch( session, idsToLoad, getKeyType() );
+				return;
+			}
+		}
+
 		loadCollection( session, id, getKeyType() );
 	}
 
@@ -32,6 +32,7 @@
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.loader.entity.UniqueEntityLoader;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
@@ -76,6 +77,7 @@ public class OgmLoader implements UniqueEntityLoader, BatchableEntityLoader, Tup
 	private final CollectionAliases[] collectionAliases;
 	private final GridDialect gridDialect;
 	private final MultigetGridDialect multigetGridDialect;
+	private final MultigetAssociationGridDialect multigetAssociationGridDialect;
 	private final int batchSize;
 
 	/**
@@ -93,6 +95,7 @@ public OgmLoader(OgmCollectionPersister[] collectionPersisters) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = serviceRegistry.getService( MultigetAssociationGridDialect.class );
 
 		//NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -120,6 +123,7 @@ public OgmLoader(OgmEntityPersister[] entityPersisters, int batchSize) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = serviceRegistry.getService( MultigetAssociationGridDialect.class );
 
 		// NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -253,6 +257,40 @@ public final void loadCollection(
 
 	}
 
+	/**
+	 * Called by subclasses that batch initialize collections
+	 *
+	 * @param session the session
+	 * @param ids the collection identifiers
+	 * @param type collection type
+	 * @throws HibernateException if an error occurs
+	 */
+	public final void loadCollectionBatch(
+		final SessionImplementor session,
+		final Serializable[] ids,
+		final Type type) throws HibernateException {
+
+		if ( log.isDebugEnabled() ) {
+			log.debug(
+					"batch loading collection: " +
+					MessageHelper.collectionInfoString( getCollectionPersisters()[0], ids, getFactory() )
+				);
+		}
+
+		Type[] idTypes = new Type[ids.length];
+		Arrays.fill( idTypes, type );
+		QueryParameters qp = new QueryParameters( idTypes, ids, ids );
+		doQueryAndInitializeNonLazyCollections(
+				session,
+				qp,
+				OgmLoadingContext.EMPTY_CONTEXT,
+				true
+			);
+
+		log.debug( "done batch load" );
+
+	}
+
 	OgmEntityPersister[] getEntityPersisters() {
 		return entityPersisters;
 	}
@@ -427,7 +465,7 @@ private void preLoadBatchFetchingQueue(SessionImplementor session, TupleAsMapRes
 	}
 
 	private boolean loadSeveralIds(QueryParameters qp) {
-		return qp.getPositionalParameterValues().length > 1;
+		return entityPersisters.length > 0 && qp.getPositionalParameterValues().length > 1;
 	}
 
 	/**
@@ -592,22 +630,33 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 				throw new AssertionFailure( "Found an unexpected number of collection persisters: " + getCollectionPersisters().length );
 			}
 			final OgmCollectionPersister persister = (OgmCollectionPersister) getCollectionPersisters()[0];
-			Object owner = session.getPersistenceContext().getCollectionOwner( id, persister );
-
-			AssociationPersister associationPersister = new AssociationPersister(
-					persister.getOwnerEntityPersister().getMappedClass()
-				)
-				.gridDialect( gridDialect )
-				.key( id, persister.getKeyGridType() )
-				.associationKeyMetadata( persister.getAssociationKeyMetadata() )
-				.associationTypeContext( persister.getAssociationTypeContext() )
-				.hostingEntity( owner )
-				.session( session );
-
-			Association assoc = associationPersister.getAssociationOrNull();
-			if ( assoc != null ) {
-				for ( RowKey rowKey : assoc.getKeys() ) {
-					resultset.addTuple( assoc.get( rowKey ) );
+			Serializable[] collectionKeys = qp.getCollectionKeys();
+			List<AssociationPersister> associationPersisters = new ArrayList<AssociationPersister>( collectionKeys.length );
+			for ( Serializable collectionKey : collectionKeys ) {
+				Object owner = session.getPersistenceContext().getCollectionOwner( collectionKey, persister );
+
+				associationPersisters.add( new AssociationPersister(
+						persister.getOwnerEntityPersister().getMappedClass()
+					)
+					.gridDialect( gridDialect )
+					.key( collectionKey, persister.getKeyGridType() )
+					.associationKeyMetadata( persister.getAssociationKeyMetadata() )
+					.associationTypeContext( persister.getAssociationTypeContext() )
+					.hostingEntity( owner )
+					.session( session ) );
+			}
+
+			// batch fetching collections: load all the associations with one datastore operation
+			if ( associationPersisters.size() > 1 && multigetAssociationGridDialect != null ) {
+				AssociationPersister.loadAssociationsOrNull( associationPersisters, multigetAssociationGridDialect );
+			}
+
+			for ( AssociationPersister associationPersister : associationPersisters ) {
+				Association assoc = associationPersister.getAssociationOrNull();
+				if ( assoc != null ) {
+					for ( RowKey rowKey : assoc.getKeys() ) {
+						resultset.addTuple( assoc.get( rowKey ) );
+					}
 				}
 			}
 		}
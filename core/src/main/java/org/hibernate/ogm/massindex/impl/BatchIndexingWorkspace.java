@@ -11,6 +11,7 @@
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
@@ -44,6 +45,8 @@ public class BatchIndexingWorkspace implements Runnable {
 	// loading options
 	private final CacheMode cacheMode;
 
+	private final int threadsToLoadObjects;
+
 	private final BatchBackend batchBackend;
 
 	private final GridDialect gridDialect;
@@ -53,7 +56,7 @@ public class BatchIndexingWorkspace implements Runnable {
 	private final String tenantId;
 
 	public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
-			SessionFactoryImplementor sessionFactory, Class<?> entityType, CacheMode cacheMode, CountDownLatch endAllSignal,
+			SessionFactoryImplementor sessionFactory, Class<?> entityType, CacheMode cacheMode, int threadsToLoadObjects, CountDownLatch endAllSignal,
 			MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId) {
 		this.gridDialect = gridDialect;
 		this.indexedType = entityType;
@@ -61,6 +64,7 @@ public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
 		this.searchIntegrator = search.unwrap( ExtendedSearchIntegrator.class );
 		this.sessionFactory = sessionFactory;
 		this.cacheMode = cacheMode;
+		this.threadsToLoadObjects = threadsToLoadObjects;
 		this.endAllSignal = endAllSignal;
 		this.batchBackend = backend;
 		this.monitor = monitor;
@@ -74,7 +78,11 @@ public void run() {
 			final EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( persister.getTableName(), persister.getRootTableIdentifierColumnNames() );
 
 			final SessionAwareRunnable consumer = new TupleIndexer( indexedType, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
-			gridDialect.forEachTuple( new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer ), persister.getTupleTypeContext(), keyMetadata );
+			ModelConsumer modelConsumer = new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer );
+			if ( threadsToLoadObjects > 1 ) {
+				modelConsumer = new ParallelModelConsumer( modelConsumer, threadsToLoadObjects );
+			}
+			gridDialect.forEachTuple( modelConsumer, persister.getTupleTypeContext(), keyMetadata );
 		}
 		catch ( RuntimeException re ) {
 			// being this an async thread we want to make sure everything is somehow reported
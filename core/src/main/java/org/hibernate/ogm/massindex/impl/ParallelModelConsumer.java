@@ -0,0 +1,81 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.massindex.impl;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.PartitionedModelConsumer;
+import org.hibernate.ogm.dialect.spi.TuplesSupplier;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Consumes the partitions of an entity type provided by the dialect on a pool of threads, passing each partition to
+ * the given delegate.
+ * <p>
+ * The delegate is expected to handle the errors occurring while consuming a partition.
+ */
+public class ParallelModelConsumer implements PartitionedModelConsumer {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final ModelConsumer delegate;
+	private final int threads;
+
+	public ParallelModelConsumer(ModelConsumer delegate, int threads) {
+		this.delegate = delegate;
+		this.threads = threads;
+	}
+
+	@Override
+	public int getPartitions() {
+		return threads;
+	}
+
+	@Override
+	public void consume(TuplesSupplier supplier) {
+		delegate.consume( supplier );
+	}
+
+	@Override
+	public void consume(List<TuplesSupplier> suppliers) {
+		if ( suppliers.size() == 1 ) {
+			delegate.consume( suppliers.get( 0 ) );
+			return;
+		}
+
+		final CountDownLatch partitionsDone = new CountDownLatch( suppliers.size() );
+		ExecutorService executor = Executors.newFixedThreadPool( Math.min( threads, suppliers.size() ), "ParallelTupleLoading" );
+		try {
+			for ( final TuplesSupplier supplier : suppliers ) {
+				executor.execute( new Runnable() {
+
+					@Override
+					public void run() {
+						try {
+							delegate.consume( supplier );
+						}
+						finally {
+							partitionsDone.countDown();
+						}
+					}
+				} );
+			}
+			partitionsDone.await();
+		}
+		catch (InterruptedException e) {
+			log.interruptedBatchIndexing();
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+}
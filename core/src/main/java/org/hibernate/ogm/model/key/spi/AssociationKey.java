@@ -152,7 +152,7 @@ public Object getColumnValue(String columnName) {
 		for ( int i = 0; i < getColumnNames().length; i++ ) {
 			String name = getColumnNames()[i];
 			if ( name.equals( columnName ) ) {
-				return getColumnValues()[i];
+				return columnValues[i];
 			}
 		}
 
@@ -6,8 +6,6 @@
  */
 package org.hibernate.ogm.model.key.spi;
 
-import java.util.Arrays;
-
 /**
  * Represents the key of an entity.
  *
@@ -17,11 +15,11 @@ public final class EntityKey {
 
 	private final EntityKeyMetadata keyMetadata;
 	private final int hashCode;
-	private final Object[] columnValues;
+	private final KeyValues columnValues;
 
 	public EntityKey(EntityKeyMetadata keyMetadata, Object[] values) {
 		this.keyMetadata = keyMetadata;
-		this.columnValues = values;
+		this.columnValues = KeyValues.of( values );
 		this.hashCode = generateHashCode();
 	}
 
@@ -35,20 +33,42 @@ public String getTable() {
 	}
 
 	/**
-	 * This class should be treated as immutable. While we expose this array,
-	 * you should never make changes to it!
-	 * This is a design tradeoff vs. raw performance and memory usage.
+	 * Returns the values of the columns of this key.
+	 * <p>
+	 * Keys with a single {@code long}, {@code int}, {@code String} or {@code UUID} column store their value without
+	 * an array, so a new array is created on each invocation for them; the array of the other keys is the one the key
+	 * was created from and must not be changed. Prefer {@link #getColumnCount()} and {@link #getColumnValue(int)} to
+	 * read single values.
 	 *
 	 * @return values of the column names
 	 */
 	public Object[] getColumnValues() {
-		return columnValues;
+		return columnValues.toArray();
+	}
+
+	/**
+	 * Returns the number of columns of this key.
+	 *
+	 * @return the number of columns of this key
+	 */
+	public int getColumnCount() {
+		return columnValues.size();
+	}
+
+	/**
+	 * Returns the value of the column with the given index, without creating the array of
+	 * {@link #getColumnValues()}.
+	 *
+	 * @param index the index of the column, as in {@link #getColumnNames()}
+	 * @return the value of the column
+	 */
+	public Object getColumnValue(int index) {
+		return columnValues.get( index );
 	}
 
 	/**
-	 * This class should be treated as immutable. While we expose this array,
-	 * you should never make changes to it!
-	 * This is a design tradeoff vs. raw performance and memory usage.
+	 * The column names are shared by all the keys with the same meta-data; you should never make changes to this
+	 * array! This is a design tradeoff vs. raw performance and memory usage.
 	 *
 	 * @return the column names
 	 */
@@ -73,7 +93,7 @@ public String toString() {
 		sb.append( ") [" );
 		int i = 0;
 		for ( String column : keyMetadata.getColumnNames() ) {
-			sb.append( column ).append( "=" ).append( columnValues[i] );
+			sb.append( column ).append( "=" ).append( columnValues.get( i ) );
 			i++;
 			if ( i < keyMetadata.getColumnNames().length ) {
 				sb.append( ", " );
@@ -95,7 +115,7 @@ public boolean equals(Object o) {
 		EntityKey entityKey = (EntityKey) o;
 
 		//values are more discriminatory, test first
-		if ( !Arrays.equals( columnValues, entityKey.columnValues ) ) {
+		if ( !columnValues.equals( entityKey.columnValues ) ) {
 			return false;
 		}
 		if ( !keyMetadata.equals( entityKey.keyMetadata ) ) {
@@ -112,7 +132,7 @@ public int hashCode() {
 
 	private int generateHashCode() {
 		int result = keyMetadata.hashCode();
-		result = 31 * result + Arrays.hashCode( columnValues );
+		result = 31 * result + columnValues.hashCode();
 		return result;
 	}
 }
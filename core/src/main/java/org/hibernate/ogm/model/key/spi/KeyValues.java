@@ -0,0 +1,262 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.model.key.spi;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * The column values of an {@link EntityKey} or a {@link RowKey}.
+ * <p>
+ * Most keys have a single column holding a {@code long}, {@code int}, {@code String} or {@code UUID} value. Such a
+ * value is stored without the array (and numbers and UUIDs unboxed), and compared and hashed directly. It is read
+ * with {@link #get(int)}; the array of these keys is only created by {@link #toArray()}. The hash codes are the ones
+ * of {@link Arrays#hashCode(Object[])}, whatever the representation.
+ * <p>
+ * Values of the same key always get the same representation, so two instances are equal if and only if the arrays
+ * they were created from are equal. The keys cache the hash code, so it is computed on each invocation here.
+ */
+abstract class KeyValues {
+
+	private KeyValues() {
+	}
+
+	/**
+	 * Creates the values of a key from the given column values. The array is kept for keys which are not specialized,
+	 * so it must not be changed afterwards.
+	 */
+	static KeyValues of(Object[] values) {
+		if ( values.length == 1 ) {
+			Object value = values[0];
+			if ( value instanceof Long ) {
+				return new LongValue( (Long) value );
+			}
+			if ( value instanceof Integer ) {
+				return new IntValue( (Integer) value );
+			}
+			if ( value instanceof String ) {
+				return new StringValue( (String) value );
+			}
+			if ( value instanceof UUID ) {
+				return new UUIDValue( (UUID) value );
+			}
+		}
+		return new ArrayValues( values );
+	}
+
+	/**
+	 * Returns the column values. Single-column keys return a new array on each invocation, the other keys the array
+	 * they were created from.
+	 */
+	abstract Object[] toArray();
+
+	/**
+	 * Returns the number of columns.
+	 */
+	abstract int size();
+
+	/**
+	 * Returns the value of the column with the given index.
+	 */
+	abstract Object get(int index);
+
+	@Override
+	public String toString() {
+		return Arrays.toString( toArray() );
+	}
+
+	private static void checkSingleColumn(int index) {
+		if ( index != 0 ) {
+			throw new ArrayIndexOutOfBoundsException( index );
+		}
+	}
+
+	private static final class LongValue extends KeyValues {
+
+		private final long value;
+
+		private LongValue(long value) {
+			this.value = value;
+		}
+
+		@Override
+		Object[] toArray() {
+			return new Object[] { value };
+		}
+
+		@Override
+		int size() {
+			return 1;
+		}
+
+		@Override
+		Object get(int index) {
+			checkSingleColumn( index );
+			return value;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj == this || obj instanceof LongValue && ( (LongValue) obj ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 + (int) ( value ^ ( value >>> 32 ) );
+		}
+	}
+
+	private static final class IntValue extends KeyValues {
+
+		private final int value;
+
+		private IntValue(int value) {
+			this.value = value;
+		}
+
+		@Override
+		Object[] toArray() {
+			return new Object[] { value };
+		}
+
+		@Override
+		int size() {
+			return 1;
+		}
+
+		@Override
+		Object get(int index) {
+			checkSingleColumn( index );
+			return value;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj == this || obj instanceof IntValue && ( (IntValue) obj ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 + value;
+		}
+	}
+
+	private static final class StringValue extends KeyValues {
+
+		private final String value;
+
+		private StringValue(String value) {
+			this.value = value;
+		}
+
+		@Override
+		Object[] toArray() {
+			return new Object[] { value };
+		}
+
+		@Override
+		int size() {
+			return 1;
+		}
+
+		@Override
+		Object get(int index) {
+			checkSingleColumn( index );
+			return value;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj == this || obj instanceof StringValue && ( (StringValue) obj ).value.equals( value );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 + value.hashCode();
+		}
+	}
+
+	private static final class UUIDValue extends KeyValues {
+
+		private final long mostSignificantBits;
+		private final long leastSignificantBits;
+
+		private UUIDValue(UUID value) {
+			this.mostSignificantBits = value.getMostSignificantBits();
+			this.leastSignificantBits = value.getLeastSignificantBits();
+		}
+
+		@Override
+		Object[] toArray() {
+			return new Object[] { get( 0 ) };
+		}
+
+		@Override
+		int size() {
+			return 1;
+		}
+
+		@Override
+		Object get(int index) {
+			checkSingleColumn( index );
+			return new UUID( mostSignificantBits, leastSignificantBits );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( !( obj instanceof UUIDValue ) ) {
+				return false;
+			}
+			UUIDValue other = (UUIDValue) obj;
+			return other.mostSignificantBits == mostSignificantBits && other.leastSignificantBits == leastSignificantBits;
+		}
+
+		@Override
+		public int hashCode() {
+			// same as UUID#hashCode()
+			long bits = mostSignificantBits ^ leastSignificantBits;
+			return 31 + ( (int) ( bits >> 32 ) ^ (int) bits );
+		}
+	}
+
+	private static final class ArrayValues extends KeyValues {
+
+		private final Object[] values;
+
+		private ArrayValues(Object[] values) {
+			this.values = values;
+		}
+
+		@Override
+		Object[] toArray() {
+			return values;
+		}
+
+		@Override
+		int size() {
+			return values.length;
+		}
+
+		@Override
+		Object get(int index) {
+			return values[index];
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj == this || obj instanceof ArrayValues && Arrays.equals( ( (ArrayValues) obj ).values, values );
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode( values );
+		}
+	}
+}
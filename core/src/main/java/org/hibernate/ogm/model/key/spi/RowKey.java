@@ -18,19 +18,18 @@ public final class RowKey {
 	private final String[] columnNames;
 	//column value types do have to be serializable so RowKey can be serializable
 	//should it be a Serializable[] type? It seems to be more pain than anything else
-	private final Object[] columnValues;
+	private final KeyValues columnValues;
 	private final int hashCode;
 
 	public RowKey(String[] columnNames, Object[] columnValues) {
 		this.columnNames = columnNames;
-		this.columnValues = columnValues;
+		this.columnValues = KeyValues.of( columnValues );
 		this.hashCode = generateHashCode();
 	}
 
 	/**
-	 * This class should be treated as immutable. While we expose this array,
-	 * you should never make changes to it!
-	 * This is a design tradeoff vs. raw performance and memory usage.
+	 * The column names are shared by all the row keys of an association; you should never make changes to this
+	 * array! This is a design tradeoff vs. raw performance and memory usage.
 	 *
 	 * @return the column names
 	 */
@@ -39,13 +38,37 @@ public String[] getColumnNames() {
 	}
 
 	/**
-	 * This class should be treated as immutable. While we expose this array, you should never make changes to it! This
-	 * is a design tradeoff vs. raw performance and memory usage.
+	 * Returns the values of the columns of this key.
+	 * <p>
+	 * Keys with a single {@code long}, {@code int}, {@code String} or {@code UUID} column store their value without
+	 * an array, so a new array is created on each invocation for them; the array of the other keys is the one the key
+	 * was created from and must not be changed. Prefer {@link #getColumnCount()} and {@link #getColumnValue(int)} to
+	 * read single values.
 	 *
 	 * @return the column values corresponding to the column names returned by {@code RowKey#getColumnNames()}
 	 */
 	public Object[] getColumnValues() {
-		return columnValues;
+		return columnValues.toArray();
+	}
+
+	/**
+	 * Returns the number of columns of this key.
+	 *
+	 * @return the number of columns of this key
+	 */
+	public int getColumnCount() {
+		return columnValues.size();
+	}
+
+	/**
+	 * Returns the value of the column with the given index, without creating the array of
+	 * {@link #getColumnValues()}.
+	 *
+	 * @param index the index of the column, as in {@link #getColumnNames()}
+	 * @return the value of the column
+	 */
+	public Object getColumnValue(int index) {
+		return columnValues.get( index );
 	}
 
 	/**
@@ -57,7 +80,7 @@ public Object[] getColumnValues() {
 	public Object getColumnValue(String columnName) {
 		for ( int j = 0; j < columnNames.length; j++ ) {
 			if ( columnNames[j].equals( columnName ) ) {
-				return columnValues[j];
+				return columnValues.get( j );
 			}
 		}
 		return null;
@@ -90,7 +113,7 @@ public boolean equals(Object o) {
 		RowKey that = (RowKey) o;
 
 		// Probably incorrect - comparing Object[] arrays with Arrays.equals
-		if ( !Arrays.equals( columnValues, that.columnValues ) ) {
+		if ( !columnValues.equals( that.columnValues ) ) {
 			return false;
 		}
 		if ( !Arrays.equals( columnNames, that.columnNames ) ) {
@@ -109,7 +132,7 @@ private int generateHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + Arrays.hashCode( columnNames );
-		result = prime * result + Arrays.hashCode( columnValues );
+		result = prime * result + columnValues.hashCode();
 		return result;
 	}
 
@@ -119,7 +142,7 @@ public String toString() {
 		sb.append( "RowKey[" );
 		int i = 0;
 		for ( String column : columnNames ) {
-			sb.append( column ).append( "=" ).append( columnValues[i] );
+			sb.append( column ).append( "=" ).append( columnValues.get( i ) );
 			i++;
 			if ( i < columnNames.length ) {
 				sb.append( ", " );
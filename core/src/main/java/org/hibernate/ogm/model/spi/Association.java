@@ -114,6 +114,16 @@ public List<AssociationOperation> getOperations() {
 		return result;
 	}
 
+	/**
+	 * Returns the number of operations on the association, including the global CLEAR operation, without creating the
+	 * list returned by {@link #getOperations()}.
+	 *
+	 * @return the number of operations to execute on the association
+	 */
+	public int getOperationCount() {
+		return cleared ? currentState.size() + 1 : currentState.size();
+	}
+
 	/**
 	 * Returns the snapshot upon which this association is based, i.e. its original state when loaded from the datastore
 	 * or newly created.
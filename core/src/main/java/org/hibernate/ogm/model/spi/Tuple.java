@@ -10,9 +10,11 @@
 import static org.hibernate.ogm.model.spi.TupleOperationType.PUT_NULL;
 import static org.hibernate.ogm.model.spi.TupleOperationType.REMOVE;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -50,17 +52,47 @@ public enum SnapshotType {
 	private Map<String, TupleOperation> currentState = null; //lazy initialize the Map as it costs quite some memory
 	private SnapshotType snapshotType;
 
+	/**
+	 * Optional; if given, the changes to the indexed columns are kept in the arrays below rather than in
+	 * {@link #currentState}, which then only holds the changes to columns unknown to the index
+	 */
+	private final TupleColumnIndex columnIndex;
+	private Object[] values = null; //lazy initialized upon the first change to an indexed column
+	private TupleOperationType[] operationTypes = null;
+
+	private Set<String> columnNames = null; //cached result of getColumnNames(), reset upon each change
+	private Set<TupleOperation> operations = null; //cached result of getOperations(), reset upon each change
+
 	public Tuple() {
-		this.snapshot = EmptyTupleSnapshot.INSTANCE;
-		this.snapshotType = SnapshotType.INSERT;
+		this( EmptyTupleSnapshot.INSTANCE, SnapshotType.INSERT );
 	}
 
 	public Tuple(TupleSnapshot snapshot, SnapshotType snapshotType) {
+		this( snapshot, snapshotType, null );
+	}
+
+	/**
+	 * Creates a new tuple keeping track of the changes to the columns of the given index in dense arrays.
+	 *
+	 * @param snapshot the read-only state of the tuple at creation time
+	 * @param snapshotType the purpose of the snapshot
+	 * @param columnIndex the column index of the tuple type, e.g. obtained via
+	 * {@link org.hibernate.ogm.dialect.spi.TupleTypeContext#getColumnIndex()}; may be {@code null}
+	 */
+	public Tuple(TupleSnapshot snapshot, SnapshotType snapshotType, TupleColumnIndex columnIndex) {
 		this.snapshot = snapshot;
 		this.snapshotType = snapshotType;
+		this.columnIndex = columnIndex;
 	}
 
 	public Object get(String column) {
+		int position = positionOf( column );
+		if ( position >= 0 ) {
+			if ( operationTypes == null || operationTypes[position] == null ) {
+				return snapshot.get( column );
+			}
+			return operationTypes[position] == PUT ? values[position] : null;
+		}
 		if ( currentState == null ) {
 			return snapshot.get( column );
 		}
@@ -77,6 +109,12 @@ else if ( result.getType() == PUT_NULL || result.getType() == REMOVE ) {
 	}
 
 	public void put(String column, Object value) {
+		resetCaches();
+		int position = positionOf( column );
+		if ( position >= 0 ) {
+			setOperation( position, value, value == null ? PUT_NULL : PUT );
+			return;
+		}
 		if ( currentState == null ) {
 			currentState = new HashMap<String, TupleOperation>();
 		}
@@ -89,25 +127,100 @@ public void put(String column, Object value) {
 	}
 
 	public void remove(String column) {
+		resetCaches();
+		int position = positionOf( column );
+		if ( position >= 0 ) {
+			setOperation( position, null, REMOVE );
+			return;
+		}
 		if ( currentState == null ) {
 			currentState = new HashMap<String, TupleOperation>();
 		}
 		currentState.put( column, new TupleOperation( column, null, REMOVE ) );
 	}
 
+	/**
+	 * Must be invoked by each method changing the state of the tuple.
+	 */
+	private void resetCaches() {
+		columnNames = null;
+		operations = null;
+	}
+
+	private int positionOf(String column) {
+		return columnIndex == null ? -1 : columnIndex.indexOf( column );
+	}
+
+	private void setOperation(int position, Object value, TupleOperationType type) {
+		if ( operationTypes == null ) {
+			values = new Object[columnIndex.size()];
+			operationTypes = new TupleOperationType[columnIndex.size()];
+		}
+		values[position] = value;
+		operationTypes[position] = type;
+	}
+
+	private boolean hasIndexedOperations() {
+		if ( operationTypes != null ) {
+			for ( TupleOperationType type : operationTypes ) {
+				if ( type != null ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Return the list of actions on the tuple.
-	 * Inherently deduplicated operations
+	 * Inherently deduplicated operations; the returned set is read-only and is kept until the next change to the tuple
 	 *
 	 * @return the operations to execute on the Tuple
 	 */
 	public Set<TupleOperation> getOperations() {
-		if ( currentState == null ) {
-			return Collections.emptySet();
+		if ( operations == null ) {
+			operations = createOperations();
 		}
-		else {
-			return new SetFromCollection<TupleOperation>( currentState.values() );
+		return operations;
+	}
+
+	private Set<TupleOperation> createOperations() {
+		if ( !hasIndexedOperations() ) {
+			if ( currentState == null ) {
+				return Collections.emptySet();
+			}
+			else {
+				return new SetFromCollection<TupleOperation>( currentState.values() );
+			}
+		}
+
+		List<TupleOperation> operations = new ArrayList<TupleOperation>( operationTypes.length + ( currentState == null ? 0 : currentState.size() ) );
+		for ( int i = 0; i < operationTypes.length; i++ ) {
+			if ( operationTypes[i] != null ) {
+				operations.add( new TupleOperation( columnIndex.getColumn( i ), values[i], operationTypes[i] ) );
+			}
+		}
+		if ( currentState != null ) {
+			operations.addAll( currentState.values() );
 		}
+		return new SetFromCollection<TupleOperation>( operations );
+	}
+
+	/**
+	 * Returns the number of operations on the tuple, without creating them as {@link #getOperations()} does.
+	 *
+	 * @return the number of operations to execute on the tuple
+	 */
+	public int getOperationCount() {
+		int count = currentState == null ? 0 : currentState.size();
+		if ( operationTypes != null ) {
+			for ( TupleOperationType type : operationTypes ) {
+				if ( type != null ) {
+					count++;
+				}
+			}
+		}
+		return count;
 	}
 
 	public TupleSnapshot getSnapshot() {
@@ -123,32 +236,49 @@ public void setSnapshotType(SnapshotType snapshotType) {
 	}
 
 	public Set<String> getColumnNames() {
-		if ( currentState == null ) {
+		if ( currentState == null && operationTypes == null ) {
 			return snapshot.getColumnNames();
 		}
-		Set<String> columnNames = new HashSet<String>( snapshot.getColumnNames() );
-		for ( TupleOperation op : currentState.values() ) {
-			switch ( op.getType() ) {
-				case PUT :
-				case PUT_NULL :
-					columnNames.add( op.getColumn() );
-					break;
-				case REMOVE:
-					columnNames.remove( op.getColumn() );
-					break;
+		if ( columnNames == null ) {
+			Set<String> columnNames = new HashSet<String>( snapshot.getColumnNames() );
+			if ( operationTypes != null ) {
+				for ( int i = 0; i < operationTypes.length; i++ ) {
+					if ( operationTypes[i] != null ) {
+						applyOperation( columnNames, columnIndex.getColumn( i ), operationTypes[i] );
+					}
+				}
+			}
+			if ( currentState != null ) {
+				for ( TupleOperation op : currentState.values() ) {
+					applyOperation( columnNames, op.getColumn(), op.getType() );
+				}
 			}
+			this.columnNames = Collections.unmodifiableSet( columnNames );
 		}
 		return columnNames;
 	}
 
+	private static void applyOperation(Set<String> columnNames, String column, TupleOperationType type) {
+		switch ( type ) {
+			case PUT :
+			case PUT_NULL :
+				columnNames.add( column );
+				break;
+			case REMOVE:
+				columnNames.remove( column );
+				break;
+		}
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( "Tuple[" );
+		Set<String> columnNames = getColumnNames();
 		int i = 0;
-		for ( String column : getColumnNames() ) {
+		for ( String column : columnNames ) {
 			sb.append( column ).append( "=" ).append( get( column ) );
 			i++;
-			if ( i < getColumnNames().size() ) {
+			if ( i < columnNames.size() ) {
 				sb.append( ", " );
 			}
 		}
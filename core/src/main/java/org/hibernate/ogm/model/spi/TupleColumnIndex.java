@@ -0,0 +1,79 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.model.spi;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+import org.hibernate.ogm.util.impl.CollectionHelper;
+
+/**
+ * Assigns a fixed position to each of the columns of a given tuple type.
+ * <p>
+ * A {@link Tuple} created with such an index keeps the changes applied to those columns in dense arrays instead of
+ * allocating a map entry and a {@link TupleOperation} for each of them. An index is built once per tuple type (see
+ * {@link TupleTypeContext#getColumnIndex()}) and shared by all the tuples of that type; it is immutable and thus
+ * thread-safe.
+ */
+public final class TupleColumnIndex {
+
+	private final String[] columns;
+	private final Map<String, Integer> positions;
+
+	public TupleColumnIndex(List<String> columns) {
+		this.columns = new String[columns.size()];
+		Map<String, Integer> positions = CollectionHelper.newHashMap( columns.size() );
+
+		int position = 0;
+		for ( String column : columns ) {
+			if ( !positions.containsKey( column ) ) {
+				positions.put( column, position );
+				this.columns[position] = column;
+				position++;
+			}
+		}
+
+		this.positions = Collections.unmodifiableMap( positions );
+	}
+
+	/**
+	 * Returns the position of the given column.
+	 *
+	 * @param column the column name
+	 * @return the position of the given column or -1 if the column is not part of this index
+	 */
+	public int indexOf(String column) {
+		Integer position = positions.get( column );
+		return position == null ? -1 : position;
+	}
+
+	/**
+	 * Returns the name of the column at the given position.
+	 *
+	 * @param position the position of the column
+	 * @return the name of the column at the given position
+	 */
+	public String getColumn(int position) {
+		return columns[position];
+	}
+
+	/**
+	 * Returns the number of columns in this index.
+	 *
+	 * @return the number of columns in this index
+	 */
+	public int size() {
+		return positions.size();
+	}
+
+	@Override
+	public String toString() {
+		return "TupleColumnIndex" + positions.keySet();
+	}
+}
@@ -30,6 +30,8 @@
 import org.hibernate.loader.collection.CollectionInitializer;
 import org.hibernate.mapping.Collection;
 import org.hibernate.ogm.dialect.impl.AssociationTypeContextImpl;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
@@ -265,7 +267,10 @@ protected CollectionInitializer createSubselectInitializer(SubselectFetch subsel
 	@Override
 	protected CollectionInitializer createCollectionInitializer(LoadQueryInfluencers loadQueryInfluencers)
 			throws MappingException {
-		// TODO pass constructor
+		// batch fetching requires the dialect to load several associations at once
+		if ( getBatchSize() > 1 && GridDialects.hasFacet( gridDialect, MultigetAssociationGridDialect.class ) ) {
+			return new OgmBasicCollectionLoader( this, getBatchSize() );
+		}
 		return new OgmBasicCollectionLoader( this );
 	}
 
@@ -47,6 +47,7 @@
 import org.hibernate.ogm.dialect.impl.ExceptionThrowingLockingStrategy;
 import org.hibernate.ogm.dialect.impl.GridDialects;
 import org.hibernate.ogm.dialect.impl.TupleContextImpl;
+import org.hibernate.ogm.dialect.impl.TupleRemovalContextImpl;
 import org.hibernate.ogm.dialect.impl.TupleTypeContextImpl;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
@@ -1578,6 +1579,10 @@ public void delete(Serializable id, Object version, Object object, SessionImplem
 					}
 				}
 			}
+			else if ( object != null ) {
+				TuplePointer tuplePointer = OgmEntityEntryState.getStateFor( session, object ).getTuplePointer();
+				gridDialect.removeTuple( key, new TupleRemovalContextImpl( (TupleContextImpl) getTupleContext( session ), tuplePointer ) );
+			}
 			else {
 				gridDialect.removeTuple( key, getTupleContext( session ) );
 			}
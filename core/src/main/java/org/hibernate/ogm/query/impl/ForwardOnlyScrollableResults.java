@@ -0,0 +1,253 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.type.Type;
+
+/**
+ * {@link ScrollableResults} reading the results of a query from an iterator which loads them lazily. Only scrolling
+ * forward is supported.
+ */
+public class ForwardOnlyScrollableResults implements ScrollableResults {
+
+	private final ClosableIterator<Object> results;
+	private final Type[] types;
+
+	private Object[] currentRow;
+	private int rowNumber = -1;
+
+	public ForwardOnlyScrollableResults(ClosableIterator<Object> results, Type[] types) {
+		this.results = results;
+		this.types = types;
+	}
+
+	@Override
+	public boolean next() {
+		if ( results.hasNext() ) {
+			Object result = results.next();
+			currentRow = result instanceof Object[] ? (Object[]) result : new Object[] { result };
+			rowNumber++;
+			return true;
+		}
+
+		currentRow = null;
+		return false;
+	}
+
+	@Override
+	public boolean previous() {
+		throw new UnsupportedOperationException( "Forward-only results do not support scrolling backwards" );
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		if ( positions < 0 ) {
+			throw new UnsupportedOperationException( "Forward-only results do not support scrolling backwards" );
+		}
+
+		boolean hasResult = currentRow != null;
+		for ( int i = 0; i < positions; i++ ) {
+			hasResult = next();
+			if ( !hasResult ) {
+				break;
+			}
+		}
+		return hasResult;
+	}
+
+	@Override
+	public boolean last() {
+		boolean hasResult = currentRow != null;
+		while ( results.hasNext() ) {
+			hasResult = next();
+		}
+		return hasResult;
+	}
+
+	@Override
+	public boolean first() {
+		if ( rowNumber == -1 ) {
+			return next();
+		}
+		if ( rowNumber == 0 ) {
+			return currentRow != null;
+		}
+
+		throw new UnsupportedOperationException( "Forward-only results do not support scrolling backwards" );
+	}
+
+	@Override
+	public void beforeFirst() {
+		if ( rowNumber != -1 ) {
+			throw new UnsupportedOperationException( "Forward-only results do not support scrolling backwards" );
+		}
+	}
+
+	@Override
+	public void afterLast() {
+		last();
+		next();
+	}
+
+	@Override
+	public boolean isFirst() {
+		return rowNumber == 0 && currentRow != null;
+	}
+
+	@Override
+	public boolean isLast() {
+		return currentRow != null && !results.hasNext();
+	}
+
+	@Override
+	public int getRowNumber() {
+		return currentRow != null ? rowNumber : -1;
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		// as for ORM's ScrollableResultsImpl, positive row numbers are 0-based like the ones returned by getRowNumber()
+		// and negative ones count from the last row (-1); only the last row itself can be reached without knowing the
+		// number of results
+		if ( rowNumber == -1 ) {
+			return last();
+		}
+		if ( rowNumber < 0 ) {
+			throw new UnsupportedOperationException( "Forward-only results only support the row number -1 relative to the last row, but got " + rowNumber );
+		}
+		if ( rowNumber < this.rowNumber ) {
+			throw new UnsupportedOperationException( "Forward-only results do not support scrolling backwards" );
+		}
+		return scroll( rowNumber - this.rowNumber );
+	}
+
+	@Override
+	public void close() {
+		results.close();
+	}
+
+	@Override
+	public Object[] get() {
+		return currentRow;
+	}
+
+	@Override
+	public Object get(int i) {
+		return currentRow[i];
+	}
+
+	@Override
+	public Type getType(int i) {
+		return types[i];
+	}
+
+	@Override
+	public Integer getInteger(int col) {
+		return (Integer) get( col );
+	}
+
+	@Override
+	public Long getLong(int col) {
+		return (Long) get( col );
+	}
+
+	@Override
+	public Float getFloat(int col) {
+		return (Float) get( col );
+	}
+
+	@Override
+	public Boolean getBoolean(int col) {
+		return (Boolean) get( col );
+	}
+
+	@Override
+	public Double getDouble(int col) {
+		return (Double) get( col );
+	}
+
+	@Override
+	public Short getShort(int col) {
+		return (Short) get( col );
+	}
+
+	@Override
+	public Byte getByte(int col) {
+		return (Byte) get( col );
+	}
+
+	@Override
+	public Character getCharacter(int col) {
+		return (Character) get( col );
+	}
+
+	@Override
+	public byte[] getBinary(int col) {
+		return (byte[]) get( col );
+	}
+
+	@Override
+	public String getText(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public Blob getBlob(int col) {
+		return (Blob) get( col );
+	}
+
+	@Override
+	public Clob getClob(int col) {
+		return (Clob) get( col );
+	}
+
+	@Override
+	public String getString(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int col) {
+		return (BigDecimal) get( col );
+	}
+
+	@Override
+	public BigInteger getBigInteger(int col) {
+		return (BigInteger) get( col );
+	}
+
+	@Override
+	public Date getDate(int col) {
+		return (Date) get( col );
+	}
+
+	@Override
+	public Locale getLocale(int col) {
+		return (Locale) get( col );
+	}
+
+	@Override
+	public Calendar getCalendar(int col) {
+		return (Calendar) get( col );
+	}
+
+	@Override
+	public TimeZone getTimeZone(int col) {
+		return (TimeZone) get( col );
+	}
+}
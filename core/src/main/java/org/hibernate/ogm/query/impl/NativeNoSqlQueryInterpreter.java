@@ -8,12 +8,15 @@
 
 import java.io.Serializable;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.query.spi.NativeSQLQueryPlan;
 import org.hibernate.engine.query.spi.ParameterMetadata;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.loader.custom.CustomQuery;
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
@@ -21,6 +24,9 @@
 
 /**
  * Interprets given native NoSQL queries.
+ * <p>
+ * The queries parsed by the dialect are cached by query string, so each native query only needs to be parsed once as
+ * long as it isn't evicted from the cache.
  *
  * @author Gunnar Morling
  *
@@ -30,9 +36,20 @@ public class NativeNoSqlQueryInterpreter implements NativeQueryInterpreter {
 	private final QueryableGridDialect<?> gridDialect;
 	private final ParameterMetadataBuilder builder;
 
-	public NativeNoSqlQueryInterpreter(QueryableGridDialect<?> gridDialect) {
+	/**
+	 * The parsed queries, keyed by native query string; {@code null} if caching is disabled
+	 */
+	private final ConcurrentMap<String, Object> queryCache;
+
+	private final AtomicLong queryCacheHitCount = new AtomicLong();
+	private final AtomicLong queryCacheMissCount = new AtomicLong();
+
+	public NativeNoSqlQueryInterpreter(QueryableGridDialect<?> gridDialect, int queryCacheMaxSize) {
 		this.gridDialect = gridDialect;
 		this.builder = gridDialect.getParameterMetadataBuilder();
+		this.queryCache = queryCacheMaxSize > 0
+				? new BoundedConcurrentHashMap<String, Object>( queryCacheMaxSize, 20, BoundedConcurrentHashMap.Eviction.LIRS )
+				: null;
 	}
 
 	@Override
@@ -47,7 +64,7 @@ public NativeSQLQueryPlan createQueryPlan(NativeSQLQuerySpecification specificat
 	}
 
 	private <T extends Serializable> CustomQuery getCustomQuery(QueryableGridDialect<T> gridDialect, NativeSQLQuerySpecification specification, SessionFactoryImplementor sessionFactory) {
-		T query = gridDialect.parseNativeQuery( specification.getQueryString() );
+		T query = parseNativeQuery( gridDialect, specification.getQueryString() );
 
 		@SuppressWarnings("unchecked")
 		Set<String> querySpaces = specification.getQuerySpaces();
@@ -60,4 +77,53 @@ private <T extends Serializable> CustomQuery getCustomQuery(QueryableGridDialect
 				sessionFactory
 		);
 	}
+
+	private <T extends Serializable> T parseNativeQuery(QueryableGridDialect<T> gridDialect, String nativeQuery) {
+		if ( queryCache == null ) {
+			return gridDialect.parseNativeQuery( nativeQuery );
+		}
+
+		@SuppressWarnings("unchecked")
+		T query = (T) queryCache.get( nativeQuery );
+
+		if ( query != null ) {
+			queryCacheHitCount.incrementAndGet();
+		}
+		else {
+			queryCacheMissCount.incrementAndGet();
+			query = gridDialect.parseNativeQuery( nativeQuery );
+			queryCache.put( nativeQuery, query );
+		}
+
+		return query;
+	}
+
+	/**
+	 * @return the number of native queries which could be retrieved from the cache of parsed queries
+	 */
+	public long getQueryCacheHitCount() {
+		return queryCacheHitCount.get();
+	}
+
+	/**
+	 * @return the number of native queries which had to be parsed as they were not in the cache of parsed queries
+	 */
+	public long getQueryCacheMissCount() {
+		return queryCacheMissCount.get();
+	}
+
+	/**
+	 * Resets the hit and miss counts of the cache of parsed queries.
+	 */
+	public void clearQueryCacheStatistics() {
+		queryCacheHitCount.set( 0 );
+		queryCacheMissCount.set( 0 );
+	}
+
+	/**
+	 * @return the number of parsed queries currently in the cache
+	 */
+	public int getQueryCacheSize() {
+		return queryCache == null ? 0 : queryCache.size();
+	}
 }
@@ -9,15 +9,20 @@
 import static org.hibernate.ogm.util.impl.TupleContextHelper.tupleContext;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
 import org.hibernate.loader.hql.QueryLoader;
@@ -83,6 +88,32 @@ protected List<?> list(SessionImplementor session, org.hibernate.engine.spi.Quer
 		}
 	}
 
+	/**
+	 * Returns the results of the query as an iterator which pulls the tuples from the dialect lazily and loads them in
+	 * chunks of the given size; so the entire result doesn't need to fit into memory at once.
+	 *
+	 * @param session the session
+	 * @param queryParameters the query parameters
+	 * @param chunkSize the number of tuples to load at once
+	 * @param evictionWindow if greater than 0, returned entities are evicted from the persistence context once that
+	 * many further entities have been returned
+	 * @return an iterator over the query results, each element either being an entity, a scalar value or an array of
+	 * scalar values
+	 */
+	public ClosableIterator<Object> iterate(EventSource session, org.hibernate.engine.spi.QueryParameters queryParameters, int chunkSize, int evictionWindow) {
+		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+		TupleBasedEntityLoader loader = hasScalars ? null : getLoader( session, queryReturnTypes[0].getReturnedClass() );
+
+		return new ChunkedResultIterator( session, tuples, loader, chunkSize, evictionWindow );
+	}
+
+	/**
+	 * @return the types of the values returned for each result
+	 */
+	public Type[] getQueryReturnTypes() {
+		return queryReturnTypes;
+	}
+
 	// At the moment we only support the case where one entity type is returned
 	private List<Object> listOfEntities(SessionImplementor session, Type[] resultTypes, ClosableIterator<Tuple> tuples) {
 		Class<?> returnedClass = resultTypes[0].getReturnedClass();
@@ -103,33 +134,112 @@ private List<Tuple> getTuplesAsList(ClosableIterator<Tuple> tuples) {
 	private List<Object> listOfArrays(SessionImplementor session, Iterator<Tuple> tuples) {
 		List<Object> results = new ArrayList<Object>();
 		while ( tuples.hasNext() ) {
-			Tuple tuple = tuples.next();
-			Object[] entry = new Object[queryReturnTypes.length];
-
-			int i = 0;
-			for ( Type type : queryReturnTypes ) {
-				GridType gridType = typeTranslator.getType( type );
-				entry[i] = gridType.nullSafeGet( tuple, scalarColumns.get( i ), session, null );
-				i++;
-			}
-
-			if ( entry.length == 1 ) {
-				results.add( entry[0] );
-			}
-			else {
-				results.add( entry );
-			}
+			results.add( scalarResult( session, tuples.next() ) );
 		}
 
 		return results;
 	}
 
+	private Object scalarResult(SessionImplementor session, Tuple tuple) {
+		Object[] entry = new Object[queryReturnTypes.length];
+
+		int i = 0;
+		for ( Type type : queryReturnTypes ) {
+			GridType gridType = typeTranslator.getType( type );
+			entry[i] = gridType.nullSafeGet( tuple, scalarColumns.get( i ), session, null );
+			i++;
+		}
+
+		return entry.length == 1 ? entry[0] : entry;
+	}
+
 	private TupleBasedEntityLoader getLoader(SessionImplementor session, Class<?> entityClass) {
 		OgmEntityPersister persister = (OgmEntityPersister) ( session.getFactory() ).getEntityPersister( entityClass.getName() );
 		TupleBasedEntityLoader loader = (TupleBasedEntityLoader) persister.getAppropriateLoader( LockOptions.READ, session );
 		return loader;
 	}
 
+	/**
+	 * Loads the results of a query chunk by chunk, reading the next chunk of tuples from the dialect's iterator only
+	 * once the previous one has been consumed.
+	 */
+	private class ChunkedResultIterator implements ClosableIterator<Object> {
+
+		private final EventSource session;
+		private final ClosableIterator<Tuple> tuples;
+		private final TupleBasedEntityLoader loader;
+		private final int chunkSize;
+		private final int evictionWindow;
+		private final Deque<Object> returnedEntities;
+
+		private Iterator<Object> chunk = Collections.emptyList().iterator();
+
+		private ChunkedResultIterator(EventSource session, ClosableIterator<Tuple> tuples, TupleBasedEntityLoader loader, int chunkSize, int evictionWindow) {
+			this.session = session;
+			this.tuples = tuples;
+			this.loader = loader;
+			this.chunkSize = chunkSize;
+			this.evictionWindow = evictionWindow;
+			this.returnedEntities = loader != null && evictionWindow > 0 ? new ArrayDeque<Object>( evictionWindow + 1 ) : null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while ( !chunk.hasNext() && tuples.hasNext() ) {
+				chunk = loadNextChunk().iterator();
+			}
+			return chunk.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+
+			Object result = chunk.next();
+
+			if ( returnedEntities != null ) {
+				returnedEntities.add( result );
+				if ( returnedEntities.size() > evictionWindow ) {
+					session.evict( returnedEntities.poll() );
+				}
+			}
+
+			return result;
+		}
+
+		private List<Object> loadNextChunk() {
+			List<Tuple> tuplesOfChunk = new ArrayList<>( chunkSize );
+			while ( tuplesOfChunk.size() < chunkSize && tuples.hasNext() ) {
+				tuplesOfChunk.add( tuples.next() );
+			}
+
+			if ( loader == null ) {
+				List<Object> results = new ArrayList<>( tuplesOfChunk.size() );
+				for ( Tuple tuple : tuplesOfChunk ) {
+					results.add( scalarResult( session, tuple ) );
+				}
+				return results;
+			}
+			else {
+				OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
+				ogmLoadingContext.setTuples( tuplesOfChunk );
+				return loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext );
+			}
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException( "Removing query results is not supported" );
+		}
+
+		@Override
+		public void close() {
+			tuples.close();
+		}
+	}
+
 	/**
 	 * Extracted as separate class for the sole purpose of capturing the type parameter {@code T} without exposing it to
 	 * the callers which don't actually need it.
@@ -18,7 +18,9 @@
 import org.hibernate.MappingException;
 import org.hibernate.QueryException;
 import org.hibernate.ScrollableResults;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.TypedValue;
@@ -31,12 +33,15 @@
 import org.hibernate.hql.spi.QueryTranslator;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.loader.hql.QueryLoader;
+import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.model.spi.EntityMetadataInformation;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.query.spi.QueryParsingResult;
 import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
 import org.hibernate.type.EntityType;
@@ -61,12 +66,19 @@ public class OgmQueryTranslator extends LegacyParserBridgeQueryTranslator {
 
 	private static final Log log = LoggerFactory.make();
 
+	/**
+	 * The number of tuples loaded at once when scrolling through the results of a query without fetch size
+	 */
+	private static final int DEFAULT_CHUNK_SIZE = 100;
+
 	private final String query;
 	private final SessionFactoryImplementor sessionFactory;
 	private final Map<?, ?> filters;
 
 	private final QueryParserService queryParser;
 
+	private final int resultEvictionWindow;
+
 	/**
 	 * The query loader in case the dialect supports parameterized queries; We can re-execute it then with different
 	 * parameter values.
@@ -98,6 +110,10 @@ public OgmQueryTranslator(SessionFactoryImplementor sessionFactory, QueryParserS
 		this.query = query;
 		this.sessionFactory = sessionFactory;
 		this.filters = filters;
+		this.resultEvictionWindow = new ConfigurationPropertyReader( sessionFactory.getServiceRegistry().getService( ConfigurationService.class ).getSettings() )
+				.property( OgmProperties.QUERY_RESULT_EVICTION_WINDOW, int.class )
+				.withDefault( 0 )
+				.getValue();
 
 		queryCache = new BoundedConcurrentHashMap<CacheKey, QueryParsingResult>(
 				100,
@@ -125,8 +141,11 @@ protected void doCompile(Map replacements, boolean shallow) throws QueryExceptio
 
 	@Override
 	public List<?> list(SessionImplementor session, QueryParameters queryParameters) throws HibernateException {
-		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters );
-		return loaderToUse.list( session, queryParameters );
+		return getLoaderToUse( queryParameters ).list( session, queryParameters );
+	}
+
+	private OgmQueryLoader getLoaderToUse(QueryParameters queryParameters) {
+		return loader != null ? loader : getLoader( queryParameters );
 	}
 
 	private <T> OgmQueryLoader getLoader(QueryParameters queryParameters) {
@@ -196,12 +215,22 @@ private Map<String, Object> getNamedParameterValuesConvertedByGridType(QueryPara
 
 	@Override
 	public Iterator<?> iterate(QueryParameters queryParameters, EventSource session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		return getLoaderToUse( queryParameters ).iterate( session, queryParameters, getChunkSize( queryParameters ), resultEvictionWindow );
 	}
 
 	@Override
 	public ScrollableResults scroll(QueryParameters queryParameters, SessionImplementor session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		OgmQueryLoader loaderToUse = getLoaderToUse( queryParameters );
+		ClosableIterator<Object> results = loaderToUse.iterate( (EventSource) session, queryParameters, getChunkSize( queryParameters ), resultEvictionWindow );
+		return new ForwardOnlyScrollableResults( results, loaderToUse.getQueryReturnTypes() );
+	}
+
+	private int getChunkSize(QueryParameters queryParameters) {
+		RowSelection rowSelection = queryParameters.getRowSelection();
+		if ( rowSelection != null && rowSelection.getFetchSize() != null && rowSelection.getFetchSize() > 0 ) {
+			return rowSelection.getFetchSize();
+		}
+		return DEFAULT_CHUNK_SIZE;
 	}
 
 	@Override
@@ -7,10 +7,15 @@
 package org.hibernate.ogm.service.impl;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
 import org.hibernate.ogm.query.impl.NativeNoSqlQueryInterpreter;
+import org.hibernate.ogm.statistics.DatastoreStatistics;
+import org.hibernate.ogm.statistics.impl.DatastoreStatisticsImpl;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 
@@ -24,6 +29,8 @@ public class NativeNoSqlQueryInterpreterInitiator implements SessionFactoryServi
 
 	public static NativeNoSqlQueryInterpreterInitiator INSTANCE = new NativeNoSqlQueryInterpreterInitiator();
 
+	private static final int NATIVE_QUERY_CACHE_DEFAULT_MAX_SIZE = 500;
+
 	private NativeNoSqlQueryInterpreterInitiator() {
 	}
 
@@ -41,7 +48,20 @@ private NativeQueryInterpreter getParameterMetadataRecognizer(ServiceRegistryImp
 		QueryableGridDialect<?> queryableGridDialect = registry.getService( QueryableGridDialect.class );
 
 		if ( queryableGridDialect != null ) {
-			return new NativeNoSqlQueryInterpreter( queryableGridDialect );
+			int queryCacheMaxSize = new ConfigurationPropertyReader( registry.getService( ConfigurationService.class ).getSettings() )
+					.property( OgmProperties.NATIVE_QUERY_CACHE_MAX_SIZE, int.class )
+					.withDefault( NATIVE_QUERY_CACHE_DEFAULT_MAX_SIZE )
+					.getValue();
+
+			NativeNoSqlQueryInterpreter interpreter = new NativeNoSqlQueryInterpreter( queryableGridDialect, queryCacheMaxSize );
+
+			// the cache hits and misses are reported with the datastore statistics
+			DatastoreStatistics statistics = registry.getService( DatastoreStatistics.class );
+			if ( statistics instanceof DatastoreStatisticsImpl ) {
+				( (DatastoreStatisticsImpl) statistics ).setNativeQueryInterpreter( interpreter );
+			}
+
+			return interpreter;
 		}
 		else {
 			return null;
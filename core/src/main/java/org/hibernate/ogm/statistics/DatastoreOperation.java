@@ -0,0 +1,25 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.statistics;
+
+/**
+ * The grid dialect operations for which {@link DatastoreStatistics} are collected.
+ */
+public enum DatastoreOperation {
+
+	GET_TUPLE,
+	GET_TUPLES,
+	INSERT_OR_UPDATE_TUPLE,
+	REMOVE_TUPLE,
+	GET_ASSOCIATION,
+	GET_ASSOCIATIONS,
+	INSERT_OR_UPDATE_ASSOCIATION,
+	REMOVE_ASSOCIATION,
+	EXECUTE_BATCH,
+	EXECUTE_BACKEND_QUERY,
+	NEXT_VALUE;
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.statistics;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.util.Experimental;
+import org.hibernate.service.Service;
+
+/**
+ * Statistics on the operations invoked on the grid dialect, broken down by operation and entity table, association
+ * role or id source.
+ * <p>
+ * Statistics are only collected if enabled via {@link OgmProperties#DATASTORE_STATISTICS}; the collection can then be
+ * paused and resumed at runtime via {@link #setEnabled(boolean)}. Obtain this service from the service registry of the
+ * session factory:
+ *
+ * <pre>
+ * DatastoreStatistics statistics = sessionFactory.unwrap( SessionFactoryImplementor.class )
+ *     .getServiceRegistry()
+ *     .getService( DatastoreStatistics.class );
+ * </pre>
+ *
+ * @see OgmProperties#DATASTORE_STATISTICS
+ */
+@Experimental
+public interface DatastoreStatistics extends Service {
+
+	/**
+	 * Whether statistics are currently being collected or not.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Pauses or resumes the collection of statistics. Has no effect if statistics have not been enabled via
+	 * {@link OgmProperties#DATASTORE_STATISTICS} upon bootstrap.
+	 */
+	void setEnabled(boolean enabled);
+
+	/**
+	 * Discards all statistics collected so far.
+	 */
+	void clear();
+
+	/**
+	 * Returns an immutable snapshot of the statistics collected so far.
+	 */
+	DatastoreStatisticsSnapshot getSnapshot();
+}
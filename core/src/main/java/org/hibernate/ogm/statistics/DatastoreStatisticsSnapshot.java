@@ -0,0 +1,114 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.statistics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the {@link DatastoreStatistics} collected at a given point in time.
+ */
+public class DatastoreStatisticsSnapshot {
+
+	private final long timestamp;
+	private final List<OperationStatistics> operationStatistics;
+	private final Map<String, Integer> idReservationSizes;
+	private final long nativeQueryCacheHitCount;
+	private final long nativeQueryCacheMissCount;
+
+	public DatastoreStatisticsSnapshot(long timestamp, List<OperationStatistics> operationStatistics, Map<String, Integer> idReservationSizes,
+			long nativeQueryCacheHitCount, long nativeQueryCacheMissCount) {
+		this.timestamp = timestamp;
+		this.operationStatistics = Collections.unmodifiableList( operationStatistics );
+		this.idReservationSizes = Collections.unmodifiableMap( idReservationSizes );
+		this.nativeQueryCacheHitCount = nativeQueryCacheHitCount;
+		this.nativeQueryCacheMissCount = nativeQueryCacheMissCount;
+	}
+
+	/**
+	 * The time at which this snapshot was taken, in milliseconds since the epoch.
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * The statistics of all the operations invoked so far, one element per operation and target.
+	 */
+	public List<OperationStatistics> getOperationStatistics() {
+		return operationStatistics;
+	}
+
+	/**
+	 * The statistics of the given operation, one element per target the operation was invoked for.
+	 */
+	public List<OperationStatistics> getOperationStatistics(DatastoreOperation operation) {
+		List<OperationStatistics> result = new ArrayList<OperationStatistics>();
+		for ( OperationStatistics statistics : operationStatistics ) {
+			if ( statistics.getOperation() == operation ) {
+				result.add( statistics );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The statistics of the given operation invoked for the given target or {@code null} if this operation has not
+	 * been invoked for the given target.
+	 */
+	public OperationStatistics getOperationStatistics(DatastoreOperation operation, String target) {
+		for ( OperationStatistics statistics : operationStatistics ) {
+			if ( statistics.getOperation() == operation && target.equals( statistics.getTarget() ) ) {
+				return statistics;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The number of values currently reserved with one round trip to the datastore by the id generators reserving
+	 * several blocks of values at once, keyed by the name of the sequence or by the table and segment name of
+	 * table-based generators, separated by a dot. Empty unless
+	 * {@link org.hibernate.ogm.cfg.OgmProperties#ID_BLOCK_RESERVATION_MAX_BLOCKS} is set to a value greater than 1.
+	 */
+	public Map<String, Integer> getIdReservationSizes() {
+		return idReservationSizes;
+	}
+
+	/**
+	 * The number of native queries taken from the cache of parsed queries. Always 0 for datastores not supporting
+	 * native queries or if {@link org.hibernate.ogm.cfg.OgmProperties#NATIVE_QUERY_CACHE_MAX_SIZE} is 0.
+	 */
+	public long getNativeQueryCacheHitCount() {
+		return nativeQueryCacheHitCount;
+	}
+
+	/**
+	 * The number of native queries which had to be parsed by the dialect as they were not in the cache of parsed
+	 * queries.
+	 */
+	public long getNativeQueryCacheMissCount() {
+		return nativeQueryCacheMissCount;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( "DatastoreStatisticsSnapshot [" );
+		for ( OperationStatistics statistics : operationStatistics ) {
+			sb.append( "\n  " ).append( statistics );
+		}
+		for ( Map.Entry<String, Integer> idReservationSize : idReservationSizes.entrySet() ) {
+			sb.append( "\n  id reservation size of " ).append( idReservationSize.getKey() ).append( ": " ).append( idReservationSize.getValue() );
+		}
+		if ( nativeQueryCacheHitCount > 0 || nativeQueryCacheMissCount > 0 ) {
+			sb.append( "\n  native query cache: hits=" ).append( nativeQueryCacheHitCount ).append( ", misses=" ).append( nativeQueryCacheMissCount );
+		}
+		return sb.append( "\n]" ).toString();
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.statistics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The statistics collected for one grid dialect operation and target.
+ * <p>
+ * Latencies are measured in nanoseconds; percentiles are approximated, with a relative error of up to 12.5%.
+ */
+public class OperationStatistics {
+
+	/**
+	 * The target of operations not related to a specific table or association, such as the execution of a batch.
+	 * <p>
+	 * Batches are also recorded for each table and association role they write to, with the tuples and changes
+	 * written to that target, so that writes remain visible per target for datastores executing them in batches. The
+	 * time of a batch cannot be split among its targets, so it is only recorded for {@code ANY_TARGET}; the latencies
+	 * of batches are zero for the other targets.
+	 */
+	public static final String ANY_TARGET = "*";
+
+	private final DatastoreOperation operation;
+	private final String target;
+	private final long invocations;
+	private final long errors;
+	private final long tuples;
+	private final long changes;
+	private final long totalTime;
+	private final long maxTime;
+	private final long[] percentiles;
+
+	public OperationStatistics(DatastoreOperation operation, String target, long invocations, long errors, long tuples, long changes, long totalTime, long maxTime, long[] percentiles) {
+		this.operation = operation;
+		this.target = target;
+		this.invocations = invocations;
+		this.errors = errors;
+		this.tuples = tuples;
+		this.changes = changes;
+		this.totalTime = totalTime;
+		this.maxTime = maxTime;
+		this.percentiles = percentiles;
+	}
+
+	public DatastoreOperation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * The table of the entities, the role of the association or the id source the operation was invoked for, or
+	 * {@link #ANY_TARGET}.
+	 */
+	public String getTarget() {
+		return target;
+	}
+
+	/**
+	 * The number of times the operation was invoked, including failed invocations.
+	 */
+	public long getInvocationCount() {
+		return invocations;
+	}
+
+	/**
+	 * The number of invocations which failed with an exception.
+	 */
+	public long getErrorCount() {
+		return errors;
+	}
+
+	/**
+	 * The number of tuples read or written by the operation, including the tuples returned by queries.
+	 */
+	public long getTupleCount() {
+		return tuples;
+	}
+
+	/**
+	 * The number of changes written by the operation: changed columns for tuples, changed rows for associations and
+	 * operations for batches on {@link #ANY_TARGET}.
+	 */
+	public long getChangeCount() {
+		return changes;
+	}
+
+	public long getTotalTime(TimeUnit unit) {
+		return unit.convert( totalTime, TimeUnit.NANOSECONDS );
+	}
+
+	public long getMaxTime(TimeUnit unit) {
+		return unit.convert( maxTime, TimeUnit.NANOSECONDS );
+	}
+
+	public long getMeanTime(TimeUnit unit) {
+		return invocations == 0 ? 0 : unit.convert( totalTime / invocations, TimeUnit.NANOSECONDS );
+	}
+
+	public long getMedianTime(TimeUnit unit) {
+		return unit.convert( percentiles[0], TimeUnit.NANOSECONDS );
+	}
+
+	public long get90thPercentileTime(TimeUnit unit) {
+		return unit.convert( percentiles[1], TimeUnit.NANOSECONDS );
+	}
+
+	public long get99thPercentileTime(TimeUnit unit) {
+		return unit.convert( percentiles[2], TimeUnit.NANOSECONDS );
+	}
+
+	public long get999thPercentileTime(TimeUnit unit) {
+		return unit.convert( percentiles[3], TimeUnit.NANOSECONDS );
+	}
+
+	@Override
+	public String toString() {
+		return operation + " " + target + ": invocations=" + invocations + ", errors=" + errors + ", tuples=" + tuples
+				+ ", changes=" + changes + ", mean=" + getMeanTime( TimeUnit.MICROSECONDS ) + "us, p50="
+				+ getMedianTime( TimeUnit.MICROSECONDS ) + "us, p99=" + get99thPercentileTime( TimeUnit.MICROSECONDS )
+				+ "us, max=" + getMaxTime( TimeUnit.MICROSECONDS ) + "us";
+	}
+}
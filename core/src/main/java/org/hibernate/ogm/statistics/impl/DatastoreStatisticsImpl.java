@@ -0,0 +1,293 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.statistics.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.hibernate.ogm.id.impl.IdBlockAllocator;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.query.impl.NativeNoSqlQueryInterpreter;
+import org.hibernate.ogm.statistics.DatastoreOperation;
+import org.hibernate.ogm.statistics.DatastoreStatistics;
+import org.hibernate.ogm.statistics.DatastoreStatisticsSnapshot;
+import org.hibernate.ogm.statistics.OperationStatistics;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.service.spi.Startable;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Keeps the statistics recorded by {@link org.hibernate.ogm.dialect.impl.InstrumentedGridDialect}, one
+ * {@link OperationRecorder} per operation and target.
+ */
+public class DatastoreStatisticsImpl implements DatastoreStatistics, DatastoreStatisticsMXBean, Startable, Stoppable {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final boolean collecting;
+	private final String mbeanName;
+	private final ConcurrentMap<RecorderKey, OperationRecorder> recorders = new ConcurrentHashMap<RecorderKey, OperationRecorder>();
+	private final List<IdBlockAllocator> idBlockAllocators = new CopyOnWriteArrayList<IdBlockAllocator>();
+
+	private volatile NativeNoSqlQueryInterpreter nativeQueryInterpreter;
+	private volatile boolean enabled;
+	private ObjectName registeredName;
+
+	/**
+	 * @param collecting whether the grid dialect is instrumented for collecting statistics
+	 * @param mbeanName the name to register the MBean of these statistics with or {@code null} to not register it
+	 */
+	public DatastoreStatisticsImpl(boolean collecting, String mbeanName) {
+		this.collecting = collecting;
+		this.enabled = collecting;
+		this.mbeanName = mbeanName;
+	}
+
+	@Override
+	public void start() {
+		if ( mbeanName != null ) {
+			try {
+				ObjectName name = new ObjectName( mbeanName );
+				ManagementFactory.getPlatformMBeanServer().registerMBean( this, name );
+				registeredName = name;
+			}
+			catch (Exception e) {
+				log.unableToRegisterStatisticsMBean( mbeanName, e );
+			}
+		}
+	}
+
+	@Override
+	public void stop() {
+		if ( registeredName != null ) {
+			try {
+				MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+				if ( server.isRegistered( registeredName ) ) {
+					server.unregisterMBean( registeredName );
+				}
+			}
+			catch (Exception e) {
+				log.unableToUnregisterStatisticsMBean( mbeanName, e );
+			}
+			registeredName = null;
+		}
+	}
+
+	/**
+	 * Whether the grid dialect is instrumented for collecting statistics.
+	 */
+	public boolean isCollecting() {
+		return collecting;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled && collecting;
+	}
+
+	@Override
+	public void clear() {
+		recorders.clear();
+		NativeNoSqlQueryInterpreter interpreter = nativeQueryInterpreter;
+		if ( interpreter != null ) {
+			interpreter.clearQueryCacheStatistics();
+		}
+	}
+
+	/**
+	 * Returns the recorder for the given operation and target.
+	 */
+	public OperationRecorder getRecorder(DatastoreOperation operation, String target) {
+		RecorderKey key = new RecorderKey( operation, target == null ? OperationStatistics.ANY_TARGET : target );
+		OperationRecorder recorder = recorders.get( key );
+		if ( recorder == null ) {
+			recorder = new OperationRecorder( key.operation, key.target );
+			OperationRecorder previous = recorders.putIfAbsent( key, recorder );
+			if ( previous != null ) {
+				recorder = previous;
+			}
+		}
+		return recorder;
+	}
+
+	/**
+	 * Registers an id allocator whose reservation sizes are reported with these statistics.
+	 */
+	public void addIdBlockAllocator(IdBlockAllocator allocator) {
+		idBlockAllocators.add( allocator );
+	}
+
+	/**
+	 * Registers the interpreter of native queries whose cache hits and misses are reported with these statistics.
+	 */
+	public void setNativeQueryInterpreter(NativeNoSqlQueryInterpreter nativeQueryInterpreter) {
+		this.nativeQueryInterpreter = nativeQueryInterpreter;
+	}
+
+	@Override
+	public DatastoreStatisticsSnapshot getSnapshot() {
+		List<OperationStatistics> statistics = new ArrayList<OperationStatistics>( recorders.size() );
+		for ( OperationRecorder recorder : recorders.values() ) {
+			statistics.add( recorder.getStatistics() );
+		}
+		return new DatastoreStatisticsSnapshot(
+				System.currentTimeMillis(),
+				statistics,
+				collectIdReservationSizes(),
+				getNativeQueryCacheHitCount(),
+				getNativeQueryCacheMissCount()
+		);
+	}
+
+	private Map<String, Integer> collectIdReservationSizes() {
+		Map<String, Integer> idReservationSizes = new HashMap<String, Integer>();
+		for ( IdBlockAllocator allocator : idBlockAllocators ) {
+			for ( Map.Entry<IdSourceKey, Integer> entry : allocator.getReservationSizes().entrySet() ) {
+				IdSourceKey key = entry.getKey();
+				String name = key.getColumnValue() == null ? key.getTable() : key.getTable() + "." + key.getColumnValue();
+				idReservationSizes.put( name, entry.getValue() );
+			}
+		}
+		return idReservationSizes;
+	}
+
+	@Override
+	public String[] getOperationStatistics() {
+		List<OperationStatistics> statistics = getSnapshot().getOperationStatistics();
+		String[] lines = new String[statistics.size()];
+		for ( int i = 0; i < lines.length; i++ ) {
+			lines[i] = statistics.get( i ).toString();
+		}
+		return lines;
+	}
+
+	@Override
+	public long getInvocationCount(String operation, String target) {
+		OperationStatistics statistics = getStatistics( operation, target );
+		return statistics == null ? 0 : statistics.getInvocationCount();
+	}
+
+	@Override
+	public long getErrorCount(String operation, String target) {
+		OperationStatistics statistics = getStatistics( operation, target );
+		return statistics == null ? 0 : statistics.getErrorCount();
+	}
+
+	@Override
+	public long getTupleCount(String operation, String target) {
+		OperationStatistics statistics = getStatistics( operation, target );
+		return statistics == null ? 0 : statistics.getTupleCount();
+	}
+
+	@Override
+	public long getMeanTimeMicros(String operation, String target) {
+		OperationStatistics statistics = getStatistics( operation, target );
+		return statistics == null ? 0 : statistics.getMeanTime( TimeUnit.MICROSECONDS );
+	}
+
+	@Override
+	public long get99thPercentileTimeMicros(String operation, String target) {
+		OperationStatistics statistics = getStatistics( operation, target );
+		return statistics == null ? 0 : statistics.get99thPercentileTime( TimeUnit.MICROSECONDS );
+	}
+
+	@Override
+	public String[] getIdReservationSizes() {
+		Map<String, Integer> idReservationSizes = collectIdReservationSizes();
+		String[] lines = new String[idReservationSizes.size()];
+		int i = 0;
+		for ( Map.Entry<String, Integer> entry : idReservationSizes.entrySet() ) {
+			lines[i++] = entry.getKey() + ": " + entry.getValue();
+		}
+		return lines;
+	}
+
+	@Override
+	public int getIdReservationSize(String idSource) {
+		Integer idReservationSize = collectIdReservationSizes().get( idSource );
+		return idReservationSize == null ? 0 : idReservationSize;
+	}
+
+	@Override
+	public long getNativeQueryCacheHitCount() {
+		NativeNoSqlQueryInterpreter interpreter = nativeQueryInterpreter;
+		return interpreter == null ? 0 : interpreter.getQueryCacheHitCount();
+	}
+
+	@Override
+	public long getNativeQueryCacheMissCount() {
+		NativeNoSqlQueryInterpreter interpreter = nativeQueryInterpreter;
+		return interpreter == null ? 0 : interpreter.getQueryCacheMissCount();
+	}
+
+	/**
+	 * Returns the statistics for the given operation and target as passed in via JMX, {@code null} if the operation is
+	 * unknown or has not been recorded for the target. A {@code null} target stands for {@link OperationStatistics#ANY_TARGET}.
+	 */
+	private OperationStatistics getStatistics(String operation, String target) {
+		DatastoreOperation datastoreOperation = getOperation( operation );
+		if ( datastoreOperation == null ) {
+			return null;
+		}
+
+		OperationRecorder recorder = recorders.get( new RecorderKey( datastoreOperation, target == null ? OperationStatistics.ANY_TARGET : target ) );
+		return recorder == null ? null : recorder.getStatistics();
+	}
+
+	private static DatastoreOperation getOperation(String name) {
+		for ( DatastoreOperation operation : DatastoreOperation.values() ) {
+			if ( operation.name().equals( name ) ) {
+				return operation;
+			}
+		}
+		return null;
+	}
+
+	private static class RecorderKey {
+
+		private final DatastoreOperation operation;
+		private final String target;
+
+		RecorderKey(DatastoreOperation operation, String target) {
+			this.operation = operation;
+			this.target = target;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * operation.hashCode() + target.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			RecorderKey other = (RecorderKey) obj;
+			return operation == other.operation && target.equals( other.target );
+		}
+	}
+}
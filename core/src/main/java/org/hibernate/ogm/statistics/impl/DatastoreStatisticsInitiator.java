@@ -0,0 +1,57 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.statistics.impl;
+
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.statistics.DatastoreStatistics;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Contributes the {@link DatastoreStatistics} service.
+ *
+ * @see OgmProperties#DATASTORE_STATISTICS
+ */
+@SuppressWarnings("rawtypes")
+public class DatastoreStatisticsInitiator implements StandardServiceInitiator<DatastoreStatistics> {
+
+	public static final DatastoreStatisticsInitiator INSTANCE = new DatastoreStatisticsInitiator();
+
+	private DatastoreStatisticsInitiator() {
+	}
+
+	@Override
+	public Class<DatastoreStatistics> getServiceInitiated() {
+		return DatastoreStatistics.class;
+	}
+
+	@Override
+	public DatastoreStatistics initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader( configurationValues );
+
+		boolean enabled = propertyReader.property( OgmProperties.DATASTORE_STATISTICS, boolean.class )
+				.withDefault( false )
+				.getValue();
+		boolean jmxEnabled = propertyReader.property( OgmProperties.DATASTORE_STATISTICS_JMX_ENABLED, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		return new DatastoreStatisticsImpl( enabled, enabled && jmxEnabled ? mbeanName( configurationValues, registry ) : null );
+	}
+
+	private static String mbeanName(Map configurationValues, ServiceRegistryImplementor registry) {
+		Object sessionFactoryName = configurationValues.get( AvailableSettings.SESSION_FACTORY_NAME );
+		String name = sessionFactoryName != null ? sessionFactoryName.toString() : Integer.toHexString( System.identityHashCode( registry ) );
+		return "org.hibernate.ogm:type=DatastoreStatistics,name=" + ObjectName.quote( name );
+	}
+}
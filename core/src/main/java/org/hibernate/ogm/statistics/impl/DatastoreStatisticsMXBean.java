@@ -0,0 +1,59 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.statistics.impl;
+
+/**
+ * JMX view of the {@link org.hibernate.ogm.statistics.DatastoreStatistics}.
+ */
+public interface DatastoreStatisticsMXBean {
+
+	boolean isEnabled();
+
+	void setEnabled(boolean enabled);
+
+	void clear();
+
+	/**
+	 * Returns one line per operation and target, listing invocation, error, tuple and change counts as well as the
+	 * latency distribution.
+	 */
+	String[] getOperationStatistics();
+
+	// The operation is the name of a org.hibernate.ogm.statistics.DatastoreOperation, the target a table, association
+	// role or id source; 0 is returned for unknown operations and for operations not recorded for the target
+
+	long getInvocationCount(String operation, String target);
+
+	long getErrorCount(String operation, String target);
+
+	long getTupleCount(String operation, String target);
+
+	long getMeanTimeMicros(String operation, String target);
+
+	long get99thPercentileTimeMicros(String operation, String target);
+
+	/**
+	 * Returns one line per id source whose values are reserved in blocks, listing the number of values currently
+	 * reserved with one round trip.
+	 */
+	String[] getIdReservationSizes();
+
+	// The id source is a sequence name or the table and segment name of a table-based generator, separated by a dot;
+	// 0 is returned for id sources whose values are not reserved in blocks
+
+	int getIdReservationSize(String idSource);
+
+	/**
+	 * Returns the number of native queries taken from the cache of parsed queries.
+	 */
+	long getNativeQueryCacheHitCount();
+
+	/**
+	 * Returns the number of native queries which had to be parsed as they were not in the cache of parsed queries.
+	 */
+	long getNativeQueryCacheMissCount();
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.statistics.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies with logarithmic buckets: each power of two is divided into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so values are recorded with a relative error of up to 12.5%, using a
+ * fixed amount of memory regardless of the range of the recorded values.
+ */
+class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = ( 64 - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKETS );
+
+	void record(long value) {
+		counts.incrementAndGet( bucketIndex( value < 0 ? 0 : value ) );
+	}
+
+	/**
+	 * Returns the approximate values at the given percentiles (between 0 and 1) of the recorded values.
+	 */
+	long[] getPercentiles(double... percentiles) {
+		long[] snapshot = new long[BUCKETS];
+		long total = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			snapshot[i] = counts.get( i );
+			total += snapshot[i];
+		}
+
+		long[] values = new long[percentiles.length];
+		if ( total == 0 ) {
+			return values;
+		}
+
+		for ( int p = 0; p < percentiles.length; p++ ) {
+			long rank = Math.max( 1, (long) Math.ceil( percentiles[p] * total ) );
+			long cumulated = 0;
+			for ( int i = 0; i < BUCKETS; i++ ) {
+				cumulated += snapshot[i];
+				if ( cumulated >= rank ) {
+					values[p] = bucketMidpoint( i );
+					break;
+				}
+			}
+		}
+		return values;
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKETS ) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros( value );
+		int shift = exponent - SUB_BUCKET_BITS;
+		return ( shift + 1 ) * SUB_BUCKETS + (int) ( ( value >>> shift ) & ( SUB_BUCKETS - 1 ) );
+	}
+
+	static long bucketMidpoint(int index) {
+		if ( index < SUB_BUCKETS ) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		long lowerBound = (long) ( SUB_BUCKETS + index % SUB_BUCKETS ) << shift;
+		return lowerBound + ( ( 1L << shift ) >>> 1 );
+	}
+}
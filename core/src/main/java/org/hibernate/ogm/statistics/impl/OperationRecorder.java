@@ -0,0 +1,97 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.statistics.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.ogm.statistics.DatastoreOperation;
+import org.hibernate.ogm.statistics.OperationStatistics;
+
+/**
+ * Records the invocations of one grid dialect operation for one target. Thread-safe.
+ */
+public class OperationRecorder {
+
+	private static final double[] PERCENTILES = { 0.5d, 0.9d, 0.99d, 0.999d };
+
+	private final DatastoreOperation operation;
+	private final String target;
+
+	private final AtomicLong invocations = new AtomicLong();
+	private final AtomicLong errors = new AtomicLong();
+	private final AtomicLong tuples = new AtomicLong();
+	private final AtomicLong changes = new AtomicLong();
+	private final AtomicLong totalTime = new AtomicLong();
+	private final AtomicLong maxTime = new AtomicLong();
+	private final LatencyHistogram latencies = new LatencyHistogram();
+
+	OperationRecorder(DatastoreOperation operation, String target) {
+		this.operation = operation;
+		this.target = target;
+	}
+
+	/**
+	 * Records one invocation of the operation.
+	 *
+	 * @param time the duration of the invocation in nanoseconds
+	 * @param tupleCount the number of tuples read or written
+	 * @param changeCount the number of changes written, see {@link OperationStatistics#getChangeCount()}
+	 * @param failed whether the invocation failed
+	 */
+	public void record(long time, int tupleCount, int changeCount, boolean failed) {
+		recordCounts( tupleCount, changeCount, failed );
+		totalTime.addAndGet( time );
+		latencies.record( time );
+
+		long max = maxTime.get();
+		while ( time > max && !maxTime.compareAndSet( max, time ) ) {
+			max = maxTime.get();
+		}
+	}
+
+	/**
+	 * Records one invocation of the operation without its duration, for invocations whose time is not attributable
+	 * to this target alone, e.g. a batch writing to several targets.
+	 *
+	 * @param tupleCount the number of tuples read or written
+	 * @param changeCount the number of changes written, see {@link OperationStatistics#getChangeCount()}
+	 * @param failed whether the invocation failed
+	 */
+	public void recordCounts(int tupleCount, int changeCount, boolean failed) {
+		invocations.incrementAndGet();
+		if ( failed ) {
+			errors.incrementAndGet();
+		}
+		if ( tupleCount > 0 ) {
+			tuples.addAndGet( tupleCount );
+		}
+		if ( changeCount > 0 ) {
+			changes.addAndGet( changeCount );
+		}
+	}
+
+	/**
+	 * Records tuples read after the invocation of the operation, e.g. when iterating over the results of a query.
+	 */
+	public void recordTuples(int tupleCount) {
+		tuples.addAndGet( tupleCount );
+	}
+
+	OperationStatistics getStatistics() {
+		return new OperationStatistics(
+				operation,
+				target,
+				invocations.get(),
+				errors.get(),
+				tuples.get(),
+				changes.get(),
+				totalTime.get(),
+				maxTime.get(),
+				latencies.getPercentiles( PERCENTILES )
+		);
+	}
+}
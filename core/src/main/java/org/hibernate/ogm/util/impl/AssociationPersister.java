@@ -9,12 +9,15 @@
 import static org.hibernate.ogm.util.impl.TransactionContextHelper.transactionContext;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
 import org.hibernate.ogm.dialect.impl.AssociationContextImpl;
 import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
@@ -51,6 +54,11 @@ public class AssociationPersister {
 	private AssociationTypeContext associationTypeContext;
 	private AssociationKeyMetadata associationKeyMetadata;
 
+	/**
+	 * Whether the association has been read from the datastore, also if it was not found there.
+	 */
+	private boolean associationLoaded;
+
 	/**
 	 * The entity type hosting the association, i.e. the entity on this side of the association (not necessarily the
 	 * association owner).
@@ -185,7 +193,7 @@ public Association getAssociationOrNull() {
 				}
 			}
 
-			if ( association == null ) {
+			if ( association == null && !associationLoaded ) {
 				association = gridDialect.getAssociation( getAssociationKey(), getAssociationContext() );
 				if ( hostingEntity != null ) {
 					OgmEntityEntryState.getStateFor( session, hostingEntity )
@@ -196,6 +204,56 @@ public Association getAssociationOrNull() {
 		return association;
 	}
 
+	/**
+	 * Loads the associations of the given persisters which have not been loaded yet with a single invocation of the
+	 * given dialect, e.g. when batch fetching collections. All the persisters must manage associations of the same
+	 * role. The associations are then returned by {@link #getAssociationOrNull()} without further datastore access.
+	 */
+	public static void loadAssociationsOrNull(List<AssociationPersister> persisters, MultigetAssociationGridDialect multigetGridDialect) {
+		List<AssociationPersister> toLoad = new ArrayList<>( persisters.size() );
+		for ( AssociationPersister persister : persisters ) {
+			if ( !persister.isAssociationLoaded() ) {
+				toLoad.add( persister );
+			}
+		}
+
+		// a single association is loaded the usual way
+		if ( toLoad.size() < 2 ) {
+			return;
+		}
+
+		AssociationKey[] keys = new AssociationKey[toLoad.size()];
+		AssociationContext[] associationContexts = new AssociationContext[toLoad.size()];
+		for ( int i = 0; i < keys.length; i++ ) {
+			keys[i] = toLoad.get( i ).getAssociationKey();
+			associationContexts[i] = toLoad.get( i ).getAssociationContext();
+		}
+
+		List<Association> associations = multigetGridDialect.getAssociations( keys, associationContexts );
+		for ( int i = 0; i < keys.length; i++ ) {
+			toLoad.get( i ).setLoadedAssociation( associations.get( i ) );
+		}
+	}
+
+	private boolean isAssociationLoaded() {
+		if ( association != null || associationLoaded ) {
+			return true;
+		}
+
+		return hostingEntity != null
+				&& OgmEntityEntryState.getStateFor( session, hostingEntity ).hasAssociation( associationKeyMetadata.getCollectionRole() );
+	}
+
+	private void setLoadedAssociation(Association association) {
+		this.association = association;
+		this.associationLoaded = true;
+
+		if ( hostingEntity != null ) {
+			OgmEntityEntryState.getStateFor( session, hostingEntity )
+					.setAssociation( associationKeyMetadata.getCollectionRole(), association );
+		}
+	}
+
 	/**
 	 * Writes out the changes gathered in the {@link Association} managed by this persister to the datastore.
 	 */
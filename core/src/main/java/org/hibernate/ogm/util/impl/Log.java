@@ -304,4 +304,23 @@ public interface Log extends BasicLogger {
 
 	@Message(id = 89, value = "%1$s does not support queries on polymorphic entities using TABLE_PER_CLASS inheritance strategy. You should try using SINGLE_TABLE instead. Entities: %2$s")
 	HibernateException queriesOnPolymorphicEntitiesAreNotSupportedWithTablePerClass( String datastore, Collection<String> subclassEntityNames );
+
+	@Message(id = 90, value = "Interrupted while waiting for batched operations to be executed in parallel")
+	HibernateException interruptedDuringParallelFlush(@Cause InterruptedException e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 91, value = "Another failure occurred while executing the batched operations for '%1$s' in parallel")
+	void additionalParallelFlushFailure(String table, @Cause Throwable e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 92, value = "Unable to register the datastore statistics MBean '%1$s'")
+	void unableToRegisterStatisticsMBean(String name, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 93, value = "Unable to unregister the datastore statistics MBean '%1$s'")
+	void unableToUnregisterStatisticsMBean(String name, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 94, value = "Ignoring property '%1$s': the transactions of datastore provider '%2$s' are bound to the flushing thread, so the batched operations are executed sequentially")
+	void parallelFlushNotSupported(String property, String datastoreProvider);
 }
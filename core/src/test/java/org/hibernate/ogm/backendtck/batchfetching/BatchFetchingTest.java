@@ -19,6 +19,7 @@
 import org.hibernate.Session;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.utils.InvokedOperationsLoggingDialect;
@@ -122,6 +123,37 @@ public void testLoadSeveralFloorsFromTower() throws Exception {
 		session.close();
 	}
 
+	@Test
+	public void testLoadFloorsOfSeveralTowersByBatch() throws Exception {
+		Session session = openSession();
+		Tower tower = prepareTower( session );
+		Tower otherTower = prepareTower( session );
+		session.clear();
+
+		session.beginTransaction();
+		tower = session.get( Tower.class, tower.getId() );
+		otherTower = session.get( Tower.class, otherTower.getId() );
+
+		getOperationsLogger().reset();
+		Assertions.assertThat( tower.getFloors() ).hasSize( 2 );
+
+		// if a multiget, the floors of both towers are loaded in one go, otherwise we don't
+		assertEquals( isMultigetAssociationDialect(), Hibernate.isInitialized( otherTower.getFloors() ) );
+		if ( isMultigetAssociationDialect() ) {
+			assertThat( getOperations() ).contains( "getAssociations" ).excludes( "getAssociation" );
+		}
+		else {
+			assertThat( getOperations() ).contains( "getAssociation" ).excludes( "getAssociations" );
+		}
+
+		Assertions.assertThat( otherTower.getFloors() ).hasSize( 2 );
+		session.getTransaction().commit();
+
+		cleanTower( session, tower );
+		cleanTower( session, otherTower );
+		session.close();
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "OGM-945")
 	public void testMultigetIsAppliedWithoutExplicitBatchSizeGiven() throws Exception {
@@ -221,6 +253,11 @@ private boolean isMultigetDialect() {
 		return GridDialects.hasFacet( gridDialect, MultigetGridDialect.class );
 	}
 
+	private boolean isMultigetAssociationDialect() {
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		return GridDialects.hasFacet( gridDialect, MultigetAssociationGridDialect.class );
+	}
+
 	@Override
 	protected void configure(Map<String, Object> cfg) {
 		cfg.put( OgmProperties.GRID_DIALECT, InvokedOperationsLoggingDialect.class );
@@ -39,7 +39,7 @@
  *
  * @author Davide D'Alto
  */
-@SkipByGridDialect(value = { GridDialectType.INFINISPAN, GridDialectType.INFINISPAN_REMOTE })
+@SkipByGridDialect(value = { GridDialectType.INFINISPAN_REMOTE })
 public class MultiGetEmbeddedIdTest extends OgmTestCase {
 
 	private static final EntityKeyMetadata METADATA = new DefaultEntityKeyMetadata( "BoardGame", new String[]{ "id.name", "id.publisher" } );
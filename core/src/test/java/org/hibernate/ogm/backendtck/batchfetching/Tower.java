@@ -15,6 +15,7 @@
 import javax.persistence.JoinTable;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 
 /**
@@ -30,6 +31,7 @@ public class Tower {
 	@OneToMany(cascade = CascadeType.PERSIST)
 	@Cascade(org.hibernate.annotations.CascadeType.SAVE_UPDATE)
 	@JoinTable(name = "tower_floor")
+	@BatchSize(size = 10)
 	private Set<Floor> floors = new HashSet<>();
 
 	public Long getId() {
@@ -230,6 +230,17 @@ else if ( currentDialectHasFacet( GroupingByEntityDialect.class ) ) {
 			assertThat( insertOrUpdate.getEntityKey().getColumnValues() ).isEqualTo( new Object[] { "shipment-1" } );
 			assertThat( batchedOperations.hasNext() ).isFalse();
 		}
+		else if ( currentDialectHasFacet( BatchableGridDialect.class ) ) {
+			// batching dialects apply the update as part of the batch executed upon commit
+			GridDialectOperation operation = appliedOperations.next();
+			assertThat( operation ).isInstanceOf( ExecuteBatch.class );
+			ExecuteBatch batch = operation.as( ExecuteBatch.class );
+			Iterator<GridDialectOperation> batchedOperations = batch.getOperations().iterator();
+			InsertOrUpdateTuple insertOrUpdate = batchedOperations.next().as( InsertOrUpdateTuple.class );
+			assertThat( insertOrUpdate.getEntityKey().getTable() ).isEqualTo( "Shipment" );
+			assertThat( insertOrUpdate.getEntityKey().getColumnValues() ).isEqualTo( new Object[] { "shipment-1" } );
+			assertThat( batchedOperations.hasNext() ).isFalse();
+		}
 		else {
 			GridDialectOperation appliedOperation = appliedOperations.next();
 			assertThat( appliedOperation ).isInstanceOf( InsertOrUpdateTuple.class );
@@ -35,12 +35,15 @@ public class SequenceNextValueGenerationTest extends TestNextValueGeneration {
 
 	private static final String INITIAL_VALUE_SEQUENCE = "InitialValueSequence";
 	private static final String THREAD_SAFETY_SEQUENCE = "ThreadSafetySequence";
+	private static final String VARIABLE_INCREMENT_SEQUENCE = "VariableIncrementSequence";
 
 	private static final int INITIAL_VALUE_TEST_FIRST_VALUE = 5;
 
 	private static final int THREAD_SAFETY_FIRST_VALUE = 12;
 	private static final int THREAD_SAFETY_INCREMENT = 3;
 
+	private static final int VARIABLE_INCREMENT_FIRST_VALUE = 7;
+
 	@Override
 	protected IdSourceKey buildIdGeneratorKey(Class<?> entityClass, String sequenceName) {
 		IdentifierGenerator metadata = generateKeyMetadata( entityClass );
@@ -87,9 +90,22 @@ public void testIncrements() throws InterruptedException {
 		}
 	}
 
+	@Test
+	public void testVariableIncrementsReserveDisjointValues() {
+		// id generators reserving several blocks at once vary the increment between requests
+		final IdSourceKey generatorKey = buildIdGeneratorKey( VariableIncrementEntity.class, VARIABLE_INCREMENT_SEQUENCE );
+
+		long expectedValue = VARIABLE_INCREMENT_FIRST_VALUE;
+		for ( int increment : new int[] { 1, 4, 16, 2, 1, 8 } ) {
+			Number sequenceValue = dialect.nextValue( new NextValueRequest( generatorKey, increment, VARIABLE_INCREMENT_FIRST_VALUE ) );
+			assertThat( sequenceValue.longValue() ).as( "Unexpected value for increment " + increment ).isEqualTo( expectedValue );
+			expectedValue += increment;
+		}
+	}
+
 	@Override
 	public Class<?>[] getAnnotatedClasses() {
-		return new Class<?>[]{ InitialValueEntity.class, ThreadSafetyEntity.class };
+		return new Class<?>[]{ InitialValueEntity.class, ThreadSafetyEntity.class, VariableIncrementEntity.class };
 	}
 
 	@Entity
@@ -111,4 +127,14 @@ private static class ThreadSafetyEntity {
 		@SequenceGenerator( name = "gen2", sequenceName = THREAD_SAFETY_SEQUENCE, initialValue = THREAD_SAFETY_FIRST_VALUE )
 		Long id;
 	}
+
+	@Entity
+	@Table(name = "VARIABLE_INCREMENT_GENERATOR_SEQUENCE")
+	private static class VariableIncrementEntity {
+
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "gen3")
+		@SequenceGenerator( name = "gen3", sequenceName = VARIABLE_INCREMENT_SEQUENCE, initialValue = VARIABLE_INCREMENT_FIRST_VALUE )
+		Long id;
+	}
 }
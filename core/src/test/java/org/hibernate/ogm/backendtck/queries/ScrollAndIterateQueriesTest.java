@@ -0,0 +1,188 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.queries;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN_REMOTE;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@code Query#scroll()} and {@code Query#iterate()} on results spanning several chunks.
+ */
+@SkipByGridDialect(
+		value = { HASHMAP, INFINISPAN, INFINISPAN_REMOTE },
+		comment = "Only JP-QL queries translated into native queries are streamed.")
+public class ScrollAndIterateQueriesTest extends OgmTestCase {
+
+	private static final int NUMBER_OF_HYPOTHESES = 25;
+	private static final int FETCH_SIZE = 10;
+	private static final int EVICTION_WINDOW = 3;
+
+	@Before
+	public void insertHypotheses() {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		for ( int i = 0; i < NUMBER_OF_HYPOTHESES; i++ ) {
+			Hypothesis hypothesis = new Hypothesis();
+			hypothesis.setId( String.format( "hypothesis-%02d", i ) );
+			hypothesis.setPosition( i );
+			session.persist( hypothesis );
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@After
+	public void deleteHypotheses() {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		for ( Object hypothesis : session.createQuery( "from Hypothesis" ).list() ) {
+			session.delete( hypothesis );
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testScrollEvictsEntitiesOutsideOfEvictionWindow() {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		ScrollableResults results = session.createQuery( "from Hypothesis h order by h.position" )
+				.setFetchSize( FETCH_SIZE )
+				.scroll();
+
+		List<Hypothesis> returned = new ArrayList<>();
+		while ( results.next() ) {
+			Hypothesis hypothesis = (Hypothesis) results.get( 0 );
+			assertThat( hypothesis.getPosition() ).isEqualTo( returned.size() );
+			assertThat( results.getRowNumber() ).isEqualTo( returned.size() );
+			returned.add( hypothesis );
+			assertEvictionWindow( session, returned );
+		}
+		results.close();
+
+		assertThat( returned ).hasSize( NUMBER_OF_HYPOTHESES );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testIterateEvictsEntitiesOutsideOfEvictionWindow() {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Iterator<?> results = session.createQuery( "from Hypothesis h order by h.position" )
+				.setFetchSize( FETCH_SIZE )
+				.iterate();
+
+		List<Hypothesis> returned = new ArrayList<>();
+		while ( results.hasNext() ) {
+			Hypothesis hypothesis = (Hypothesis) results.next();
+			assertThat( hypothesis.getPosition() ).isEqualTo( returned.size() );
+			returned.add( hypothesis );
+			assertEvictionWindow( session, returned );
+		}
+
+		assertThat( returned ).hasSize( NUMBER_OF_HYPOTHESES );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testScrollScalarsToRowNumber() {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		ScrollableResults results = session.createQuery( "select h.position from Hypothesis h order by h.position" )
+				.setFetchSize( FETCH_SIZE )
+				.scroll();
+
+		// 0-based row numbers as returned by getRowNumber()
+		assertThat( results.setRowNumber( 0 ) ).isTrue();
+		assertThat( results.getInteger( 0 ) ).isEqualTo( 0 );
+		assertThat( results.first() ).isTrue();
+		assertThat( results.setRowNumber( results.getRowNumber() ) ).isTrue();
+		assertThat( results.getInteger( 0 ) ).isEqualTo( 0 );
+
+		// within the third chunk
+		assertThat( results.setRowNumber( 21 ) ).isTrue();
+		assertThat( results.getInteger( 0 ) ).isEqualTo( 21 );
+		assertThat( results.getRowNumber() ).isEqualTo( 21 );
+
+		try {
+			results.setRowNumber( -2 );
+			fail( "Expected row numbers relative to the last row other than -1 to be rejected" );
+		}
+		catch (UnsupportedOperationException e) {
+			// expected
+		}
+
+		try {
+			results.setRowNumber( 20 );
+			fail( "Expected scrolling backwards to be rejected" );
+		}
+		catch (UnsupportedOperationException e) {
+			// expected
+		}
+
+		assertThat( results.scroll( 2 ) ).isTrue();
+		assertThat( results.getInteger( 0 ) ).isEqualTo( 23 );
+
+		// -1 is the last row
+		assertThat( results.setRowNumber( -1 ) ).isTrue();
+		assertThat( results.getInteger( 0 ) ).isEqualTo( 24 );
+		assertThat( results.isLast() ).isTrue();
+		assertThat( results.setRowNumber( -1 ) ).isTrue();
+		assertThat( results.getInteger( 0 ) ).isEqualTo( 24 );
+		assertThat( results.next() ).isFalse();
+		results.close();
+
+		transaction.commit();
+		session.close();
+	}
+
+	/**
+	 * The entities returned more than {@link #EVICTION_WINDOW} results ago must have been evicted, the later ones must
+	 * still be managed.
+	 */
+	private static void assertEvictionWindow(OgmSession session, List<Hypothesis> returned) {
+		int firstManaged = Math.max( 0, returned.size() - EVICTION_WINDOW );
+		for ( int i = 0; i < returned.size(); i++ ) {
+			assertThat( session.contains( returned.get( i ) ) )
+					.as( "Hypothesis " + i + " managed after " + returned.size() + " results" )
+					.isEqualTo( i >= firstManaged );
+		}
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.QUERY_RESULT_EVICTION_WINDOW, EVICTION_WINDOW );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Hypothesis.class, Author.class, Address.class };
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.impl.MapDialect;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.impl.ParallelFlushGridDialect;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.Throwables;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the batched operations of several entity types are flushed in parallel with
+ * {@link ParallelFlushGridDialect}.
+ */
+public class ParallelFlushTest extends OgmTestCase {
+
+	static final Set<String> flushingThreads = Collections.synchronizedSet( new HashSet<String>() );
+	static final ConcurrentMap<String, List<Object>> insertedIds = new ConcurrentHashMap<String, List<Object>>();
+	static volatile String failingTable;
+
+	private static final String FAILURE_MESSAGE = "Failure during parallel flush";
+
+	@Before
+	public void before() {
+		flushingThreads.clear();
+		insertedIds.clear();
+		failingTable = null;
+	}
+
+	@Test
+	public void testEntitiesOfSeveralTypesAreFlushedInParallel() throws Exception {
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( "Lama" );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Hypothesis( "hypo-1" ) );
+		session.persist( helicopter );
+		session.persist( new Hypothesis( "hypo-2" ) );
+		transaction.commit();
+		session.close();
+
+		assertThat( flushingThreads ).as( "Partitions should be executed by different threads" ).hasSize( 2 );
+		assertThat( insertedIds.get( "Hypothesis" ) ).as( "Order within a table should be kept" ).containsExactly( "hypo-1", "hypo-2" );
+		assertThat( insertedIds.get( "Helicopter" ) ).containsExactly( helicopter.getUUID() );
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		assertThat( session.get( Hypothesis.class, "hypo-1" ) ).isNotNull();
+		assertThat( session.get( Hypothesis.class, "hypo-2" ) ).isNotNull();
+		assertThat( session.get( Helicopter.class, helicopter.getUUID() ).getName() ).isEqualTo( "Lama" );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testFailureOfPartitionIsPropagated() throws Exception {
+		// the first partition in the queue, the other ones are executed nevertheless
+		failingTable = "Hypothesis";
+
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( "Ecureuil" );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Hypothesis( "hypo-3" ) );
+		session.persist( helicopter );
+		try {
+			transaction.commit();
+			fail( "Expected the failure of the partition to be propagated" );
+		}
+		catch (Exception e) {
+			assertThat( Throwables.getRootCause( e ).getMessage() ).isEqualTo( FAILURE_MESSAGE );
+		}
+		finally {
+			session.close();
+		}
+
+		assertThat( insertedIds.get( "Hypothesis" ) ).isNull();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		assertThat( session.get( Helicopter.class, helicopter.getUUID() ).getName() ).as( "Partitions are not ordered" ).isEqualTo( "Ecureuil" );
+		transaction.commit();
+		session.close();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.GRID_DIALECT, ParallelFlushTestDialect.class );
+		settings.put( OgmProperties.PARALLEL_FLUSH_THREADS, 2 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Hypothesis.class, Helicopter.class };
+	}
+
+	/**
+	 * Executes the batched operations one by one, recording the threads executing them.
+	 */
+	public static class ParallelFlushTestDialect extends MapDialect implements BatchableGridDialect {
+
+		public ParallelFlushTestDialect(MapDatastoreProvider provider) {
+			super( provider );
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			flushingThreads.add( Thread.currentThread().getName() );
+
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				execute( operation );
+				operation = queue.poll();
+			}
+		}
+
+		private void execute(Operation operation) {
+			if ( operation instanceof GroupedChangesToEntityOperation ) {
+				for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+					execute( groupedOperation );
+				}
+			}
+			else if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation insertOrUpdate = (InsertOrUpdateTupleOperation) operation;
+				if ( insertOrUpdate.getEntityKey().getTable().equals( failingTable ) ) {
+					throw new HibernateException( FAILURE_MESSAGE );
+				}
+				insertOrUpdateTuple( insertOrUpdate.getEntityKey(), insertOrUpdate.getTuplePointer(), insertOrUpdate.getTupleContext() );
+				recordInsert( insertOrUpdate.getEntityKey().getTable(), insertOrUpdate.getEntityKey().getColumnValues()[0] );
+			}
+			else if ( operation instanceof RemoveTupleOperation ) {
+				RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+				removeTuple( remove.getEntityKey(), remove.getTupleContext() );
+			}
+			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+				InsertOrUpdateAssociationOperation insertOrUpdate = (InsertOrUpdateAssociationOperation) operation;
+				insertOrUpdateAssociation( insertOrUpdate.getAssociationKey(), insertOrUpdate.getAssociation(), insertOrUpdate.getContext() );
+			}
+			else if ( operation instanceof RemoveAssociationOperation ) {
+				RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+				removeAssociation( remove.getAssociationKey(), remove.getContext() );
+			}
+			else {
+				throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+			}
+		}
+
+		private static void recordInsert(String table, Object id) {
+			List<Object> ids = insertedIds.get( table );
+			if ( ids == null ) {
+				ids = Collections.synchronizedList( new ArrayList<Object>() );
+				List<Object> previous = insertedIds.putIfAbsent( table, ids );
+				if ( previous != null ) {
+					ids = previous;
+				}
+			}
+			ids.add( id );
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.id;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.id.impl.IdBlockAllocator;
+import org.hibernate.ogm.model.impl.DefaultIdSourceKeyMetadata;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link IdBlockAllocator}.
+ */
+public class IdBlockAllocatorTest {
+
+	private static final IdSourceKey KEY = IdSourceKey.forSequence( DefaultIdSourceKeyMetadata.forSequence( "allocator_sequence" ) );
+
+	private static final int INITIAL_VALUE = 5;
+
+	@Test
+	public void shouldHandOutConsecutiveValuesFromReservedBlocks() {
+		IdBlockAllocator allocator = new IdBlockAllocator( 8 );
+		CountingBlockSource blockSource = new CountingBlockSource();
+
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( allocator.nextValue( KEY, 1, INITIAL_VALUE, blockSource ) ).isEqualTo( INITIAL_VALUE + i );
+		}
+
+		// blocks used up quickly are doubled up to the maximum: 1 + 2 + 4 + 8 + 8 + ...
+		assertThat( blockSource.getRequests() ).isLessThan( 20 );
+		assertThat( allocator.getReservationSizes().get( KEY ) ).isEqualTo( 8 );
+	}
+
+	@Test
+	public void shouldApplyIncrementWithinBlocks() {
+		IdBlockAllocator allocator = new IdBlockAllocator( 4 );
+		CountingBlockSource blockSource = new CountingBlockSource();
+
+		for ( int i = 0; i < 20; i++ ) {
+			assertThat( allocator.nextValue( KEY, 10, INITIAL_VALUE, blockSource ) ).isEqualTo( INITIAL_VALUE + i * 10L );
+		}
+		assertThat( allocator.getReservationSizes().get( KEY ) ).isEqualTo( 40 );
+	}
+
+	@Test
+	public void shouldNotOverflowIncrementPassedToDatastore() {
+		IdBlockAllocator allocator = new IdBlockAllocator( Integer.MAX_VALUE );
+		CountingBlockSource blockSource = new CountingBlockSource();
+		int increment = Integer.MAX_VALUE / 3;
+
+		for ( int i = 0; i < 20; i++ ) {
+			allocator.nextValue( KEY, increment, INITIAL_VALUE, blockSource );
+		}
+
+		for ( int reservationSize : blockSource.getIncrements() ) {
+			assertThat( reservationSize ).isGreaterThan( 0 );
+		}
+		assertThat( allocator.getReservationSizes().get( KEY ) ).isEqualTo( 3 * increment );
+	}
+
+	@Test
+	public void shouldHandOutEachValueOnceToConcurrentCallers() throws Exception {
+		final IdBlockAllocator allocator = new IdBlockAllocator( 16 );
+		final CountingBlockSource blockSource = new CountingBlockSource();
+		int threads = 8;
+		final int valuesPerThread = 1000;
+
+		ExecutorService executor = Executors.newFixedThreadPool( threads );
+		List<Future<List<Long>>> futures = new ArrayList<Future<List<Long>>>();
+		try {
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( new Callable<List<Long>>() {
+
+					@Override
+					public List<Long> call() {
+						List<Long> values = new ArrayList<Long>( valuesPerThread );
+						for ( int j = 0; j < valuesPerThread; j++ ) {
+							values.add( allocator.nextValue( KEY, 1, INITIAL_VALUE, blockSource ) );
+						}
+						return values;
+					}
+				} ) );
+			}
+
+			Set<Long> allValues = new HashSet<Long>();
+			for ( Future<List<Long>> future : futures ) {
+				allValues.addAll( future.get() );
+			}
+
+			assertThat( allValues ).hasSize( threads * valuesPerThread );
+			assertThat( Collections.min( allValues ) ).isEqualTo( INITIAL_VALUE );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Returns the current value and advances it by the requested increment, as specified for
+	 * {@code GridDialect#nextValue()}.
+	 */
+	private static class CountingBlockSource implements IdBlockAllocator.BlockSource {
+
+		private final AtomicLong value = new AtomicLong( -1 );
+		private final List<Integer> increments = Collections.synchronizedList( new ArrayList<Integer>() );
+
+		@Override
+		public Number reserve(NextValueRequest request) {
+			increments.add( request.getIncrement() );
+			value.compareAndSet( -1, request.getInitialValue() );
+			return value.getAndAdd( request.getIncrement() );
+		}
+
+		private int getRequests() {
+			return increments.size();
+		}
+
+		private List<Integer> getIncrements() {
+			return increments;
+		}
+	}
+}
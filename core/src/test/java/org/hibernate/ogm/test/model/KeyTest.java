@@ -0,0 +1,81 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.model;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link EntityKey} and {@link RowKey}, with single-column values stored unboxed and with arrays.
+ */
+public class KeyTest {
+
+	private static final EntityKeyMetadata METADATA = new DefaultEntityKeyMetadata( "Animal", new String[] { "id" } );
+
+	@Test
+	public void testSingleColumnEntityKeys() {
+		UUID uuid = UUID.randomUUID();
+		Object[][] values = {
+				{ 42L }, { 42 }, { "42" }, { uuid }, { (short) 42 }, { null }
+		};
+
+		for ( Object[] value : values ) {
+			EntityKey key = new EntityKey( METADATA, value );
+			EntityKey sameKey = new EntityKey( METADATA, value.clone() );
+
+			assertThat( key ).isEqualTo( sameKey );
+			assertThat( key.hashCode() ).isEqualTo( sameKey.hashCode() );
+			assertThat( key.getColumnValues() ).isEqualTo( value );
+			assertThat( key.getColumnCount() ).isEqualTo( 1 );
+			assertThat( key.getColumnValue( 0 ) ).isEqualTo( value[0] );
+			assertThat( key.toString() ).isEqualTo( "EntityKey(Animal) [id=" + value[0] + "]" );
+		}
+
+		assertThat( new EntityKey( METADATA, new Object[] { 42L } ) ).isNotEqualTo( new EntityKey( METADATA, new Object[] { 42 } ) );
+		assertThat( new EntityKey( METADATA, new Object[] { 42L } ) ).isNotEqualTo( new EntityKey( METADATA, new Object[] { 43L } ) );
+		assertThat( new EntityKey( METADATA, new Object[] { uuid } ) ).isNotEqualTo( new EntityKey( METADATA, new Object[] { UUID.randomUUID() } ) );
+		assertThat( new EntityKey( METADATA, new Object[] { "42" } ) )
+				.isNotEqualTo( new EntityKey( new DefaultEntityKeyMetadata( "Plant", new String[] { "id" } ), new Object[] { "42" } ) );
+	}
+
+	@Test
+	public void testHashCodeIndependentOfRepresentation() {
+		Object[][] values = {
+				{ Long.MIN_VALUE }, { -1 }, { "id" }, { UUID.randomUUID() }, { 1L, "id" }
+		};
+
+		for ( Object[] value : values ) {
+			RowKey key = new RowKey( new String[] { "id" }, value );
+			assertThat( key.hashCode() ).isEqualTo( 31 * ( 31 + Arrays.hashCode( new String[] { "id" } ) ) + Arrays.hashCode( value ) );
+		}
+	}
+
+	@Test
+	public void testRowKeyColumnValues() {
+		RowKey single = new RowKey( new String[] { "owner_id" }, new Object[] { 7L } );
+		assertThat( single.getColumnValue( "owner_id" ) ).isEqualTo( 7L );
+		assertThat( single.getColumnValue( "unknown" ) ).isNull();
+		assertThat( single.getColumnValues() ).isNotSameAs( single.getColumnValues() );
+
+		Object[] values = { 7L, "name" };
+		RowKey composite = new RowKey( new String[] { "owner_id", "name" }, values );
+		assertThat( composite.getColumnValue( "name" ) ).isEqualTo( "name" );
+		assertThat( composite.getColumnCount() ).isEqualTo( 2 );
+		assertThat( composite.getColumnValue( 1 ) ).isEqualTo( "name" );
+		assertThat( composite.getColumnValues() ).isSameAs( values );
+		assertThat( composite ).isEqualTo( new RowKey( new String[] { "owner_id", "name" }, new Object[] { 7L, "name" } ) );
+		assertThat( composite.toString() ).isEqualTo( "RowKey[owner_id=7, name=name]" );
+	}
+}
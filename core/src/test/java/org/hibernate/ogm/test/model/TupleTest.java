@@ -0,0 +1,108 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.model;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleColumnIndex;
+import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleOperationType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Tuple}, with and without a {@link TupleColumnIndex}.
+ */
+public class TupleTest {
+
+	private static final TupleColumnIndex COLUMN_INDEX = new TupleColumnIndex( Arrays.asList( "id", "name", "age" ) );
+
+	@Test
+	public void testOperationsWithoutColumnIndex() {
+		assertOperations( new Tuple( snapshot(), SnapshotType.UPDATE ) );
+	}
+
+	@Test
+	public void testOperationsWithColumnIndex() {
+		assertOperations( new Tuple( snapshot(), SnapshotType.UPDATE, COLUMN_INDEX ) );
+	}
+
+	@Test
+	public void testColumnIndex() {
+		assertThat( COLUMN_INDEX.size() ).isEqualTo( 3 );
+		assertThat( COLUMN_INDEX.indexOf( "name" ) ).isEqualTo( 1 );
+		assertThat( COLUMN_INDEX.getColumn( 1 ) ).isEqualTo( "name" );
+		assertThat( COLUMN_INDEX.indexOf( "unknown" ) ).isEqualTo( -1 );
+
+		TupleColumnIndex withDuplicates = new TupleColumnIndex( Arrays.asList( "id", "name", "id" ) );
+		assertThat( withDuplicates.size() ).isEqualTo( 2 );
+		assertThat( withDuplicates.indexOf( "id" ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testNoOperationsWithColumnIndex() {
+		Tuple tuple = new Tuple( snapshot(), SnapshotType.UPDATE, COLUMN_INDEX );
+
+		assertThat( tuple.getOperations() ).isEmpty();
+		assertThat( tuple.getColumnNames() ).containsOnly( "id", "name", "city" );
+		assertThat( tuple.get( "name" ) ).isEqualTo( "Bob" );
+	}
+
+	private void assertOperations(Tuple tuple) {
+		tuple.put( "name", "Alice" );
+		tuple.put( "age", null );
+		tuple.remove( "city" );
+		tuple.put( "country", "France" );
+		tuple.put( "name", "Alicia" );
+
+		assertThat( tuple.get( "id" ) ).isEqualTo( 1L );
+		assertThat( tuple.get( "name" ) ).isEqualTo( "Alicia" );
+		assertThat( tuple.get( "age" ) ).isNull();
+		assertThat( tuple.get( "city" ) ).isNull();
+		assertThat( tuple.get( "country" ) ).isEqualTo( "France" );
+
+		assertThat( tuple.getColumnNames() ).containsOnly( "id", "name", "age", "country" );
+
+		Map<String, TupleOperation> operations = new HashMap<>();
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			operations.put( operation.getColumn(), operation );
+		}
+
+		assertThat( operations.keySet() ).containsOnly( "name", "age", "city", "country" );
+		assertThat( operations.get( "name" ).getType() ).isEqualTo( TupleOperationType.PUT );
+		assertThat( operations.get( "name" ).getValue() ).isEqualTo( "Alicia" );
+		assertThat( operations.get( "age" ).getType() ).isEqualTo( TupleOperationType.PUT_NULL );
+		assertThat( operations.get( "city" ).getType() ).isEqualTo( TupleOperationType.REMOVE );
+		assertThat( operations.get( "country" ).getType() ).isEqualTo( TupleOperationType.PUT );
+		assertThat( tuple.getOperations() ).isSameAs( tuple.getOperations() );
+
+		tuple.remove( "name" );
+
+		assertThat( tuple.get( "name" ) ).isNull();
+		assertThat( tuple.getColumnNames() ).containsOnly( "id", "age", "country" );
+		assertThat( tuple.getOperations() ).hasSize( 4 );
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			if ( operation.getColumn().equals( "name" ) ) {
+				assertThat( operation.getType() ).isEqualTo( TupleOperationType.REMOVE );
+			}
+		}
+	}
+
+	private static MapTupleSnapshot snapshot() {
+		Map<String, Object> values = new HashMap<>();
+		values.put( "id", 1L );
+		values.put( "name", "Bob" );
+		values.put( "city", "Paris" );
+		return new MapTupleSnapshot( values );
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.query.spi.ParameterMetadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.backendtck.queries.ScrollAndIterateQueriesTest;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.cfg.impl.InternalProperties;
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.impl.MapDialect;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.dialect.spi.TuplesSupplier;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.query.spi.BaseQueryParserService;
+import org.hibernate.ogm.query.spi.QueryParsingResult;
+import org.hibernate.ogm.util.impl.CollectionHelper;
+
+/**
+ * Runs {@link ScrollAndIterateQueriesTest} against the map datastore, with a dialect executing the JP-QL queries of
+ * that test as backend queries; so the results are streamed chunk by chunk as for the datastores supporting queries.
+ */
+public class MapScrollAndIterateQueriesTest extends ScrollAndIterateQueriesTest {
+
+	private static final String TABLE = "Hypothesis";
+	private static final String POSITION_COLUMN = "pos";
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		super.configure( settings );
+		settings.put( OgmProperties.GRID_DIALECT, QueryableMapDialect.class );
+		settings.put( InternalProperties.QUERY_PARSER_SERVICE, HypothesisQueryParserService.class );
+	}
+
+	/**
+	 * Returns all the hypotheses ordered by position for each query; the queries of the test don't filter.
+	 */
+	public static class QueryableMapDialect extends MapDialect implements QueryableGridDialect<String> {
+
+		public QueryableMapDialect(MapDatastoreProvider provider) {
+			super( provider );
+		}
+
+		@Override
+		public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<String> query, QueryParameters queryParameters, TupleContext tupleContext) {
+			final List<Tuple> tuples = new ArrayList<Tuple>();
+			forEachTuple( new ModelConsumer() {
+
+				@Override
+				public void consume(TuplesSupplier supplier) {
+					try ( ClosableIterator<Tuple> iterator = supplier.get( null ) ) {
+						while ( iterator.hasNext() ) {
+							tuples.add( iterator.next() );
+						}
+					}
+				}
+			}, null, new DefaultEntityKeyMetadata( query.getQuery(), new String[] { "id" } ) );
+
+			Collections.sort( tuples, new Comparator<Tuple>() {
+
+				@Override
+				public int compare(Tuple tuple1, Tuple tuple2) {
+					return Integer.compare( (Integer) tuple1.get( POSITION_COLUMN ), (Integer) tuple2.get( POSITION_COLUMN ) );
+				}
+			} );
+			return CollectionHelper.newClosableIterator( tuples );
+		}
+
+		@Override
+		public int executeBackendUpdateQuery(BackendQuery<String> query, QueryParameters queryParameters, TupleContext tupleContext) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ParameterMetadataBuilder getParameterMetadataBuilder() {
+			return new ParameterMetadataBuilder() {
+
+				@Override
+				public ParameterMetadata buildParameterMetadata(String nativeQuery) {
+					throw new UnsupportedOperationException();
+				}
+			};
+		}
+
+		@Override
+		public String parseNativeQuery(String nativeQuery) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * Translates the queries of the test into the table to read; scalar queries select the position.
+	 */
+	public static class HypothesisQueryParserService extends BaseQueryParserService {
+
+		@Override
+		public boolean supportsParameters() {
+			return true;
+		}
+
+		@Override
+		public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters) {
+			return parseQuery( sessionFactory, queryString );
+		}
+
+		@Override
+		public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, final String queryString) {
+			return new QueryParsingResult() {
+
+				@Override
+				public Object getQueryObject() {
+					return TABLE;
+				}
+
+				@Override
+				public List<String> getColumnNames() {
+					return queryString.startsWith( "select" )
+							? Collections.singletonList( POSITION_COLUMN )
+							: Collections.<String>emptyList();
+				}
+			};
+		}
+	}
+}
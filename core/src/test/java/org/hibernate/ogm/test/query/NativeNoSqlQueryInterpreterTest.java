@@ -0,0 +1,146 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.query;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.query.spi.ParameterMetadata;
+import org.hibernate.engine.query.spi.sql.NativeSQLQueryReturn;
+import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.ogm.datastore.map.impl.MapDialect;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.query.impl.NativeNoSqlQueryInterpreter;
+import org.hibernate.ogm.statistics.DatastoreStatisticsSnapshot;
+import org.hibernate.ogm.statistics.impl.DatastoreStatisticsImpl;
+import org.hibernate.ogm.statistics.impl.DatastoreStatisticsMXBean;
+import org.junit.Test;
+
+/**
+ * Unit test for the cache of parsed queries of {@link NativeNoSqlQueryInterpreter}.
+ */
+public class NativeNoSqlQueryInterpreterTest {
+
+	@Test
+	public void shouldParseRecurringQueryOnce() {
+		CountingQueryableDialect dialect = new CountingQueryableDialect();
+		NativeNoSqlQueryInterpreter interpreter = new NativeNoSqlQueryInterpreter( dialect, 10 );
+
+		createQueryPlan( interpreter, "query-1" );
+		createQueryPlan( interpreter, "query-1" );
+		createQueryPlan( interpreter, "query-2" );
+		createQueryPlan( interpreter, "query-1" );
+
+		assertThat( dialect.getParsedQueries() ).isEqualTo( 2 );
+		assertThat( interpreter.getQueryCacheMissCount() ).isEqualTo( 2 );
+		assertThat( interpreter.getQueryCacheHitCount() ).isEqualTo( 2 );
+		assertThat( interpreter.getQueryCacheSize() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void shouldBoundNumberOfCachedQueries() {
+		CountingQueryableDialect dialect = new CountingQueryableDialect();
+		NativeNoSqlQueryInterpreter interpreter = new NativeNoSqlQueryInterpreter( dialect, 10 );
+
+		for ( int i = 0; i < 100; i++ ) {
+			createQueryPlan( interpreter, "query-" + i );
+		}
+
+		assertThat( dialect.getParsedQueries() ).isEqualTo( 100 );
+		assertThat( interpreter.getQueryCacheMissCount() ).isEqualTo( 100 );
+		assertThat( interpreter.getQueryCacheSize() ).isLessThanOrEqualTo( 10 );
+	}
+
+	@Test
+	public void shouldParseEachQueryIfCacheIsDisabled() {
+		CountingQueryableDialect dialect = new CountingQueryableDialect();
+		NativeNoSqlQueryInterpreter interpreter = new NativeNoSqlQueryInterpreter( dialect, 0 );
+
+		createQueryPlan( interpreter, "query-1" );
+		createQueryPlan( interpreter, "query-1" );
+
+		assertThat( dialect.getParsedQueries() ).isEqualTo( 2 );
+		assertThat( interpreter.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( interpreter.getQueryCacheMissCount() ).isEqualTo( 0 );
+		assertThat( interpreter.getQueryCacheSize() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void shouldReportCacheHitsAndMissesWithDatastoreStatistics() {
+		NativeNoSqlQueryInterpreter interpreter = new NativeNoSqlQueryInterpreter( new CountingQueryableDialect(), 10 );
+		DatastoreStatisticsImpl statistics = new DatastoreStatisticsImpl( true, null );
+		statistics.setNativeQueryInterpreter( interpreter );
+
+		createQueryPlan( interpreter, "query-1" );
+		createQueryPlan( interpreter, "query-1" );
+		createQueryPlan( interpreter, "query-1" );
+
+		DatastoreStatisticsSnapshot snapshot = statistics.getSnapshot();
+		assertThat( snapshot.getNativeQueryCacheHitCount() ).isEqualTo( 2 );
+		assertThat( snapshot.getNativeQueryCacheMissCount() ).isEqualTo( 1 );
+
+		DatastoreStatisticsMXBean mbean = statistics;
+		assertThat( mbean.getNativeQueryCacheHitCount() ).isEqualTo( 2 );
+		assertThat( mbean.getNativeQueryCacheMissCount() ).isEqualTo( 1 );
+
+		statistics.clear();
+
+		assertThat( statistics.getSnapshot().getNativeQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getSnapshot().getNativeQueryCacheMissCount() ).isEqualTo( 0 );
+	}
+
+	private static void createQueryPlan(NativeNoSqlQueryInterpreter interpreter, String query) {
+		interpreter.createQueryPlan( new NativeSQLQuerySpecification( query, new NativeSQLQueryReturn[0], null ), null );
+	}
+
+	private static class CountingQueryableDialect extends MapDialect implements QueryableGridDialect<String> {
+
+		private final AtomicInteger parsedQueries = new AtomicInteger();
+
+		private CountingQueryableDialect() {
+			super( null );
+		}
+
+		@Override
+		public String parseNativeQuery(String nativeQuery) {
+			parsedQueries.incrementAndGet();
+			return nativeQuery;
+		}
+
+		@Override
+		public ParameterMetadataBuilder getParameterMetadataBuilder() {
+			return new ParameterMetadataBuilder() {
+
+				@Override
+				public ParameterMetadata buildParameterMetadata(String nativeQuery) {
+					throw new UnsupportedOperationException();
+				}
+			};
+		}
+
+		@Override
+		public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<String> query, QueryParameters queryParameters, TupleContext tupleContext) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int executeBackendUpdateQuery(BackendQuery<String> query, QueryParameters queryParameters, TupleContext tupleContext) {
+			throw new UnsupportedOperationException();
+		}
+
+		private int getParsedQueries() {
+			return parsedQueries.get();
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.statistics;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.impl.MapDialect;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.statistics.DatastoreOperation;
+import org.hibernate.ogm.statistics.DatastoreStatistics;
+import org.hibernate.ogm.statistics.DatastoreStatisticsSnapshot;
+import org.hibernate.ogm.statistics.OperationStatistics;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the writes executed in batches are recorded per table and association role.
+ */
+public class BatchedWritesStatisticsTest extends OgmTestCase {
+
+	private DatastoreStatistics statistics;
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.GRID_DIALECT, BatchingMapDialect.class );
+		settings.put( OgmProperties.DATASTORE_STATISTICS, true );
+	}
+
+	@Before
+	public void clearStatistics() {
+		statistics = getSessionFactory().getServiceRegistry().getService( DatastoreStatistics.class );
+		statistics.clear();
+	}
+
+	@Test
+	public void shouldRecordBatchedWritesPerTableAndRole() {
+		ReadingList readingList = new ReadingList( "hibernate" );
+		readingList.getUrls().add( "http://hibernate.org/ogm/" );
+		readingList.getUrls().add( "http://hibernate.org/orm/" );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Bookmark( "ogm", "http://hibernate.org/ogm/" ) );
+		session.persist( new Bookmark( "orm", "http://hibernate.org/orm/" ) );
+		session.persist( readingList );
+		transaction.commit();
+		session.close();
+
+		DatastoreStatisticsSnapshot snapshot = statistics.getSnapshot();
+		assertThat( snapshot.getOperationStatistics( DatastoreOperation.INSERT_OR_UPDATE_TUPLE, "Bookmark" ) ).isNull();
+
+		OperationStatistics bookmarks = snapshot.getOperationStatistics( DatastoreOperation.EXECUTE_BATCH, "Bookmark" );
+		assertThat( bookmarks ).isNotNull();
+		assertThat( bookmarks.getInvocationCount() ).isEqualTo( 1 );
+		assertThat( bookmarks.getTupleCount() ).isEqualTo( 2 );
+		assertThat( bookmarks.getChangeCount() ).isEqualTo( 4 );
+		// the time of the batch is only recorded for the batch as a whole
+		assertThat( bookmarks.getTotalTime( TimeUnit.NANOSECONDS ) ).isEqualTo( 0 );
+
+		OperationStatistics urls = snapshot.getOperationStatistics( DatastoreOperation.EXECUTE_BATCH, "urls" );
+		assertThat( urls ).isNotNull();
+		assertThat( urls.getTupleCount() ).isEqualTo( 0 );
+		assertThat( urls.getChangeCount() ).isEqualTo( 2 );
+		assertThat( urls.getTotalTime( TimeUnit.NANOSECONDS ) ).isEqualTo( 0 );
+
+		OperationStatistics batch = snapshot.getOperationStatistics( DatastoreOperation.EXECUTE_BATCH, OperationStatistics.ANY_TARGET );
+		assertThat( batch.getInvocationCount() ).isEqualTo( 1 );
+		assertThat( batch.getTotalTime( TimeUnit.NANOSECONDS ) ).isGreaterThan( 0 );
+
+		statistics.clear();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		session.delete( session.get( Bookmark.class, "ogm" ) );
+		session.delete( session.get( Bookmark.class, "orm" ) );
+		session.delete( session.get( ReadingList.class, "hibernate" ) );
+		transaction.commit();
+		session.close();
+
+		bookmarks = statistics.getSnapshot().getOperationStatistics( DatastoreOperation.EXECUTE_BATCH, "Bookmark" );
+		assertThat( bookmarks.getInvocationCount() ).isEqualTo( 1 );
+		assertThat( bookmarks.getTupleCount() ).isEqualTo( 2 );
+		assertThat( bookmarks.getChangeCount() ).isEqualTo( 0 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[]{ Bookmark.class, ReadingList.class };
+	}
+
+	/**
+	 * Executes the batched operations one by one.
+	 */
+	public static class BatchingMapDialect extends MapDialect implements BatchableGridDialect {
+
+		public BatchingMapDialect(MapDatastoreProvider provider) {
+			super( provider );
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				execute( operation );
+				operation = queue.poll();
+			}
+		}
+
+		private void execute(Operation operation) {
+			if ( operation instanceof GroupedChangesToEntityOperation ) {
+				for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+					execute( groupedOperation );
+				}
+			}
+			else if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation insertOrUpdate = (InsertOrUpdateTupleOperation) operation;
+				insertOrUpdateTuple( insertOrUpdate.getEntityKey(), insertOrUpdate.getTuplePointer(), insertOrUpdate.getTupleContext() );
+			}
+			else if ( operation instanceof RemoveTupleOperation ) {
+				RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+				removeTuple( remove.getEntityKey(), remove.getTupleContext() );
+			}
+			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+				InsertOrUpdateAssociationOperation insertOrUpdate = (InsertOrUpdateAssociationOperation) operation;
+				insertOrUpdateAssociation( insertOrUpdate.getAssociationKey(), insertOrUpdate.getAssociation(), insertOrUpdate.getContext() );
+			}
+			else if ( operation instanceof RemoveAssociationOperation ) {
+				RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+				removeAssociation( remove.getAssociationKey(), remove.getContext() );
+			}
+			else {
+				throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+			}
+		}
+	}
+}
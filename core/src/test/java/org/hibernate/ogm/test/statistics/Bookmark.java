@@ -0,0 +1,42 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.statistics;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class Bookmark {
+
+	private String id;
+	private String url;
+
+	public Bookmark() {
+	}
+
+	public Bookmark(String id, String url) {
+		this.id = id;
+		this.url = url;
+	}
+
+	@Id
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+}
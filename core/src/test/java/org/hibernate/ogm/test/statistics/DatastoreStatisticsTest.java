@@ -0,0 +1,125 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.statistics;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.statistics.DatastoreOperation;
+import org.hibernate.ogm.statistics.DatastoreStatistics;
+import org.hibernate.ogm.statistics.OperationStatistics;
+import org.hibernate.ogm.statistics.impl.DatastoreStatisticsMXBean;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the statistics collected on the invocations of the grid dialect.
+ */
+public class DatastoreStatisticsTest extends OgmTestCase {
+
+	private DatastoreStatistics statistics;
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( OgmProperties.DATASTORE_STATISTICS, true );
+	}
+
+	@Before
+	public void persistBookmark() {
+		statistics = getSessionFactory().getServiceRegistry().getService( DatastoreStatistics.class );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Bookmark( "hibernate", "http://hibernate.org/ogm/" ) );
+		transaction.commit();
+		session.close();
+
+		statistics.clear();
+	}
+
+	@After
+	public void removeBookmark() {
+		statistics.setEnabled( true );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.delete( session.get( Bookmark.class, "hibernate" ) );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void shouldRecordReadTuplesPerTable() {
+		loadBookmark();
+
+		OperationStatistics getTuple = statistics.getSnapshot().getOperationStatistics( DatastoreOperation.GET_TUPLE, "Bookmark" );
+		assertThat( getTuple ).isNotNull();
+		assertThat( getTuple.getInvocationCount() ).isEqualTo( 1 );
+		assertThat( getTuple.getTupleCount() ).isEqualTo( 1 );
+		assertThat( getTuple.getErrorCount() ).isEqualTo( 0 );
+		assertThat( getTuple.getMaxTime( TimeUnit.NANOSECONDS ) ).isGreaterThan( 0 );
+	}
+
+	@Test
+	public void shouldNotRecordWhilePaused() {
+		statistics.setEnabled( false );
+		loadBookmark();
+
+		assertThat( statistics.getSnapshot().getOperationStatistics() ).isEmpty();
+
+		statistics.setEnabled( true );
+		loadBookmark();
+
+		assertThat( statistics.getSnapshot().getOperationStatistics( DatastoreOperation.GET_TUPLE, "Bookmark" ).getInvocationCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void shouldRecordChangesOfWrittenTuples() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.get( Bookmark.class, "hibernate" ).setUrl( "http://hibernate.org/" );
+		transaction.commit();
+		session.close();
+
+		OperationStatistics update = statistics.getSnapshot().getOperationStatistics( DatastoreOperation.INSERT_OR_UPDATE_TUPLE, "Bookmark" );
+		assertThat( update ).isNotNull();
+		assertThat( update.getTupleCount() ).isEqualTo( 1 );
+		assertThat( update.getChangeCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void shouldReturnNoStatisticsForUnknownOperationsAndTargetsViaJmx() {
+		loadBookmark();
+		DatastoreStatisticsMXBean mbean = (DatastoreStatisticsMXBean) statistics;
+
+		assertThat( mbean.getInvocationCount( "GET_TUPLE", "Bookmark" ) ).isEqualTo( 1 );
+		assertThat( mbean.getInvocationCount( "GET_TUPLE", null ) ).isEqualTo( 0 );
+		assertThat( mbean.getInvocationCount( "GET_TUPLE", "Unknown" ) ).isEqualTo( 0 );
+		assertThat( mbean.getInvocationCount( "UNKNOWN", "Bookmark" ) ).isEqualTo( 0 );
+		assertThat( mbean.getMeanTimeMicros( null, "Bookmark" ) ).isEqualTo( 0 );
+	}
+
+	private void loadBookmark() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		assertThat( session.get( Bookmark.class, "hibernate" ) ).isNotNull();
+		transaction.commit();
+		session.close();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[]{ Bookmark.class };
+	}
+}
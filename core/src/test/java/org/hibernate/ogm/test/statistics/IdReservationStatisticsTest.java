@@ -0,0 +1,87 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.statistics;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.backendtck.id.Video;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.id.impl.IdBlockAllocator;
+import org.hibernate.ogm.statistics.DatastoreStatistics;
+import org.hibernate.ogm.statistics.impl.DatastoreStatisticsMXBean;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Test for the id reservation sizes reported with the datastore statistics.
+ */
+public class IdReservationStatisticsTest extends OgmTestCase {
+
+	private static final String ID_SOURCE = "sequences.video";
+	private static final int ALLOCATION_SIZE = 50;
+	private static final int MAX_BLOCKS = 4;
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( OgmProperties.DATASTORE_STATISTICS, true );
+		cfg.put( OgmProperties.ID_BLOCK_RESERVATION_MAX_BLOCKS, MAX_BLOCKS );
+	}
+
+	@Test
+	public void shouldReportReservationSizeOfIdSource() {
+		DatastoreStatistics statistics = getSessionFactory().getServiceRegistry().getService( DatastoreStatistics.class );
+		assertThat( statistics.getSnapshot().getIdReservationSizes() ).isEmpty();
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		for ( int i = 0; i < MAX_BLOCKS * ALLOCATION_SIZE; i++ ) {
+			Video video = new Video();
+			video.setName( "video-" + i );
+			session.persist( video );
+		}
+		transaction.commit();
+		session.close();
+
+		// the blocks are used up quickly, so more than one is reserved at once
+		Integer reservationSize = statistics.getSnapshot().getIdReservationSizes().get( ID_SOURCE );
+		assertThat( reservationSize ).isGreaterThan( ALLOCATION_SIZE );
+		assertThat( reservationSize ).isLessThanOrEqualTo( MAX_BLOCKS * ALLOCATION_SIZE );
+
+		DatastoreStatisticsMXBean mbean = (DatastoreStatisticsMXBean) statistics;
+		assertThat( mbean.getIdReservationSize( ID_SOURCE ) ).isEqualTo( reservationSize );
+		assertThat( mbean.getIdReservationSize( "unknown" ) ).isEqualTo( 0 );
+		assertThat( mbean.getIdReservationSizes() ).containsOnly( ID_SOURCE + ": " + reservationSize );
+
+		// the reservation sizes are not reset with the collected statistics
+		statistics.clear();
+		assertThat( statistics.getSnapshot().getIdReservationSizes() ).hasSize( 1 );
+	}
+
+	@Test
+	public void shouldReserveBlocksWithAllocatorOfSessionFactory() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Video video = new Video();
+		video.setName( "video" );
+		session.persist( video );
+		transaction.commit();
+		session.close();
+
+		// the generators take their values from the allocator service shared by the session factory
+		IdBlockAllocator allocator = getSessionFactory().getServiceRegistry().getService( IdBlockAllocator.class );
+		assertThat( allocator.getReservationSizes() ).hasSize( 1 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[]{ Video.class };
+	}
+}
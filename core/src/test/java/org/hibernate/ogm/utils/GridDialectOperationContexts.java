@@ -12,6 +12,7 @@
 import java.util.Map;
 
 import org.hibernate.Session;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.impl.AssociationContextImpl;
 import org.hibernate.ogm.dialect.impl.AssociationTypeContextImpl;
 import org.hibernate.ogm.dialect.impl.TupleContextImpl;
@@ -36,6 +37,7 @@ public static class TupleContextBuilder {
 
 		private TransactionContext transactionContext = null;
 		private TupleTypeContext tupleTypeContext;
+		private OperationsQueue operationsQueue = null;
 
 		public TupleContextBuilder transactionContext(Session session) {
 			this.transactionContext = TransactionContextHelper.transactionContext( session );
@@ -47,8 +49,13 @@ public TupleContextBuilder tupleTypeContext(TupleTypeContext tupleTypeContext) {
 			return this;
 		}
 
+		public TupleContextBuilder operationsQueue(OperationsQueue operationsQueue) {
+			this.operationsQueue = operationsQueue;
+			return this;
+		}
+
 		public TupleContext buildTupleContext() {
-			return new TupleContextImpl( tupleTypeContext, transactionContext );
+			return new TupleContextImpl( new TupleContextImpl( tupleTypeContext, transactionContext ), operationsQueue );
 		}
 	}
 
@@ -124,6 +124,13 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return association;
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		List<Association> associations = super.getAssociations( keys, associationContexts );
+		log( "getAssociations", Arrays.toString( keys ), toShortString( associations ) );
+		return associations;
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		Association association = super.createAssociation( key, associationContext );
@@ -252,6 +259,18 @@ private void log(String operation, String parameters, String returnValue) {
 		opIndex++;
 	}
 
+	private String toShortString(List<Association> associations) {
+		if ( associations == null ) {
+			return null;
+		}
+
+		List<String> strings = new ArrayList<>( associations.size() );
+		for ( Association association : associations ) {
+			strings.add( toShortString( association ) );
+		}
+		return strings.toString();
+	}
+
 	private String toShortString(Association association) {
 		if ( association == null ) {
 			return null;
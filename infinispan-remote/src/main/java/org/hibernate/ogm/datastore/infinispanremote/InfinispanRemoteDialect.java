@@ -320,17 +320,18 @@ private static Map<RowKey, Map<String, Object>> loadRowKeysByQuery(InfinispanRem
 		return mapper.withinCacheEncodingContext( c -> {
 			QueryFactory queryFactory = Search.getQueryFactory( c );
 			final String[] columnNames = key.getColumnNames();
+			final Object[] columnValues = key.getColumnValues();
 			QueryBuilder qb = queryFactory.from( ProtostreamPayload.class );
 			FilterConditionContext bqEnd = null;
 			boolean firstIteration = true;
 			for ( int i = 0; i < columnNames.length; i++ ) {
 				String fieldName = mapper.convertColumnNameToFieldName( columnNames[i] );
 				if ( firstIteration ) {
-					bqEnd = qb.having( fieldName ).eq( key.getColumnValues()[i] );
+					bqEnd = qb.having( fieldName ).eq( columnValues[i] );
 					firstIteration = false;
 				}
 				else {
-					bqEnd = bqEnd.and().having( fieldName ).eq( key.getColumnValues()[i] );
+					bqEnd = bqEnd.and().having( fieldName ).eq( columnValues[i] );
 				}
 			}
 			Query query = bqEnd.toBuilder().build();
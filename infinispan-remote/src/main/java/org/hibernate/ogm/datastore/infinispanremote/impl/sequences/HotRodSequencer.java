@@ -34,6 +34,14 @@
  * an optimistic replace operation needs to re-read the version, introducing
  * additional delays and making further failures more likely.
  *
+ * The remote value is the last value handed out, given the increment of the
+ * first request; i.e. a request returns the remote value advanced by that
+ * increment. Requests may reserve blocks of a different size (see
+ * {@code IdBlockAllocator}), so the remote value is advanced by the increment
+ * of each request while keeping that representation: this way no value is
+ * handed out twice and sequences written with a fixed increment continue
+ * where they left off.
+ *
  * @author Sanne Grinovero
  */
 public final class HotRodSequencer {
@@ -78,23 +86,26 @@ Number getSequenceValue(NextValueRequest request) {
 	}
 
 	private synchronized Number getSequenceValueInternal(NextValueRequest request) {
+		// the values [value, value + request.getIncrement()) are reserved to the caller
+		long remainder = (long) request.getIncrement() - increment;
 		if ( lastKnownRemoteValue == null ) {
 			Long initialValue = (long) request.getInitialValue();
-			Long previous = remoteCache.putIfAbsent( id, initialValue );
+			Long previous = remoteCache.putIfAbsent( id, initialValue + remainder );
 			//Side effects: initialize fields with first known values from remote
 			getRemoteVersion();
 			if ( previous == null ) {
 				//if the putIfAbsent CAS was successful, we can return already
-				return lastKnownRemoteValue;
+				return initialValue;
 			}
 		}
 		//now to CAS:
 		int casCycle = 0;
 		while ( true ) {
-			Long targetValue = Long.valueOf( lastKnownRemoteValue.longValue() + increment );
+			long value = lastKnownRemoteValue.longValue() + increment;
+			Long targetValue = Long.valueOf( value + remainder );
 			boolean done = attemptCASWriteValue( targetValue );
 			if ( done ) {
-				return targetValue;
+				return value;
 			}
 			else {
 				//On failure of CAS, refresh what we know about the remote version and value:
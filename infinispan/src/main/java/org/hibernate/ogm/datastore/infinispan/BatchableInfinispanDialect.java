@@ -0,0 +1,223 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTuple;
+import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+
+/**
+ * A {@link InfinispanDialect} applying the changes of a flush as one batch.
+ * <p>
+ * It is used when plain maps or compact values are configured as the global value storage. The default atomic maps
+ * are changed in place as the session goes, so they are handled by {@link InfinispanDialect} without batching; the
+ * atomic maps of entities overriding the global value storage are changed one by one when the batch is executed.
+ *
+ * @see InfinispanProperties#VALUE_STORAGE
+ */
+public class BatchableInfinispanDialect<EK, AK, ISK> extends InfinispanDialect<EK, AK, ISK> implements BatchableGridDialect {
+
+	public BatchableInfinispanDialect(InfinispanEmbeddedDatastoreProvider provider) {
+		super( provider );
+	}
+
+	/**
+	 * Applies the changes of a flush. The changes to plain map values are collected and written with one
+	 * {@code putAll()} per cache, keeping only the last value written for each key; the changes to atomic maps and
+	 * compact values are applied one by one, the latter as they are written conditionally.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			BatchedWrites writes = new BatchedWrites();
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				if ( operation instanceof GroupedChangesToEntityOperation ) {
+					for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+						executeBatchedOperation( writes, groupedOperation );
+					}
+				}
+				else {
+					executeBatchedOperation( writes, operation );
+				}
+
+				operation = queue.poll();
+			}
+
+			writes.flush();
+			queue.clear();
+		}
+	}
+
+	private void executeBatchedOperation(BatchedWrites writes, Operation operation) {
+		if ( operation instanceof InsertOrUpdateTupleOperation ) {
+			InsertOrUpdateTupleOperation insertOrUpdate = (InsertOrUpdateTupleOperation) operation;
+			EntityKey key = insertOrUpdate.getEntityKey();
+			ValueStorageType valueStorage = getValueStorage( insertOrUpdate.getTupleContext() );
+			if ( valueStorage == ValueStorageType.MAP ) {
+				Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+				EK cacheKey = getKeyProvider().getEntityCacheKey( key );
+				writes.put( cache, cacheKey, toMap( insertOrUpdate.getTuplePointer(), writes.getPendingValue( cache, cacheKey ) ) );
+			}
+			else if ( valueStorage == ValueStorageType.COMPACT ) {
+				Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+				EK cacheKey = getKeyProvider().getEntityCacheKey( key );
+				CompactTuple written = writeCompactTuple( key, cache, cacheKey, insertOrUpdate.getTuplePointer(), writes.getWrittenCompactTuple( cache, cacheKey ) );
+				writes.compactTupleWritten( cache, cacheKey, written );
+			}
+			else {
+				insertOrUpdateTuple( key, insertOrUpdate.getTuplePointer(), insertOrUpdate.getTupleContext() );
+			}
+		}
+		else if ( operation instanceof RemoveTupleOperation ) {
+			RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+			EntityKey key = remove.getEntityKey();
+			ValueStorageType valueStorage = getValueStorage( remove.getTupleContext() );
+			if ( valueStorage == ValueStorageType.MAP ) {
+				writes.remove( getCacheManager().getEntityCache( key.getMetadata() ), getKeyProvider().getEntityCacheKey( key ) );
+			}
+			else if ( valueStorage == ValueStorageType.COMPACT ) {
+				Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+				EK cacheKey = getKeyProvider().getEntityCacheKey( key );
+				removeCompactTuple( key, cache, cacheKey, remove.getTupleContext(), writes.getWrittenCompactTuple( cache, cacheKey ) );
+				writes.compactTupleRemoved( cache, cacheKey );
+			}
+			else {
+				removeTuple( key, remove.getTupleContext() );
+			}
+		}
+		else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			InsertOrUpdateAssociationOperation insertOrUpdate = (InsertOrUpdateAssociationOperation) operation;
+			AssociationKey key = insertOrUpdate.getAssociationKey();
+			if ( getValueStorage( insertOrUpdate.getContext() ) != ValueStorageType.ATOMIC_MAP ) {
+				Cache<AK, Map<RowKey, Map<String, Object>>> cache = getCacheManager().getAssociationCache( key.getMetadata() );
+				AK cacheKey = getKeyProvider().getAssociationCacheKey( key );
+				writes.put( cache, cacheKey, toMap( insertOrUpdate.getAssociation(), writes.getPendingValue( cache, cacheKey ) ) );
+			}
+			else {
+				insertOrUpdateAssociation( key, insertOrUpdate.getAssociation(), insertOrUpdate.getContext() );
+			}
+		}
+		else if ( operation instanceof RemoveAssociationOperation ) {
+			RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+			AssociationKey key = remove.getAssociationKey();
+			if ( getValueStorage( remove.getContext() ) != ValueStorageType.ATOMIC_MAP ) {
+				writes.remove( getCacheManager().getAssociationCache( key.getMetadata() ), getKeyProvider().getAssociationCacheKey( key ) );
+			}
+			else {
+				removeAssociation( key, remove.getContext() );
+			}
+		}
+		else {
+			throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+		}
+	}
+
+	/**
+	 * The plain map values written and removed during a flush, by cache. Only the last change of each key is kept.
+	 * <p>
+	 * The compact values written already are kept as well, so further changes to the same entity during the flush
+	 * are based on them.
+	 */
+	private static class BatchedWrites {
+
+		private final Map<Cache<?, ?>, Map<Object, Object>> putsByCache = new IdentityHashMap<Cache<?, ?>, Map<Object, Object>>();
+		private final Map<Cache<?, ?>, Set<Object>> removalsByCache = new IdentityHashMap<Cache<?, ?>, Set<Object>>();
+		private final Map<Cache<?, ?>, Map<Object, CompactTuple>> compactTuplesByCache = new IdentityHashMap<Cache<?, ?>, Map<Object, CompactTuple>>();
+
+		<K> CompactTuple getWrittenCompactTuple(Cache<K, ?> cache, K key) {
+			Map<Object, CompactTuple> compactTuples = compactTuplesByCache.get( cache );
+			return compactTuples != null ? compactTuples.get( key ) : null;
+		}
+
+		<K> void compactTupleWritten(Cache<K, ?> cache, K key, CompactTuple value) {
+			Map<Object, CompactTuple> compactTuples = compactTuplesByCache.get( cache );
+			if ( compactTuples == null ) {
+				compactTuples = new HashMap<Object, CompactTuple>();
+				compactTuplesByCache.put( cache, compactTuples );
+			}
+			compactTuples.put( key, value );
+		}
+
+		<K> void compactTupleRemoved(Cache<K, ?> cache, K key) {
+			Map<Object, CompactTuple> compactTuples = compactTuplesByCache.get( cache );
+			if ( compactTuples != null ) {
+				compactTuples.remove( key );
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		<K, V> V getPendingValue(Cache<K, V> cache, K key) {
+			Map<Object, Object> puts = putsByCache.get( cache );
+			return puts != null ? (V) puts.get( key ) : null;
+		}
+
+		<K, V> void put(Cache<K, V> cache, K key, V value) {
+			Set<Object> removals = removalsByCache.get( cache );
+			if ( removals != null ) {
+				removals.remove( key );
+			}
+
+			Map<Object, Object> puts = putsByCache.get( cache );
+			if ( puts == null ) {
+				puts = new HashMap<Object, Object>();
+				putsByCache.put( cache, puts );
+			}
+			puts.put( key, value );
+		}
+
+		<K, V> void remove(Cache<K, V> cache, K key) {
+			Map<Object, Object> puts = putsByCache.get( cache );
+			if ( puts != null ) {
+				puts.remove( key );
+			}
+
+			Set<Object> removals = removalsByCache.get( cache );
+			if ( removals == null ) {
+				removals = new HashSet<Object>();
+				removalsByCache.put( cache, removals );
+			}
+			removals.add( key );
+		}
+
+		@SuppressWarnings("unchecked")
+		void flush() {
+			for ( Entry<Cache<?, ?>, Set<Object>> removals : removalsByCache.entrySet() ) {
+				AdvancedCache<Object, Object> cache = withoutReturnValues( (Cache<Object, Object>) removals.getKey() );
+				for ( Object key : removals.getValue() ) {
+					cache.remove( key );
+				}
+			}
+
+			for ( Entry<Cache<?, ?>, Map<Object, Object>> puts : putsByCache.entrySet() ) {
+				if ( !puts.getValue().isEmpty() ) {
+					withoutReturnValues( (Cache<Object, Object>) puts.getKey() ).putAll( puts.getValue() );
+				}
+			}
+		}
+	}
+}
@@ -6,24 +6,38 @@
  */
 package org.hibernate.ogm.datastore.infinispan;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.hibernate.LockMode;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.dialect.lock.OptimisticForceIncrementLockingStrategy;
 import org.hibernate.dialect.lock.OptimisticLockingStrategy;
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTuple;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTupleSnapshot;
 import org.hibernate.ogm.datastore.infinispan.dialect.impl.InfinispanPessimisticWriteLockingStrategy;
 import org.hibernate.ogm.datastore.infinispan.dialect.impl.InfinispanTupleSnapshot;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.hibernate.ogm.datastore.infinispan.options.impl.ValueStorageOption;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager.Bucket;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
@@ -31,8 +45,11 @@
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.OperationContext;
+import org.hibernate.ogm.dialect.spi.PartitionedModelConsumer;
 import org.hibernate.ogm.dialect.spi.TransactionContext;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
 import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.dialect.spi.TupleRemovalContext;
 import org.hibernate.ogm.dialect.spi.TuplesSupplier;
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.entityentry.impl.TuplePointer;
@@ -44,14 +61,15 @@
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.hibernate.persister.entity.Lockable;
 import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
+import org.infinispan.CacheStream;
 import org.infinispan.atomic.AtomicMapLookup;
 import org.infinispan.atomic.FineGrainedAtomicMap;
+import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.context.Flag;
-import org.infinispan.distexec.mapreduce.MapReduceTask;
-import org.infinispan.distexec.mapreduce.Reducer;
 
 /**
  * EK is the entity cache key type
@@ -60,7 +78,9 @@
  *
  * @author Emmanuel Bernard
  */
-public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect {
+public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements MultigetGridDialect {
+
+	private static final Log LOG = LoggerFactory.getLogger();
 
 	private final InfinispanEmbeddedDatastoreProvider provider;
 
@@ -104,6 +124,10 @@ else if ( lockMode == LockMode.OPTIMISTIC_FORCE_INCREMENT ) {
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
 		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+		ValueStorageType valueStorage = getValueStorage( operationContext );
+		if ( valueStorage != ValueStorageType.ATOMIC_MAP ) {
+			return getTupleFromValue( key, ( (Cache<EK, ?>) cache ).get( cacheKey ), valueStorage, operationContext );
+		}
 		return getTupleFromCacheKey( cacheKey, cache );
 	}
 
@@ -121,8 +145,104 @@ private Tuple getTupleFromCacheKey(EK cacheKey, Cache<EK, Map<String,Object>> ca
 		}
 	}
 
+	private static Tuple getTupleFromValue(EntityKey key, Object value, ValueStorageType valueStorage, OperationContext operationContext) {
+		if ( value != null ) {
+			return new Tuple( getSnapshot( value ), SnapshotType.UPDATE );
+		}
+		else if ( isInTheInsertionQueue( key, operationContext ) ) {
+			// The key has not been written to the cache yet but it is in the queue
+			if ( valueStorage == ValueStorageType.COMPACT ) {
+				return new Tuple( new CompactTupleSnapshot( CompactTuple.of( key.getColumnNames(), key.getColumnValues() ) ), SnapshotType.INSERT );
+			}
+			Map<String, Object> idColumns = new HashMap<String, Object>();
+			for ( int i = 0; i < key.getColumnNames().length; i++ ) {
+				idColumns.put( key.getColumnNames()[i], key.getColumnValue( i ) );
+			}
+			return new Tuple( new MapTupleSnapshot( idColumns ), SnapshotType.INSERT );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the snapshot of a plain map or compact value read from the cache.
+	 */
+	@SuppressWarnings("unchecked")
+	private static TupleSnapshot getSnapshot(Object value) {
+		if ( value instanceof CompactTuple ) {
+			return new CompactTupleSnapshot( (CompactTuple) value );
+		}
+		return new MapTupleSnapshot( (Map<String, Object>) value );
+	}
+
+	/**
+	 * Loads the entries of all the given keys with one {@link AdvancedCache#getAll(Set)} invocation per cache, so that
+	 * the entries owned by other nodes are retrieved in a single remote call rather than one call per key.
+	 */
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		List<EK> cacheKeys = new ArrayList<EK>( keys.length );
+		List<Cache<EK, Map<String, Object>>> caches = new ArrayList<Cache<EK, Map<String, Object>>>( keys.length );
+		Map<Cache<EK, Map<String, Object>>, Set<EK>> cacheKeysByCache = new IdentityHashMap<Cache<EK, Map<String, Object>>, Set<EK>>();
+
+		for ( EntityKey key : keys ) {
+			// batches may be padded with null keys
+			if ( key == null ) {
+				cacheKeys.add( null );
+				caches.add( null );
+				continue;
+			}
+
+			EK cacheKey = getKeyProvider().getEntityCacheKey( key );
+			Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+			cacheKeys.add( cacheKey );
+			caches.add( cache );
+
+			Set<EK> keysOfCache = cacheKeysByCache.get( cache );
+			if ( keysOfCache == null ) {
+				keysOfCache = new HashSet<EK>();
+				cacheKeysByCache.put( cache, keysOfCache );
+			}
+			keysOfCache.add( cacheKey );
+		}
+
+		Map<Cache<EK, Map<String, Object>>, Map<EK, ?>> entriesByCache = new IdentityHashMap<Cache<EK, Map<String, Object>>, Map<EK, ?>>();
+		for ( Entry<Cache<EK, Map<String, Object>>, Set<EK>> keysOfCache : cacheKeysByCache.entrySet() ) {
+			entriesByCache.put( keysOfCache.getKey(), keysOfCache.getKey().getAdvancedCache().getAll( keysOfCache.getValue() ) );
+		}
+
+		ValueStorageType valueStorage = getValueStorage( tupleContext );
+		List<Tuple> tuples = new ArrayList<Tuple>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			Cache<EK, Map<String, Object>> cache = caches.get( i );
+			if ( cache == null ) {
+				tuples.add( null );
+			}
+			else if ( valueStorage != ValueStorageType.ATOMIC_MAP ) {
+				tuples.add( getTupleFromValue( keys[i], entriesByCache.get( cache ).get( cacheKeys.get( i ) ), valueStorage, tupleContext ) );
+			}
+			else {
+				// the same look-up as getTuple(); getAll() has loaded the entries into the invocation context already,
+				// so it stays local
+				tuples.add( getTupleFromCacheKey( cacheKeys.get( i ), cache ) );
+			}
+		}
+
+		return tuples;
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
+		ValueStorageType valueStorage = getValueStorage( operationContext );
+		// written to the cache upon insertOrUpdateTuple()
+		if ( valueStorage == ValueStorageType.MAP ) {
+			return new Tuple( new MapTupleSnapshot( new HashMap<String, Object>() ), SnapshotType.INSERT );
+		}
+		else if ( valueStorage == ValueStorageType.COMPACT ) {
+			return new Tuple( new CompactTupleSnapshot( CompactTuple.EMPTY ), SnapshotType.INSERT );
+		}
+
 		//TODO we don't verify that it does not yet exist assuming that this has been done before by the calling code
 		//should we improve?
 		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
@@ -133,16 +253,108 @@ public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
+		ValueStorageType valueStorage = getValueStorage( tupleContext );
+		if ( valueStorage == ValueStorageType.MAP ) {
+			Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+			EK cacheKey = getKeyProvider().getEntityCacheKey( key );
+			withoutReturnValues( cache ).put( cacheKey, toMap( tuplePointer, null ) );
+		}
+		else if ( valueStorage == ValueStorageType.COMPACT ) {
+			Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+			writeCompactTuple( key, cache, getKeyProvider().getEntityCacheKey( key ), tuplePointer, null );
+		}
+		else {
+			Tuple tuple = tuplePointer.getTuple();
+			Map<String,Object> atomicMap = ( (InfinispanTupleSnapshot) tuple.getSnapshot() ).getAtomicMap();
+			MapHelpers.applyTupleOpsOnMap( tuple, atomicMap );
+		}
+	}
+
+	/**
+	 * Returns a new map with the changes of the given tuple applied to the given base or the snapshot of the tuple
+	 * and makes this map the snapshot of the tuple. The maps read from the cache are never changed in place.
+	 */
+	static Map<String, Object> toMap(TuplePointer tuplePointer, Map<String, Object> base) {
+		Tuple tuple = tuplePointer.getTuple();
+		Map<String, Object> map = new HashMap<String, Object>( base != null ? base : ( (MapTupleSnapshot) tuple.getSnapshot() ).getMap() );
+		MapHelpers.applyTupleOpsOnMap( tuple, map );
+		tuplePointer.setTuple( new Tuple( new MapTupleSnapshot( map ), SnapshotType.UPDATE ) );
+		return map;
+	}
+
+	/**
+	 * Writes the next version of the value of the given tuple: a new value is only written if there is none yet and an
+	 * existing value is only replaced if it is still the version it is based on.
+	 *
+	 * @param written the value written for the same key before during the current flush, if any; the tuple is applied
+	 * to this value rather than its own snapshot
+	 * @return the value written
+	 */
+	static <K> CompactTuple writeCompactTuple(EntityKey key, Cache<K, ?> cache, K cacheKey, TuplePointer tuplePointer, CompactTuple written) {
 		Tuple tuple = tuplePointer.getTuple();
-		Map<String,Object> atomicMap = ( (InfinispanTupleSnapshot) tuple.getSnapshot() ).getAtomicMap();
-		MapHelpers.applyTupleOpsOnMap( tuple, atomicMap );
+		CompactTuple base = written != null ? written : ( (CompactTupleSnapshot) tuple.getSnapshot() ).getValue();
+		CompactTuple value = base.apply( tuple );
+
+		// values never stored have version 0; the snapshot type doesn't tell, as the tuple of an entity inserted in a
+		// batch is marked as updated before the batch is executed
+		if ( written == null && base.getVersion() == 0 ) {
+			if ( asCompactCache( cache ).putIfAbsent( cacheKey, value ) != null ) {
+				throw new TupleAlreadyExistsException( key );
+			}
+		}
+		else if ( !asCompactCache( cache ).replace( cacheKey, base, value ) ) {
+			throw LOG.concurrentCompactTupleChange( key, base.getVersion() );
+		}
+
+		tuplePointer.setTuple( new Tuple( new CompactTupleSnapshot( value ), SnapshotType.UPDATE ) );
+		return value;
 	}
 
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
 		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
 		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
-		AtomicMapLookup.removeAtomicMap( cache, cacheKey );
+		ValueStorageType valueStorage = getValueStorage( tupleContext );
+		if ( valueStorage == ValueStorageType.MAP ) {
+			withoutReturnValues( cache ).remove( cacheKey );
+		}
+		else if ( valueStorage == ValueStorageType.COMPACT ) {
+			removeCompactTuple( key, cache, cacheKey, tupleContext, null );
+		}
+		else {
+			AtomicMapLookup.removeAtomicMap( cache, cacheKey );
+		}
+	}
+
+	/**
+	 * Removes the value of the given tuple if it is still the version the session knows, falling back to the version
+	 * read from the cache if the session doesn't know any.
+	 *
+	 * @param written the value written for the same key before during the current flush, if any; it is the expected
+	 * value rather than the one of the tuple to remove
+	 */
+	static <K> void removeCompactTuple(EntityKey key, Cache<K, ?> cache, K cacheKey, TupleContext tupleContext, CompactTuple written) {
+		CompactTuple expected = written;
+		if ( expected == null && tupleContext instanceof TupleRemovalContext ) {
+			expected = getCompactTuple( ( (TupleRemovalContext) tupleContext ).getTupleToRemove() );
+		}
+		if ( expected == null ) {
+			expected = (CompactTuple) cache.get( cacheKey );
+		}
+		if ( expected != null && !asCompactCache( cache ).remove( cacheKey, expected ) ) {
+			throw LOG.concurrentCompactTupleChange( key, expected.getVersion() );
+		}
+	}
+
+	/**
+	 * Returns the compact value the given tuple was read from or written as, if any.
+	 */
+	private static CompactTuple getCompactTuple(Tuple tuple) {
+		if ( tuple != null && tuple.getSnapshot() instanceof CompactTupleSnapshot ) {
+			CompactTuple value = ( (CompactTupleSnapshot) tuple.getSnapshot() ).getValue();
+			return value.getVersion() > 0 ? value : null;
+		}
+		return null;
 	}
 
 	@Override
@@ -151,12 +363,19 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 				key.getMetadata()
 		);
 		AK cacheKey = getKeyProvider().getAssociationCacheKey( key );
-		Map<RowKey, Map<String, Object>> atomicMap = AtomicMapLookup.getFineGrainedAtomicMap( cache, cacheKey, false );
+		Map<RowKey, Map<String, Object>> atomicMap = getValueStorage( associationContext ) != ValueStorageType.ATOMIC_MAP
+				? cache.get( cacheKey )
+				: AtomicMapLookup.<AK, RowKey, Map<String, Object>>getFineGrainedAtomicMap( cache, cacheKey, false );
 		return atomicMap == null ? null : new Association( new MapAssociationSnapshot( atomicMap ) );
 	}
 
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
+		if ( getValueStorage( associationContext ) != ValueStorageType.ATOMIC_MAP ) {
+			// written to the cache upon insertOrUpdateAssociation()
+			return new Association( new MapAssociationSnapshot( new HashMap<RowKey, Map<String, Object>>() ) );
+		}
+
 		//TODO we don't verify that it does not yet exist assuming that this has been done before by the calling code
 		//should we improve?
 		Cache<AK, Map<RowKey, Map<String, Object>>> cache = getCacheManager().getAssociationCache(
@@ -169,7 +388,25 @@ public Association createAssociation(AssociationKey key, AssociationContext asso
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
-		MapHelpers.updateAssociation( association );
+		if ( getValueStorage( associationContext ) != ValueStorageType.ATOMIC_MAP ) {
+			Cache<AK, Map<RowKey, Map<String, Object>>> cache = getCacheManager().getAssociationCache( key.getMetadata() );
+			AK cacheKey = getKeyProvider().getAssociationCacheKey( key );
+			withoutReturnValues( cache ).put( cacheKey, toMap( association, null ) );
+		}
+		else {
+			MapHelpers.updateAssociation( association );
+		}
+	}
+
+	/**
+	 * Returns a new map with the changes of the given association applied to the given base or the snapshot of the
+	 * association. The association keeps its changes, as its snapshot cannot be replaced.
+	 */
+	static Map<RowKey, Map<String, Object>> toMap(Association association, Map<RowKey, Map<String, Object>> base) {
+		Map<RowKey, Map<String, Object>> map = new HashMap<RowKey, Map<String, Object>>(
+				base != null ? base : ( (MapAssociationSnapshot) association.getSnapshot() ).getUnderlyingMap() );
+		MapHelpers.applyAssociationOpsOnMap( association, map );
+		return map;
 	}
 
 	@Override
@@ -178,7 +415,48 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 				key.getMetadata()
 		);
 		AK cacheKey = getKeyProvider().getAssociationCacheKey( key );
-		AtomicMapLookup.removeAtomicMap( cache, cacheKey );
+		if ( getValueStorage( associationContext ) != ValueStorageType.ATOMIC_MAP ) {
+			withoutReturnValues( cache ).remove( cacheKey );
+		}
+		else {
+			AtomicMapLookup.removeAtomicMap( cache, cacheKey );
+		}
+	}
+
+	/**
+	 * Operations invoked without a context or without a value storage option use the global value storage.
+	 */
+	ValueStorageType getValueStorage(OperationContext operationContext) {
+		if ( operationContext == null ) {
+			return provider.getValueStorage();
+		}
+		return orGlobal( operationContext.getTupleTypeContext().getOptionsContext().getUnique( ValueStorageOption.class ) );
+	}
+
+	ValueStorageType getValueStorage(AssociationContext associationContext) {
+		if ( associationContext == null ) {
+			return provider.getValueStorage();
+		}
+		return orGlobal( associationContext.getAssociationTypeContext().getOptionsContext().getUnique( ValueStorageOption.class ) );
+	}
+
+	private ValueStorageType orGlobal(ValueStorageType valueStorage) {
+		return valueStorage == null ? provider.getValueStorage() : valueStorage;
+	}
+
+	/**
+	 * Compact values are written through the caches of the entities, their values being typed as maps.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <K> Cache<K, Object> asCompactCache(Cache<K, ?> cache) {
+		return (Cache<K, Object>) cache;
+	}
+
+	/**
+	 * The previous values are not needed when writing plain maps, so they don't need to be fetched from other nodes.
+	 */
+	static <K, V> AdvancedCache<K, V> withoutReturnValues(Cache<K, V> cache) {
+		return cache.getAdvancedCache().withFlags( Flag.IGNORE_RETURN_VALUES );
 	}
 
 	@Override
@@ -216,65 +494,111 @@ public Number nextValue(NextValueRequest request) {
 		return value;
 	}
 
+	/**
+	 * Streams the entries of the caches of the given entity type, without collecting them on the caller first. If the
+	 * cache is distributed and the consumer can process several partitions at once, the segments of the cache are
+	 * spread over the partitions and each partition is streamed on its own.
+	 */
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
 		Set<Bucket<EK>> buckets = getCacheManager().getWorkBucketsFor( entityKeyMetadata );
 		for ( Bucket<EK> bucket : buckets ) {
-			Map<EK, Map<String, Object>> queryResult = retrieveKeys( bucket.getCache(), bucket.getEntityKeyMetadata() );
-			InfinispanTuplesSupplier<EK> supplier = new InfinispanTuplesSupplier( bucket.getCache(), queryResult );
-			consumer.consume( supplier );
+			Cache<EK, Map<String, Object>> cache = bucket.getCache();
+			Predicate<CacheEntry<EK, Map<String, Object>>> filter = getKeyProvider().getFilter( bucket.getEntityKeyMetadata() );
+			int partitions = getPartitions( consumer, cache );
+			if ( partitions > 1 ) {
+				List<TuplesSupplier> suppliers = new ArrayList<TuplesSupplier>( partitions );
+				for ( Set<Integer> segments : getSegmentsPerPartition( cache, partitions ) ) {
+					suppliers.add( new InfinispanTuplesSupplier<EK>( cache, filter, segments ) );
+				}
+				( (PartitionedModelConsumer) consumer ).consume( suppliers );
+			}
+			else {
+				consumer.consume( new InfinispanTuplesSupplier<EK>( cache, filter, null ) );
+			}
+		}
+	}
+
+	private static int getPartitions(ModelConsumer consumer, Cache<?, ?> cache) {
+		if ( consumer instanceof PartitionedModelConsumer && cache.getCacheConfiguration().clustering().cacheMode().isDistributed() ) {
+			return Math.min( ( (PartitionedModelConsumer) consumer ).getPartitions(), getNumSegments( cache ) );
 		}
+		return 1;
 	}
 
-	private Map<EK, Map<String, Object>> retrieveKeys(Cache<EK, Map<String, Object>> cache, EntityKeyMetadata... entityKeyMetadatas) {
-		MapReduceTask<EK, Map<String, Object>, EK, Map<String, Object>> queryTask = new MapReduceTask<EK, Map<String, Object>, EK, Map<String, Object>>( cache );
-		queryTask.mappedWith( getKeyProvider().getMapper( entityKeyMetadatas ) ).reducedWith( new TupleReducer<EK>() );
-		return queryTask.execute();
+	private static int getNumSegments(Cache<?, ?> cache) {
+		return cache.getCacheConfiguration().clustering().hash().numSegments();
+	}
+
+	private static List<Set<Integer>> getSegmentsPerPartition(Cache<?, ?> cache, int partitions) {
+		List<Set<Integer>> segmentsPerPartition = new ArrayList<Set<Integer>>( partitions );
+		for ( int partition = 0; partition < partitions; partition++ ) {
+			segmentsPerPartition.add( new HashSet<Integer>() );
+		}
+		int numSegments = getNumSegments( cache );
+		for ( int segment = 0; segment < numSegments; segment++ ) {
+			segmentsPerPartition.get( segment % partitions ).add( segment );
+		}
+		return segmentsPerPartition;
 	}
 
 	@SuppressWarnings("unchecked")
-	private LocalCacheManager<EK, AK, ISK> getCacheManager() {
+	LocalCacheManager<EK, AK, ISK> getCacheManager() {
 		return (LocalCacheManager<EK, AK, ISK>) provider.getCacheManager();
 	}
 
 	@SuppressWarnings("unchecked")
-	private KeyProvider<EK, AK, ISK> getKeyProvider() {
+	KeyProvider<EK, AK, ISK> getKeyProvider() {
 		return (KeyProvider<EK, AK, ISK>) provider.getKeyProvider();
 	}
 
-	static class TupleReducer<EK> implements Reducer<EK, Map<String, Object>> {
-
-		@Override
-		public Map<String, Object> reduce(EK reducedKey, Iterator<Map<String, Object>> iter) {
-			return iter.next();
-		}
-
-	}
-
-	private class InfinispanTuplesSupplier<SEK> implements TuplesSupplier {
+	private static class InfinispanTuplesSupplier<SEK> implements TuplesSupplier {
 
-		private final Map<SEK, Map<String, Object>> queryResult;
 		private final Cache<SEK, Map<String, Object>> cache;
+		private final Predicate<CacheEntry<SEK, Map<String, Object>>> filter;
+		private final Set<Integer> segments;
 
-		public InfinispanTuplesSupplier(Cache<SEK, Map<String, Object>> cache, Map<SEK, Map<String, Object>> queryResult) {
+		/**
+		 * @param segments the segments of the cache to stream, {@code null} for all of them
+		 */
+		public InfinispanTuplesSupplier(Cache<SEK, Map<String, Object>> cache, Predicate<CacheEntry<SEK, Map<String, Object>>> filter, Set<Integer> segments) {
 			this.cache = cache;
-			this.queryResult = queryResult;
+			this.filter = filter;
+			this.segments = segments;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			return new InfinispanTupleIterator( cache, queryResult.entrySet().iterator() );
+			CacheStream<CacheEntry<SEK, Map<String, Object>>> stream = cache.getAdvancedCache().cacheEntrySet().stream();
+			if ( segments != null ) {
+				stream = stream.filterKeySegments( segments );
+			}
+			return new InfinispanTupleIterator<SEK>( filter( stream, filter ) );
+		}
+
+		/**
+		 * The streams of Infinispan return themselves from {@code filter()}, which is only declared to return a
+		 * {@code Stream} though. The {@link CacheStream} type is kept, so the stream is only used via the Infinispan API
+		 * which is covered by the Java API signature check.
+		 */
+		@SuppressWarnings("unchecked")
+		private static <T> CacheStream<T> filter(CacheStream<T> stream, Predicate<? super T> filter) {
+			return (CacheStream<T>) stream.filter( filter );
 		}
 	}
 
-	private class InfinispanTupleIterator<IEK> implements ClosableIterator<Tuple> {
+	/**
+	 * Creates the tuples from the values of the streamed entries, so they are not read a second time. The tuples are
+	 * only meant to be read, updating them doesn't change the cache.
+	 */
+	private static class InfinispanTupleIterator<IEK> implements ClosableIterator<Tuple> {
 
-		private final Iterator<Entry<IEK, Map<String, Object>>> iterator;
-		private final Cache<IEK, Map<String, Object>> cache;
+		private final CacheStream<CacheEntry<IEK, Map<String, Object>>> stream;
+		private final Iterator<CacheEntry<IEK, Map<String, Object>>> iterator;
 
-		public InfinispanTupleIterator(Cache<IEK, Map<String, Object>> cache, Iterator<Entry<IEK, Map<String, Object>>> iterator) {
-			this.cache = cache;
-			this.iterator = iterator;
+		public InfinispanTupleIterator(CacheStream<CacheEntry<IEK, Map<String, Object>>> stream) {
+			this.stream = stream;
+			this.iterator = stream.iterator();
 		}
 
 		@Override
@@ -284,12 +608,13 @@ public boolean hasNext() {
 
 		@Override
 		public Tuple next() {
-			Entry<IEK, Map<String, Object>> entry = iterator.next();
-			return getTupleFromCacheKey( (EK) entry.getKey(), (Cache<EK, Map<String, Object>>) cache );
+			CacheEntry<?, ?> entry = iterator.next();
+			return new Tuple( getSnapshot( entry.getValue() ), SnapshotType.UPDATE );
 		}
 
 		@Override
 		public void close() {
+			stream.close();
 		}
 	}
 }
@@ -30,6 +30,26 @@ public final class InfinispanProperties implements KeyValueStoreProperties {
 	 */
 	public static final String CACHE_MANAGER_JNDI_NAME = "hibernate.ogm.infinispan.cachemanager_jndi_name";
 
+	/**
+	 * The configuration property for setting how the values of the entities and associations are stored. Supported
+	 * values are the {@link org.hibernate.ogm.datastore.infinispan.options.ValueStorageType} enum or the String
+	 * representations of its constants. Defaults to
+	 * {@link org.hibernate.ogm.datastore.infinispan.options.ValueStorageType#ATOMIC_MAP}.
+	 */
+	public static final String VALUE_STORAGE = "hibernate.ogm.infinispan.value_storage";
+
+	/**
+	 * The configuration property for listing the caches whose entries should be stored in binary form, as a
+	 * comma-separated list of cache names. These are the cache kinds ({@code ENTITIES}, {@code ASSOCIATIONS} and
+	 * {@code IDENTIFIERS}) when using
+	 * {@link org.hibernate.ogm.datastore.keyvalue.options.CacheMappingType#CACHE_PER_KIND} and the table names (prefixed
+	 * with {@code associations_} for associations) when using
+	 * {@link org.hibernate.ogm.datastore.keyvalue.options.CacheMappingType#CACHE_PER_TABLE}. Only applies to the cache
+	 * manager started by Hibernate OGM, not to one looked up via JNDI; unknown cache names are rejected when starting
+	 * it. Defaults to none.
+	 */
+	public static final String BINARY_STORAGE_CACHES = "hibernate.ogm.infinispan.binary_storage_caches";
+
 	private InfinispanProperties() {
 	}
 }
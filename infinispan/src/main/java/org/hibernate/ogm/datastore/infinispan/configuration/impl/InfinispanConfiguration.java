@@ -7,7 +7,10 @@
 package org.hibernate.ogm.datastore.infinispan.configuration.impl;
 
 import java.net.URL;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
@@ -28,6 +31,7 @@ public class InfinispanConfiguration {
 
 	private URL configUrl;
 	private String jndi;
+	private Set<String> binaryStorageCaches;
 
 	/**
 	 * The location of the configuration file.
@@ -49,6 +53,16 @@ public String getJndiName() {
 		return jndi;
 	}
 
+	/**
+	 * Get the names of the caches storing their entries in binary form.
+	 *
+	 * @see InfinispanProperties#BINARY_STORAGE_CACHES
+	 * @return the cache names, never {@code null}
+	 */
+	public Set<String> getBinaryStorageCaches() {
+		return binaryStorageCaches;
+	}
+
 	/**
 	 * Initialize the internal values form the given {@link Map}.
 	 *
@@ -67,6 +81,24 @@ public void initConfiguration(Map<?, ?> configurationMap) {
 				.property( InfinispanProperties.CACHE_MANAGER_JNDI_NAME, String.class )
 				.getValue();
 
+		this.binaryStorageCaches = parseCacheNames( propertyReader
+				.property( InfinispanProperties.BINARY_STORAGE_CACHES, String.class )
+				.getValue() );
+
 		log.tracef( "Initializing Infinispan from configuration file at %1$s", configUrl );
 	}
+
+	private static Set<String> parseCacheNames(String cacheNames) {
+		if ( cacheNames == null ) {
+			return Collections.emptySet();
+		}
+
+		Set<String> names = new HashSet<String>();
+		for ( String name : cacheNames.split( "," ) ) {
+			if ( !name.trim().isEmpty() ) {
+				names.add( name.trim() );
+			}
+		}
+		return Collections.unmodifiableSet( names );
+	}
 }
@@ -0,0 +1,180 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleOperation;
+
+/**
+ * An immutable entity value, keeping the column names and values in two arrays. It takes much less memory than an
+ * atomic map and is cheap to marshal.
+ * <p>
+ * Each change creates a new value with an incremented version, sharing the column names with the previous value if
+ * they are the same. Two values are equal if they have the same version and columns; as the version is compared
+ * first, conditionally replacing a value by a newer version is cheap.
+ */
+public final class CompactTuple {
+
+	public static final CompactTuple EMPTY = new CompactTuple( 0, new String[0], new Object[0] );
+
+	private final int version;
+	private final String[] columnNames;
+	private final Object[] columnValues;
+
+	public CompactTuple(int version, String[] columnNames, Object[] columnValues) {
+		this.version = version;
+		this.columnNames = columnNames;
+		this.columnValues = columnValues;
+	}
+
+	/**
+	 * Returns a value with the given column values, e.g. the id columns of a tuple not stored yet.
+	 */
+	public static CompactTuple of(String[] columnNames, Object[] columnValues) {
+		return new CompactTuple( 0, columnNames.clone(), columnValues.clone() );
+	}
+
+	public int getVersion() {
+		return version;
+	}
+
+	public String[] getColumnNames() {
+		return columnNames;
+	}
+
+	public Object[] getColumnValues() {
+		return columnValues;
+	}
+
+	public Object get(String column) {
+		int index = indexOf( columnNames, column );
+		return index != -1 ? columnValues[index] : null;
+	}
+
+	public boolean isEmpty() {
+		return columnNames.length == 0;
+	}
+
+	/**
+	 * Returns the next version of this value, with the changes of the given tuple applied.
+	 */
+	public CompactTuple apply(Tuple tuple) {
+		Object[] values = columnValues.clone();
+		List<String> addedNames = null;
+		List<Object> addedValues = null;
+		boolean removed = false;
+
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			int index = indexOf( columnNames, operation.getColumn() );
+			switch ( operation.getType() ) {
+				case PUT:
+					if ( index != -1 ) {
+						values[index] = operation.getValue();
+					}
+					else {
+						if ( addedNames == null ) {
+							addedNames = new ArrayList<String>();
+							addedValues = new ArrayList<Object>();
+						}
+						int addedIndex = addedNames.indexOf( operation.getColumn() );
+						if ( addedIndex != -1 ) {
+							addedValues.set( addedIndex, operation.getValue() );
+						}
+						else {
+							addedNames.add( operation.getColumn() );
+							addedValues.add( operation.getValue() );
+						}
+					}
+					break;
+				case REMOVE:
+				case PUT_NULL:
+					if ( index != -1 ) {
+						values[index] = Removed.INSTANCE;
+						removed = true;
+					}
+					else if ( addedNames != null ) {
+						int addedIndex = addedNames.indexOf( operation.getColumn() );
+						if ( addedIndex != -1 ) {
+							addedNames.remove( addedIndex );
+							addedValues.remove( addedIndex );
+						}
+					}
+					break;
+			}
+		}
+
+		if ( addedNames == null && !removed ) {
+			return new CompactTuple( version + 1, columnNames, values );
+		}
+
+		List<String> names = new ArrayList<String>( columnNames.length + ( addedNames != null ? addedNames.size() : 0 ) );
+		List<Object> newValues = new ArrayList<Object>( names.size() );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			// a removed column may have been put again afterwards
+			if ( values[i] != Removed.INSTANCE ) {
+				names.add( columnNames[i] );
+				newValues.add( values[i] );
+			}
+		}
+		if ( addedNames != null ) {
+			names.addAll( addedNames );
+			newValues.addAll( addedValues );
+		}
+
+		return new CompactTuple( version + 1, names.toArray( new String[names.size()] ), newValues.toArray() );
+	}
+
+	private static int indexOf(String[] columnNames, String column) {
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( columnNames[i].equals( column ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != CompactTuple.class ) {
+			return false;
+		}
+		CompactTuple other = (CompactTuple) obj;
+		return version == other.version
+				&& Arrays.equals( columnNames, other.columnNames )
+				&& Arrays.deepEquals( columnValues, other.columnValues );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * version + Arrays.deepHashCode( columnValues );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( "CompactTuple[version=" ).append( version );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			sb.append( ", " ).append( columnNames[i] ).append( "=" ).append( columnValues[i] );
+		}
+		return sb.append( "]" ).toString();
+	}
+
+	/**
+	 * Marks the columns removed while applying the changes of a tuple.
+	 */
+	private static final class Removed {
+
+		private static final Removed INSTANCE = new Removed();
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+
+/**
+ * A snapshot based on a {@link CompactTuple} read from or written to the cache.
+ */
+public final class CompactTupleSnapshot implements TupleSnapshot {
+
+	private final CompactTuple value;
+
+	public CompactTupleSnapshot(CompactTuple value) {
+		this.value = value;
+	}
+
+	@Override
+	public Object get(String column) {
+		return value.get( column );
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return value.isEmpty();
+	}
+
+	@Override
+	public Set<String> getColumnNames() {
+		return new HashSet<String>( Arrays.asList( value.getColumnNames() ) );
+	}
+
+	public CompactTuple getValue() {
+		return value;
+	}
+}
@@ -11,10 +11,13 @@
 
 import org.hibernate.engine.jndi.spi.JndiService;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.ogm.datastore.infinispan.BatchableInfinispanDialect;
 import org.hibernate.ogm.datastore.infinispan.InfinispanDialect;
 import org.hibernate.ogm.datastore.infinispan.configuration.impl.InfinispanConfiguration;
 import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
 import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.hibernate.ogm.datastore.infinispan.options.impl.ValueStorageOption;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.PersistenceStrategy;
@@ -25,6 +28,7 @@
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
+import org.hibernate.ogm.options.spi.OptionsService;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
@@ -49,6 +53,7 @@ public class InfinispanEmbeddedDatastoreProvider extends BaseDatastoreProvider i
 
 	private JtaPlatform jtaPlatform;
 	private JndiService jndiService;
+	private OptionsService optionsService;
 	private EmbeddedCacheManager externalCacheManager;
 	private final InfinispanConfiguration config = new InfinispanConfiguration();
 
@@ -56,7 +61,19 @@ public class InfinispanEmbeddedDatastoreProvider extends BaseDatastoreProvider i
 
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
-		return InfinispanDialect.class;
+		// atomic maps are changed in place, batching their changes would alter the order in which they are applied
+		return getValueStorage() == ValueStorageType.ATOMIC_MAP ? InfinispanDialect.class : BatchableInfinispanDialect.class;
+	}
+
+	/**
+	 * The value storage configured globally, used for the entities and associations not overriding it; atomic maps
+	 * if the provider has been started without the options service.
+	 */
+	public ValueStorageType getValueStorage() {
+		if ( optionsService == null ) {
+			return ValueStorageType.ATOMIC_MAP;
+		}
+		return optionsService.context().getGlobalOptions().getUnique( ValueStorageOption.class );
 	}
 
 	@Override
@@ -94,6 +111,7 @@ public void initializePersistenceStrategy(CacheMappingType cacheMappingType, Set
 				cacheMappingType,
 				externalCacheManager,
 				config.getConfigurationUrl(),
+				config.getBinaryStorageCaches(),
 				jtaPlatform,
 				entityTypes,
 				associationTypes,
@@ -124,6 +142,7 @@ public void stop() {
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		jtaPlatform = serviceRegistry.getService( JtaPlatform.class );
 		jndiService = serviceRegistry.getService( JndiService.class );
+		optionsService = serviceRegistry.getService( OptionsService.class );
 	}
 
 	@Override
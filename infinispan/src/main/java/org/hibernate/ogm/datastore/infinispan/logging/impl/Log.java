@@ -6,7 +6,11 @@
  */
 package org.hibernate.ogm.datastore.infinispan.logging.impl;
 
+import java.util.Set;
+
 import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.service.spi.ServiceException;
 
 import org.infinispan.commons.marshall.AdvancedExternalizer;
@@ -41,4 +45,10 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@Message(id = 1105, value = "Infinispan Externalizer mistmatch: id [%1$d] was registered but taken " +
 			"by implementation '%2$s'. Expected externalizer: '%3$s' ")
 	HibernateException externalizerIdNotMatchingType(Integer externalizerId, AdvancedExternalizer<?> registeredExternalizer, AdvancedExternalizer expectedExternalizer);
+
+	@Message(id = 1106, value = "The entity with key %s has been changed or removed concurrently, its value doesn't match the version %s read before.")
+	StaleStateException concurrentCompactTupleChange(EntityKey key, int version);
+
+	@Message(id = 1108, value = "Unknown caches %1$s given for property '%2$s'. The caches used with the configured cache mapping are %3$s.")
+	HibernateException unknownBinaryStorageCaches(Set<String> unknownCaches, String property, Set<String> caches);
 }
@@ -0,0 +1,35 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.options;
+
+/**
+ * The representation of the values of the entities and associations stored in Infinispan.
+ */
+public enum ValueStorageType {
+
+	/**
+	 * Each entity and association is stored as a fine-grained atomic map. Concurrent transactions changing different
+	 * columns of the same entity or different rows of the same association don't conflict, at the price of additional
+	 * bookkeeping for each entry.
+	 */
+	ATOMIC_MAP,
+
+	/**
+	 * Each entity and association is stored as a plain map, replaced as a whole when changed. The changes of a flush
+	 * are written with one {@code putAll()} per cache. Concurrent transactions changing the same entity or association
+	 * are not merged, the last one wins unless the cache is configured for write skew checks.
+	 */
+	MAP,
+
+	/**
+	 * Each entity is stored as an immutable array of column names and values with a version, which is much smaller
+	 * than a map and cheap to marshal. Entities are updated by replacing the version read before, so the changes of a
+	 * concurrent transaction are detected rather than overwritten. These writes are not part of the {@code putAll()}
+	 * of the flush. Associations are stored as with {@link #MAP}.
+	 */
+	COMPACT;
+}
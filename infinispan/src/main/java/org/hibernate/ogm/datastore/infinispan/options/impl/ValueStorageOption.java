@@ -0,0 +1,28 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.options.impl;
+
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.hibernate.ogm.options.spi.UniqueOption;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+
+/**
+ * Represents how the values of the entities and associations are stored, as configured via the API or properties
+ * for a given element.
+ */
+public class ValueStorageOption extends UniqueOption<ValueStorageType> {
+
+	private static final ValueStorageType DEFAULT_VALUE_STORAGE = ValueStorageType.ATOMIC_MAP;
+
+	@Override
+	public ValueStorageType getDefaultValue(ConfigurationPropertyReader propertyReader) {
+		return propertyReader.property( InfinispanProperties.VALUE_STORAGE, ValueStorageType.class )
+				.withDefault( DEFAULT_VALUE_STORAGE )
+				.getValue();
+	}
+}
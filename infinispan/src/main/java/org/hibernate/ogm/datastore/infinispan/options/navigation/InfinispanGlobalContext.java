@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.infinispan.options.navigation;
 
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.KeyValueStoreGlobalContext;
 
 /**
@@ -15,4 +16,12 @@
  * @author Gunnar Morling
  */
 public interface InfinispanGlobalContext extends KeyValueStoreGlobalContext<InfinispanGlobalContext, InfinispanEntityContext> {
+
+	/**
+	 * Specifies how the values of the entities and associations are stored.
+	 *
+	 * @param valueStorage the value storage type to be used when not configured on the entity level
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	InfinispanGlobalContext valueStorage(ValueStorageType valueStorage);
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.infinispan.options.navigation.impl;
 
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.hibernate.ogm.datastore.infinispan.options.impl.ValueStorageOption;
 import org.hibernate.ogm.datastore.infinispan.options.navigation.InfinispanEntityContext;
 import org.hibernate.ogm.datastore.infinispan.options.navigation.InfinispanPropertyContext;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.spi.BaseKeyValueStoreEntityContext;
@@ -22,4 +24,10 @@ public abstract class InfinispanEntityContextImpl extends BaseKeyValueStoreEntit
 	public InfinispanEntityContextImpl(ConfigurationContext context) {
 		super( context );
 	}
+
+	@Override
+	public InfinispanEntityContext valueStorage(ValueStorageType valueStorage) {
+		addEntityOption( new ValueStorageOption(), valueStorage );
+		return this;
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.infinispan.options.navigation.impl;
 
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.hibernate.ogm.datastore.infinispan.options.impl.ValueStorageOption;
 import org.hibernate.ogm.datastore.infinispan.options.navigation.InfinispanEntityContext;
 import org.hibernate.ogm.datastore.infinispan.options.navigation.InfinispanGlobalContext;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.spi.BaseKeyValueStoreGlobalContext;
@@ -22,4 +24,10 @@ public abstract class InfinispanGlobalContextImpl extends BaseKeyValueStoreGloba
 	public InfinispanGlobalContextImpl(ConfigurationContext context) {
 		super( context );
 	}
+
+	@Override
+	public InfinispanGlobalContext valueStorage(ValueStorageType valueStorage) {
+		addGlobalOption( new ValueStorageOption(), valueStorage );
+		return this;
+	}
 }
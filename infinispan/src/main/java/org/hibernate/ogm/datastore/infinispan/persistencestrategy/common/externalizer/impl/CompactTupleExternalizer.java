@@ -0,0 +1,82 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTuple;
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.infinispan.commons.marshall.AdvancedExternalizer;
+
+/**
+ * An externalizer for serializing and de-serializing {@link CompactTuple} instances, the values of the entities
+ * stored as per {@link ValueStorageType#COMPACT}.
+ * <p>
+ * The column names are written as UTF strings rather than as an array object and are interned when read, so the
+ * values of the same entity type read on a node share their column names.
+ */
+// As an implementation of AdvancedExternalizer this is never serialized according to the Externalizer docs
+@SuppressWarnings("serial")
+public class CompactTupleExternalizer implements AdvancedExternalizer<CompactTuple> {
+
+	public static final CompactTupleExternalizer INSTANCE = new CompactTupleExternalizer();
+
+	/**
+	 * Format version of the value type; allows to apply version dependent deserialization logic in the future if
+	 * required; to be incremented when adding new fields to the serialized structure
+	 */
+	private static final int VERSION = 1;
+
+	private static final Set<Class<? extends CompactTuple>> TYPE_CLASSES = Collections.<Class<? extends CompactTuple>>singleton( CompactTuple.class );
+
+	private CompactTupleExternalizer() {
+	}
+
+	@Override
+	public void writeObject(ObjectOutput output, CompactTuple tuple) throws IOException {
+		output.writeInt( VERSION );
+		output.writeInt( tuple.getVersion() );
+
+		String[] columnNames = tuple.getColumnNames();
+		Object[] columnValues = tuple.getColumnValues();
+		output.writeInt( columnNames.length );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			output.writeUTF( columnNames[i] );
+			output.writeObject( columnValues[i] );
+		}
+	}
+
+	@Override
+	public CompactTuple readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+		VersionChecker.readAndCheckVersion( input, VERSION, CompactTuple.class );
+
+		int version = input.readInt();
+		int size = input.readInt();
+		String[] columnNames = new String[size];
+		Object[] columnValues = new Object[size];
+		for ( int i = 0; i < size; i++ ) {
+			columnNames[i] = input.readUTF().intern();
+			columnValues[i] = input.readObject();
+		}
+
+		return new CompactTuple( version, columnNames, columnValues );
+	}
+
+	@Override
+	public Set<Class<? extends CompactTuple>> getTypeClasses() {
+		return TYPE_CLASSES;
+	}
+
+	@Override
+	public Integer getId() {
+		return ExternalizerIds.COMPACT_TUPLE;
+	}
+}
@@ -9,7 +9,7 @@
 import org.infinispan.commons.marshall.AdvancedExternalizer;
 
 /**
- * The ids of our {@link AdvancedExternalizer} implementations used for (de-)serializing key objects from/into
+ * The ids of our {@link AdvancedExternalizer} implementations used for (de-)serializing key and value objects from/into
  * Infinispan.
  * <p>
  * The range 1400 - 1499 is <a
@@ -21,6 +21,7 @@ public class ExternalizerIds {
 
 	// common
 	public static final int ROW_KEY = 1402;
+	public static final int COMPACT_TUPLE = 1420;
 
 	// per kind
 	public static final int PER_KIND_ENTITY_KEY = 1400;
@@ -8,6 +8,7 @@
 
 import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
 import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.CompactTupleExternalizer;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.ExternalizerIds;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.RowKeyExternalizer;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.kind.externalizer.impl.AssociationKeyExternalizer;
@@ -44,6 +45,7 @@ private static Map<Integer, AdvancedExternalizer<?>> initializeOgmExternalizers(
 		Map<Integer, AdvancedExternalizer<?>> m = new HashMap<>();
 		//Register here any new Externalizer that we might need:
 		addExternalizerToMap( m, AssociationKeyExternalizer.INSTANCE );
+		addExternalizerToMap( m, CompactTupleExternalizer.INSTANCE );
 		addExternalizerToMap( m, EntityKeyExternalizer.INSTANCE );
 		addExternalizerToMap( m, EntityKeyMetadataExternalizer.INSTANCE );
 		addExternalizerToMap( m, IdSourceKeyExternalizer.INSTANCE );
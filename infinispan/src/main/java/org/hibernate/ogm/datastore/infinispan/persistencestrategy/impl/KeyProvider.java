@@ -8,12 +8,13 @@
 package org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl;
 
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
-import org.infinispan.distexec.mapreduce.Mapper;
+import org.infinispan.container.entries.CacheEntry;
 
 /**
  * Converts the OGM-internal keys into the cache keys.
@@ -33,6 +34,13 @@
 
 	ISK getIdSourceCacheKey(IdSourceKey key);
 
-	Mapper<EK, Map<String, Object>, EK, Map<String, Object>> getMapper(EntityKeyMetadata... entityKeyMetadatas);
+	/**
+	 * Returns a filter selecting the entries of the given entity types among the entries of their cache. The filter is
+	 * sent to the nodes owning the entries, so it must be serializable.
+	 *
+	 * @param entityKeyMetadatas the meta-data of the entity types stored in the same cache
+	 * @return the filter for the entries of the given entity types
+	 */
+	Predicate<CacheEntry<EK, Map<String, Object>>> getFilter(EntityKeyMetadata... entityKeyMetadatas);
 
 }
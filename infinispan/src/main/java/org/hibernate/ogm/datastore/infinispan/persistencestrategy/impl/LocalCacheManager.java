@@ -15,7 +15,10 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.TransactionManagerLookupDelegator;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
@@ -50,6 +53,8 @@
  */
 public abstract class LocalCacheManager<EK, AK, ISK> {
 
+	private static final Log log = LoggerFactory.getLogger();
+
 	private final EmbeddedCacheManager cacheManager;
 	private final boolean isProvidedCacheManager;
 
@@ -58,12 +63,12 @@ protected LocalCacheManager(EmbeddedCacheManager cacheManager) {
 		this.isProvidedCacheManager = true;
 	}
 
-	protected LocalCacheManager(URL configUrl, JtaPlatform platform, Set<String> cacheNames, KeyProvider<EK, AK, ISK> keyProvider) {
-		this.cacheManager = createCustomCacheManager( configUrl, platform, cacheNames, keyProvider );
+	protected LocalCacheManager(URL configUrl, Set<String> binaryStorageCaches, JtaPlatform platform, Set<String> cacheNames, KeyProvider<EK, AK, ISK> keyProvider) {
+		this.cacheManager = createCustomCacheManager( configUrl, binaryStorageCaches, platform, cacheNames, keyProvider );
 		this.isProvidedCacheManager = false;
 	}
 
-	private static EmbeddedCacheManager createCustomCacheManager(URL configUrl, JtaPlatform platform, Set<String> cacheNames, KeyProvider<?, ?, ?> keyProvider) {
+	private static EmbeddedCacheManager createCustomCacheManager(URL configUrl, Set<String> binaryStorageCaches, JtaPlatform platform, Set<String> cacheNames, KeyProvider<?, ?, ?> keyProvider) {
 		Set<String> allCacheNames = new HashSet<>();//To include both the requires ones and the ones found in the configuration files
 		allCacheNames.addAll( cacheNames );
 		TransactionManagerLookupDelegator transactionManagerLookupDelegator = new TransactionManagerLookupDelegator( platform );
@@ -81,35 +86,31 @@ private static EmbeddedCacheManager createCustomCacheManager(URL configUrl, JtaP
 
 				ExternalizersIntegration.registerOgmExternalizers( serializationConfiguration );
 				allCacheNames.addAll( tmpCacheManager.getCacheNames() );
+				validateBinaryStorageCaches( binaryStorageCaches, allCacheNames );
 
 				GlobalConfiguration globalConfiguration = serializationConfiguration.build();
 
 				EmbeddedCacheManager cacheManager = new DefaultCacheManager( globalConfiguration, false );
 
 				// override the named cache configuration defined in the configuration file to
-				// inject the platform TransactionManager
+				// inject the platform TransactionManager and enable the binary storage
 				for ( String cacheName : allCacheNames ) {
 					Configuration originalCfg = tmpCacheManager.getCacheConfiguration( cacheName );
 					if ( originalCfg == null ) {
 						originalCfg = tmpCacheManager.getDefaultCacheConfiguration();
 					}
-					Configuration newCfg;
+					ConfigurationBuilder newCfg = new ConfigurationBuilder().read( originalCfg );
 					if ( originalCfg.transaction().transactionMode() == TransactionMode.TRANSACTIONAL ) {
 						//Inject our TransactionManager lookup delegate for transactional caches ONLY!
 						//injecting one in a non-transactional cache will have side-effects on other configuration settings.
-						newCfg = new ConfigurationBuilder()
-								.read( originalCfg )
-									.transaction()
-										.transactionManagerLookup( transactionManagerLookupDelegator )
-								.build();
+						newCfg.transaction().transactionManagerLookup( transactionManagerLookupDelegator );
 					}
-					else {
-						//But also define all other caches:
-						newCfg = new ConfigurationBuilder()
-								.read( originalCfg )
-								.build();
+					if ( binaryStorageCaches.contains( cacheName ) ) {
+						//Keys and values are kept marshalled with our externalizers and unmarshalled when read,
+						//sparing the garbage collector the object graphs of large data sets
+						newCfg.storeAsBinary().enable();
 					}
-					cacheManager.defineConfiguration( cacheName, newCfg );
+					cacheManager.defineConfiguration( cacheName, newCfg.build() );
 				}
 
 				cacheManager.start();
@@ -126,6 +127,18 @@ private static EmbeddedCacheManager createCustomCacheManager(URL configUrl, JtaP
 		}
 	}
 
+	/**
+	 * Makes sure the caches to be stored in binary form exist, so a misspelled name or one of the other cache mapping
+	 * doesn't silently leave a cache in object form.
+	 */
+	private static void validateBinaryStorageCaches(Set<String> binaryStorageCaches, Set<String> cacheNames) {
+		Set<String> unknownCaches = new HashSet<>( binaryStorageCaches );
+		unknownCaches.removeAll( cacheNames );
+		if ( !unknownCaches.isEmpty() ) {
+			throw log.unknownBinaryStorageCaches( unknownCaches, InfinispanProperties.BINARY_STORAGE_CACHES, cacheNames );
+		}
+	}
+
 	private static HibernateException raiseConfigurationError(Exception e, String cfgName) {
 		return new HibernateException(
 				"Could not start Infinispan CacheManager using as configuration file: " + cfgName, e
@@ -52,6 +52,7 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 	 * @param cacheMapping the selected {@link org.hibernate.ogm.datastore.keyvalue.options.CacheMappingType}
 	 * @param externalCacheManager the infinispan cache manager
 	 * @param configurationUrl the location of the configuration file
+	 * @param binaryStorageCaches the names of the caches storing their entries in binary form
 	 * @param jtaPlatform the {@link JtaPlatform}
 	 * @param entityTypes the meta-data of the entities
 	 * @param associationTypes the meta-data of the associations
@@ -62,6 +63,7 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 			CacheMappingType cacheMapping,
 			EmbeddedCacheManager externalCacheManager,
 			URL configurationUrl,
+			Set<String> binaryStorageCaches,
 			JtaPlatform jtaPlatform,
 			Set<EntityKeyMetadata> entityTypes,
 			Set<AssociationKeyMetadata> associationTypes,
@@ -71,6 +73,7 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 			return getPerKindStrategy(
 					externalCacheManager,
 					configurationUrl,
+					binaryStorageCaches,
 					jtaPlatform
 			);
 		}
@@ -78,6 +81,7 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 			return getPerTableStrategy(
 					externalCacheManager,
 					configurationUrl,
+					binaryStorageCaches,
 					jtaPlatform,
 					entityTypes,
 					associationTypes,
@@ -90,12 +94,12 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 	 * Returns the "per-kind" persistence strategy. Three caches will be used: one for entities, one for associations
 	 * and one for id sources.
 	 */
-	private static PersistenceStrategy<?, ?, ?> getPerKindStrategy(EmbeddedCacheManager externalCacheManager, URL configUrl, JtaPlatform platform) {
+	private static PersistenceStrategy<?, ?, ?> getPerKindStrategy(EmbeddedCacheManager externalCacheManager, URL configUrl, Set<String> binaryStorageCaches, JtaPlatform platform) {
 		OnePerKindKeyProvider keyProvider = new OnePerKindKeyProvider();
 
 		OnePerKindCacheManager cacheManager = externalCacheManager != null ?
 				new OnePerKindCacheManager( externalCacheManager ) :
-				new OnePerKindCacheManager( configUrl, platform, keyProvider );
+				new OnePerKindCacheManager( configUrl, binaryStorageCaches, platform, keyProvider );
 
 		return new PersistenceStrategy<EntityKey, AssociationKey, IdSourceKey>( cacheManager, keyProvider );
 	}
@@ -107,6 +111,7 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 	private static PersistenceStrategy<?, ?, ?> getPerTableStrategy(
 			EmbeddedCacheManager externalCacheManager,
 			URL configUrl,
+			Set<String> binaryStorageCaches,
 			JtaPlatform platform,
 			Set<EntityKeyMetadata> entityTypes,
 			Set<AssociationKeyMetadata> associationTypes,
@@ -116,7 +121,7 @@ private PersistenceStrategy(LocalCacheManager<EK, AK, ISK> cacheManager, KeyProv
 
 		PerTableCacheManager cacheManager = externalCacheManager != null ?
 				new PerTableCacheManager( externalCacheManager, entityTypes, associationTypes, idSourceTypes ) :
-				new PerTableCacheManager( configUrl, platform, entityTypes, associationTypes, idSourceTypes );
+				new PerTableCacheManager( configUrl, binaryStorageCaches, platform, entityTypes, associationTypes, idSourceTypes );
 
 		return new PersistenceStrategy<PersistentEntityKey, PersistentAssociationKey, PersistentIdSourceKey>( cacheManager, keyProvider );
 	}
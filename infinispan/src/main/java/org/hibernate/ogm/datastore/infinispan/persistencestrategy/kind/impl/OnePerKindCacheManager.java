@@ -50,8 +50,8 @@ public OnePerKindCacheManager(EmbeddedCacheManager cacheManager) {
 		idSourceCache = getCacheManager().getCache( CacheNames.IDENTIFIER_CACHE );
 	}
 
-	public OnePerKindCacheManager(URL configUrl, JtaPlatform platform, OnePerKindKeyProvider keyProvider) {
-		super( configUrl, platform, CACHE_NAMES, keyProvider );
+	public OnePerKindCacheManager(URL configUrl, Set<String> binaryStorageCaches, JtaPlatform platform, OnePerKindKeyProvider keyProvider) {
+		super( configUrl, binaryStorageCaches, platform, CACHE_NAMES, keyProvider );
 
 		entityCache = getCacheManager().getCache( CacheNames.ENTITY_CACHE );
 		associationCache = getCacheManager().getCache( CacheNames.ASSOCIATION_CACHE );
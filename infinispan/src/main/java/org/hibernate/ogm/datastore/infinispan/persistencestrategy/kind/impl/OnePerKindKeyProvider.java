@@ -7,15 +7,16 @@
 
 package org.hibernate.ogm.datastore.infinispan.persistencestrategy.kind.impl;
 
+import java.io.Serializable;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
-import org.infinispan.distexec.mapreduce.Collector;
-import org.infinispan.distexec.mapreduce.Mapper;
+import org.infinispan.container.entries.CacheEntry;
 
 /**
  * Key provider which stores all keys as is in ISPN.
@@ -40,25 +41,26 @@ public IdSourceKey getIdSourceCacheKey(IdSourceKey key) {
 	}
 
 	@Override
-	public TupleMapper getMapper(EntityKeyMetadata... entityKeyMetadatas) {
-		return new TupleMapper( entityKeyMetadatas );
+	public TupleFilter getFilter(EntityKeyMetadata... entityKeyMetadatas) {
+		return new TupleFilter( entityKeyMetadatas );
 	}
 
-	private static class TupleMapper implements Mapper<EntityKey, Map<String, Object>, EntityKey, Map<String, Object>> {
+	private static class TupleFilter implements Predicate<CacheEntry<EntityKey, Map<String, Object>>>, Serializable {
 
 		private final EntityKeyMetadata[] entityKeyMetadatas;
 
-		public TupleMapper(EntityKeyMetadata... entityKeyMetadatas) {
+		public TupleFilter(EntityKeyMetadata... entityKeyMetadatas) {
 			this.entityKeyMetadatas = entityKeyMetadatas;
 		}
 
 		@Override
-		public void map(EntityKey key, Map<String, Object> value, Collector<EntityKey, Map<String, Object>> collector) {
+		public boolean test(CacheEntry<EntityKey, Map<String, Object>> entry) {
 			for ( EntityKeyMetadata entityKeyMetadata : entityKeyMetadatas ) {
-				if ( key.getTable().equals( entityKeyMetadata.getTable() ) ) {
-					collector.emit( key, value );
+				if ( entry.getKey().getTable().equals( entityKeyMetadata.getTable() ) ) {
+					return true;
 				}
 			}
+			return false;
 		}
 	}
 }
@@ -52,8 +52,8 @@ public PerTableCacheManager(EmbeddedCacheManager cacheManager, Set<EntityKeyMeta
 		idSourceCaches = initializeIdSourceCaches( getCacheManager(), idSourceTypes );
 	}
 
-	public PerTableCacheManager(URL configUrl, JtaPlatform platform, Set<EntityKeyMetadata> entityTypes, Set<AssociationKeyMetadata> associationTypes, Set<IdSourceKeyMetadata> idSourceTypes) {
-		super( configUrl, platform, getCacheNames( entityTypes, associationTypes, idSourceTypes ), new PerTableKeyProvider() );
+	public PerTableCacheManager(URL configUrl, Set<String> binaryStorageCaches, JtaPlatform platform, Set<EntityKeyMetadata> entityTypes, Set<AssociationKeyMetadata> associationTypes, Set<IdSourceKeyMetadata> idSourceTypes) {
+		super( configUrl, binaryStorageCaches, platform, getCacheNames( entityTypes, associationTypes, idSourceTypes ), new PerTableKeyProvider() );
 
 		entityCaches = initializeEntityCaches( getCacheManager(), entityTypes );
 		associationCaches = initializeAssociationCaches( getCacheManager(), associationTypes );
@@ -7,7 +7,9 @@
 
 package org.hibernate.ogm.datastore.infinispan.persistencestrategy.table.impl;
 
+import java.io.Serializable;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.table.externalizer.impl.PersistentAssociationKey;
@@ -17,8 +19,7 @@
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
-import org.infinispan.distexec.mapreduce.Collector;
-import org.infinispan.distexec.mapreduce.Mapper;
+import org.infinispan.container.entries.CacheEntry;
 
 /**
  * Provides the persistent keys for the "per-table" strategy. These keys don't contain the table name.
@@ -44,17 +45,20 @@ public PersistentIdSourceKey getIdSourceCacheKey(IdSourceKey key) {
 	}
 
 	@Override
-	public TupleMapper getMapper(EntityKeyMetadata... entityKeyMetadatas) {
-		return TupleMapper.INSTANCE;
+	public TupleFilter getFilter(EntityKeyMetadata... entityKeyMetadatas) {
+		return TupleFilter.INSTANCE;
 	}
 
-	private static class TupleMapper implements Mapper<PersistentEntityKey, Map<String, Object>, PersistentEntityKey, Map<String, Object>> {
+	/**
+	 * Accepts all entries, as each entity table has its own cache.
+	 */
+	private static class TupleFilter implements Predicate<CacheEntry<PersistentEntityKey, Map<String, Object>>>, Serializable {
 
-		private static final TupleMapper INSTANCE = new TupleMapper();
+		private static final TupleFilter INSTANCE = new TupleFilter();
 
 		@Override
-		public void map(PersistentEntityKey key, Map<String, Object> value, Collector<PersistentEntityKey, Map<String, Object>> collector) {
-			collector.emit( key, value );
+		public boolean test(CacheEntry<PersistentEntityKey, Map<String, Object>> entry) {
+			return true;
 		}
 	}
 }
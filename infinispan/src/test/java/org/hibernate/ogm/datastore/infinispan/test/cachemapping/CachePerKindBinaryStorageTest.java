@@ -0,0 +1,68 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.cachemapping;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.hibernate.ogm.datastore.keyvalue.options.CacheMappingType;
+import org.infinispan.container.DataContainer;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.marshall.core.MarshalledValue;
+import org.junit.Test;
+
+/**
+ * Test for storing the entries of some of the caches of the
+ * {@link org.hibernate.ogm.datastore.keyvalue.options.CacheMappingType#CACHE_PER_KIND} strategy in binary form.
+ */
+public class CachePerKindBinaryStorageTest extends CacheMappingTestBase {
+
+	@Test
+	public void shouldStoreEntriesOfConfiguredCachesAsBinary() {
+		assertThat( getEntityCache( "Family", "id" ).getCacheConfiguration().storeAsBinary().enabled() ).isTrue();
+		assertThat( getAssociationCache( "Family_Plant", "Family_id" ).getCacheConfiguration().storeAsBinary().enabled() ).isTrue();
+		assertThat( getIdSourceCache( "hibernate_sequences" ).getCacheConfiguration().storeAsBinary().enabled() ).isFalse();
+	}
+
+	@Test
+	public void shouldKeepEntriesOfConfiguredCachesMarshalled() {
+		OgmSession session = openSession();
+		session.getTransaction().begin();
+		Plant rose = new Plant( 42 );
+		session.persist( rose );
+		session.persist( new Family( "family-2", "Rosaceae", rose ) );
+		session.getTransaction().commit();
+		session.close();
+
+		// the data container holds the marshalled form of the entries, not the tuples themselves
+		DataContainer<?, ?> entities = getEntityCache( "Family", "id" ).getAdvancedCache().getDataContainer();
+		assertThat( entities.size() ).isGreaterThan( 0 );
+		for ( InternalCacheEntry<?, ?> entry : entities ) {
+			assertThat( entry.getKey() ).isInstanceOf( MarshalledValue.class );
+			assertThat( entry.getValue() ).isInstanceOf( MarshalledValue.class );
+		}
+
+		session = openSession();
+		session.getTransaction().begin();
+		Family loadedFamily = (Family) session.get( Family.class, "family-2" );
+		assertThat( loadedFamily.getName() ).isEqualTo( "Rosaceae" );
+		assertThat( loadedFamily.getMembers() ).onProperty( "height" ).containsExactly( 42 );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( InfinispanProperties.CACHE_MAPPING, CacheMappingType.CACHE_PER_KIND );
+		cfg.put( InfinispanProperties.VALUE_STORAGE, ValueStorageType.COMPACT );
+		cfg.put( InfinispanProperties.BINARY_STORAGE_CACHES, "ENTITIES, ASSOCIATIONS" );
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.cachemapping;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.junit.Test;
+
+/**
+ * Test for storing the entries of some of the caches of the
+ * {@link org.hibernate.ogm.datastore.keyvalue.options.CacheMappingType#CACHE_PER_TABLE} strategy in binary form.
+ */
+public class CachePerTableBinaryStorageTest extends CacheMappingTestBase {
+
+	@Test
+	public void shouldStoreEntriesOfConfiguredCachesAsBinary() {
+		assertThat( getEntityCache( "Family", "id" ).getCacheConfiguration().storeAsBinary().enabled() ).isTrue();
+		assertThat( getEntityCache( "Plant", "id" ).getCacheConfiguration().storeAsBinary().enabled() ).isFalse();
+		assertThat( getAssociationCache( "Family_Plant", "Family_id" ).getCacheConfiguration().storeAsBinary().enabled() ).isTrue();
+		assertThat( getIdSourceCache( "myIds" ).getCacheConfiguration().storeAsBinary().enabled() ).isFalse();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( InfinispanProperties.VALUE_STORAGE, ValueStorageType.COMPACT );
+		cfg.put( InfinispanProperties.BINARY_STORAGE_CACHES, "Family,associations_Family_Plant" );
+	}
+}
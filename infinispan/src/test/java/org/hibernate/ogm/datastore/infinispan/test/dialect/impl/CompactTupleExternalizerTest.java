@@ -0,0 +1,83 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.dialect.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTuple;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.CompactTupleExternalizer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactTupleExternalizer}.
+ */
+public class CompactTupleExternalizerTest {
+
+	private ExternalizerTestHelper<CompactTuple, CompactTupleExternalizer> externalizerHelper;
+
+	@Before
+	public void setupMarshallerFactory() {
+		externalizerHelper = ExternalizerTestHelper.getInstance( CompactTupleExternalizer.INSTANCE );
+	}
+
+	@Test
+	public void shouldSerializeAndDeserializeCompactTuple() throws Exception {
+		String[] columnNames = { "id", "name", "published", "rating" };
+		Object[] values = { 123L, "Ode to a Nightingale", new Date(), null };
+
+		// given
+		CompactTuple tuple = new CompactTuple( 3, columnNames, values );
+
+		// when
+		byte[] bytes = externalizerHelper.marshall( tuple );
+		CompactTuple unmarshalledTuple = externalizerHelper.unmarshall( bytes );
+
+		// then
+		assertThat( unmarshalledTuple.getVersion() ).isEqualTo( 3 );
+		assertThat( unmarshalledTuple.getColumnNames() ).isEqualTo( tuple.getColumnNames() );
+		assertThat( unmarshalledTuple.getColumnValues() ).isEqualTo( tuple.getColumnValues() );
+		assertThat( unmarshalledTuple.getColumnNames()[1] ).isSameAs( "name" );
+
+		assertTrue( tuple.equals( unmarshalledTuple ) );
+		assertTrue( unmarshalledTuple.equals( tuple ) );
+		assertThat( unmarshalledTuple.hashCode() ).isEqualTo( tuple.hashCode() );
+	}
+
+	@Test
+	public void shouldBeEqualAfterRoundTripWithBinaryColumn() throws Exception {
+		String[] columnNames = { "id", "cover" };
+		Object[] values = { 123L, new byte[] { 1, 2, 3 } };
+
+		// given
+		CompactTuple tuple = new CompactTuple( 1, columnNames, values );
+
+		// when
+		CompactTuple unmarshalledTuple = externalizerHelper.unmarshall( externalizerHelper.marshall( tuple ) );
+
+		// then
+		assertThat( unmarshalledTuple.getColumnValues()[1] ).isNotSameAs( tuple.getColumnValues()[1] );
+		assertTrue( tuple.equals( unmarshalledTuple ) );
+		assertTrue( unmarshalledTuple.equals( tuple ) );
+		assertThat( unmarshalledTuple.hashCode() ).isEqualTo( tuple.hashCode() );
+
+		CompactTuple changed = new CompactTuple( 1, columnNames, new Object[] { 123L, new byte[] { 1, 2, 4 } } );
+		assertThat( unmarshalledTuple.equals( changed ) ).isFalse();
+	}
+
+	@Test
+	public void shouldSerializeAndDeserializeEmptyCompactTuple() throws Exception {
+		byte[] bytes = externalizerHelper.marshall( CompactTuple.EMPTY );
+		CompactTuple unmarshalledTuple = externalizerHelper.unmarshall( bytes );
+
+		assertThat( unmarshalledTuple.isEmpty() ).isTrue();
+		assertThat( unmarshalledTuple ).isEqualTo( CompactTuple.EMPTY );
+	}
+}
@@ -12,8 +12,11 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.boot.registry.classloading.internal.ClassLoaderServiceImpl;
@@ -25,8 +28,10 @@
 import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.PartitionedModelConsumer;
 import org.hibernate.ogm.dialect.spi.TuplesSupplier;
 import org.hibernate.ogm.entityentry.impl.TuplePointer;
 import org.hibernate.ogm.id.spi.PersistentNoSqlIdentifierGenerator;
@@ -112,6 +117,39 @@ public void shouldWriteAndReadTupleInClusteredMode() throws Exception {
 		assertThat( readTuple.get( "foo" ) ).isEqualTo( "bar" );
 	}
 
+	@Test
+	public void shouldUpdateTupleReadWithOtherTuplesInClusteredMode() throws Exception {
+		// given
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "Foobar", new String[] { "id" } );
+		EntityKey key1 = new EntityKey( keyMetadata, new Object[] { "multiget-1" } );
+		EntityKey key2 = new EntityKey( keyMetadata, new Object[] { "multiget-2" } );
+		EntityKey missingKey = new EntityKey( keyMetadata, new Object[] { "multiget-missing" } );
+		for ( EntityKey key : Arrays.asList( key1, key2 ) ) {
+			Tuple tuple = dialect1.createTuple( key, emptyTupleContext() );
+			tuple.put( "id", key.getColumnValues()[0] );
+			tuple.put( "foo", "bar" );
+			dialect1.insertOrUpdateTuple( key, new TuplePointer( tuple ), emptyTupleContext() );
+		}
+
+		try {
+			// when
+			List<Tuple> tuples = dialect2.getTuples( new EntityKey[] { key1, missingKey, key2 }, emptyTupleContext() );
+			Tuple tuple = tuples.get( 2 );
+			tuple.put( "foo", "baz" );
+			dialect2.insertOrUpdateTuple( key2, new TuplePointer( tuple ), emptyTupleContext() );
+
+			// then
+			assertThat( tuples.get( 0 ).get( "foo" ) ).isEqualTo( "bar" );
+			assertThat( tuples.get( 1 ) ).isNull();
+			assertThat( dialect1.getTuple( key2, emptyTupleContext() ).get( "foo" ) ).isEqualTo( "baz" );
+			assertThat( dialect1.getTuple( key2, emptyTupleContext() ).get( "id" ) ).isEqualTo( "multiget-2" );
+		}
+		finally {
+			dialect1.removeTuple( key1, emptyTupleContext() );
+			dialect1.removeTuple( key2, emptyTupleContext() );
+		}
+	}
+
 	@Test
 	public void shoulReadAndWriteSequenceInClusteredMode() throws Exception {
 		// given
@@ -173,6 +211,41 @@ public void shouldApplyForEachTupleInClusteredMode() throws Exception {
 		assertThat( consumer.consumedTuple.get( "foo" ) ).isEqualTo( "bar" );
 	}
 
+	@Test
+	public void shouldVisitEachTupleOnceWhenConsumingSegmentsInPartitions() throws Exception {
+		// given
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "Foobar", new String[] { "id" } );
+		int tupleCount = 100;
+		List<EntityKey> keys = new ArrayList<EntityKey>( tupleCount );
+		for ( int i = 0; i < tupleCount; i++ ) {
+			EntityKey key = new EntityKey( keyMetadata, new Object[] { "partitioned-" + i } );
+			Tuple tuple = dialect1.createTuple( key, emptyTupleContext() );
+			tuple.put( "id", "partitioned-" + i );
+			tuple.put( "index", i );
+			dialect1.insertOrUpdateTuple( key, new TuplePointer( tuple ), emptyTupleContext() );
+			keys.add( key );
+		}
+
+		try {
+			// when
+			PartitionCountingConsumer consumer = new PartitionCountingConsumer( 4 );
+			dialect2.forEachTuple( consumer, emptyTupleTypeContext(), keyMetadata );
+
+			// then
+			assertThat( consumer.consumedPartitions ).isEqualTo( 4 );
+			assertThat( consumer.visitsByIndex ).hasSize( tupleCount );
+			for ( int i = 0; i < tupleCount; i++ ) {
+				assertThat( consumer.visitsByIndex.get( i ) ).as( "visits of tuple " + i ).isEqualTo( 1 );
+			}
+		}
+		finally {
+			// the other tests of this class share the "Foobar" cache
+			for ( EntityKey key : keys ) {
+				dialect1.removeTuple( key, emptyTupleContext() );
+			}
+		}
+	}
+
 	private final class MyConsumer implements ModelConsumer {
 
 		private Tuple consumedTuple;
@@ -183,6 +256,48 @@ public void consume(TuplesSupplier supplier) {
 		}
 	}
 
+	private static final class PartitionCountingConsumer implements PartitionedModelConsumer {
+
+		private final int partitions;
+		private final Map<Integer, Integer> visitsByIndex = new HashMap<Integer, Integer>();
+		private int consumedPartitions;
+
+		private PartitionCountingConsumer(int partitions) {
+			this.partitions = partitions;
+		}
+
+		@Override
+		public int getPartitions() {
+			return partitions;
+		}
+
+		@Override
+		public void consume(List<TuplesSupplier> suppliers) {
+			for ( TuplesSupplier supplier : suppliers ) {
+				consume( supplier );
+				consumedPartitions++;
+			}
+		}
+
+		@Override
+		public void consume(TuplesSupplier supplier) {
+			ClosableIterator<Tuple> tuples = supplier.get( null );
+			try {
+				while ( tuples.hasNext() ) {
+					Integer index = (Integer) tuples.next().get( "index" );
+					// ignore the tuples written by other tests
+					if ( index != null ) {
+						Integer visits = visitsByIndex.get( index );
+						visitsByIndex.put( index, visits == null ? 1 : visits + 1 );
+					}
+				}
+			}
+			finally {
+				tuples.close();
+			}
+		}
+	}
+
 	private static InfinispanEmbeddedDatastoreProvider createAndStartNewProvider(ServiceRegistryImplementor serviceRegistry) {
 		Map<String, Object> configurationValues = new HashMap<String, Object>();
 		configurationValues.put( InfinispanProperties.CONFIGURATION_RESOURCE_NAME, "infinispan-dist.xml" );
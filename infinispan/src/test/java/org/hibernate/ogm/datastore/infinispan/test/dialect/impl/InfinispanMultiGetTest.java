@@ -0,0 +1,113 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.dialect.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.backendtck.batchfetching.MultiGetSingleColumnIdTest.BoardGame;
+import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.utils.GridDialectOperationContexts;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Test for {@link MultigetGridDialect#getTuples(EntityKey[], TupleContext)} of the Infinispan dialects, which must
+ * return the same tuples as {@code getTuple()} for each key, including the keys of inserts not executed yet.
+ */
+public class InfinispanMultiGetTest extends OgmTestCase {
+
+	private static final EntityKeyMetadata METADATA = new DefaultEntityKeyMetadata( "BoardGame", new String[] { "id" } );
+
+	private static final EntityKey PENDING = new EntityKey( METADATA, new Object[] { 2 } );
+	private static final EntityKey NOT_IN_THE_DB = new EntityKey( METADATA, new Object[] { -666 } );
+
+	@Test
+	public void shouldReturnTuplesOfPendingInserts() throws Exception {
+		try ( OgmSession session = openSession() ) {
+			Transaction tx = session.beginTransaction();
+			session.persist( new BoardGame( 1, "Dominion" ) );
+			session.flush();
+
+			try {
+				// the dialect itself, as the batching delegator would use the queue of the session
+				MultigetGridDialect dialect = (MultigetGridDialect) GridDialects.getDelegateOrNull(
+						getSessionFactory().getServiceRegistry().getService( GridDialect.class ),
+						getProvider().getDefaultDialect()
+				);
+				OperationsQueue queue = new OperationsQueue();
+				TupleContext tupleContext = tupleContext( session, queue );
+
+				// given an insert which is queued but not executed yet
+				Tuple pending = dialect.createTuple( PENDING, tupleContext );
+				pending.put( "id", 2 );
+				pending.put( "name", "King of Tokyo" );
+				queue.add( new InsertOrUpdateTupleOperation( new TuplePointer( pending ), PENDING, tupleContext ) );
+
+				// when
+				EntityKey dominion = new EntityKey( METADATA, new Object[] { 1 } );
+				List<Tuple> tuples = dialect.getTuples( new EntityKey[] { dominion, PENDING, NOT_IN_THE_DB }, tupleContext );
+
+				// then
+				assertThat( tuples.get( 0 ).get( "name" ) ).isEqualTo( "Dominion" );
+				assertThat( tuples.get( 2 ) ).isNull();
+
+				Tuple tuple = dialect.getTuple( PENDING, tupleContext );
+				assertThat( tuples.get( 1 ) ).isNotNull();
+				assertThat( tuples.get( 1 ).getSnapshotType() ).isEqualTo( tuple.getSnapshotType() );
+				assertThat( tuples.get( 1 ).getColumnNames() ).isEqualTo( tuple.getColumnNames() );
+
+				if ( getProvider().getValueStorage() != ValueStorageType.ATOMIC_MAP ) {
+					// only the id columns are known before the insert is executed
+					assertThat( tuples.get( 1 ).getSnapshotType() ).isEqualTo( SnapshotType.INSERT );
+					assertThat( tuples.get( 1 ).get( "id" ) ).isEqualTo( 2 );
+				}
+			}
+			finally {
+				tx.rollback();
+			}
+		}
+	}
+
+	private TupleContext tupleContext(Session session, OperationsQueue queue) {
+		return new GridDialectOperationContexts.TupleContextBuilder()
+				.tupleTypeContext(
+						new GridDialectOperationContexts.TupleTypeContextBuilder()
+								.selectableColumns( "name" )
+								.buildTupleTypeContext() )
+				.transactionContext( session )
+				.operationsQueue( queue )
+				.buildTupleContext();
+	}
+
+	private InfinispanEmbeddedDatastoreProvider getProvider() {
+		return (InfinispanEmbeddedDatastoreProvider) getSessionFactory().getServiceRegistry().getService( DatastoreProvider.class );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { BoardGame.class };
+	}
+}
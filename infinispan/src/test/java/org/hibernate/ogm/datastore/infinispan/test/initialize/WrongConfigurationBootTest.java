@@ -52,12 +52,33 @@ public void testIllegalInfinispanConfigurationReported() throws Throwable {
 		}
 	}
 
+	@Test
+	public void testUnknownBinaryStorageCacheReported() throws Throwable {
+		thrown.expect( HibernateException.class );
+		thrown.expectMessage( "OGM001108" );
+
+		Map<String, Object> settings = new HashMap<>();
+		settings.put( InfinispanProperties.BINARY_STORAGE_CACHES, "ENTITIES, ENTITY" );
+
+		try {
+			tryBoot( "infinispan-local.xml", settings );
+		}
+		catch (Exception e) {
+			throw e.getCause();
+		}
+	}
+
+	private void tryBoot(String configurationResourceName) {
+		tryBoot( configurationResourceName, new HashMap<String, Object>() );
+	}
+
 	/**
 	 * @param configurationResourceName
 	 *            The Infinispan configuration resource to use to try booting OGM
+	 * @param settings
+	 *            Further settings to boot OGM with
 	 */
-	private void tryBoot(String configurationResourceName) {
-		Map<String, Object> settings = new HashMap<>();
+	private void tryBoot(String configurationResourceName, Map<String, Object> settings) {
 		settings.put( OgmProperties.DATASTORE_PROVIDER, "infinispan_embedded" );
 		settings.put( InfinispanProperties.CONFIGURATION_RESOURCE_NAME, configurationResourceName );
 
@@ -0,0 +1,214 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.valuestorage;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.cfg.Configurable;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.cfg.OptionConfigurator;
+import org.hibernate.ogm.datastore.infinispan.InfinispanEmbedded;
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTuple;
+import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.hibernate.ogm.datastore.infinispan.test.cachemapping.Family;
+import org.hibernate.ogm.datastore.infinispan.test.cachemapping.Plant;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.infinispan.Cache;
+import org.junit.Test;
+
+/**
+ * Test for the {@link ValueStorageType#COMPACT} value storage, given for a single entity type through the option
+ * system.
+ */
+public class CompactValueStorageTest extends OgmTestCase {
+
+	@Test
+	public void canStoreUpdateAndRemoveEntitiesWithAssociation() {
+		OgmSession session = openSession();
+		session.getTransaction().begin();
+
+		// given
+		Plant ficus = new Plant( 181 );
+		session.persist( ficus );
+		Plant fig = new Plant( 42 );
+		session.persist( fig );
+
+		Family family = new Family( "family-1", "Moraceae", ficus, fig );
+		session.persist( family );
+
+		session.getTransaction().commit();
+		session.clear();
+
+		// then
+		assertThat( getEntityCache( "Family" ).values() ).hasSize( 1 );
+		CompactTuple value = (CompactTuple) getEntityCache( "Family" ).values().iterator().next();
+		assertThat( value.get( "name" ) ).isEqualTo( "Moraceae" );
+		assertThat( getEntityCache( "Plant" ).values().iterator().next() instanceof CompactTuple ).isFalse();
+		assertThat( getAssociationCache( "Family_Plant", "Family_id" ).values().iterator().next().getClass() ).isEqualTo( HashMap.class );
+
+		// when
+		session.getTransaction().begin();
+		Family loadedFamily = (Family) session.get( Family.class, "family-1" );
+		assertThat( loadedFamily.getName() ).isEqualTo( "Moraceae" );
+		assertThat( loadedFamily.getMembers() ).onProperty( "height" ).containsOnly( 181, 42 );
+
+		loadedFamily.setName( "Mulberry family" );
+		loadedFamily.getMembers().remove( 1 );
+		session.getTransaction().commit();
+		session.clear();
+
+		// then
+		CompactTuple updatedValue = (CompactTuple) getEntityCache( "Family" ).values().iterator().next();
+		assertThat( updatedValue.getVersion() ).isEqualTo( value.getVersion() + 1 );
+
+		session.getTransaction().begin();
+		loadedFamily = (Family) session.get( Family.class, "family-1" );
+		assertThat( loadedFamily.getName() ).isEqualTo( "Mulberry family" );
+		assertThat( loadedFamily.getMembers() ).hasSize( 1 );
+
+		// when
+		session.delete( loadedFamily );
+		session.delete( session.get( Plant.class, ficus.getId() ) );
+		session.delete( session.get( Plant.class, fig.getId() ) );
+		session.getTransaction().commit();
+
+		// then
+		assertThat( getEntityCache( "Family" ).values() ).isEmpty();
+		assertThat( getEntityCache( "Plant" ).values() ).isEmpty();
+		assertThat( getAssociationCache( "Family_Plant", "Family_id" ).values() ).isEmpty();
+
+		session.close();
+	}
+
+	@Test
+	public void shouldDetectConcurrentChange() {
+		OgmSession session = openSession();
+		session.getTransaction().begin();
+		session.persist( new Family( "family-2", "Rosaceae" ) );
+		session.getTransaction().commit();
+		session.clear();
+
+		session.getTransaction().begin();
+		Family loadedFamily = (Family) session.get( Family.class, "family-2" );
+
+		// given another version written in between
+		Cache<Object, Object> cache = getEntityCache( "Family" );
+		Object key = cache.keySet().iterator().next();
+		CompactTuple value = (CompactTuple) cache.get( key );
+		cache.put( key, new CompactTuple( value.getVersion() + 1, value.getColumnNames(), value.getColumnValues() ) );
+
+		// when
+		loadedFamily.setName( "Rose family" );
+		try {
+			session.flush();
+			fail( "Expected exception wasn't raised" );
+		}
+		catch (StaleStateException e) {
+			// expected
+		}
+		finally {
+			session.getTransaction().rollback();
+			session.clear();
+		}
+
+		// then
+		session.getTransaction().begin();
+		session.delete( session.get( Family.class, "family-2" ) );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void shouldDetectConcurrentChangeUponRemoval() {
+		OgmSession session = openSession();
+		session.getTransaction().begin();
+		session.persist( new Family( "family-3", "Rutaceae" ) );
+		session.getTransaction().commit();
+		session.clear();
+
+		session.getTransaction().begin();
+		Family loadedFamily = (Family) session.get( Family.class, "family-3" );
+
+		// given another version written in between
+		Cache<Object, Object> cache = getEntityCache( "Family" );
+		Object key = cache.keySet().iterator().next();
+		CompactTuple value = (CompactTuple) cache.get( key );
+		cache.put( key, new CompactTuple( value.getVersion() + 1, value.getColumnNames(), value.getColumnValues() ) );
+
+		// when
+		session.delete( loadedFamily );
+		try {
+			session.flush();
+			fail( "Expected exception wasn't raised" );
+		}
+		catch (StaleStateException e) {
+			// expected
+		}
+		finally {
+			session.getTransaction().rollback();
+			session.clear();
+		}
+
+		// then
+		session.getTransaction().begin();
+		assertThat( session.get( Family.class, "family-3" ) ).isNotNull();
+		session.delete( session.get( Family.class, "family-3" ) );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Cache<Object, Object> getEntityCache(String tableName) {
+		return (Cache<Object, Object>) (Cache<?, ?>) getProvider().getCacheManager()
+				.getEntityCache( new DefaultEntityKeyMetadata( tableName, new String[] { "id" } ) );
+	}
+
+	private Cache<?, ?> getAssociationCache(String tableName, String... columnNames) {
+		DefaultAssociationKeyMetadata associationKeyMetadata = new DefaultAssociationKeyMetadata.Builder().table( tableName )
+				.columnNames( columnNames )
+				.build();
+
+		return getProvider().getCacheManager().getAssociationCache( associationKeyMetadata );
+	}
+
+	private InfinispanEmbeddedDatastoreProvider getProvider() {
+		return (InfinispanEmbeddedDatastoreProvider) getSessionFactory()
+				.getServiceRegistry()
+				.getService( DatastoreProvider.class );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		// the other entities use atomic maps, whichever value storage the test suite runs with
+		cfg.put( InfinispanProperties.VALUE_STORAGE, ValueStorageType.ATOMIC_MAP );
+		cfg.put( OgmProperties.OPTION_CONFIGURATOR, new OptionConfigurator() {
+
+			@Override
+			public void configure(Configurable configurable) {
+				configurable.configureOptionsFor( InfinispanEmbedded.class )
+					.entity( Family.class )
+						.valueStorage( ValueStorageType.COMPACT );
+			}
+		} );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Family.class, Plant.class };
+	}
+}
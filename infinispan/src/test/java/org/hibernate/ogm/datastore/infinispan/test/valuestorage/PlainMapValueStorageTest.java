@@ -0,0 +1,124 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.valuestorage;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.cfg.Configurable;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.cfg.OptionConfigurator;
+import org.hibernate.ogm.datastore.infinispan.InfinispanEmbedded;
+import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.options.ValueStorageType;
+import org.hibernate.ogm.datastore.infinispan.test.cachemapping.Family;
+import org.hibernate.ogm.datastore.infinispan.test.cachemapping.Plant;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.infinispan.Cache;
+import org.junit.Test;
+
+/**
+ * Test for the {@link ValueStorageType#MAP} value storage, given through the option system.
+ */
+public class PlainMapValueStorageTest extends OgmTestCase {
+
+	@Test
+	public void canStoreUpdateAndRemoveEntitiesWithAssociation() {
+		OgmSession session = openSession();
+		session.getTransaction().begin();
+
+		// given
+		Plant ficus = new Plant( 181 );
+		session.persist( ficus );
+		Plant fig = new Plant( 42 );
+		session.persist( fig );
+
+		Family family = new Family( "family-1", "Moraceae", ficus, fig );
+		session.persist( family );
+
+		session.getTransaction().commit();
+		session.clear();
+
+		// then
+		assertThat( getEntityCache( "Family" ).values() ).hasSize( 1 );
+		assertThat( getEntityCache( "Family" ).values().iterator().next().getClass() ).isEqualTo( HashMap.class );
+		assertThat( getAssociationCache( "Family_Plant", "Family_id" ).values() ).hasSize( 1 );
+		assertThat( getAssociationCache( "Family_Plant", "Family_id" ).values().iterator().next().getClass() ).isEqualTo( HashMap.class );
+
+		// when
+		session.getTransaction().begin();
+		Family loadedFamily = (Family) session.get( Family.class, "family-1" );
+		assertThat( loadedFamily.getName() ).isEqualTo( "Moraceae" );
+		assertThat( loadedFamily.getMembers() ).onProperty( "height" ).containsOnly( 181, 42 );
+
+		loadedFamily.setName( "Mulberry family" );
+		loadedFamily.getMembers().remove( 1 );
+		session.getTransaction().commit();
+		session.clear();
+
+		// then
+		session.getTransaction().begin();
+		loadedFamily = (Family) session.get( Family.class, "family-1" );
+		assertThat( loadedFamily.getName() ).isEqualTo( "Mulberry family" );
+		assertThat( loadedFamily.getMembers() ).hasSize( 1 );
+
+		// when
+		session.delete( loadedFamily );
+		session.delete( session.get( Plant.class, ficus.getId() ) );
+		session.delete( session.get( Plant.class, fig.getId() ) );
+		session.getTransaction().commit();
+
+		// then
+		assertThat( getEntityCache( "Family" ).values() ).isEmpty();
+		assertThat( getEntityCache( "Plant" ).values() ).isEmpty();
+		assertThat( getAssociationCache( "Family_Plant", "Family_id" ).values() ).isEmpty();
+
+		session.close();
+	}
+
+	private Cache<?, Map<String, Object>> getEntityCache(String tableName) {
+		return getProvider().getCacheManager()
+				.getEntityCache( new DefaultEntityKeyMetadata( tableName, new String[] { "id" } ) );
+	}
+
+	private Cache<?, ?> getAssociationCache(String tableName, String... columnNames) {
+		DefaultAssociationKeyMetadata associationKeyMetadata = new DefaultAssociationKeyMetadata.Builder().table( tableName )
+				.columnNames( columnNames )
+				.build();
+
+		return getProvider().getCacheManager().getAssociationCache( associationKeyMetadata );
+	}
+
+	private InfinispanEmbeddedDatastoreProvider getProvider() {
+		return (InfinispanEmbeddedDatastoreProvider) getSessionFactory()
+				.getServiceRegistry()
+				.getService( DatastoreProvider.class );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( OgmProperties.OPTION_CONFIGURATOR, new OptionConfigurator() {
+
+			@Override
+			public void configure(Configurable configurable) {
+				configurable.configureOptionsFor( InfinispanEmbedded.class )
+					.valueStorage( ValueStorageType.MAP );
+			}
+		} );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Family.class, Plant.class };
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.ogm.datastore.infinispan.utils;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -15,8 +16,10 @@
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
+import org.hibernate.ogm.datastore.infinispan.BatchableInfinispanDialect;
 import org.hibernate.ogm.datastore.infinispan.InfinispanDialect;
 import org.hibernate.ogm.datastore.infinispan.InfinispanEmbedded;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTuple;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.DatastoreConfiguration;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
@@ -81,7 +84,18 @@ public long getNumberOfAssociations(SessionFactory sessionFactory) {
 	@Override
 	public Map<String, Object> extractEntityTuple(Session session, EntityKey key) {
 		InfinispanEmbeddedDatastoreProvider provider = getProvider( session.getSessionFactory() );
-		return getEntityCache( session.getSessionFactory(), key.getMetadata() ).get( provider.getKeyProvider().getEntityCacheKey( key ) );
+		Object value = getEntityCache( session.getSessionFactory(), key.getMetadata() ).get( provider.getKeyProvider().getEntityCacheKey( key ) );
+		if ( value instanceof CompactTuple ) {
+			CompactTuple compactTuple = (CompactTuple) value;
+			Map<String, Object> tuple = new HashMap<String, Object>();
+			for ( int i = 0; i < compactTuple.getColumnNames().length; i++ ) {
+				tuple.put( compactTuple.getColumnNames()[i], compactTuple.getColumnValues()[i] );
+			}
+			return tuple;
+		}
+		@SuppressWarnings("unchecked")
+		Map<String, Object> tuple = (Map<String, Object>) value;
+		return tuple;
 	}
 
 	private static Cache<?, Map<String, Object>> getEntityCache(SessionFactory sessionFactory, EntityKeyMetadata entityKeyMetadata) {
@@ -124,7 +138,11 @@ public long getNumberOfAssociations(SessionFactory sessionFactory, AssociationSt
 
 	@Override
 	public GridDialect getGridDialect(DatastoreProvider datastoreProvider) {
-		return new InfinispanDialect( (InfinispanEmbeddedDatastoreProvider) datastoreProvider );
+		InfinispanEmbeddedDatastoreProvider provider = (InfinispanEmbeddedDatastoreProvider) datastoreProvider;
+		// the batching dialect is used if plain maps or compact values are the global value storage
+		return provider.getDefaultDialect() == BatchableInfinispanDialect.class
+				? new BatchableInfinispanDialect( provider )
+				: new InfinispanDialect( provider );
 	}
 
 	@Override
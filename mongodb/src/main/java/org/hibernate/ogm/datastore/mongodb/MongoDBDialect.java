@@ -16,16 +16,29 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.ogm.datastore.document.association.impl.DocumentHelpers;
 import org.hibernate.ogm.datastore.document.cfg.DocumentStoreProperties;
 import org.hibernate.ogm.datastore.document.impl.DotPatternMapHelpers;
@@ -44,6 +57,8 @@
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.mongodb.options.AssociationDocumentStorageType;
 import org.hibernate.ogm.datastore.mongodb.options.impl.AssociationDocumentStorageOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorOptionsOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorSettings;
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
 import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor;
@@ -64,6 +79,7 @@
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
@@ -79,6 +95,8 @@
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.OperationContext;
+import org.hibernate.ogm.dialect.spi.PartitionedModelConsumer;
+import org.hibernate.ogm.dialect.spi.SessionFactoryLifecycleAwareDialect;
 import org.hibernate.ogm.dialect.spi.TransactionContext;
 import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
 import org.hibernate.ogm.dialect.spi.TupleContext;
@@ -94,8 +112,11 @@
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleColumnIndex;
 import org.hibernate.ogm.model.spi.TupleOperation;
 import org.hibernate.ogm.type.impl.ByteStringType;
 import org.hibernate.ogm.type.impl.CharacterStringType;
@@ -111,10 +132,12 @@
 import org.parboiled.parserunners.RecoveringParseRunner;
 import org.parboiled.support.ParsingResult;
 
-import com.mongodb.DuplicateKeyException;
+import com.mongodb.ErrorCategory;
 import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoWriteException;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.DistinctIterable;
@@ -123,11 +146,15 @@
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.DeleteManyModel;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
@@ -158,7 +185,7 @@
  * @author Thorsten Möller &lt;thorsten.moeller@sbi.ch&gt;
  * @author Guillaume Smet
  */
-public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, OptimisticLockingAwareGridDialect {
+public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, MultigetAssociationGridDialect, OptimisticLockingAwareGridDialect, SessionFactoryLifecycleAwareDialect {
 
 	public static final String ID_FIELDNAME = "_id";
 	public static final String PROPERTY_SEPARATOR = ".";
@@ -169,6 +196,7 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 	private static final Log log = LoggerFactory.getLogger();
 
 	private static final List<String> ROWS_FIELDNAME_LIST = Collections.singletonList( ROWS_FIELDNAME );
+	private static final Bson ROWS_PROJECTION = createProjection( ROWS_FIELDNAME_LIST );
 
 	/**
 	 * Pattern used to recognize a constraint violation on the primary key.
@@ -180,14 +208,38 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 	private final MongoDBDatastoreProvider provider;
 	private final MongoDatabase currentDB;
 
+	/**
+	 * The type of the documents of the entities loaded by id, {@link RawBsonDocument} if they are decoded lazily
+	 */
+	private final Class<?> entityDocumentClass;
+
+	/**
+	 * The projections used to load entities, by selectable columns, and embedded associations, by role; they are
+	 * created once per entity type and association and shared by all the find operations
+	 */
+	private final ConcurrentMap<List<String>, Bson> entityProjections = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Bson> embeddedAssociationProjections = new ConcurrentHashMap<>();
+
+	/**
+	 * Used for converting the values of query parameters by the type of the property they are compared with.
+	 */
+	private volatile SessionFactoryImplementor sessionFactory;
+
 	public MongoDBDialect(MongoDBDatastoreProvider provider) {
 		this.provider = provider;
 		this.currentDB = this.provider.getDatabase();
+		this.entityDocumentClass = provider.isLazyDocumentDecoding() ? RawBsonDocument.class : Document.class;
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactoryImplementor sessionFactoryImplementor) {
+		this.sessionFactory = sessionFactoryImplementor;
+		provider.startCacheInvalidation( sessionFactoryImplementor );
 	}
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
-		Document found = this.getObject( key, operationContext );
+		MongoDBTupleSnapshot found = this.getObject( key, operationContext );
 		return createTuple( key, operationContext, found );
 	}
 
@@ -197,49 +249,136 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		// The documents returned by the queries might not be in the same order as the keys, so they are matched via
+		// the position of their id
 		Object[] searchObjects = new Object[keys.length];
+		Map<Object, Integer> positions = new HashMap<>( (int) ( keys.length / 0.75 ) + 1 );
 		for ( int i = 0; i < keys.length; i++ ) {
-			searchObjects[i] = prepareIdObjectValue( keys[i].getColumnNames(), keys[i].getColumnValues() );
+			searchObjects[i] = prepareIdObjectValue( keys[i] );
+			// We assume there are no duplicated keys, only the first one would get a tuple otherwise
+			if ( !positions.containsKey( searchObjects[i] ) ) {
+				positions.put( searchObjects[i], i );
+			}
+		}
+
+		// The array is initialized with null because some keys might not have a corresponding value in the db
+		Tuple[] tuples = new Tuple[keys.length];
+		MongoCollection<Document> collection = getCollection( keys[0].getMetadata(), tupleContext );
+		Bson projection = getProjection( tupleContext );
+		int chunkSize = provider.getMultigetChunkSize();
+
+		if ( chunkSize <= 0 || keys.length <= chunkSize ) {
+			addTuples( tuples, keys, positions, tupleContext, collection, projection, Arrays.asList( searchObjects ) );
+		}
+		else if ( provider.getMultigetExecutor() == null ) {
+			for ( int from = 0; from < keys.length; from += chunkSize ) {
+				addTuples( tuples, keys, positions, tupleContext, collection, projection, chunk( searchObjects, from, chunkSize ) );
+			}
 		}
+		else {
+			addTuplesConcurrently( tuples, keys, positions, tupleContext, collection, projection, searchObjects, chunkSize );
+		}
+
+		return Arrays.asList( tuples );
+	}
 
-		MongoCursor<Document> cursor = this.getObjects( keys[0].getMetadata(), searchObjects, tupleContext );
+	/*
+	 * Loads the chunks of the given ids on the multi-get executor, except for the first one which is loaded by the
+	 * calling thread. The tuples are created on the calling thread only.
+	 */
+	private void addTuplesConcurrently(Tuple[] tuples, EntityKey[] keys, Map<Object, Integer> positions, TupleContext tupleContext,
+			final MongoCollection<Document> collection, final Bson projection, Object[] searchObjects, int chunkSize) {
+		ExecutorService executor = provider.getMultigetExecutor();
+		List<Future<List<Object>>> results = new ArrayList<>( searchObjects.length / chunkSize );
 		try {
-			return tuplesResult( keys, searchObjects, tupleContext, cursor );
+			for ( int from = chunkSize; from < searchObjects.length; from += chunkSize ) {
+				final List<Object> chunk = chunk( searchObjects, from, chunkSize );
+				results.add( executor.submit( new Callable<List<Object>>() {
+
+					@Override
+					public List<Object> call() throws Exception {
+						return collection.find( idsIn( chunk ), entityDocumentClass ).projection( projection ).into( new ArrayList<Object>( chunk.size() ) );
+					}
+				} ) );
+			}
+
+			addTuples( tuples, keys, positions, tupleContext, collection, projection, chunk( searchObjects, 0, chunkSize ) );
+
+			for ( Future<List<Object>> result : results ) {
+				addTuples( tuples, keys, positions, tupleContext, result.get().iterator() );
+			}
 		}
-		finally {
-			if ( cursor != null ) {
-				cursor.close();
+		catch (ExecutionException e) {
+			cancel( results );
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
 			}
+			else if ( e.getCause() instanceof Error ) {
+				throw (Error) e.getCause();
+			}
+			throw new HibernateException( e.getCause() );
+		}
+		catch (InterruptedException e) {
+			cancel( results );
+			Thread.currentThread().interrupt();
+			throw log.interruptedDuringMultiget( e );
+		}
+		catch (RuntimeException | Error e) {
+			cancel( results );
+			throw e;
+		}
+	}
+
+	private static void cancel(List<? extends Future<?>> results) {
+		for ( Future<?> result : results ) {
+			result.cancel( true );
+		}
+	}
+
+	private static List<Object> chunk(Object[] searchObjects, int from, int chunkSize) {
+		return Arrays.asList( searchObjects ).subList( from, Math.min( from + chunkSize, searchObjects.length ) );
+	}
+
+	private void addTuples(Tuple[] tuples, EntityKey[] keys, Map<Object, Integer> positions, TupleContext tupleContext,
+			MongoCollection<Document> collection, Bson projection, List<Object> searchObjects) {
+		MongoCursor<?> cursor = collection.find( idsIn( searchObjects ), entityDocumentClass ).projection( projection ).iterator();
+		try {
+			addTuples( tuples, keys, positions, tupleContext, cursor );
+		}
+		finally {
+			cursor.close();
 		}
 	}
 
 	/*
-	 * This method assumes that the entries in the cursor might not be in the same order as the keys and some keys might
-	 * not have a matching result in the db.
+	 * This method assumes that the documents might not be in the same order as the keys and some keys might not have a
+	 * matching result in the db.
 	 */
-	private static List<Tuple> tuplesResult(EntityKey[] keys, Object[] searchObjects, TupleContext tupleContext, MongoCursor<Document> cursor) {
-		// The list is initialized with null because some keys might not have a corresponding value in the cursor
-		Tuple[] tuples = new Tuple[searchObjects.length];
-		while ( cursor.hasNext() ) {
-			Document document = cursor.next();
-			for ( int i = 0; i < searchObjects.length; i++ ) {
-				if ( document.get( ID_FIELDNAME ).equals( searchObjects[i] ) ) {
-					tuples[i] = createTuple( keys[i], tupleContext, document );
-					// We assume there are no duplicated keys
-					break;
-				}
+	private static void addTuples(Tuple[] tuples, EntityKey[] keys, Map<Object, Integer> positions, TupleContext tupleContext,
+			Iterator<?> documents) {
+		while ( documents.hasNext() ) {
+			MongoDBTupleSnapshot snapshot = createSnapshot( documents.next(), keys[0].getMetadata() );
+			Integer position = positions.get( snapshot.getDocumentId() );
+			if ( position != null ) {
+				tuples[position] = createTuple( keys[position], tupleContext, snapshot );
 			}
 		}
-		return Arrays.asList( tuples );
 	}
 
-	private static Tuple createTuple(EntityKey key, OperationContext operationContext, Document found) {
+	private static MongoDBTupleSnapshot createSnapshot(Object document, EntityKeyMetadata metadata) {
+		if ( document instanceof RawBsonDocument ) {
+			return MongoDBTupleSnapshot.fromRawDocument( (RawBsonDocument) document, metadata );
+		}
+		return new MongoDBTupleSnapshot( (Document) document, metadata );
+	}
+
+	private static Tuple createTuple(EntityKey key, OperationContext operationContext, MongoDBTupleSnapshot found) {
 		if ( found != null ) {
-			return new Tuple( new MongoDBTupleSnapshot( found, key.getMetadata() ), SnapshotType.UPDATE );
+			return new Tuple( found, SnapshotType.UPDATE, columnIndex( operationContext ) );
 		}
 		else if ( isInTheInsertionQueue( key, operationContext ) ) {
 			// The key has not been inserted in the db but it is in the queue
-			return new Tuple( new MongoDBTupleSnapshot( prepareIdObject( key ), key.getMetadata() ), SnapshotType.INSERT );
+			return new Tuple( new MongoDBTupleSnapshot( prepareIdObject( key ), key.getMetadata() ), SnapshotType.INSERT, columnIndex( operationContext ) );
 		}
 		else {
 			return null;
@@ -248,21 +387,24 @@ else if ( isInTheInsertionQueue( key, operationContext ) ) {
 
 	@Override
 	public Tuple createTuple(EntityKeyMetadata entityKeyMetadata, OperationContext operationContext) {
-		return new Tuple( new MongoDBTupleSnapshot( new Document(), entityKeyMetadata ), SnapshotType.INSERT );
+		return new Tuple( new MongoDBTupleSnapshot( new Document(), entityKeyMetadata ), SnapshotType.INSERT, columnIndex( operationContext ) );
 	}
 
 	@Override
-	public Tuple createTuple(EntityKey key, OperationContext OperationContext) {
+	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 		Document toSave = prepareIdObject( key );
-		return new Tuple( new MongoDBTupleSnapshot( toSave, key.getMetadata() ), SnapshotType.INSERT );
+		return new Tuple( new MongoDBTupleSnapshot( toSave, key.getMetadata() ), SnapshotType.INSERT, columnIndex( operationContext ) );
+	}
+
+	private static TupleColumnIndex columnIndex(OperationContext operationContext) {
+		return operationContext == null ? null : operationContext.getTupleTypeContext().getColumnIndex();
 	}
 
 	/**
 	 * Returns a {@link Document} representing the entity which embeds the specified association.
 	 */
 	private Document getEmbeddingEntity(AssociationKey key, AssociationContext associationContext) {
-		Document embeddingEntityDocument = associationContext.getEntityTuplePointer().getTuple() != null ?
-				( (MongoDBTupleSnapshot) associationContext.getEntityTuplePointer().getTuple().getSnapshot() ).getDbObject() : null;
+		Document embeddingEntityDocument = getLoadedEmbeddingEntity( associationContext );
 
 		if ( embeddingEntityDocument != null ) {
 			return embeddingEntityDocument;
@@ -272,50 +414,61 @@ private Document getEmbeddingEntity(AssociationKey key, AssociationContext assoc
 
 			MongoCollection<Document> collection = readPreference != null ? getCollection( key.getEntityKey() ).withReadPreference( readPreference ) : getCollection( key.getEntityKey() );
 			Document searchObject = prepareIdObject( key.getEntityKey() );
-			Document projection = getProjection( key, true );
+			Bson projection = getProjection( key, true );
 
 			return collection.find( searchObject ).projection( projection ).first();
 		}
 	}
 
-	private Document getObject(EntityKey key, OperationContext operationContext) {
+	private static Document getLoadedEmbeddingEntity(AssociationContext associationContext) {
+		return associationContext.getEntityTuplePointer().getTuple() != null ?
+				( (MongoDBTupleSnapshot) associationContext.getEntityTuplePointer().getTuple().getSnapshot() ).getDbObject() : null;
+	}
+
+	private MongoDBTupleSnapshot getObject(EntityKey key, OperationContext operationContext) {
 		ReadPreference readPreference = getReadPreference( operationContext );
 
 		MongoCollection<Document> collection = readPreference != null ? getCollection( key ).withReadPreference( readPreference ) : getCollection( key ) ;
 		Document searchObject = prepareIdObject( key );
-		Document projection = getProjection( operationContext );
+		Bson projection = getProjection( operationContext );
 
-		FindIterable<Document> fi = collection.find( searchObject );
-		return fi != null ? fi.projection( projection ).first() : null;
+		Object found = collection.find( searchObject, entityDocumentClass ).projection( projection ).first();
+		return found != null ? createSnapshot( found, key.getMetadata() ) : null;
 	}
 
-	private MongoCursor<Document> getObjects(EntityKeyMetadata entityKeyMetadata, Object[] searchObjects, TupleContext
-			tupleContext) {
+	private MongoCollection<Document> getCollection(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext) {
 		ReadPreference readPreference = getReadPreference( tupleContext );
+		return readPreference != null ? getCollection( entityKeyMetadata ).withReadPreference( readPreference ) : getCollection( entityKeyMetadata );
+	}
 
-		MongoCollection<Document> collection = readPreference != null ? getCollection( entityKeyMetadata ).withReadPreference( readPreference ) : getCollection( entityKeyMetadata );
-
-		Document projection = getProjection( tupleContext );
-
-		Document query = new Document();
-		query.put( ID_FIELDNAME, new Document( "$in", Arrays.asList( searchObjects ) ) );
-		return collection.find( query ).projection( projection ).iterator();
+	private static Document idsIn(List<Object> searchObjects) {
+		return new Document( ID_FIELDNAME, new Document( "$in", searchObjects ) );
 	}
 
-	private static Document getProjection(OperationContext operationContext) {
-		return getProjection( operationContext.getTupleTypeContext().getSelectableColumns() );
+	private Bson getProjection(OperationContext operationContext) {
+		List<String> selectableColumns = operationContext.getTupleTypeContext().getSelectableColumns();
+		Bson projection = entityProjections.get( selectableColumns );
+		if ( projection == null ) {
+			projection = createProjection( selectableColumns );
+			Bson previous = entityProjections.putIfAbsent( new ArrayList<>( selectableColumns ), projection );
+			projection = previous != null ? previous : projection;
+		}
+		return projection;
 	}
 
 	/**
 	 * Returns a projection object for specifying the fields to retrieve during a specific find operation.
+	 * <p>
+	 * The projection is encoded once into an immutable {@link RawBsonDocument}, so it can be shared by all the find
+	 * operations with the same fields and doesn't need to be encoded again when sent to the server.
 	 */
-	private static Document getProjection(List<String> fieldNames) {
+	private static Bson createProjection(List<String> fieldNames) {
 		Document projection = new Document();
 		for ( String column : fieldNames ) {
 			projection.put( column, 1 );
 		}
 
-		return projection;
+		return new RawBsonDocument( projection, new DocumentCodec() );
 	}
 
 	/**
@@ -328,7 +481,7 @@ private static Document getProjection(List<String> fieldNames) {
 	 * @return the Document which represents the id field
 	 */
 	private static Document prepareIdObject(EntityKey key) {
-		return prepareIdObject( key.getColumnNames(), key.getColumnValues() );
+		return new Document( ID_FIELDNAME, prepareIdObjectValue( key ) );
 	}
 
 	private static Document prepareIdObject(IdSourceKey key) {
@@ -339,31 +492,29 @@ private static Document prepareIdObject(String columnName, String columnValue) {
 		return new Document( ID_FIELDNAME, prepareIdObjectValue( columnName, columnValue ) );
 	}
 
-	private static Document prepareIdObject(String[] columnNames, Object[] columnValues) {
-		return new Document( ID_FIELDNAME, prepareIdObjectValue( columnNames, columnValues ) );
-	}
-
 	private static Object prepareIdObjectValue(String columnName, String columnValue) {
 		return columnValue;
 	}
 
-	private static Object prepareIdObjectValue(String[] columnNames, Object[] columnValues) {
+	private static Object prepareIdObjectValue(EntityKey key) {
+		// the values are read one by one, single-column keys don't store them in an array
+		String[] columnNames = key.getColumnNames();
 		if ( columnNames.length == 1 ) {
-			return columnValues[0];
+			return key.getColumnValue( 0 );
 		}
 		else {
 			Document idObject = new Document();
 			for ( int i = 0; i < columnNames.length; i++ ) {
 				String columnName = columnNames[i];
-				Object columnValue = columnValues[i];
+				Object columnValue = key.getColumnValue( i );
 
-				if ( columnName.contains( PROPERTY_SEPARATOR ) ) {
-					int dotIndex = columnName.indexOf( PROPERTY_SEPARATOR );
+				int dotIndex = columnName.indexOf( PROPERTY_SEPARATOR );
+				if ( dotIndex >= 0 ) {
 					String shortColumnName = columnName.substring( dotIndex + 1 );
 					idObject.put( shortColumnName, columnValue );
 				}
 				else {
-					idObject.put( columnNames[i], columnValue );
+					idObject.put( columnName, columnValue );
 				}
 
 			}
@@ -559,12 +710,19 @@ private Document findAssociation(AssociationKey key, AssociationContext associat
 		return fi != null ? ( fi.projection( getProjection( key, false ) ).first() ) : null ;
 	}
 
-	private static Document getProjection(AssociationKey key, boolean embedded) {
+	private Bson getProjection(AssociationKey key, boolean embedded) {
 		if ( embedded ) {
-			return getProjection( Collections.singletonList( key.getMetadata().getCollectionRole() ) );
+			String role = key.getMetadata().getCollectionRole();
+			Bson projection = embeddedAssociationProjections.get( role );
+			if ( projection == null ) {
+				projection = createProjection( Collections.singletonList( role ) );
+				Bson previous = embeddedAssociationProjections.putIfAbsent( role, projection );
+				projection = previous != null ? previous : projection;
+			}
+			return projection;
 		}
 		else {
-			return getProjection( ROWS_FIELDNAME_LIST );
+			return ROWS_PROJECTION;
 		}
 	}
 
@@ -587,14 +745,7 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		// been created
 		executeBatch( associationContext.getOperationsQueue() );
 		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
-			Document entity = getEmbeddingEntity( key, associationContext );
-
-			if ( entity != null && hasField( entity, key.getMetadata().getCollectionRole() ) ) {
-				return new Association( new MongoDBAssociationSnapshot( entity, key, storageStrategy ) );
-			}
-			else {
-				return null;
-			}
+			return getEmbeddedAssociation( key, getEmbeddingEntity( key, associationContext ) );
 		}
 		final Document result = findAssociation( key, associationContext, storageStrategy );
 		if ( result == null ) {
@@ -605,6 +756,97 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		}
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( keys[0], associationContexts[0] );
+		boolean embedded = storageStrategy == AssociationStorageStrategy.IN_ENTITY;
+
+		// The array is initialized with null because some keys might not have a corresponding value in the db
+		Association[] associations = new Association[keys.length];
+		boolean[] resolved = new boolean[keys.length];
+
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( isEmbeddedAssociation( keys[i] ) && isInTheInsertionQueue( keys[i].getEntityKey(), associationContexts[i] ) ) {
+				// The association is embedded and the owner of the association is in the insertion queue
+				Document idObject = prepareIdObject( keys[i].getEntityKey() );
+				associations[i] = new Association( new MongoDBAssociationSnapshot( idObject, keys[i], storageStrategy ) );
+				resolved[i] = true;
+			}
+		}
+
+		// We need to execute the previous operations first or it won't be able to find the keys that should have
+		// been created
+		executeBatch( associationContexts[0].getOperationsQueue() );
+
+		// The documents returned by the query might not be in the same order as the keys, so they are matched via
+		// the position of their id; for associations stored in the entity, these are the ids of the owners
+		Map<Object, Integer> positions = new HashMap<>( (int) ( keys.length / 0.75 ) + 1 );
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( resolved[i] ) {
+				continue;
+			}
+
+			if ( embedded ) {
+				Document entity = getLoadedEmbeddingEntity( associationContexts[i] );
+				if ( entity != null ) {
+					associations[i] = getEmbeddedAssociation( keys[i], entity );
+					continue;
+				}
+			}
+
+			Object id = embedded
+					? prepareIdObjectValue( keys[i].getEntityKey() )
+					: associationKeyToObject( keys[i], storageStrategy ).get( ID_FIELDNAME );
+			// We assume there are no duplicated keys, only the first one would get an association otherwise
+			if ( !positions.containsKey( id ) ) {
+				positions.put( id, i );
+			}
+		}
+
+		if ( positions.isEmpty() ) {
+			return Arrays.asList( associations );
+		}
+
+		ReadPreference readPreference = getReadPreference( associationContexts[0] );
+		MongoCollection<Document> collection = embedded ? getCollection( keys[0].getEntityKey() ) : getAssociationCollection( keys[0], storageStrategy );
+		if ( readPreference != null ) {
+			collection = collection.withReadPreference( readPreference );
+		}
+
+		MongoCursor<Document> cursor = collection.find( idsIn( new ArrayList<Object>( positions.keySet() ) ) )
+				.projection( getProjection( keys[0], embedded ) )
+				.iterator();
+		try {
+			while ( cursor.hasNext() ) {
+				Document document = cursor.next();
+				Integer position = positions.get( document.get( ID_FIELDNAME ) );
+				if ( position != null ) {
+					associations[position] = embedded
+							? getEmbeddedAssociation( keys[position], document )
+							: new Association( new MongoDBAssociationSnapshot( document, keys[position], storageStrategy ) );
+				}
+			}
+		}
+		finally {
+			cursor.close();
+		}
+
+		return Arrays.asList( associations );
+	}
+
+	private static Association getEmbeddedAssociation(AssociationKey key, Document entity) {
+		if ( entity != null && hasField( entity, key.getMetadata().getCollectionRole() ) ) {
+			return new Association( new MongoDBAssociationSnapshot( entity, key, AssociationStorageStrategy.IN_ENTITY ) );
+		}
+		else {
+			return null;
+		}
+	}
+
 	private static boolean isEmbeddedAssociation(AssociationKey key) {
 		return AssociationKind.EMBEDDED_COLLECTION == key.getMetadata().getAssociationKind();
 	}
@@ -723,28 +965,31 @@ public Number nextValue(NextValueRequest request) {
 
 		Document sequenceId = prepareIdObject( request.getKey() );
 
-		Document setInitialValueOnInsert = new Document();
-		addSubQuery( "$setOnInsert", setInitialValueOnInsert, valueColumnName, request.getInitialValue() + request.getIncrement() );
-
-		// I don't trust to make this a constant because the object is not immutable
-		FindOneAndUpdateOptions enableUpsert = new FindOneAndUpdateOptions().upsert( true );
-		Document originalDocument = sequenceCollection.findOneAndUpdate( sequenceId, setInitialValueOnInsert, enableUpsert );
+		Document incrementUpdate = new Document();
+		addSubQuery( "$inc", incrementUpdate, valueColumnName, request.getIncrement() );
 
-		Object nextValue = null;
-		if ( originalDocument == null ) {
-			return request.getInitialValue(); // first time we ask this value
+		// the sequence document exists but for the very first request, so it is incremented optimistically;
+		// this returns the document as it was before the update, i.e. with the value to be returned
+		Document originalDocument = sequenceCollection.findOneAndUpdate( sequenceId, incrementUpdate );
+		if ( originalDocument != null ) {
+			return (Number) originalDocument.get( valueColumnName );
 		}
-		else {
-			// all columns should match to find the value
-			Document incrementUpdate = new Document();
-
-			addSubQuery( "$inc", incrementUpdate, valueColumnName, request.getIncrement() );
 
-			Document beforeUpdateDoc = sequenceCollection.findOneAndUpdate( sequenceId, incrementUpdate,  new FindOneAndUpdateOptions().upsert( true ) );
+		// first time we ask this value
+		Document initialDocument = new Document( sequenceId );
+		initialDocument.append( valueColumnName, request.getInitialValue() + request.getIncrement() );
+		try {
+			sequenceCollection.insertOne( initialDocument );
+			return request.getInitialValue();
+		}
+		catch (MongoWriteException e) {
+			if ( e.getError().getCategory() != ErrorCategory.DUPLICATE_KEY ) {
+				throw e;
+			}
 
-			nextValue = beforeUpdateDoc.get( valueColumnName );
+			// the document has been inserted concurrently in the meantime
+			return (Number) sequenceCollection.findOneAndUpdate( sequenceId, incrementUpdate ).get( valueColumnName );
 		}
-		return (Number) nextValue;
 	}
 
 	@Override
@@ -788,7 +1033,91 @@ else if ( type instanceof MaterializedBlobType ) {
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
 		MongoDatabase db = provider.getDatabase();
 		MongoCollection<Document> collection = db.getCollection( entityKeyMetadata.getTable() );
-		consumer.consume( new MongoDBTuplesSupplier( collection, entityKeyMetadata ) );
+		CursorSettings cursorSettings = getCursorSettings( tupleTypeContext );
+		if ( consumer instanceof PartitionedModelConsumer && ( (PartitionedModelConsumer) consumer ).getPartitions() > 1 ) {
+			PartitionedModelConsumer partitionedConsumer = (PartitionedModelConsumer) consumer;
+			partitionedConsumer.consume( partitionById( collection, entityKeyMetadata, cursorSettings, partitionedConsumer.getPartitions() ) );
+		}
+		else {
+			consumer.consume( new MongoDBTuplesSupplier( collection, new Document(), entityKeyMetadata, cursorSettings ) );
+		}
+	}
+
+	/**
+	 * Splits the given collection into ranges of {@code _id} values of about the same size, so the ranges can be read
+	 * with one cursor each. The boundaries are the lower bounds of the buckets determined by {@code $bucketAuto}.
+	 * <p>
+	 * Range queries only match values of the same (canonical) BSON type as their bounds, so only boundaries of one type
+	 * are used. The documents whose {@code _id} is of another type form an additional partition, so every document is
+	 * read exactly once.
+	 */
+	private static List<TuplesSupplier> partitionById(MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata, CursorSettings cursorSettings, int partitions) {
+		List<Object> boundaries = getIdBoundaries( collection, partitions );
+		if ( boundaries.isEmpty() ) {
+			return Collections.<TuplesSupplier>singletonList( new MongoDBTuplesSupplier( collection, new Document(), entityKeyMetadata, cursorSettings ) );
+		}
+
+		List<TuplesSupplier> suppliers = new ArrayList<>( boundaries.size() + 2 );
+		Object lowerBound = null;
+		for ( Object upperBound : boundaries ) {
+			suppliers.add( new MongoDBTuplesSupplier( collection, idRange( lowerBound, upperBound ), entityKeyMetadata, cursorSettings ) );
+			lowerBound = upperBound;
+		}
+		suppliers.add( new MongoDBTuplesSupplier( collection, idRange( lowerBound, null ), entityKeyMetadata, cursorSettings ) );
+
+		// the documents whose _id can't be compared with the boundaries are matched by none of the ranges
+		Object boundary = boundaries.get( 0 );
+		Document notInRanges = new Document( "$nor", Arrays.asList(
+				new Document( ID_FIELDNAME, new Document( "$lt", boundary ) ),
+				new Document( ID_FIELDNAME, new Document( "$gte", boundary ) ) ) );
+		suppliers.add( new MongoDBTuplesSupplier( collection, notInRanges, entityKeyMetadata, cursorSettings ) );
+
+		return suppliers;
+	}
+
+	/**
+	 * Returns the lower bounds of all the {@code _id} buckets but the first one, as far as they are of the same type as
+	 * the first of them.
+	 */
+	private static List<Object> getIdBoundaries(MongoCollection<Document> collection, int partitions) {
+		Document bucketAuto = new Document( "$bucketAuto", new Document( "groupBy", "$" + ID_FIELDNAME ).append( "buckets", partitions ) );
+
+		List<Object> boundaries = new ArrayList<>( partitions );
+		Class<?> boundaryType = null;
+		boolean firstBucket = true;
+
+		for ( Document bucket : collection.aggregate( Collections.singletonList( bucketAuto ) ).allowDiskUse( true ) ) {
+			if ( firstBucket ) {
+				firstBucket = false;
+				continue;
+			}
+
+			Object boundary = ( (Document) bucket.get( ID_FIELDNAME ) ).get( "min" );
+			if ( boundary == null ) {
+				continue;
+			}
+
+			Class<?> type = boundary instanceof Number ? Number.class : boundary.getClass();
+			if ( boundaryType == null ) {
+				boundaryType = type;
+			}
+			if ( type == boundaryType ) {
+				boundaries.add( boundary );
+			}
+		}
+
+		return boundaries;
+	}
+
+	private static Document idRange(Object lowerBound, Object upperBound) {
+		Document range = new Document();
+		if ( lowerBound != null ) {
+			range.put( "$gte", lowerBound );
+		}
+		if ( upperBound != null ) {
+			range.put( "$lt", upperBound );
+		}
+		return range.isEmpty() ? new Document() : new Document( ID_FIELDNAME, range );
 	}
 
 	@Override
@@ -806,21 +1135,25 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDesc
 			throw new UnsupportedOperationException( "Positional parameters are not yet supported for MongoDB native queries." );
 		}
 
+		// the tuple context only provides the options of the entity type for queries returning entities of one type
+		TupleTypeContext tupleTypeContext = entityKeyMetadata != null && tupleContext != null ? tupleContext.getTupleTypeContext() : null;
+		CursorSettings cursorSettings = getCursorSettings( tupleTypeContext ).withRowSelection( queryParameters.getRowSelection() );
+
 		switch ( queryDescriptor.getOperation() ) {
 			case FIND:
-				return doFind( queryDescriptor, queryParameters, collection, entityKeyMetadata );
+				return doFind( queryDescriptor.bindParameters( queryParameters.getNamedParameters(), sessionFactory ), queryParameters, collection, entityKeyMetadata, cursorSettings );
 			case FINDONE:
 				return doFindOne( queryDescriptor, collection, entityKeyMetadata );
 			case FINDANDMODIFY:
 				return doFindAndModify( queryDescriptor, collection, entityKeyMetadata );
 			case AGGREGATE:
-				return doAggregate( queryDescriptor, queryParameters, collection, entityKeyMetadata );
+				return doAggregate( queryDescriptor.bindParameters( queryParameters.getNamedParameters(), sessionFactory ), queryParameters, collection, entityKeyMetadata, cursorSettings );
 			case AGGREGATE_PIPELINE:
-				return doAggregatePipeline( queryDescriptor, queryParameters, collection, entityKeyMetadata );
+				return doAggregatePipeline( queryDescriptor.bindParameters( queryParameters.getNamedParameters(), sessionFactory ), queryParameters, collection, entityKeyMetadata, cursorSettings );
 			case COUNT:
-				return doCount( queryDescriptor, collection );
+				return doCount( queryDescriptor.bindParameters( queryParameters.getNamedParameters(), sessionFactory ), collection, cursorSettings );
 			case DISTINCT:
-				return doDistinct( queryDescriptor, collection );
+				return doDistinct( queryDescriptor.bindParameters( queryParameters.getNamedParameters(), sessionFactory ), collection );
 			case INSERT:
 			case REMOVE:
 			case UPDATE:
@@ -884,7 +1217,8 @@ public DuplicateInsertPreventionStrategy getDuplicateInsertPreventionStrategy(En
 		return DuplicateInsertPreventionStrategy.NATIVE;
 	}
 
-	private static ClosableIterator<Tuple> doAggregate(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
+	private static ClosableIterator<Tuple> doAggregate(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata,
+			CursorSettings cursorSettings) {
 		List<Document> pipeline = new ArrayList<Document>();
 
 		pipeline.add( stage( "$match", query.getCriteria() ) );
@@ -904,8 +1238,8 @@ private static ClosableIterator<Tuple> doAggregate(MongoDBQueryDescriptor query,
 
 		applyMaxResults( queryParameters, pipeline );
 
-		AggregateIterable<Document> output = collection.aggregate( pipeline );
-		return new MongoDBAggregationOutput( output, entityKeyMetadata );
+		AggregateIterable<Document> output = cursorSettings.apply( collection.aggregate( pipeline ) );
+		return new MongoDBAggregationOutput( output.iterator(), entityKeyMetadata );
 	}
 
 	private static void applyMaxResults(QueryParameters queryParameters, List<Document> pipeline) {
@@ -920,12 +1254,24 @@ private static void applyFirstResult(QueryParameters queryParameters, List<Docum
 		}
 	}
 
-	private static ClosableIterator<Tuple> doAggregatePipeline(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
-		List<Document> pipeline = query.getPipeline();
+	private static ClosableIterator<Tuple> doAggregatePipeline(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata,
+			CursorSettings cursorSettings) {
+		// the stages for first result and max results are added to a copy, so the query can be executed again
+		List<Document> pipeline = new ArrayList<Document>( query.getPipeline() );
 		applyFirstResult( queryParameters, pipeline );
 		applyMaxResults( queryParameters, pipeline );
-		AggregateIterable<Document> output = collection.aggregate( pipeline );
-		return new MongoDBAggregationOutput( output, entityKeyMetadata );
+		AggregateIterable<Document> output = cursorSettings.apply( collection.aggregate( pipeline ) );
+		Iterator<Document> results = output.iterator();
+		if ( query.getDefaultResult() != null && !results.hasNext() && isFirstRowSelected( queryParameters ) ) {
+			results = Collections.singletonList( new Document( query.getDefaultResult() ) ).iterator();
+		}
+		return new MongoDBAggregationOutput( results, entityKeyMetadata );
+	}
+
+	private static boolean isFirstRowSelected(QueryParameters queryParameters) {
+		Integer firstRow = queryParameters.getRowSelection().getFirstRow();
+		Integer maxRows = queryParameters.getRowSelection().getMaxRows();
+		return ( firstRow == null || firstRow == 0 ) && ( maxRows == null || maxRows > 0 );
 	}
 
 	private static Document stage(String key, Object value) {
@@ -957,7 +1303,7 @@ private static ClosableIterator<Tuple> doDistinct(final MongoDBQueryDescriptor q
 	}
 
 	private static ClosableIterator<Tuple> doFind(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection,
-			EntityKeyMetadata entityKeyMetadata) {
+			EntityKeyMetadata entityKeyMetadata, CursorSettings cursorSettings) {
 		Document criteria = query.getCriteria();
 		Document orderby = query.getOrderBy();
 		int maxTimeMS = -1;
@@ -982,9 +1328,11 @@ private static ClosableIterator<Tuple> doFind(MongoDBQueryDescriptor query, Quer
 		}
 
 		FindIterable<Document> prepareFind = collection.find( criteria ).modifiers( modifiers ).projection( query.getProjection() );
+		cursorSettings.apply( prepareFind );
 		if ( orderby != null ) {
 			prepareFind.sort( orderby );
 		}
+		// the $maxTimeMS modifier of a native query takes precedence
 		if ( maxTimeMS > 0 ) {
 			prepareFind.maxTime( maxTimeMS, TimeUnit.MILLISECONDS );
 		}
@@ -1148,8 +1496,12 @@ private static int doUpdate(final MongoDBQueryDescriptor queryDesc, final MongoC
 		return -1; // Not sure if we should throw an exception instead?
 	}
 
-	private static ClosableIterator<Tuple> doCount(MongoDBQueryDescriptor query, MongoCollection<Document> collection) {
-		long count = collection.count( query.getCriteria() );
+	private static ClosableIterator<Tuple> doCount(MongoDBQueryDescriptor query, MongoCollection<Document> collection, CursorSettings cursorSettings) {
+		CountOptions options = new CountOptions();
+		if ( cursorSettings.getMaxTimeMS() > 0 ) {
+			options.maxTime( cursorSettings.getMaxTimeMS(), TimeUnit.MILLISECONDS );
+		}
+		long count = collection.count( query.getCriteria(), options );
 		MapTupleSnapshot snapshot = new MapTupleSnapshot( Collections.<String, Object>singletonMap( "n", count ) );
 		return CollectionHelper.newClosableIterator( Collections.singletonList( new Tuple( snapshot, SnapshotType.UNKNOWN ) ) );
 	}
@@ -1250,18 +1602,18 @@ private static AssociationStorageStrategy getAssociationStorageStrategy(Associat
 	public void executeBatch(OperationsQueue queue) {
 		if ( !queue.isClosed() ) {
 			Operation operation = queue.poll();
-			Map<MongoCollection<Document>, BatchInsertionTask> inserts = new HashMap<MongoCollection<Document>, BatchInsertionTask>();
+			Map<String, BatchWriteTask> writes = new LinkedHashMap<String, BatchWriteTask>();
 
 			List<Tuple> insertTuples = new ArrayList<Tuple>();
 
 			while ( operation != null ) {
 				if ( operation instanceof GroupedChangesToEntityOperation ) {
 					GroupedChangesToEntityOperation entityOperation = (GroupedChangesToEntityOperation) operation;
-					executeBatchUpdate( inserts, insertTuples, entityOperation );
+					executeBatchUpdate( writes, insertTuples, entityOperation );
 				}
 				else if ( operation instanceof RemoveTupleOperation ) {
 					RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) operation;
-					executeBatchRemove( inserts, removeTupleOperation );
+					executeBatchRemove( writes, removeTupleOperation );
 				}
 				else {
 					throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
@@ -1269,7 +1621,7 @@ else if ( operation instanceof RemoveTupleOperation ) {
 				operation = queue.poll();
 			}
 
-			flushInserts( inserts );
+			flushWrites( writes );
 			for ( Tuple insertTuple : insertTuples ) {
 				insertTuple.setSnapshotType( SnapshotType.UPDATE );
 			}
@@ -1278,25 +1630,26 @@ else if ( operation instanceof RemoveTupleOperation ) {
 		}
 	}
 
-	private void executeBatchRemove(Map<MongoCollection<Document>, BatchInsertionTask> inserts, RemoveTupleOperation tupleOperation) {
+	private void executeBatchRemove(Map<String, BatchWriteTask> writes, RemoveTupleOperation tupleOperation) {
 		EntityKey entityKey = tupleOperation.getEntityKey();
-		MongoCollection<Document> collection = getCollection( entityKey );
-		BatchInsertionTask batchedInserts = inserts.get( collection );
+		BatchWriteTask batchedWrites = getOrCreateBatchWriteTask( writes, getCollection( entityKey ), entityKey.getMetadata() );
 
-		if ( batchedInserts != null && batchedInserts.containsKey( entityKey ) ) {
-			batchedInserts.remove( entityKey );
+		if ( batchedWrites.containsInsert( entityKey ) ) {
+			batchedWrites.removeInsert( entityKey );
 		}
 		else {
-			removeTuple( entityKey, tupleOperation.getTupleContext() );
+			batchedWrites.addWrite( entityKey, entityKey, new DeleteManyModel<Document>( prepareIdObject( entityKey ) ),
+					getWriteConcern( tupleOperation.getTupleContext() ) );
 		}
 	}
 
-	private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTask> inserts, List<Tuple> insertTuples,
+	private void executeBatchUpdate(Map<String, BatchWriteTask> writes, List<Tuple> insertTuples,
 			GroupedChangesToEntityOperation groupedOperation) {
 		EntityKey entityKey = groupedOperation.getEntityKey();
 		MongoCollection<Document> collection = getCollection( entityKey );
 		Document insertStatement = null;
 		Document updateStatement = new Document();
+		Document deltaStatement = null;
 		WriteConcern writeConcern = null;
 
 		final UpdateOptions updateOptions = new UpdateOptions().upsert( true );
@@ -1311,8 +1664,8 @@ private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTas
 					Document document = getCurrentDocument( snapshot, insertStatement, entityKey );
 					insertStatement = objectForInsert( tuple, document );
 
-					getOrCreateBatchInsertionTask( inserts, entityKey.getMetadata(), collection, writeConcern )
-							.put( entityKey, insertStatement );
+					getOrCreateBatchWriteTask( writes, collection, entityKey.getMetadata() )
+							.putInsert( entityKey, insertStatement, writeConcern );
 					insertTuples.add( tuple );
 				}
 				else {
@@ -1327,15 +1680,24 @@ else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 				AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( associationKey, associationContext );
 				String collectionRole = associationKey.getMetadata().getCollectionRole();
 
-				Object rows = getAssociationRows( association, associationKey, associationContext );
-				Object toStore = associationKey.getMetadata().getAssociationType() == AssociationType.ONE_TO_ONE ? ( (List<?>) rows ).get( 0 ) : rows;
+				// only the changed rows are sent if possible, otherwise all the rows are written again
+				AssociationRowsDelta delta = insertStatement == null ? getAssociationRowsDelta( association, associationKey ) : null;
 
 				if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
 					writeConcern = mergeWriteConcern( writeConcern, getWriteConcern( associationContext ) );
 					if ( insertStatement != null ) {
-						MongoHelpers.setValue( insertStatement, collectionRole, rows );
+						MongoHelpers.setValue( insertStatement, collectionRole, getAssociationRows( association, associationKey, associationContext ) );
+					}
+					else if ( delta != null ) {
+						delta.applyTo( ( (MongoDBTupleSnapshot) associationContext.getEntityTuplePointer().getTuple().getSnapshot() ).getDbObject(),
+								collectionRole );
+						if ( deltaStatement == null ) {
+							deltaStatement = new Document();
+						}
+						delta.addToUpdate( deltaStatement, collectionRole );
 					}
 					else {
+						Object toStore = getAssociationRowsToStore( association, associationKey, associationContext );
 						MongoHelpers.setValue( ( (MongoDBTupleSnapshot) associationContext.getEntityTuplePointer().getTuple().getSnapshot() ).getDbObject(),
 								associationKey.getMetadata().getCollectionRole(), toStore );
 						addSetToQuery( updateStatement, collectionRole, toStore );
@@ -1345,8 +1707,15 @@ else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 					MongoDBAssociationSnapshot associationSnapshot = (MongoDBAssociationSnapshot) association.getSnapshot();
 					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy );
 					Document query = associationSnapshot.getQueryObject();
-					Document update = new Document( "$set", new Document( ROWS_FIELDNAME, toStore ) );
-					associationCollection.withWriteConcern( getWriteConcern( associationContext ) ).updateOne( query, update, updateOptions );
+					Document update = new Document();
+					if ( delta != null ) {
+						delta.addToUpdate( update, ROWS_FIELDNAME );
+					}
+					else {
+						update.put( "$set", new Document( ROWS_FIELDNAME, getAssociationRowsToStore( association, associationKey, associationContext ) ) );
+					}
+					getOrCreateBatchWriteTask( writes, associationCollection, null )
+							.addWrite( associationKey, null, new UpdateOneModel<Document>( query, update, updateOptions ), getWriteConcern( associationContext ) );
 				}
 			}
 			else if ( operation instanceof RemoveAssociationOperation ) {
@@ -1371,14 +1740,10 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 					addUnsetToQuery( updateStatement, collectionRole );
 				}
 				else {
-					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy ).withWriteConcern( getWriteConcern( associationContext ) );
+					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy );
 					Document query = associationKeyToObject( associationKey, storageStrategy );
-					DeleteResult result = associationCollection.deleteMany( query );
-					long nAffected = -1;
-					if ( result.wasAcknowledged() ) {
-						nAffected = result.getDeletedCount();
-					}
-					log.removedAssociation( nAffected );
+					getOrCreateBatchWriteTask( writes, associationCollection, null )
+							.addWrite( associationKey, null, new DeleteManyModel<Document>( query ), getWriteConcern( associationContext ) );
 				}
 			}
 			else {
@@ -1386,9 +1751,116 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 			}
 		}
 
+		if ( deltaStatement != null ) {
+			if ( hasConflictingPaths( updateStatement, deltaStatement ) ) {
+				// MongoDB rejects updates modifying a field and one of its parents at the same time
+				getOrCreateBatchWriteTask( writes, collection, entityKey.getMetadata() )
+						.addWrite( entityKey, entityKey, new UpdateOneModel<Document>( prepareIdObject( entityKey ), updateStatement, updateOptions ), writeConcern );
+				updateStatement = deltaStatement;
+			}
+			else {
+				updateStatement.putAll( deltaStatement );
+			}
+		}
+
 		if ( updateStatement != null && !updateStatement.isEmpty() ) {
-			collection. withWriteConcern( writeConcern ).updateOne( prepareIdObject( entityKey ), updateStatement , updateOptions );
+			getOrCreateBatchWriteTask( writes, collection, entityKey.getMetadata() )
+					.addWrite( entityKey, entityKey, new UpdateOneModel<Document>( prepareIdObject( entityKey ), updateStatement, updateOptions ), writeConcern );
+		}
+	}
+
+	/**
+	 * Returns the rows of the given association as stored in the database, i.e. the single row for one-to-one
+	 * associations.
+	 */
+	private static Object getAssociationRowsToStore(Association association, AssociationKey associationKey, AssociationContext associationContext) {
+		Object rows = getAssociationRows( association, associationKey, associationContext );
+		return associationKey.getMetadata().getAssociationType() == AssociationType.ONE_TO_ONE ? ( (List<?>) rows ).get( 0 ) : rows;
+	}
+
+	/**
+	 * Returns the rows added to or removed from the given association if it is a set or bag and it can be updated by
+	 * adding or removing these rows alone, {@code null} if all its rows need to be written again. Indexed lists and
+	 * maps are always written entirely, as are associations which have been cleared or have rows both added and
+	 * removed (these cannot be pushed and pulled within one update). Rows are only removed from sets, whose rows are
+	 * identified by their row key; a bag may contain the same row several times and {@code $pull} would remove all of
+	 * them.
+	 */
+	private static AssociationRowsDelta getAssociationRowsDelta(Association association, AssociationKey key) {
+		AssociationType associationType = key.getMetadata().getAssociationType();
+		if ( associationType != AssociationType.SET && associationType != AssociationType.BAG ) {
+			return null;
+		}
+
+		AssociationSnapshot snapshot = association.getSnapshot();
+		List<Object> added = new ArrayList<>();
+		List<Object> removed = new ArrayList<>();
+
+		for ( AssociationOperation operation : association.getOperations() ) {
+			switch ( operation.getType() ) {
+				case PUT:
+					if ( snapshot.containsKey( operation.getKey() ) ) {
+						// the position of the replaced row is unknown
+						return null;
+					}
+					added.add( getAssociationRow( operation.getValue(), key ) );
+					break;
+				case REMOVE:
+					if ( snapshot.containsKey( operation.getKey() ) ) {
+						if ( associationType == AssociationType.BAG ) {
+							return null;
+						}
+						removed.add( getAssociationRowCriteria( operation.getKey(), key ) );
+					}
+					break;
+				case CLEAR:
+					return null;
+			}
+		}
+
+		if ( added.isEmpty() == removed.isEmpty() ) {
+			return null;
+		}
+
+		return new AssociationRowsDelta( associationType == AssociationType.SET, added, removed );
+	}
+
+	/**
+	 * Returns the value identifying the row with the given key if it is stored as a single value, otherwise criteria
+	 * matching the fields of the row key one by one, as an exact match of the whole row would depend on the order of
+	 * its fields.
+	 */
+	private static Object getAssociationRowCriteria(RowKey rowKey, AssociationKey associationKey) {
+		String[] rowKeyColumnsToPersist = associationKey.getMetadata().getColumnsWithoutKeyColumns( Arrays.asList( rowKey.getColumnNames() ) );
+
+		if ( rowKeyColumnsToPersist.length == 1 ) {
+			return rowKey.getColumnValue( rowKeyColumnsToPersist[0] );
+		}
+
+		String prefix = getColumnSharedPrefixOfAssociatedEntityLink( associationKey );
+
+		Document criteria = new Document();
+		for ( String column : rowKeyColumnsToPersist ) {
+			String columnName = column.startsWith( prefix ) ? column.substring( prefix.length() ) : column;
+			// a null criterion matches the rows where the field has been omitted
+			criteria.put( columnName, rowKey.getColumnValue( column ) );
+		}
+		return criteria;
+	}
+
+	private static boolean hasConflictingPaths(Document updateStatement, Document deltaStatement) {
+		for ( Object deltaFields : deltaStatement.values() ) {
+			for ( String deltaField : ( (Document) deltaFields ).keySet() ) {
+				for ( Object fields : updateStatement.values() ) {
+					for ( String field : ( (Document) fields ).keySet() ) {
+						if ( field.equals( deltaField ) || field.startsWith( deltaField + "." ) || deltaField.startsWith( field + "." ) ) {
+							return true;
+						}
+					}
+				}
+			}
 		}
+		return false;
 	}
 
 	@Override
@@ -1400,40 +1872,59 @@ private static Document getCurrentDocument(MongoDBTupleSnapshot snapshot, Docume
 		return insertStatement != null ? insertStatement : snapshot.getDbObject();
 	}
 
-	private static BatchInsertionTask getOrCreateBatchInsertionTask(Map<MongoCollection<Document>, BatchInsertionTask> inserts, EntityKeyMetadata entityKeyMetadata, MongoCollection<Document> collection, WriteConcern writeConcern) {
-		BatchInsertionTask insertsForCollection = inserts.get( collection );
+	private static BatchWriteTask getOrCreateBatchWriteTask(Map<String, BatchWriteTask> writes, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
+		String collectionName = collection.getNamespace().getCollectionName();
+		BatchWriteTask writesForCollection = writes.get( collectionName );
 
-		if ( insertsForCollection == null ) {
-			insertsForCollection = new BatchInsertionTask( entityKeyMetadata, writeConcern );
-			inserts.put( collection, insertsForCollection );
+		if ( writesForCollection == null ) {
+			writesForCollection = new BatchWriteTask( collection, entityKeyMetadata );
+			writes.put( collectionName, writesForCollection );
 		}
 
-		return insertsForCollection;
+		return writesForCollection;
 	}
 
-	private static void flushInserts(Map<MongoCollection<Document>, BatchInsertionTask> inserts) {
-		for ( Map.Entry<MongoCollection<Document>, BatchInsertionTask> entry : inserts.entrySet() ) {
-			MongoCollection<Document> collection = entry.getKey();
-			if ( entry.getValue().isEmpty() ) {
-				// has been emptied due to subsequent removals before flushes
+	/**
+	 * Sends the writes collected for each collection with a single bulk write.
+	 */
+	private static void flushWrites(Map<String, BatchWriteTask> writes) {
+		for ( BatchWriteTask task : writes.values() ) {
+			List<WriteModel<Document>> writeModels = task.getWriteModels();
+			if ( writeModels.isEmpty() ) {
+				// inserts have been emptied due to subsequent removals before flushes
 				continue;
 			}
 
+			MongoCollection<Document> collection = task.getWriteConcern() != null
+					? task.getCollection().withWriteConcern( task.getWriteConcern() )
+					: task.getCollection();
+
 			try {
-				collection.insertMany( entry.getValue().getAll()  );
-			}
-			catch ( DuplicateKeyException | MongoBulkWriteException dke ) {
-				// This exception is used by MongoDB for all the unique indexes violation, not only the primary key
-				// so we determine if it concerns the primary key by matching on the message
-				if ( PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( dke.getMessage() ).matches() ) {
-					throw new TupleAlreadyExistsException( entry.getValue().getEntityKeyMetadata(), dke );
+				BulkWriteResult result = collection.bulkWrite( writeModels, new BulkWriteOptions().ordered( task.isOrdered() ) );
+				if ( task.hasAssociationRemovals() ) {
+					log.removedAssociation( result.wasAcknowledged() ? result.getDeletedCount() : -1 );
 				}
-				else {
-					throw log.constraintViolationOnFlush( dke.getMessage(), dke );
+			}
+			catch ( MongoBulkWriteException mbwe ) {
+				for ( BulkWriteError error : mbwe.getWriteErrors() ) {
+					if ( ErrorCategory.fromErrorCode( error.getCode() ) == ErrorCategory.DUPLICATE_KEY ) {
+						// This exception is used by MongoDB for all the unique indexes violation, not only the primary key
+						// so we determine if it concerns the primary key by matching on the message
+						if ( PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( error.getMessage() ).matches() ) {
+							EntityKey entityKey = task.getEntityKey( error.getIndex() );
+							throw entityKey != null
+									? new TupleAlreadyExistsException( entityKey, mbwe )
+									: new TupleAlreadyExistsException( task.getEntityKeyMetadata(), mbwe );
+						}
+						else {
+							throw log.constraintViolationOnFlush( mbwe.getMessage(), mbwe );
+						}
+					}
 				}
+				throw mbwe;
 			}
 		}
-		inserts.clear();
+		writes.clear();
 	}
 
 	private static WriteConcern getWriteConcern(TupleContext tupleContext) {
@@ -1507,13 +1998,22 @@ private static ReadPreference getReadPreference(AssociationContext associationCo
 		return associationContext.getAssociationTypeContext().getOptionsContext().getUnique( ReadPreferenceOption.class );
 	}
 
+	/**
+	 * Returns the cursor settings of the given entity type, the global ones if no entity type is given.
+	 */
+	private CursorSettings getCursorSettings(TupleTypeContext tupleTypeContext) {
+		return tupleTypeContext != null
+				? tupleTypeContext.getOptionsContext().getUnique( CursorOptionsOption.class )
+				: provider.getCursorSettings();
+	}
+
 	private static class MongoDBAggregationOutput implements ClosableIterator<Tuple> {
 
 		private final Iterator<Document> results;
 		private final EntityKeyMetadata metadata;
 
-		public MongoDBAggregationOutput(AggregateIterable<Document> output, EntityKeyMetadata metadata) {
-			this.results = output.iterator();
+		public MongoDBAggregationOutput(Iterator<Document> results, EntityKeyMetadata metadata) {
+			this.results = results;
 			this.metadata = metadata;
 		}
 
@@ -1542,16 +2042,20 @@ public void close() {
 	private static class MongoDBTuplesSupplier implements TuplesSupplier {
 
 		private final MongoCollection<Document> collection;
+		private final Document filter;
 		private final EntityKeyMetadata entityKeyMetadata;
+		private final CursorSettings cursorSettings;
 
-		public MongoDBTuplesSupplier(MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
+		public MongoDBTuplesSupplier(MongoCollection<Document> collection, Document filter, EntityKeyMetadata entityKeyMetadata, CursorSettings cursorSettings) {
 			this.collection = collection;
+			this.filter = filter;
 			this.entityKeyMetadata = entityKeyMetadata;
+			this.cursorSettings = cursorSettings;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			return new MongoDBResultsCursor( collection.find().iterator(), entityKeyMetadata );
+			return new MongoDBResultsCursor( cursorSettings.apply( collection.find( filter ) ).iterator(), entityKeyMetadata );
 		}
 	}
 
@@ -1630,48 +2134,194 @@ public void close() {
 		}
 	}
 
-	private static class BatchInsertionTask {
+	/**
+	 * The rows added to a set or bag, written using {@code $addToSet}/{@code $push}, or the rows removed from a set,
+	 * written using {@code $pull}. Removed rows are given by their value if stored as a single value, otherwise by
+	 * criteria on their fields.
+	 */
+	private static class AssociationRowsDelta {
 
-		private final EntityKeyMetadata entityKeyMetadata;
-		private final Map<EntityKey, Document> inserts;
-		private final WriteConcern writeConcern;
+		private final boolean set;
+		private final List<Object> added;
+		private final List<Object> removed;
+
+		AssociationRowsDelta(boolean set, List<Object> added, List<Object> removed) {
+			this.set = set;
+			this.added = added;
+			this.removed = removed;
+		}
 
-		public BatchInsertionTask(EntityKeyMetadata entityKeyMetadata, WriteConcern writeConcern) {
+		void addToUpdate(Document update, String field) {
+			if ( !added.isEmpty() ) {
+				addSubQuery( set ? "$addToSet" : "$push", update, field, new Document( "$each", added ) );
+			}
+			else if ( removed.get( 0 ) instanceof Document ) {
+				addSubQuery( "$pull", update, field, new Document( "$or", removed ) );
+			}
+			else {
+				addSubQuery( "$pull", update, field, new Document( "$in", removed ) );
+			}
+		}
+
+		/**
+		 * Applies the changes to the rows stored in the given (embedding) document.
+		 */
+		@SuppressWarnings("unchecked")
+		void applyTo(Document document, String field) {
+			List<Object> rows = MongoHelpers.getValueOrNull( document, field, List.class );
+			if ( rows == null ) {
+				rows = new ArrayList<>();
+				MongoHelpers.setValue( document, field, rows );
+			}
+			for ( Object row : added ) {
+				if ( !set || !rows.contains( row ) ) {
+					rows.add( row );
+				}
+			}
+			if ( !removed.isEmpty() ) {
+				Iterator<Object> iterator = rows.iterator();
+				while ( iterator.hasNext() ) {
+					if ( isRemoved( iterator.next() ) ) {
+						iterator.remove();
+					}
+				}
+			}
+		}
+
+		private boolean isRemoved(Object row) {
+			for ( Object criteria : removed ) {
+				if ( criteria instanceof Document ? row instanceof Document && matches( (Document) row, (Document) criteria ) : criteria.equals( row ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static boolean matches(Document row, Document criteria) {
+			for ( Entry<String, Object> criterion : criteria.entrySet() ) {
+				Object value = MongoHelpers.getValueOrNull( row, criterion.getKey() );
+				if ( value == null ? criterion.getValue() != null : !value.equals( criterion.getValue() ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * The writes to be sent to one collection with a single bulk write. Inserts are kept by entity key (so they can
+	 * be altered or dropped by subsequent operations) and are written after all the other writes.
+	 * <p>
+	 * The writes are sent unordered, allowing the server to apply them in parallel and to carry on after a failed
+	 * write, unless several of them apply to the same document: an entity or association removed and written again,
+	 * or an entity inserted and then updated within the same flush (its insert is written right before the update
+	 * then).
+	 */
+	private static class BatchWriteTask {
+
+		private final MongoCollection<Document> collection;
+		private final EntityKeyMetadata entityKeyMetadata;
+		private final List<WriteModel<Document>> writes = new ArrayList<WriteModel<Document>>();
+		private final List<EntityKey> writtenEntityKeys = new ArrayList<EntityKey>();
+		private final Map<EntityKey, Document> inserts = new LinkedHashMap<EntityKey, Document>();
+		private final Set<Object> targets = new HashSet<Object>();
+		private boolean ordered;
+		private boolean associationRemovals;
+		private WriteConcern writeConcern;
+
+		public BatchWriteTask(MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
+			this.collection = collection;
 			this.entityKeyMetadata = entityKeyMetadata;
-			this.inserts = new HashMap<EntityKey, Document>();
-			this.writeConcern = writeConcern;
+		}
+
+		public MongoCollection<Document> getCollection() {
+			return collection;
 		}
 
 		public EntityKeyMetadata getEntityKeyMetadata() {
 			return entityKeyMetadata;
 		}
 
-		public List<Document> getAll() {
-			return new ArrayList<Document>( inserts.values() );
+		/**
+		 * Adds a write other than an insert.
+		 *
+		 * @param target identifies the document written, i.e. an entity key or an association key
+		 * @param entityKey the key of the entity written, if any
+		 */
+		public void addWrite(Object target, EntityKey entityKey, WriteModel<Document> write, WriteConcern writeConcern) {
+			Document insert = inserts.remove( target );
+			if ( insert != null ) {
+				// the document must exist before it is written again
+				writes.add( new InsertOneModel<Document>( insert ) );
+				writtenEntityKeys.add( entityKey );
+				targets.add( target );
+			}
+			if ( !targets.add( target ) ) {
+				ordered = true;
+			}
+			if ( entityKey == null && write instanceof DeleteManyModel ) {
+				associationRemovals = true;
+			}
+			writes.add( write );
+			writtenEntityKeys.add( entityKey );
+			this.writeConcern = mergeWriteConcern( this.writeConcern, writeConcern );
 		}
 
-		public Document get(EntityKey entityKey) {
-			return inserts.get( entityKey );
-
-		}
-		public boolean containsKey(EntityKey entityKey) {
+		public boolean containsInsert(EntityKey entityKey) {
 			return inserts.containsKey( entityKey );
 		}
 
-		public Document remove(EntityKey entityKey) {
+		public Document removeInsert(EntityKey entityKey) {
 			return inserts.remove( entityKey );
 		}
 
-		public void put(EntityKey entityKey, Document object) {
+		public void putInsert(EntityKey entityKey, Document object, WriteConcern writeConcern) {
 			inserts.put( entityKey, object );
+			this.writeConcern = mergeWriteConcern( this.writeConcern, writeConcern );
 		}
 
-		public WriteConcern getWriteConcern() {
-			return writeConcern;
+		public List<WriteModel<Document>> getWriteModels() {
+			List<WriteModel<Document>> writeModels = new ArrayList<WriteModel<Document>>( writes.size() + inserts.size() );
+			writeModels.addAll( writes );
+			for ( Entry<EntityKey, Document> insert : inserts.entrySet() ) {
+				if ( targets.contains( insert.getKey() ) ) {
+					// e.g. an entity removed and persisted again with the same id
+					ordered = true;
+				}
+				writeModels.add( new InsertOneModel<Document>( insert.getValue() ) );
+			}
+			return writeModels;
 		}
 
-		public boolean isEmpty() {
-			return inserts.isEmpty();
+		/**
+		 * Returns the key of the entity written by the write at the given index of the bulk write, if any.
+		 */
+		public EntityKey getEntityKey(int index) {
+			if ( index < writtenEntityKeys.size() ) {
+				return writtenEntityKeys.get( index );
+			}
+			int insertIndex = index - writtenEntityKeys.size();
+			for ( EntityKey entityKey : inserts.keySet() ) {
+				if ( insertIndex-- == 0 ) {
+					return entityKey;
+				}
+			}
+			return null;
+		}
+
+		public boolean isOrdered() {
+			return ordered;
+		}
+
+		/**
+		 * Whether association documents are removed by this bulk write.
+		 */
+		public boolean hasAssociationRemovals() {
+			return associationRemovals;
+		}
+
+		public WriteConcern getWriteConcern() {
+			return writeConcern;
 		}
 	}
 }
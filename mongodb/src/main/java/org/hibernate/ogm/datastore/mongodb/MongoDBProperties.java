@@ -85,6 +85,33 @@ public final class MongoDBProperties implements DocumentStoreProperties {
 	 */
 	public static final String MONGO_DRIVER_SETTINGS_PREFIX = "hibernate.ogm.mongodb.driver";
 
+	/**
+	 * The maximum number of ids looked up by a single query when loading several entities at once, e.g. when batch
+	 * fetching. Larger batches of ids are split into several queries. A value of 0 or less disables the splitting.
+	 * Defaults to 1000.
+	 */
+	public static final String MULTIGET_CHUNK_SIZE = "hibernate.ogm.mongodb.multiget_chunk_size";
+
+	/**
+	 * The number of threads used to run the queries of a batch of ids split as per {@link #MULTIGET_CHUNK_SIZE}
+	 * concurrently. Defaults to 0, in which case these queries are run one after the other on the calling thread.
+	 */
+	public static final String MULTIGET_THREADS = "hibernate.ogm.mongodb.multiget_threads";
+
+	/**
+	 * Whether the documents of the entities loaded by id should be decoded lazily, one field at a time upon first
+	 * access, rather than entirely when retrieved. Beneficial for wide documents, e.g. with large embedded collections,
+	 * of which only a few fields are read. Defaults to {@code false}.
+	 */
+	public static final String LAZY_DOCUMENT_DECODING = "hibernate.ogm.mongodb.lazy_document_decoding";
+
+	/**
+	 * Whether entities should be evicted from the second-level cache when their documents are changed by other
+	 * clients, e.g. other applications or scripts. The changes are read from the oplog, which requires MongoDB to run
+	 * as a replica set. Only applies if the second-level cache is enabled. Defaults to {@code false}.
+	 */
+	public static final String OPLOG_CACHE_INVALIDATION = "hibernate.ogm.mongodb.oplog_cache_invalidation";
+
 	private MongoDBProperties() {
 	}
 }
@@ -19,6 +19,8 @@
 import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.mongodb.options.AuthenticationMechanismType;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorOptionsOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorSettings;
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
 import org.hibernate.ogm.options.spi.OptionsContext;
@@ -40,6 +42,7 @@ public class MongoDBConfiguration extends DocumentStoreConfiguration {
 
 	public static final String DEFAULT_ASSOCIATION_STORE = "Associations";
 	public static final String DEFAULT_AUTHENTICATION_DATABASE = "admin";
+	public static final int DEFAULT_MULTIGET_CHUNK_SIZE = 1000;
 
 	private static final int DEFAULT_PORT = 27017;
 	private static final Log log = LoggerFactory.getLogger();
@@ -49,6 +52,11 @@ public class MongoDBConfiguration extends DocumentStoreConfiguration {
 	private final AuthenticationMechanismType authenticationMechanism;
 	private final ConfigurationPropertyReader propertyReader;
 	private final String authenticationDatabaseName;
+	private final int multigetChunkSize;
+	private final int multigetThreads;
+	private final boolean lazyDocumentDecoding;
+	private final boolean oplogCacheInvalidation;
+	private final CursorSettings cursorSettings;
 
 	/**
 	 * Creates a new {@link MongoDBConfiguration}.
@@ -66,8 +74,21 @@ public MongoDBConfiguration(ConfigurationPropertyReader propertyReader, OptionsC
 		this.authenticationDatabaseName = propertyReader.property( MongoDBProperties.AUTHENTICATION_DATABASE, String.class )
 				.withDefault( DEFAULT_AUTHENTICATION_DATABASE )
 				.getValue();
+		this.multigetChunkSize = propertyReader.property( MongoDBProperties.MULTIGET_CHUNK_SIZE, int.class )
+				.withDefault( DEFAULT_MULTIGET_CHUNK_SIZE )
+				.getValue();
+		this.multigetThreads = propertyReader.property( MongoDBProperties.MULTIGET_THREADS, int.class )
+				.withDefault( 0 )
+				.getValue();
+		this.lazyDocumentDecoding = propertyReader.property( MongoDBProperties.LAZY_DOCUMENT_DECODING, boolean.class )
+				.withDefault( false )
+				.getValue();
+		this.oplogCacheInvalidation = propertyReader.property( MongoDBProperties.OPLOG_CACHE_INVALIDATION, boolean.class )
+				.withDefault( false )
+				.getValue();
 		this.writeConcern = globalOptions.getUnique( WriteConcernOption.class );
 		this.readPreference = globalOptions.getUnique( ReadPreferenceOption.class );
+		this.cursorSettings = globalOptions.getUnique( CursorOptionsOption.class );
 	}
 
 	/**
@@ -138,6 +159,42 @@ private String getAuthenticationDatabaseName() {
 		return authenticationDatabaseName;
 	}
 
+	/**
+	 * @return the maximum number of ids looked up by a single query when loading several entities at once
+	 */
+	public int getMultigetChunkSize() {
+		return multigetChunkSize;
+	}
+
+	/**
+	 * @return the number of threads running the queries of a chunked multi-get concurrently, 0 if they are run on the
+	 * calling thread
+	 */
+	public int getMultigetThreads() {
+		return multigetThreads;
+	}
+
+	/**
+	 * @return whether the documents of entities loaded by id are decoded lazily
+	 */
+	public boolean isLazyDocumentDecoding() {
+		return lazyDocumentDecoding;
+	}
+
+	/**
+	 * @return whether entities changed by other clients are evicted from the second-level cache
+	 */
+	public boolean isOplogCacheInvalidation() {
+		return oplogCacheInvalidation;
+	}
+
+	/**
+	 * @return the settings of the cursors used for reading documents not related to a specific entity type
+	 */
+	public CursorSettings getCursorSettings() {
+		return cursorSettings;
+	}
+
 	public List<MongoCredential> buildCredentials() {
 		if ( getUsername() != null ) {
 			return Collections.singletonList(
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.mongodb.dialect.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -13,11 +15,23 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.TupleSnapshot;
 
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
 
 
 /**
  * A {@link TupleSnapshot} based on a {@link Document} retrieved from MongoDB.
+ * <p>
+ * The snapshot may also be based on the {@link RawBsonDocument} retrieved from MongoDB, in which case each top-level
+ * field is only decoded when first accessed. The whole document is decoded once {@link #getDbObject()} is called, e.g.
+ * when updating it.
  *
  * @author Guillaume Scheibel &lt;guillaume.scheibel@gmail.com&gt;
  * @author Christopher Auston
@@ -27,26 +41,68 @@ public class MongoDBTupleSnapshot implements TupleSnapshot {
 
 	public static final Pattern EMBEDDED_FIELDNAME_SEPARATOR = Pattern.compile( "\\." );
 
-	private final Document dbObject;
+	private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+	private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
 	private final EntityKeyMetadata keyMetadata;
 
+	private Document dbObject;
+
+	// The raw document as long as it has not been decoded entirely, the fields decoded from it so far and its field names
+	private RawBsonDocument rawDocument;
+	private Document decodedFields;
+	private Set<String> rawFieldNames;
+
 	public MongoDBTupleSnapshot(Document dbObject, EntityKeyMetadata meta) {
 		this.dbObject = dbObject;
 		this.keyMetadata = meta;
 	}
 
+	private MongoDBTupleSnapshot(RawBsonDocument rawDocument, EntityKeyMetadata meta) {
+		this.rawDocument = rawDocument;
+		this.decodedFields = new Document();
+		this.keyMetadata = meta;
+	}
+
+	/**
+	 * Returns a snapshot decoding the fields of the given raw document upon first access.
+	 */
+	public static MongoDBTupleSnapshot fromRawDocument(RawBsonDocument rawDocument, EntityKeyMetadata meta) {
+		return new MongoDBTupleSnapshot( rawDocument, meta );
+	}
+
 	public Document getDbObject() {
+		if ( dbObject == null ) {
+			dbObject = rawDocument.decode( DOCUMENT_CODEC );
+			rawDocument = null;
+			decodedFields = null;
+			rawFieldNames = null;
+		}
 		return dbObject;
 	}
 
+	/**
+	 * Returns the value of the {@code _id} field of the underlying document.
+	 */
+	public Object getDocumentId() {
+		return getField( MongoDBDialect.ID_FIELDNAME );
+	}
+
 	@Override
 	public Set<String> getColumnNames() {
-		return dbObject.keySet();
+		if ( dbObject != null ) {
+			return dbObject.keySet();
+		}
+		// RawBsonDocument#keySet() decodes the whole document upon each invocation
+		if ( rawFieldNames == null ) {
+			rawFieldNames = readFieldNames( rawDocument );
+		}
+		return rawFieldNames;
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return dbObject.keySet().isEmpty();
+		return dbObject != null ? dbObject.isEmpty() : getColumnNames().isEmpty();
 	}
 
 	public boolean isKeyColumn(String column) {
@@ -55,11 +111,11 @@ public boolean isKeyColumn(String column) {
 
 	@Override
 	public Object get(String column) {
-		return isKeyColumn( column ) ? getKeyColumnValue( column ) : getValue( dbObject, column );
+		return isKeyColumn( column ) ? getKeyColumnValue( column ) : getValue( getDecodedFields( column ), column );
 	}
 
 	private Object getKeyColumnValue(String column) {
-		Object idField = dbObject.get( MongoDBDialect.ID_FIELDNAME );
+		Object idField = getDocumentId();
 
 		// single-column key will be stored as is
 		if ( keyMetadata.getColumnNames().length == 1 ) {
@@ -84,4 +140,54 @@ private Object getValue(Document dbObject, String column) {
 		Object valueOrNull = MongoHelpers.getValueOrNull( dbObject, column );
 		return valueOrNull;
 	}
+
+	private Object getField(String field) {
+		return getDecodedFields( field ).get( field );
+	}
+
+	/**
+	 * Returns a document containing at least the top-level field of the given column in its decoded form.
+	 */
+	private Document getDecodedFields(String column) {
+		if ( dbObject != null ) {
+			return dbObject;
+		}
+
+		int separatorIndex = column.indexOf( MongoDBDialect.PROPERTY_SEPARATOR );
+		String field = separatorIndex < 0 ? column : column.substring( 0, separatorIndex );
+		if ( !decodedFields.containsKey( field ) ) {
+			decodedFields.put( field, decode( field, rawDocument.get( field ) ) );
+		}
+		return decodedFields;
+	}
+
+	/**
+	 * Reads the names of the top-level fields of the given document, skipping their values.
+	 */
+	private static Set<String> readFieldNames(RawBsonDocument document) {
+		Set<String> fieldNames = new LinkedHashSet<String>();
+		BsonBinaryReader reader = new BsonBinaryReader( document.getByteBuffer().asNIO() );
+		try {
+			reader.readStartDocument();
+			while ( reader.readBsonType() != BsonType.END_OF_DOCUMENT ) {
+				fieldNames.add( reader.readName() );
+				reader.skipValue();
+			}
+			reader.readEndDocument();
+		}
+		finally {
+			reader.close();
+		}
+		return Collections.unmodifiableSet( fieldNames );
+	}
+
+	private static Object decode(String field, BsonValue value) {
+		if ( value == null ) {
+			return null;
+		}
+
+		// decoding a document made of the single field, so the value is converted as when decoding the whole document
+		Document decoded = DOCUMENT_CODEC.decode( new BsonDocumentReader( new BsonDocument( field, value ) ), DECODER_CONTEXT );
+		return decoded.get( field );
+	}
 }
@@ -9,6 +9,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import com.mongodb.MongoClient;
 import com.mongodb.MongoClientOptions;
@@ -19,15 +20,18 @@
 import com.mongodb.client.MongoDatabase;
 
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.ogm.cfg.spi.Hosts;
 import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
 import org.hibernate.ogm.datastore.mongodb.configuration.impl.MongoDBConfiguration;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorSettings;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBBasedQueryParserService;
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.SchemaDefiner;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.massindex.impl.Executors;
 import org.hibernate.ogm.options.spi.OptionsService;
 import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
@@ -52,6 +56,8 @@ public class MongoDBDatastoreProvider extends BaseDatastoreProvider implements S
 	private MongoClient mongo;
 	private MongoDatabase mongoDb;
 	private MongoDBConfiguration config;
+	private ExecutorService multigetExecutor;
+	private OplogCacheInvalidator cacheInvalidator;
 
 	public MongoDBDatastoreProvider() {
 	}
@@ -113,6 +119,9 @@ public void start() {
 				mongo = createMongoClient( config );
 			}
 			mongoDb = extractDatabase( mongo, config );
+			if ( config.getMultigetThreads() > 0 ) {
+				multigetExecutor = Executors.newFixedThreadPool( config.getMultigetThreads(), "MongoDB multiget" );
+			}
 		}
 		catch (Exception e) {
 			// Wrap Exception in a ServiceException to make the stack trace more friendly
@@ -141,6 +150,12 @@ protected MongoClient createMongoClient(MongoDBConfiguration config) {
 
 	@Override
 	public void stop() {
+		if ( cacheInvalidator != null ) {
+			cacheInvalidator.stop();
+		}
+		if ( multigetExecutor != null ) {
+			multigetExecutor.shutdownNow();
+		}
 		log.disconnectingFromMongo();
 		mongo.close();
 	}
@@ -149,6 +164,38 @@ public MongoDatabase getDatabase() {
 		return mongoDb;
 	}
 
+	public boolean isLazyDocumentDecoding() {
+		return config.isLazyDocumentDecoding();
+	}
+
+	/**
+	 * Starts evicting the entities changed by other clients from the second-level cache of the given session factory,
+	 * if enabled.
+	 *
+	 * @see org.hibernate.ogm.datastore.mongodb.MongoDBProperties#OPLOG_CACHE_INVALIDATION
+	 */
+	public void startCacheInvalidation(SessionFactoryImplementor sessionFactory) {
+		if ( config.isOplogCacheInvalidation() && sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled() ) {
+			cacheInvalidator = OplogCacheInvalidator.start( sessionFactory, mongo, config.getDatabaseName() );
+		}
+	}
+
+	public CursorSettings getCursorSettings() {
+		return config.getCursorSettings();
+	}
+
+	public int getMultigetChunkSize() {
+		return config.getMultigetChunkSize();
+	}
+
+	/**
+	 * @return the executor running the queries of a chunked multi-get concurrently, {@code null} if they are to be
+	 * run on the calling thread
+	 */
+	public ExecutorService getMultigetExecutor() {
+		return multigetExecutor;
+	}
+
 	private MongoDatabase extractDatabase(MongoClient mongo, MongoDBConfiguration config) {
 		try {
 			String databaseName = config.getDatabaseName();
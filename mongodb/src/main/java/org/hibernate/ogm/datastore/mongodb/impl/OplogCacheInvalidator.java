@@ -0,0 +1,271 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.impl;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.in;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot;
+import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
+import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
+import org.hibernate.ogm.massindex.impl.Executors;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import com.mongodb.CursorType;
+import com.mongodb.MongoClient;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+
+/**
+ * Evicts entities from the second-level cache when their documents are changed by other clients.
+ * <p>
+ * The oplog of the replica set is tailed for the changes to the collections of the cached entity types, starting with
+ * the last entry present when the invalidator is started. The ids of the inserted, updated and removed documents are
+ * converted into entity ids and the corresponding entries are evicted from the cache. Changes done through the session
+ * factory itself are evicted as well, as they cannot be told apart from the others.
+ * <p>
+ * Driver versions before 3.6 don't support change streams, which are based on the oplog as well.
+ */
+public class OplogCacheInvalidator {
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	private static final String OPLOG_DATABASE = "local";
+	private static final String OPLOG_COLLECTION = "oplog.rs";
+
+	private static final long RETRY_DELAY_MS = 1000;
+
+	/**
+	 * The maximum number of entries evicted with one session; a new session is opened for the following entries.
+	 */
+	private static final int MAX_ENTRIES_PER_SESSION = 1000;
+
+	private final SessionFactoryImplementor factory;
+	private final MongoCollection<Document> oplog;
+
+	/**
+	 * The persisters of the cached entity types by namespace ({@code <database>.<collection>}) of their documents.
+	 */
+	private final Map<String, List<OgmEntityPersister>> persistersByNamespace;
+
+	private ExecutorService executor;
+	private volatile boolean running;
+
+	OplogCacheInvalidator(SessionFactoryImplementor factory, MongoCollection<Document> oplog, Map<String, List<OgmEntityPersister>> persistersByNamespace) {
+		this.factory = factory;
+		this.oplog = oplog;
+		this.persistersByNamespace = persistersByNamespace;
+	}
+
+	/**
+	 * Starts the eviction of the entities of the given session factory changed in the given database.
+	 *
+	 * @return the started invalidator, {@code null} if no entity type is cached or there is no oplog to tail
+	 */
+	public static OplogCacheInvalidator start(SessionFactoryImplementor factory, MongoClient client, String databaseName) {
+		Map<String, List<OgmEntityPersister>> persistersByNamespace = new HashMap<String, List<OgmEntityPersister>>();
+		for ( EntityPersister persister : factory.getEntityPersisters().values() ) {
+			if ( persister.hasCache() ) {
+				OgmEntityPersister ogmPersister = (OgmEntityPersister) persister;
+				String namespace = databaseName + "." + ogmPersister.getEntityKeyMetadata().getTable();
+				List<OgmEntityPersister> persisters = persistersByNamespace.get( namespace );
+				if ( persisters == null ) {
+					persisters = new ArrayList<OgmEntityPersister>();
+					persistersByNamespace.put( namespace, persisters );
+				}
+				persisters.add( ogmPersister );
+			}
+		}
+
+		if ( persistersByNamespace.isEmpty() ) {
+			return null;
+		}
+
+		MongoCollection<Document> oplog = client.getDatabase( OPLOG_DATABASE ).getCollection( OPLOG_COLLECTION );
+		OplogCacheInvalidator invalidator = new OplogCacheInvalidator( factory, oplog, persistersByNamespace );
+		BsonTimestamp lastTimestamp = invalidator.getLastTimestamp();
+		if ( lastTimestamp == null ) {
+			log.oplogNotFound();
+			return null;
+		}
+
+		log.startingOplogCacheInvalidation( persistersByNamespace.keySet() );
+		invalidator.start( lastTimestamp );
+		return invalidator;
+	}
+
+	private void start(final BsonTimestamp lastTimestamp) {
+		running = true;
+		executor = Executors.newFixedThreadPool( 1, "MongoDB oplog cache invalidation" );
+		executor.submit( new Runnable() {
+
+			@Override
+			public void run() {
+				tailUntilStopped( lastTimestamp );
+			}
+		} );
+	}
+
+	public void stop() {
+		running = false;
+		if ( executor != null ) {
+			executor.shutdownNow();
+		}
+	}
+
+	private BsonTimestamp getLastTimestamp() {
+		Document lastEntry = oplog.find().sort( new Document( "$natural", -1 ) ).limit( 1 ).first();
+		return lastEntry != null ? (BsonTimestamp) lastEntry.get( "ts" ) : null;
+	}
+
+	private void tailUntilStopped(BsonTimestamp lastTimestamp) {
+		while ( running ) {
+			try {
+				lastTimestamp = tail( lastTimestamp );
+				if ( !running ) {
+					break;
+				}
+			}
+			catch (MongoException e) {
+				if ( !running ) {
+					break;
+				}
+				log.unableToReadOplog( e );
+			}
+
+			// the cursor is dead or failed, re-tail after a while
+			try {
+				TimeUnit.MILLISECONDS.sleep( RETRY_DELAY_MS );
+			}
+			catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Reads the oplog entries following the given timestamp until stopped or until the cursor is closed by the server.
+	 * <p>
+	 * A session is only needed for converting the ids of the changed documents; it is opened for each run of entries
+	 * read without waiting in between, so no session stays open while there are no changes.
+	 *
+	 * @return the timestamp of the last entry read
+	 */
+	private BsonTimestamp tail(BsonTimestamp lastTimestamp) {
+		MongoCursor<Document> cursor = oplog.find( and( gt( "ts", lastTimestamp ), in( "ns", persistersByNamespace.keySet() ) ) )
+				.cursorType( CursorType.TailableAwait )
+				.oplogReplay( true )
+				.noCursorTimeout( true )
+				.iterator();
+
+		Session session = null;
+		int evictedEntries = 0;
+		try {
+			while ( running && !Thread.currentThread().isInterrupted() ) {
+				// returns after a while if there is no new entry, so the running flag is checked regularly
+				Document entry = cursor.tryNext();
+				if ( entry != null ) {
+					if ( session == null ) {
+						session = factory.openSession();
+					}
+					lastTimestamp = (BsonTimestamp) entry.get( "ts" );
+					evict( entry, (SessionImplementor) session );
+
+					if ( ++evictedEntries == MAX_ENTRIES_PER_SESSION ) {
+						session = close( session );
+						evictedEntries = 0;
+					}
+				}
+				else {
+					session = close( session );
+					evictedEntries = 0;
+
+					// a dead cursor never returns an entry, e.g. if no entry matched when it was opened
+					if ( cursor.getServerCursor() == null ) {
+						log.oplogCursorClosed();
+						return lastTimestamp;
+					}
+				}
+			}
+		}
+		finally {
+			close( session );
+			cursor.close();
+		}
+
+		// stopped or interrupted
+		running = false;
+		return lastTimestamp;
+	}
+
+	private static Session close(Session session) {
+		if ( session != null ) {
+			session.close();
+		}
+		return null;
+	}
+
+	void evict(Document entry, SessionImplementor session) {
+		Object documentId = getDocumentId( entry );
+		if ( documentId == null ) {
+			return;
+		}
+
+		for ( OgmEntityPersister persister : persistersByNamespace.get( entry.getString( "ns" ) ) ) {
+			Document idDocument = new Document( MongoDBDialect.ID_FIELDNAME, documentId );
+			Tuple idTuple = new Tuple( new MongoDBTupleSnapshot( idDocument, persister.getEntityKeyMetadata() ), SnapshotType.UPDATE );
+			try {
+				Serializable id = (Serializable) persister.getGridIdentifierType().nullSafeGet( idTuple, persister.getIdentifierColumnNames(), session, null );
+				factory.getCache().evictEntity( persister.getEntityName(), id );
+			}
+			catch (RuntimeException e) {
+				// the document id doesn't match the mapping of the entity id, to be on the safe side
+				factory.getCache().evictEntityRegion( persister.getEntityName() );
+			}
+		}
+	}
+
+	/**
+	 * Returns the id of the document changed as per the given oplog entry, {@code null} if it is not an insert, update
+	 * or removal of a document.
+	 */
+	static Object getDocumentId(Document entry) {
+		String operation = entry.getString( "op" );
+		Document document;
+		if ( "i".equals( operation ) || "d".equals( operation ) ) {
+			document = (Document) entry.get( "o" );
+		}
+		else if ( "u".equals( operation ) ) {
+			document = (Document) entry.get( "o2" );
+		}
+		else {
+			return null;
+		}
+
+		return document != null ? document.get( MongoDBDialect.ID_FIELDNAME ) : null;
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.mongodb.logging.impl;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.TRACE;
@@ -131,4 +132,32 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@Message(id = 1236, value = "The options for index %2$s of collection %1$s are not a valid JSON object.")
 	HibernateException invalidOptionsFormatForIndex(String collection, String indexName, @Cause Exception e);
 
+	@Message(id = 1237, value = "Interrupted while waiting for the chunks of a multi-get to be loaded")
+	HibernateException interruptedDuringMultiget(@Cause InterruptedException e);
+
+	@Message(id = 1238, value = "The column '%s' is selected, used for ordering or in the HAVING clause of a query with aggregation functions, but it is not part of the GROUP BY clause")
+	HibernateException propertyNotInGroupByClause(String column);
+
+	@LogMessage(level = WARN)
+	@Message(id = 1239, value = "Second-level cache invalidation is enabled but no oplog could be found, it requires MongoDB to run as a replica set. Entities changed by other clients will not be evicted from the cache.")
+	void oplogNotFound();
+
+	@LogMessage(level = WARN)
+	@Message(id = 1240, value = "Unable to read the oplog for invalidating the second-level cache, retrying")
+	void unableToReadOplog(@Cause Exception e);
+
+	@LogMessage(level = INFO)
+	@Message(id = 1241, value = "Evicting entities changed by other clients from the second-level cache, for collections %s")
+	void startingOplogCacheInvalidation(Iterable<String> collections);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 1242, value = "The cursor tailing the oplog has been closed by the server, tailing it again")
+	void oplogCursorClosed();
+
+	@Message(id = 1243, value = "The aggregation function %2$s cannot be applied to the property '%1$s': its numeric values are stored as strings in MongoDB")
+	HibernateException aggregationOfStringMappedNumber(String property, String aggregation);
+
+	@Message(id = 1244, value = "COUNT(DISTINCT %s) is only supported in the SELECT clause, not in the HAVING or ORDER BY clause of a query")
+	HibernateException countDistinctOutsideSelectClause(String property);
+
 }
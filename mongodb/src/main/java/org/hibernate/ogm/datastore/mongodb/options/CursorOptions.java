@@ -0,0 +1,59 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.options;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorOptionsConverter;
+import org.hibernate.ogm.options.spi.MappingOption;
+
+/**
+ * Specifies the options of the cursors used when reading the documents of the annotated entity, be it by means of
+ * queries or when iterating over all the entities, e.g. for mass indexing.
+ * <p>
+ * The batch size and maximum execution time given for a query via {@code Query#setFetchSize()} and
+ * {@code Query#setTimeout()} take precedence over the ones given here.
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@MappingOption(CursorOptionsConverter.class)
+public @interface CursorOptions {
+
+	/**
+	 * The number of documents to be returned per round trip; 0 to use the server default, i.e. 101 documents for the
+	 * first batch and 16 MB for the following ones.
+	 *
+	 * @return the batch size of the cursors
+	 */
+	int batchSize() default 0;
+
+	/**
+	 * The maximum execution time in milliseconds of the queries; 0 for no limit.
+	 *
+	 * @return the maximum execution time of the queries
+	 */
+	long maxTimeMS() default 0;
+
+	/**
+	 * Whether the server should keep the cursors open when they are idle, e.g. during long-running iterations over all
+	 * entities; by default idle cursors are closed after 10 minutes.
+	 *
+	 * @return whether the cursors never time out
+	 */
+	boolean noCursorTimeout() default false;
+
+	/**
+	 * Whether the stages of aggregation pipelines may write temporary files when exceeding their memory limit.
+	 *
+	 * @return whether aggregation pipelines may use the disk
+	 */
+	boolean allowDiskUse() default false;
+}
@@ -0,0 +1,23 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.options.impl;
+
+import org.hibernate.ogm.datastore.mongodb.options.CursorOptions;
+import org.hibernate.ogm.options.spi.AnnotationConverter;
+import org.hibernate.ogm.options.spi.OptionValuePair;
+
+/**
+ * Converts {@link CursorOptions} instances into an equivalent option value pair.
+ */
+public class CursorOptionsConverter implements AnnotationConverter<CursorOptions> {
+
+	@Override
+	public OptionValuePair<?> convert(CursorOptions annotation) {
+		CursorSettings settings = new CursorSettings( annotation.batchSize(), annotation.maxTimeMS(), annotation.noCursorTimeout(), annotation.allowDiskUse() );
+		return OptionValuePair.getInstance( new CursorOptionsOption(), settings );
+	}
+}
@@ -0,0 +1,23 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.options.impl;
+
+import org.hibernate.ogm.options.spi.UniqueOption;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+
+/**
+ * Option for specifying the settings of the cursors used to read documents.
+ *
+ * @see org.hibernate.ogm.datastore.mongodb.options.CursorOptions
+ */
+public class CursorOptionsOption extends UniqueOption<CursorSettings> {
+
+	@Override
+	public CursorSettings getDefaultValue(ConfigurationPropertyReader propertyReader) {
+		return CursorSettings.DEFAULT;
+	}
+}
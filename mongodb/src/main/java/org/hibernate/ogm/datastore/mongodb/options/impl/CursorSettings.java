@@ -0,0 +1,102 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.options.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.ogm.dialect.query.spi.RowSelection;
+
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.FindIterable;
+
+/**
+ * The settings of the cursors used to read documents, as given via {@link CursorOptionsOption}. Zero values stand for
+ * the driver or server defaults.
+ */
+public final class CursorSettings {
+
+	/**
+	 * Settings applying the driver and server defaults.
+	 */
+	public static final CursorSettings DEFAULT = new CursorSettings( 0, 0, false, false );
+
+	private final int batchSize;
+	private final long maxTimeMS;
+	private final boolean noCursorTimeout;
+	private final boolean allowDiskUse;
+
+	public CursorSettings(int batchSize, long maxTimeMS, boolean noCursorTimeout, boolean allowDiskUse) {
+		this.batchSize = batchSize;
+		this.maxTimeMS = maxTimeMS;
+		this.noCursorTimeout = noCursorTimeout;
+		this.allowDiskUse = allowDiskUse;
+	}
+
+	/**
+	 * Returns these settings overridden by the fetch size and timeout of the given row selection, if set.
+	 */
+	public CursorSettings withRowSelection(RowSelection rowSelection) {
+		Integer fetchSize = rowSelection.getFetchSize();
+		Integer timeout = rowSelection.getTimeout();
+		if ( ( fetchSize == null || fetchSize <= 0 ) && ( timeout == null || timeout <= 0 ) ) {
+			return this;
+		}
+
+		return new CursorSettings(
+				fetchSize != null && fetchSize > 0 ? fetchSize : batchSize,
+				timeout != null && timeout > 0 ? TimeUnit.SECONDS.toMillis( timeout ) : maxTimeMS,
+				noCursorTimeout,
+				allowDiskUse );
+	}
+
+	public <T> FindIterable<T> apply(FindIterable<T> find) {
+		if ( batchSize > 0 ) {
+			find.batchSize( batchSize );
+		}
+		if ( maxTimeMS > 0 ) {
+			find.maxTime( maxTimeMS, TimeUnit.MILLISECONDS );
+		}
+		if ( noCursorTimeout ) {
+			find.noCursorTimeout( true );
+		}
+		return find;
+	}
+
+	public <T> AggregateIterable<T> apply(AggregateIterable<T> aggregate) {
+		if ( batchSize > 0 ) {
+			aggregate.batchSize( batchSize );
+		}
+		if ( maxTimeMS > 0 ) {
+			aggregate.maxTime( maxTimeMS, TimeUnit.MILLISECONDS );
+		}
+		if ( allowDiskUse ) {
+			aggregate.allowDiskUse( true );
+		}
+		return aggregate;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public long getMaxTimeMS() {
+		return maxTimeMS;
+	}
+
+	public boolean isNoCursorTimeout() {
+		return noCursorTimeout;
+	}
+
+	public boolean isAllowDiskUse() {
+		return allowDiskUse;
+	}
+
+	@Override
+	public String toString() {
+		return "CursorSettings [batchSize=" + batchSize + ", maxTimeMS=" + maxTimeMS + ", noCursorTimeout=" + noCursorTimeout + ", allowDiskUse=" + allowDiskUse + "]";
+	}
+}
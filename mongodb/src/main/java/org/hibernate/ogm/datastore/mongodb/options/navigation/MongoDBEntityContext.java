@@ -58,4 +58,17 @@ public interface MongoDBEntityContext extends DocumentStoreEntityContext<MongoDB
 	 * @return this context, allowing for further fluent API invocations
 	 */
 	MongoDBEntityContext associationDocumentStorage(AssociationDocumentStorageType associationDocumentStorage);
+
+	/**
+	 * Specifies the settings of the cursors used when reading the documents of the current entity, be it by means of
+	 * queries or when iterating over all the entities, e.g. for mass indexing.
+	 *
+	 * @param batchSize the number of documents returned per round trip, 0 for the server default
+	 * @param maxTimeMS the maximum execution time of the queries in milliseconds, 0 for no limit
+	 * @param noCursorTimeout whether the server should keep idle cursors open
+	 * @param allowDiskUse whether aggregation pipelines may write temporary files when exceeding their memory limit
+	 * @return this context, allowing for further fluent API invocations
+	 * @see org.hibernate.ogm.datastore.mongodb.options.CursorOptions
+	 */
+	MongoDBEntityContext cursorOptions(int batchSize, long maxTimeMS, boolean noCursorTimeout, boolean allowDiskUse);
 }
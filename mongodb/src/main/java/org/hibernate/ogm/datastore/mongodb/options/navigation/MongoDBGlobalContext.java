@@ -59,4 +59,17 @@ public interface MongoDBGlobalContext extends DocumentStoreGlobalContext<MongoDB
 	 * @return this context, allowing for further fluent API invocations
 	 */
 	MongoDBGlobalContext associationDocumentStorage(AssociationDocumentStorageType associationDocumentStorage);
+
+	/**
+	 * Specifies the settings of the cursors used when reading the documents of all entities, unless configured on the entity level, be it by means of
+	 * queries or when iterating over all the entities, e.g. for mass indexing.
+	 *
+	 * @param batchSize the number of documents returned per round trip, 0 for the server default
+	 * @param maxTimeMS the maximum execution time of the queries in milliseconds, 0 for no limit
+	 * @param noCursorTimeout whether the server should keep idle cursors open
+	 * @param allowDiskUse whether aggregation pipelines may write temporary files when exceeding their memory limit
+	 * @return this context, allowing for further fluent API invocations
+	 * @see org.hibernate.ogm.datastore.mongodb.options.CursorOptions
+	 */
+	MongoDBGlobalContext cursorOptions(int batchSize, long maxTimeMS, boolean noCursorTimeout, boolean allowDiskUse);
 }
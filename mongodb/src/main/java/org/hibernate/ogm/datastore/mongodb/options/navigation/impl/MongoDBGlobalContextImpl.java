@@ -11,6 +11,8 @@
 import org.hibernate.ogm.datastore.mongodb.options.ReadPreferenceType;
 import org.hibernate.ogm.datastore.mongodb.options.WriteConcernType;
 import org.hibernate.ogm.datastore.mongodb.options.impl.AssociationDocumentStorageOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorOptionsOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorSettings;
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
 import org.hibernate.ogm.datastore.mongodb.options.navigation.MongoDBEntityContext;
@@ -60,4 +62,10 @@ public MongoDBGlobalContext associationDocumentStorage(AssociationDocumentStorag
 		addGlobalOption( new AssociationDocumentStorageOption(), associationDocumentStorage );
 		return this;
 	}
+
+	@Override
+	public MongoDBGlobalContext cursorOptions(int batchSize, long maxTimeMS, boolean noCursorTimeout, boolean allowDiskUse) {
+		addGlobalOption( new CursorOptionsOption(), new CursorSettings( batchSize, maxTimeMS, noCursorTimeout, allowDiskUse ) );
+		return this;
+	}
 }
@@ -12,8 +12,17 @@
 import static org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor.Operation.UPDATE;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
 
 import org.bson.Document;
 import com.mongodb.client.model.Collation;
@@ -88,6 +97,18 @@ public enum Operation {
 	private final List<String> unwinds;
 	private final List<Document> pipeline;
 
+	/**
+	 * The single result of an aggregation without grouping key, if the pipeline produces no document.
+	 */
+	private final Document defaultResult;
+
+	/**
+	 * The documents and lists of the criteria (or pipeline) containing {@link MongoDBQueryParameter}s, directly or
+	 * nested. Determined upon the first binding, so binding a query again only copies the parts containing parameters
+	 * without walking through the others.
+	 */
+	private transient volatile Set<Object> parameterContainers;
+
 	public MongoDBQueryDescriptor(String collectionName, Operation operation, Document criteria, Collation collation, String distinctFieldName) {
 		this.collectionName = collectionName;
 		this.operation = operation;
@@ -101,8 +122,13 @@ public MongoDBQueryDescriptor(String collectionName, Operation operation, Docume
 		this.pipeline = Collections.<Document>emptyList();
 		this.distinctFieldName = distinctFieldName;
 		this.collation = collation;
+		this.defaultResult = null;
 	}
 	public MongoDBQueryDescriptor(String collectionName, Operation operation, List<Document> pipeline) {
+		this( collectionName, operation, pipeline, null );
+	}
+
+	public MongoDBQueryDescriptor(String collectionName, Operation operation, List<Document> pipeline, Document defaultResult) {
 		this.collectionName = collectionName;
 		this.operation = operation;
 		this.criteria = null;
@@ -112,9 +138,11 @@ public MongoDBQueryDescriptor(String collectionName, Operation operation, List<D
 		this.updateOrInsertOne = null;
 		this.updateOrInsertMany = null;
 		this.unwinds = null;
-		this.pipeline = pipeline == null ? Collections.<Document>emptyList() : pipeline;
+		// descriptors of native queries are cached and shared, stages for a single execution must be added to a copy
+		this.pipeline = pipeline == null ? Collections.<Document>emptyList() : Collections.unmodifiableList( pipeline );
 		this.distinctFieldName = null;
 		this.collation = null;
+		this.defaultResult = defaultResult;
 	}
 
 	public MongoDBQueryDescriptor(String collectionName,Operation operation,Document criteria,	Document projection, Document orderBy,	Document options, Document updateOrInsertOne, List<Document> updateOrInsertMany, List<String> unwinds) {
@@ -130,12 +158,23 @@ public MongoDBQueryDescriptor(String collectionName,Operation operation,Document
 		this.pipeline = Collections.<Document>emptyList();
 		this.distinctFieldName = null;
 		this.collation = null;
+		this.defaultResult = null;
 	}
 
 	public List<Document> getPipeline() {
 		return pipeline;
 	}
 
+	/**
+	 * The result to return if the aggregation pipeline produces no document. An aggregation without grouping key always
+	 * has a single result, e.g. {@code 0} for a count, even if no document matches.
+	 *
+	 * @return the {@link Document} representing the default result, {@code null} if an empty result is valid
+	 */
+	public Document getDefaultResult() {
+		return defaultResult;
+	}
+
 	/**
 	 * The name of the collection to select from.
 	 *
@@ -214,6 +253,113 @@ public Collation getCollation() {
 		return collation;
 	}
 
+	/**
+	 * Returns a descriptor of this query with the {@link MongoDBQueryParameter}s in its criteria (or pipeline) replaced by the
+	 * given parameter values. This descriptor itself is not altered, so it can be re-used for other parameter values.
+	 *
+	 * @param parameters the values of the named parameters of the query
+	 * @param sessionFactory the session factory, used for converting parameter values by the type of their property
+	 * @return a descriptor with the parameter values bound; this descriptor if its criteria contain no parameters
+	 */
+	@SuppressWarnings("unchecked")
+	public MongoDBQueryDescriptor bindParameters(Map<String, TypedGridValue> parameters, SessionFactoryImplementor sessionFactory) {
+		Set<Object> containers = getParameterContainers();
+		if ( containers.isEmpty() ) {
+			return this;
+		}
+
+		if ( !pipeline.isEmpty() ) {
+			List<Document> boundPipeline = (List<Document>) bind( pipeline, parameters, containers, sessionFactory );
+			return new MongoDBQueryDescriptor( collectionName, operation, boundPipeline, defaultResult );
+		}
+
+		Document boundCriteria = (Document) bind( criteria, parameters, containers, sessionFactory );
+
+		if ( operation == Operation.DISTINCT ) {
+			return new MongoDBQueryDescriptor( collectionName, operation, boundCriteria, collation, distinctFieldName );
+		}
+
+		return new MongoDBQueryDescriptor( collectionName, operation, boundCriteria, projection, orderBy, options, updateOrInsertOne, updateOrInsertMany, unwinds );
+	}
+
+	private Set<Object> getParameterContainers() {
+		Set<Object> containers = parameterContainers;
+		if ( containers == null ) {
+			containers = Collections.newSetFromMap( new IdentityHashMap<Object, Boolean>() );
+			collectParameterContainers( pipeline.isEmpty() ? criteria : pipeline, containers );
+			parameterContainers = containers;
+		}
+		return containers;
+	}
+
+	/**
+	 * Adds the given element to the given set if it contains a parameter, as well as its nested elements containing
+	 * one.
+	 *
+	 * @return {@code true} if the element is or contains a parameter
+	 */
+	private static boolean collectParameterContainers(Object element, Set<Object> containers) {
+		if ( element instanceof MongoDBQueryParameter ) {
+			return true;
+		}
+
+		Collection<?> children;
+		if ( element instanceof Document ) {
+			children = ( (Document) element ).values();
+		}
+		else if ( element instanceof List ) {
+			children = (List<?>) element;
+		}
+		else {
+			return false;
+		}
+
+		boolean containsParameter = false;
+		for ( Object child : children ) {
+			containsParameter |= collectParameterContainers( child, containers );
+		}
+		if ( containsParameter ) {
+			containers.add( element );
+		}
+		return containsParameter;
+	}
+
+	/**
+	 * Binds the parameters contained in the given element, copying only the documents and lists containing
+	 * parameters.
+	 */
+	private static Object bind(Object element, Map<String, TypedGridValue> parameters, Set<Object> containers, SessionFactoryImplementor sessionFactory) {
+		if ( element instanceof MongoDBQueryParameter ) {
+			MongoDBQueryParameter parameter = (MongoDBQueryParameter) element;
+			return parameter.bind( parameters.get( parameter.getName() ), sessionFactory );
+		}
+		else if ( !containers.contains( element ) ) {
+			return element;
+		}
+		else if ( element instanceof Document ) {
+			Document bound = new Document( (Document) element );
+			for ( Entry<String, Object> entry : bound.entrySet() ) {
+				entry.setValue( bind( entry.getValue(), parameters, containers, sessionFactory ) );
+			}
+			return bound;
+		}
+		else {
+			List<?> list = (List<?>) element;
+			List<Object> bound = new ArrayList<Object>( list.size() );
+			for ( Object item : list ) {
+				Object value = bind( item, parameters, containers, sessionFactory );
+				// a collection-valued parameter within an IN list
+				if ( item instanceof MongoDBQueryParameter && value instanceof Collection ) {
+					bound.addAll( (Collection<?>) value );
+				}
+				else {
+					bound.add( value );
+				}
+			}
+			return bound;
+		}
+	}
+
 	@Override
 	public String toString() {
 		return String.format( "MongoDBQueryDescriptor [collectionName=%s, %s=%s, %s=%s, %s%s]",
@@ -0,0 +1,102 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.ogm.util.parser.impl.LikeExpressionToRegExpConverter;
+
+/**
+ * Placeholder for the value of a named parameter within a query created from JP-QL. The actual value is bound when
+ * executing the query, allowing to translate a query only once for all its parameter values.
+ *
+ * @see MongoDBQueryDescriptor#bindParameters(java.util.Map, org.hibernate.engine.spi.SessionFactoryImplementor)
+ */
+public class MongoDBQueryParameter implements Serializable {
+
+	private final String name;
+	private final boolean likePattern;
+	private final Character escapeCharacter;
+	private final GridType type;
+
+	private MongoDBQueryParameter(String name, boolean likePattern, Character escapeCharacter, GridType type) {
+		this.name = name;
+		this.likePattern = likePattern;
+		this.escapeCharacter = escapeCharacter;
+		this.type = type;
+	}
+
+	/**
+	 * Creates a placeholder for a parameter whose value is to be used as is.
+	 */
+	public static MongoDBQueryParameter forValue(String name) {
+		return new MongoDBQueryParameter( name, false, null, null );
+	}
+
+	/**
+	 * Creates a placeholder for a parameter whose value is a pattern of a {@code LIKE} expression; the pattern will
+	 * be converted into a regular expression upon binding.
+	 */
+	public static MongoDBQueryParameter forLikePattern(String name, Character escapeCharacter) {
+		return new MongoDBQueryParameter( name, true, escapeCharacter, null );
+	}
+
+	/**
+	 * Returns a placeholder for the same parameter whose value will be converted by the given type, i.e. the type of the
+	 * property the parameter is compared with, as the values given within the query string are.
+	 */
+	public MongoDBQueryParameter withType(GridType type) {
+		return new MongoDBQueryParameter( name, likePattern, escapeCharacter, type );
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public boolean isLikePattern() {
+		return likePattern;
+	}
+
+	/**
+	 * Returns the representation of the given parameter value to be used within the query.
+	 */
+	public Object bind(TypedGridValue parameter, SessionFactoryImplementor sessionFactory) {
+		if ( parameter == null ) {
+			return null;
+		}
+
+		Object value = type == null ? parameter.getValue() : convert( parameter.getOrmValue(), sessionFactory );
+		if ( likePattern && value != null ) {
+			return new LikeExpressionToRegExpConverter( escapeCharacter ).getRegExpFromLikeExpression( (String) value );
+		}
+		return value;
+	}
+
+	private Object convert(Object value, SessionFactoryImplementor sessionFactory) {
+		if ( value instanceof Collection ) {
+			// the values of an IN list
+			Collection<?> values = (Collection<?>) value;
+			List<Object> converted = new ArrayList<Object>( values.size() );
+			for ( Object element : values ) {
+				converted.add( type.convertToBackendType( element, sessionFactory ) );
+			}
+			return converted;
+		}
+		return type.convertToBackendType( value, sessionFactory );
+	}
+
+	@Override
+	public String toString() {
+		return likePattern ? "like(:" + name + ")" : ":" + name;
+	}
+}
@@ -42,15 +42,25 @@ public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, S
 		return result;
 	}
 
+	/**
+	 * Translates the given query once for all its parameter values; named parameters are represented by
+	 * {@link org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter}s within the resulting query which
+	 * are bound by the dialect upon execution.
+	 */
 	@Override
 	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString) {
-		throw new UnsupportedOperationException( "MongoDB does not support parameterized queries. Parameter values " +
-				"must be passed to the query parser." );
+		QueryParser queryParser = new QueryParser();
+		MongoDBProcessingChain processingChain = new MongoDBProcessingChain( sessionFactory, getDefinedEntityNames( sessionFactory ) );
+
+		MongoDBQueryParsingResult result = queryParser.parseQuery( queryString, processingChain );
+		log.createdQuery( queryString, result );
+
+		return result;
 	}
 
 	@Override
 	public boolean supportsParameters() {
-		return false;
+		return true;
 	}
 
 	private MongoDBProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory, Map<String, Object> namedParameters) {
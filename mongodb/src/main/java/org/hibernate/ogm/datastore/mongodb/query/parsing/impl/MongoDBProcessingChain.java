@@ -30,6 +30,14 @@ public class MongoDBProcessingChain implements AstProcessingChain<MongoDBQueryPa
 	private final QueryRendererProcessor rendererProcessor;
 	private final MongoDBQueryRendererDelegate rendererDelegate;
 
+	/**
+	 * Creates a chain translating queries independently of the values of their named parameters; these are
+	 * represented by {@link org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter}s in the result.
+	 */
+	public MongoDBProcessingChain(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames) {
+		this( sessionFactory, entityNames, new ParameterPlaceholders() );
+	}
+
 	public MongoDBProcessingChain(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, Map<String, Object> namedParameters) {
 		this.resolverProcessor = new QueryResolverProcessor( new MongoDBQueryResolverDelegate() );
 
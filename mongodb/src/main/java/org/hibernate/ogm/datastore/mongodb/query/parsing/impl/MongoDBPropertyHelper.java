@@ -12,6 +12,7 @@
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
 import org.hibernate.hql.ast.spi.PropertyHelper;
 import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.query.parsing.impl.ParserPropertyHelper;
 import org.hibernate.ogm.type.spi.GridType;
@@ -55,13 +56,23 @@ protected Type getPropertyType(String entityType, List<String> propertyPath) {
 
 	@Override
 	public Object convertToBackendType(String entityType, List<String> propertyPath, Object value) {
+		if ( value instanceof MongoDBQueryParameter ) {
+			// bound when executing the query, the value will be converted by the type of the property as well
+			return ( (MongoDBQueryParameter) value ).withType( getGridType( entityType, propertyPath ) );
+		}
+		return getGridType( entityType, propertyPath ).convertToBackendType( value, sessionFactory );
+	}
+
+	/**
+	 * Returns the grid type of the given property, i.e. the type defining how its values are stored in MongoDB.
+	 */
+	public GridType getGridType(String entityType, List<String> propertyPath) {
 		Type propertyType = getPropertyType( entityType, propertyPath );
 		if ( isElementCollection( propertyType ) ) {
 			// For collection of elements we return the type of the collection
 			propertyType = ( (CollectionType) propertyType ).getElementType( sessionFactory );
 		}
-		GridType ogmType = sessionFactory.getServiceRegistry().getService( TypeTranslator.class ).getType( propertyType );
-		return ogmType.convertToBackendType( value, sessionFactory );
+		return sessionFactory.getServiceRegistry().getService( TypeTranslator.class ).getType( propertyType );
 	}
 
 	public String getColumnName(OgmEntityPersister persister, List<String> propertyPath) {
@@ -29,6 +29,9 @@ public class MongoDBQueryParsingResult implements QueryParsingResult {
 	private final Document projection;
 	private final Document orderBy;
 	private final List<String> unwinds;
+	private final List<Document> pipeline;
+	private final Document defaultResult;
+	private final List<String> aggregationColumns;
 
 	public MongoDBQueryParsingResult(Class<?> entityType, String collectionName, Document query, Document projection, Document orderBy, List<String> unwinds) {
 		this.entityType = entityType;
@@ -37,6 +40,26 @@ public MongoDBQueryParsingResult(Class<?> entityType, String collectionName, Doc
 		this.projection = projection;
 		this.orderBy = orderBy;
 		this.unwinds = unwinds;
+		this.pipeline = null;
+		this.defaultResult = null;
+		this.aggregationColumns = null;
+	}
+
+	/**
+	 * Creates the result of a query with aggregation functions, run as the given aggregation pipeline or as a count of
+	 * the documents matching the given query if no pipeline is given. The default result, if any, is returned if the
+	 * pipeline produces no document.
+	 */
+	public MongoDBQueryParsingResult(Class<?> entityType, String collectionName, Document query, List<Document> pipeline, List<String> aggregationColumns, Document defaultResult) {
+		this.entityType = entityType;
+		this.collectionName = collectionName;
+		this.query = query;
+		this.projection = null;
+		this.orderBy = null;
+		this.unwinds = null;
+		this.pipeline = pipeline;
+		this.defaultResult = defaultResult;
+		this.aggregationColumns = aggregationColumns;
 	}
 
 	public Document getQuery() {
@@ -59,8 +82,18 @@ public List<String> getUnwinds() {
 		return unwinds;
 	}
 
+	public List<Document> getPipeline() {
+		return pipeline;
+	}
+
 	@Override
 	public Object getQueryObject() {
+		if ( aggregationColumns != null ) {
+			return pipeline == null
+					? new MongoDBQueryDescriptor( collectionName, Operation.COUNT, query, null, null )
+					: new MongoDBQueryDescriptor( collectionName, Operation.AGGREGATE_PIPELINE, pipeline, defaultResult );
+		}
+
 		return new MongoDBQueryDescriptor(
 			collectionName,
 			unwinds == null ? Operation.FIND : Operation.AGGREGATE,
@@ -76,12 +109,17 @@ public Object getQueryObject() {
 
 	@Override
 	public List<String> getColumnNames() {
+		if ( aggregationColumns != null ) {
+			return aggregationColumns;
+		}
+
 		//TODO Non-scalar case
 		return projection != null ? new ArrayList<>( projection.keySet() ) : Collections.<String>emptyList();
 	}
 
 	@Override
 	public String toString() {
-		return "MongoDBQueryParsingResult [entityType=" + entityType.getSimpleName() + ", query=" + query + ", projection=" + projection + "]";
+		return "MongoDBQueryParsingResult [entityType=" + entityType.getSimpleName() + ", query=" + query + ", projection=" + projection
+				+ ( pipeline != null ? ", pipeline=" + pipeline : "" ) + "]";
 	}
 }
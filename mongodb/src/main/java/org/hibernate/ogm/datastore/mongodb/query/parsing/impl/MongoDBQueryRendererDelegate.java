@@ -6,21 +6,44 @@
  */
 package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.ast.origin.hql.resolve.path.AggregationPropertyPath;
 import org.hibernate.hql.ast.origin.hql.resolve.path.PropertyPath;
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.hql.ast.spi.SingleEntityHavingQueryBuilder;
 import org.hibernate.hql.ast.spi.SingleEntityQueryBuilder;
 import org.hibernate.hql.ast.spi.SingleEntityQueryRendererDelegate;
+import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate.Type;
+import org.hibernate.hql.ast.spi.predicate.ParentPredicate;
+import org.hibernate.hql.ast.spi.predicate.Predicate;
+import org.hibernate.hql.ast.spi.predicate.RootPredicate;
+import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBComparisonPredicate;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBConjunctionPredicate;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBDisjunctionPredicate;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBInPredicate;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBIsNullPredicate;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBLikePredicate;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBNegationPredicate;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBRangePredicate;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBRootPredicate;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.type.descriptor.impl.StringMappedGridTypeDescriptor;
+import org.hibernate.ogm.type.impl.AbstractGenericBasicType;
+import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.ogm.util.impl.StringHelper;
 
 import org.bson.Document;
@@ -36,12 +59,32 @@ public class MongoDBQueryRendererDelegate extends SingleEntityQueryRendererDeleg
 
 	private final SessionFactoryImplementor sessionFactory;
 	private final MongoDBPropertyHelper propertyHelper;
+	private final boolean parameterized;
+	private final Map<String, Object> namedParameters;
 	private Document orderBy;
 	/*
 	 * The fields for which needs to be aggregated using $unwind when running the query
 	 */
 	private List<String> unwinds;
 
+	/*
+	 * The items of the select clause in their original order; only used for queries with aggregation functions or a
+	 * GROUP BY clause, which are translated into an aggregation pipeline
+	 */
+	private final List<SelectItem> selectItems = new ArrayList<SelectItem>();
+	private final List<String> groupBy = new ArrayList<String>();
+	private boolean definingGroupBy;
+	private boolean aggregated;
+	private AggregationPropertyPath.Type aggregation;
+	private boolean aggregationPathSet;
+
+	/*
+	 * The aggregation functions used in the HAVING or ORDER BY clause without being selected; they are computed as
+	 * additional fields h0, h1, ... of the grouped documents
+	 */
+	private final List<SelectItem> additionalAggregations = new ArrayList<SelectItem>();
+	private HavingBuilder having;
+
 	public MongoDBQueryRendererDelegate(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, MongoDBPropertyHelper propertyHelper, Map<String, Object> namedParameters) {
 		super(
 				propertyHelper,
@@ -51,6 +94,8 @@ public MongoDBQueryRendererDelegate(SessionFactoryImplementor sessionFactory, En
 
 		this.sessionFactory = sessionFactory;
 		this.propertyHelper = propertyHelper;
+		this.parameterized = namedParameters instanceof ParameterPlaceholders;
+		this.namedParameters = namedParameters;
 	}
 
 	@Override
@@ -59,6 +104,10 @@ public MongoDBQueryParsingResult getResult() {
 
 		Document query = appendDiscriminatorClause( entityPersister, builder.build() );
 
+		if ( isAggregation() ) {
+			return getAggregationResult( entityPersister, query );
+		}
+
 		return new MongoDBQueryParsingResult(
 				targetType,
 				entityPersister.getTableName(),
@@ -68,6 +117,10 @@ public MongoDBQueryParsingResult getResult() {
 				unwinds );
 	}
 
+	private boolean isAggregation() {
+		return aggregated || !groupBy.isEmpty() || having != null;
+	}
+
 	private Document appendDiscriminatorClause(OgmEntityPersister entityPersister, Document query) {
 		String discriminatorColumnName = entityPersister.getDiscriminatorColumnName();
 		if ( discriminatorColumnName != null ) {
@@ -111,17 +164,262 @@ private Document createDiscriminatorFilter(OgmEntityPersister entityPersister, S
 		return discriminatorFilter;
 	}
 
+	/**
+	 * Translates a query with aggregation functions or a GROUP BY clause into an aggregation pipeline: the documents
+	 * matching the criteria are grouped by the GROUP BY columns (or all together in a single group), the aggregation
+	 * functions are computed for each group, the groups are filtered by the HAVING clause and sorted, and the select
+	 * items are finally projected as {@code c0, c1, ...}. A query just counting the matching documents is run as a
+	 * plain count.
+	 */
+	private MongoDBQueryParsingResult getAggregationResult(OgmEntityPersister entityPersister, Document query) {
+		if ( groupBy.isEmpty() && having == null && unwinds == null && selectItems.size() == 1 && selectItems.get( 0 ).aggregation == AggregationPropertyPath.Type.COUNT ) {
+			String column = selectItems.get( 0 ).column;
+			Document criteria = column == null ? query : and( query, new Document( column, new Document( "$ne", null ) ) );
+			return new MongoDBQueryParsingResult( targetType, entityPersister.getTableName(), criteria, null, Collections.singletonList( "n" ), null );
+		}
+
+		List<Document> pipeline = new ArrayList<Document>();
+		pipeline.add( new Document( "$match", query ) );
+		if ( unwinds != null ) {
+			for ( String field : unwinds ) {
+				pipeline.add( new Document( "$unwind", "$" + field ) );
+			}
+		}
+
+		Document groupId = null;
+		if ( !groupBy.isEmpty() ) {
+			groupId = new Document();
+			for ( int i = 0; i < groupBy.size(); i++ ) {
+				groupId.append( "g" + i, "$" + groupBy.get( i ) );
+			}
+		}
+
+		Document group = new Document( MongoDBDialect.ID_FIELDNAME, groupId );
+		Document projection = new Document( MongoDBDialect.ID_FIELDNAME, 0 );
+		// without grouping key there is a single result, but $group returns nothing if no document matches
+		Document defaultResult = groupId == null && having == null ? new Document() : null;
+		List<String> columns = new ArrayList<String>( selectItems.size() );
+		for ( int i = 0; i < selectItems.size(); i++ ) {
+			SelectItem item = selectItems.get( i );
+			String alias = "c" + i;
+			if ( defaultResult != null ) {
+				boolean count = item.aggregation == AggregationPropertyPath.Type.COUNT || item.aggregation == AggregationPropertyPath.Type.COUNT_DISTINCT;
+				defaultResult.append( alias, count ? 0L : null );
+			}
+			if ( item.aggregation == null ) {
+				projection.append( alias, "$" + groupingField( item.column ) );
+			}
+			else if ( item.aggregation == AggregationPropertyPath.Type.COUNT_DISTINCT ) {
+				group.append( alias, new Document( "$addToSet", "$" + item.column ) );
+				// null values are not counted; the size is added to a long to return the count as such
+				Document distinctValues = new Document( "$setDifference", Arrays.asList( "$" + alias, Collections.singletonList( null ) ) );
+				projection.append( alias, new Document( "$add", Arrays.<Object>asList( new Document( "$size", distinctValues ), 0L ) ) );
+			}
+			else {
+				group.append( alias, accumulator( item ) );
+				projection.append( alias, 1 );
+			}
+			columns.add( alias );
+		}
+		for ( int i = 0; i < additionalAggregations.size(); i++ ) {
+			group.append( "h" + i, accumulator( additionalAggregations.get( i ) ) );
+		}
+		pipeline.add( new Document( "$group", group ) );
+
+		if ( having != null ) {
+			pipeline.add( new Document( "$match", having.build() ) );
+		}
+
+		if ( orderBy != null ) {
+			// the sort fields are the ones of the grouped documents already
+			pipeline.add( new Document( "$sort", orderBy ) );
+		}
+
+		pipeline.add( new Document( "$project", projection ) );
+
+		return new MongoDBQueryParsingResult( targetType, entityPersister.getTableName(), query, pipeline, columns, defaultResult );
+	}
+
+	/**
+	 * Returns the field of the grouped documents holding the value of the given column, which must be part of the
+	 * GROUP BY clause.
+	 */
+	private String groupingField(String column) {
+		int index = groupBy.indexOf( column );
+		if ( index < 0 ) {
+			throw log.propertyNotInGroupByClause( column );
+		}
+		return MongoDBDialect.ID_FIELDNAME + ".g" + index;
+	}
+
+	/**
+	 * Returns the field of the grouped documents holding the value of the given property, which is either part of the
+	 * GROUP BY clause or aggregated by the given function. An aggregation function which is not selected is computed
+	 * as an additional field.
+	 */
+	private String groupedField(AggregationPropertyPath.Type aggregation, List<String> path) {
+		String column = path.isEmpty() ? null : propertyHelper.getColumnName( targetTypeName, path );
+
+		if ( aggregation == null ) {
+			return groupingField( column );
+		}
+		if ( aggregation == AggregationPropertyPath.Type.COUNT_DISTINCT ) {
+			// the distinct values are only counted when projecting the results
+			throw log.countDistinctOutsideSelectClause( StringHelper.join( path, "." ) );
+		}
+		checkAggregatable( aggregation, path );
+		for ( int i = 0; i < selectItems.size(); i++ ) {
+			if ( selectItems.get( i ).isAggregationOf( column, aggregation ) ) {
+				return "c" + i;
+			}
+		}
+		for ( int i = 0; i < additionalAggregations.size(); i++ ) {
+			if ( additionalAggregations.get( i ).isAggregationOf( column, aggregation ) ) {
+				return "h" + i;
+			}
+		}
+		additionalAggregations.add( new SelectItem( column, aggregation ) );
+		return "h" + ( additionalAggregations.size() - 1 );
+	}
+
+	/**
+	 * Makes sure the values of the given property can be aggregated by the server. Numbers stored as strings, e.g.
+	 * {@code BigDecimal} and {@code BigInteger}, can only be counted: they cannot be summed up and would be compared
+	 * lexicographically by {@code $min} and {@code $max}.
+	 */
+	private void checkAggregatable(AggregationPropertyPath.Type aggregation, List<String> path) {
+		if ( path.isEmpty() || aggregation == AggregationPropertyPath.Type.COUNT || aggregation == AggregationPropertyPath.Type.COUNT_DISTINCT ) {
+			return;
+		}
+		GridType gridType = propertyHelper.getGridType( targetTypeName, path );
+		if ( gridType instanceof AbstractGenericBasicType ) {
+			AbstractGenericBasicType<?> basicType = (AbstractGenericBasicType<?>) gridType;
+			if ( basicType.getGridTypeDescriptor() instanceof StringMappedGridTypeDescriptor && Number.class.isAssignableFrom( basicType.getReturnedClass() ) ) {
+				throw log.aggregationOfStringMappedNumber( StringHelper.join( path, "." ), aggregation.name() );
+			}
+		}
+	}
+
+	private static AggregationPropertyPath.Type aggregationOf(PropertyPath propertyPath) {
+		return propertyPath instanceof AggregationPropertyPath ? ( (AggregationPropertyPath) propertyPath ).getType() : null;
+	}
+
+	private static Document accumulator(SelectItem item) {
+		switch ( item.aggregation ) {
+			case COUNT:
+				// documents with a null value are not counted
+				Object increment = item.column == null
+						? 1L
+						: new Document( "$cond", Arrays.<Object>asList( new Document( "$gt", Arrays.asList( "$" + item.column, null ) ), 1L, 0L ) );
+				return new Document( "$sum", increment );
+			case SUM:
+				// the values are multiplied by a long, so integral sums are returned as long as in JP-QL
+				return new Document( "$sum", new Document( "$multiply", Arrays.<Object>asList( "$" + item.column, 1L ) ) );
+			case AVG:
+				return new Document( "$avg", "$" + item.column );
+			case MIN:
+				return new Document( "$min", "$" + item.column );
+			case MAX:
+				return new Document( "$max", "$" + item.column );
+			default:
+				throw new UnsupportedOperationException( "Unsupported aggregation function: " + item.aggregation );
+		}
+	}
+
+	private static Document and(Document query, Document restriction) {
+		if ( query.keySet().isEmpty() ) {
+			return restriction;
+		}
+		return new Document( "$and", Arrays.asList( query, restriction ) );
+	}
+
+	@Override
+	public void pushGroupByStrategy() {
+		// the super implementation requires a HAVING builder, which is not needed for translating GROUP BY
+		status = Status.DEFINING_GROUP_BY;
+		definingGroupBy = true;
+	}
+
+	@Override
+	public void pushHavingStrategy() {
+		having = new HavingBuilder();
+		super.pushHavingStrategy();
+	}
+
+	@Override
+	protected SingleEntityHavingQueryBuilder<Document> getHavingBuilder() {
+		return having;
+	}
+
+	@Override
+	public void popStrategy() {
+		definingGroupBy = false;
+		super.popStrategy();
+	}
+
+	@Override
+	public void groupingValue(String collateName) {
+		groupBy.add( propertyHelper.getColumnName( targetTypeName, resolveAlias( propertyPath ) ) );
+		propertyPath = null;
+	}
+
+	@Override
+	public void activateAggregation(AggregationPropertyPath.Type aggregationType) {
+		if ( status == Status.DEFINING_HAVING || status == Status.DEFINING_ORDER_BY ) {
+			// the property path given next is turned into an aggregation path
+			super.activateAggregation( aggregationType );
+			return;
+		}
+		if ( status != Status.DEFINING_SELECT || definingGroupBy ) {
+			throw new UnsupportedOperationException( "Aggregation functions are only supported in the SELECT clause" );
+		}
+		aggregated = true;
+		aggregation = aggregationType;
+		aggregationPathSet = false;
+	}
+
+	@Override
+	public void deactivateAggregation() {
+		if ( status == Status.DEFINING_HAVING || status == Status.DEFINING_ORDER_BY ) {
+			if ( propertyPath == null ) {
+				// COUNT(*)
+				propertyPath = new AggregationPropertyPath( aggregationType, null );
+			}
+			super.deactivateAggregation();
+			return;
+		}
+		if ( !aggregationPathSet ) {
+			// COUNT(*)
+			selectItems.add( new SelectItem( null, aggregation ) );
+		}
+		aggregation = null;
+	}
+
 	@Override
 	public void setPropertyPath(PropertyPath propertyPath) {
-		if ( status == Status.DEFINING_SELECT ) {
+		if ( definingGroupBy ) {
+			this.propertyPath = propertyPath;
+		}
+		else if ( status == Status.DEFINING_SELECT && aggregation != null ) {
+			// COUNT(e) counts the entities, COUNT(e.property) the non-null values of the property
+			List<String> pathWithoutAlias = propertyPath == null ? Collections.<String>emptyList() : resolveAlias( propertyPath );
+			String columnName = pathWithoutAlias.isEmpty() ? null : propertyHelper.getColumnName( targetTypeName, pathWithoutAlias );
+			checkAggregatable( aggregation, pathWithoutAlias );
+			selectItems.add( new SelectItem( columnName, aggregation ) );
+			aggregationPathSet = true;
+		}
+		else if ( status == Status.DEFINING_SELECT ) {
 			List<String> pathWithoutAlias = resolveAlias( propertyPath );
 			if ( propertyHelper.isSimpleProperty( pathWithoutAlias ) ) {
-				projections.add( propertyHelper.getColumnName( targetTypeName, propertyPath.getNodeNamesWithoutAlias() ) );
+				String columnName = propertyHelper.getColumnName( targetTypeName, propertyPath.getNodeNamesWithoutAlias() );
+				projections.add( columnName );
+				selectItems.add( new SelectItem( columnName, null ) );
 			}
 			else if ( propertyHelper.isNestedProperty( pathWithoutAlias ) ) {
 				if ( propertyHelper.isEmbeddedProperty( targetTypeName, pathWithoutAlias ) ) {
 					String columnName = propertyHelper.getColumnName( targetTypeName, pathWithoutAlias );
 					projections.add( columnName );
+					selectItems.add( new SelectItem( columnName, null ) );
 					List<String> associationPath = propertyHelper.findAssociationPath( targetTypeName, pathWithoutAlias );
 					// Currently, it is possible to nest only one association inside an embedded
 					if ( associationPath != null ) {
@@ -163,16 +461,267 @@ private Document getProjectionDocument() {
 		return projectionDocument;
 	}
 
+	@Override
+	public void predicateLess(String comparativePredicate) {
+		if ( status == Status.DEFINING_HAVING ) {
+			addHavingComparisonPredicate( Type.LESS, comparativePredicate );
+		}
+		else {
+			super.predicateLess( comparativePredicate );
+		}
+	}
+
+	@Override
+	public void predicateLessOrEqual(String comparativePredicate) {
+		if ( status == Status.DEFINING_HAVING ) {
+			addHavingComparisonPredicate( Type.LESS_OR_EQUAL, comparativePredicate );
+		}
+		else {
+			super.predicateLessOrEqual( comparativePredicate );
+		}
+	}
+
+	@Override
+	public void predicateEquals(String comparativePredicate) {
+		if ( status == Status.DEFINING_HAVING ) {
+			addHavingComparisonPredicate( Type.EQUALS, comparativePredicate );
+		}
+		else {
+			super.predicateEquals( comparativePredicate );
+		}
+	}
+
+	@Override
+	public void predicateNotEquals(String comparativePredicate) {
+		if ( status == Status.DEFINING_HAVING ) {
+			having.pushNotPredicate();
+			addHavingComparisonPredicate( Type.EQUALS, comparativePredicate );
+			having.popBooleanPredicate();
+		}
+		else {
+			super.predicateNotEquals( comparativePredicate );
+		}
+	}
+
+	@Override
+	public void predicateGreaterOrEqual(String comparativePredicate) {
+		if ( status == Status.DEFINING_HAVING ) {
+			addHavingComparisonPredicate( Type.GREATER_OR_EQUAL, comparativePredicate );
+		}
+		else {
+			super.predicateGreaterOrEqual( comparativePredicate );
+		}
+	}
+
+	@Override
+	public void predicateGreater(String comparativePredicate) {
+		if ( status == Status.DEFINING_HAVING ) {
+			addHavingComparisonPredicate( Type.GREATER, comparativePredicate );
+		}
+		else {
+			super.predicateGreater( comparativePredicate );
+		}
+	}
+
+	@Override
+	public void predicateBetween(String lower, String upper) {
+		if ( status == Status.DEFINING_HAVING ) {
+			having.addRangePredicate( aggregationOf( propertyPath ), resolveAlias( propertyPath ), havingValue( lower ), havingValue( upper ) );
+		}
+		else {
+			super.predicateBetween( lower, upper );
+		}
+	}
+
+	@Override
+	public void predicateIn(List<String> list) {
+		if ( status == Status.DEFINING_HAVING ) {
+			List<Object> values = new ArrayList<Object>( list.size() );
+			for ( String value : list ) {
+				values.add( havingValue( value ) );
+			}
+			having.addInPredicate( aggregationOf( propertyPath ), resolveAlias( propertyPath ), values );
+		}
+		else {
+			super.predicateIn( list );
+		}
+	}
+
+	@Override
+	public void predicateIsNull() {
+		if ( status == Status.DEFINING_HAVING ) {
+			having.addIsNullPredicate( aggregationOf( propertyPath ), resolveAlias( propertyPath ) );
+		}
+		else {
+			super.predicateIsNull();
+		}
+	}
+
+	private void addHavingComparisonPredicate(Type comparisonType, String comparativePredicate) {
+		having.addComparisonPredicate( aggregationOf( propertyPath ), resolveAlias( propertyPath ), comparisonType, havingValue( comparativePredicate ) );
+	}
+
+	/**
+	 * Converts a value of the HAVING clause into the type of the grouped field it is compared to: counts are longs
+	 * and averages doubles, the other aggregation functions and grouped properties have the type of the property.
+	 */
+	private Object havingValue(String value) {
+		AggregationPropertyPath.Type aggregation = aggregationOf( propertyPath );
+		boolean ofPropertyType = aggregation != AggregationPropertyPath.Type.COUNT && aggregation != AggregationPropertyPath.Type.AVG;
+		List<String> path = resolveAlias( propertyPath );
+
+		Object typedValue;
+		if ( value.startsWith( ":" ) ) {
+			typedValue = namedParameters.get( value.substring( 1 ) );
+		}
+		else if ( aggregation == AggregationPropertyPath.Type.COUNT ) {
+			typedValue = Long.valueOf( value );
+		}
+		else if ( aggregation == AggregationPropertyPath.Type.AVG ) {
+			typedValue = Double.valueOf( value );
+		}
+		else {
+			typedValue = propertyHelper.convertToPropertyType( targetTypeName, path, value );
+		}
+
+		return ofPropertyType ? propertyHelper.convertToBackendType( targetTypeName, path, typedValue ) : typedValue;
+	}
+
+	@Override
+	public void predicateLike(String patternValue, Character escapeCharacter) {
+		if ( status == Status.DEFINING_HAVING ) {
+			AggregationPropertyPath.Type aggregation = aggregationOf( propertyPath );
+			List<String> property = resolveAlias( propertyPath );
+			if ( parameterized && patternValue.startsWith( ":" ) ) {
+				MongoDBQueryParameter pattern = MongoDBQueryParameter.forLikePattern( patternValue.substring( 1 ), escapeCharacter );
+				having.addComparisonPredicate( aggregation, property, Type.EQUALS, pattern );
+			}
+			else {
+				having.addLikePredicate( aggregation, property, (String) havingValue( patternValue ), escapeCharacter );
+			}
+		}
+		else if ( parameterized && patternValue.startsWith( ":" ) ) {
+			// The pattern is only known when executing the query; it will be bound as regular expression
+			List<String> property = resolveAlias( propertyPath );
+			MongoDBQueryParameter pattern = MongoDBQueryParameter.forLikePattern( patternValue.substring( 1 ), escapeCharacter );
+			builder.addComparisonPredicate( property, Type.EQUALS, pattern );
+		}
+		else {
+			super.predicateLike( patternValue, escapeCharacter );
+		}
+	}
+
 	@Override
 	protected void addSortField(PropertyPath propertyPath, String collateName, boolean isAscending) {
 		if ( orderBy == null ) {
 			orderBy = new Document();
 		}
 
-		String columnName = propertyHelper.getColumnName( targetType, propertyPath.getNodeNamesWithoutAlias() );
+		// aggregation pipelines are sorted by the fields of the grouped documents, which may hold aggregated values
+		String columnName = isAggregation()
+				? groupedField( aggregationOf( propertyPath ), resolveAlias( propertyPath ) )
+				: propertyHelper.getColumnName( targetType, propertyPath.getNodeNamesWithoutAlias() );
 
 		// Document is essentially a LinkedHashMap, so in case of several sort keys they'll be evaluated in the
 		// order they're inserted here, which is the order within the original statement
 		orderBy.put( columnName, isAscending ? 1 : -1 );
 	}
+
+	/**
+	 * An item of the select clause: a column, possibly with an aggregation function applied.
+	 */
+	private static class SelectItem {
+
+		private final String column;
+		private final AggregationPropertyPath.Type aggregation;
+
+		private SelectItem(String column, AggregationPropertyPath.Type aggregation) {
+			this.column = column;
+			this.aggregation = aggregation;
+		}
+
+		private boolean isAggregationOf(String column, AggregationPropertyPath.Type aggregation) {
+			return this.aggregation == aggregation && ( column == null ? this.column == null : column.equals( this.column ) );
+		}
+	}
+
+	/**
+	 * Builds the criteria of the HAVING clause, applied to the grouped documents by a {@code $match} stage following
+	 * the {@code $group} stage. The given values are converted already.
+	 */
+	private class HavingBuilder implements SingleEntityHavingQueryBuilder<Document> {
+
+		private final RootPredicate<Document> rootPredicate = new MongoDBRootPredicate();
+		private final Deque<ParentPredicate<Document>> predicates = new ArrayDeque<ParentPredicate<Document>>();
+
+		private HavingBuilder() {
+			predicates.push( rootPredicate );
+		}
+
+		@Override
+		public void setEntityType(String entityType) {
+			// the grouped documents are the ones of the target type
+		}
+
+		@Override
+		public void addComparisonPredicate(AggregationPropertyPath.Type aggregationType, List<String> propertyPath, Type comparisonType, Object value) {
+			pushPredicate( new MongoDBComparisonPredicate( field( aggregationType, propertyPath ), comparisonType, value ) );
+		}
+
+		@Override
+		public void addRangePredicate(AggregationPropertyPath.Type aggregationType, List<String> propertyPath, Object lower, Object upper) {
+			pushPredicate( new MongoDBRangePredicate( field( aggregationType, propertyPath ), lower, upper ) );
+		}
+
+		@Override
+		public void addInPredicate(AggregationPropertyPath.Type aggregationType, List<String> propertyPath, List<Object> values) {
+			pushPredicate( new MongoDBInPredicate( field( aggregationType, propertyPath ), values ) );
+		}
+
+		@Override
+		public void addLikePredicate(AggregationPropertyPath.Type aggregationType, List<String> propertyPath, String patternValue, Character escapeCharacter) {
+			pushPredicate( new MongoDBLikePredicate( field( aggregationType, propertyPath ), patternValue, escapeCharacter ) );
+		}
+
+		@Override
+		public void addIsNullPredicate(AggregationPropertyPath.Type aggregationType, List<String> propertyPath) {
+			pushPredicate( new MongoDBIsNullPredicate( field( aggregationType, propertyPath ) ) );
+		}
+
+		@Override
+		public void pushAndPredicate() {
+			pushPredicate( new MongoDBConjunctionPredicate() );
+		}
+
+		@Override
+		public void pushOrPredicate() {
+			pushPredicate( new MongoDBDisjunctionPredicate() );
+		}
+
+		@Override
+		public void pushNotPredicate() {
+			pushPredicate( new MongoDBNegationPredicate() );
+		}
+
+		@Override
+		public void popBooleanPredicate() {
+			predicates.pop();
+		}
+
+		@Override
+		public Document build() {
+			return rootPredicate.getQuery();
+		}
+
+		private void pushPredicate(Predicate<Document> predicate) {
+			predicates.peek().add( predicate );
+			if ( predicate.getType().isParent() ) {
+				predicates.push( (ParentPredicate<Document>) predicate );
+			}
+		}
+
+		private String field(AggregationPropertyPath.Type aggregationType, List<String> propertyPath) {
+			return groupedField( aggregationType, propertyPath );
+		}
+	}
 }
@@ -0,0 +1,35 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
+
+/**
+ * Named parameters passed to the renderer when translating a query independently of its parameter values; returns a
+ * {@link MongoDBQueryParameter} placeholder for each parameter name.
+ */
+class ParameterPlaceholders extends AbstractMap<String, Object> {
+
+	@Override
+	public Object get(Object key) {
+		return MongoDBQueryParameter.forValue( (String) key );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof String;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return Collections.emptySet();
+	}
+}
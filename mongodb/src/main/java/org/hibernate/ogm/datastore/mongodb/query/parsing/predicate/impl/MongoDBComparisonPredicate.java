@@ -8,6 +8,7 @@
 
 import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate;
 import org.hibernate.hql.ast.spi.predicate.NegatablePredicate;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
 
 import org.bson.Document;
 
@@ -56,6 +57,10 @@ public Document getNegatedQuery() {
 			case LESS_OR_EQUAL:
 				return new Document( propertyName, new Document( "$gt", value ) );
 			case EQUALS:
+				if ( value instanceof MongoDBQueryParameter && ( (MongoDBQueryParameter) value ).isLikePattern() ) {
+					// the parameter will be bound to a regular expression
+					return new Document( propertyName, new Document( "$not", value ) );
+				}
 				return new Document( propertyName, new Document( "$ne", value ) );
 			case GREATER_OR_EQUAL:
 				return new Document( propertyName, new Document( "$lt", value ) );
@@ -0,0 +1,90 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.dialect.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MongoDBTupleSnapshot} based on raw documents.
+ */
+public class MongoDBTupleSnapshotTest {
+
+	private static final EntityKeyMetadata SINGLE_COLUMN_ID = new DefaultEntityKeyMetadata( "Poem", new String[] { "id" } );
+	private static final EntityKeyMetadata MULTI_COLUMN_ID = new DefaultEntityKeyMetadata( "Poem", new String[] { "id.author", "id.title" } );
+
+	@Test
+	public void shouldDecodeFieldsOfRawDocumentLazily() {
+		Date published = new Date();
+		Document document = new Document( "_id", 1L )
+				.append( "name", "Ode to a Nightingale" )
+				.append( "published", published )
+				.append( "verses", Arrays.asList( "My heart aches", "and a drowsy numbness pains" ) )
+				.append( "author", new Document( "name", "John Keats" ).append( "address", new Document( "city", "London" ) ) );
+
+		MongoDBTupleSnapshot snapshot = MongoDBTupleSnapshot.fromRawDocument( raw( document ), SINGLE_COLUMN_ID );
+
+		assertThat( snapshot.get( "id" ) ).isEqualTo( 1L );
+		assertThat( snapshot.getDocumentId() ).isEqualTo( 1L );
+		assertThat( snapshot.get( "name" ) ).isEqualTo( "Ode to a Nightingale" );
+		assertThat( snapshot.get( "published" ) ).isEqualTo( published );
+		assertThat( snapshot.get( "verses" ) ).isEqualTo( Arrays.asList( "My heart aches", "and a drowsy numbness pains" ) );
+		assertThat( snapshot.get( "author.name" ) ).isEqualTo( "John Keats" );
+		assertThat( snapshot.get( "author.address.city" ) ).isEqualTo( "London" );
+		assertThat( snapshot.get( "author.address.street" ) ).isNull();
+		assertThat( snapshot.get( "rating" ) ).isNull();
+		assertThat( snapshot.getColumnNames() ).containsOnly( "_id", "name", "published", "verses", "author" );
+		assertThat( snapshot.getColumnNames() ).isSameAs( snapshot.getColumnNames() );
+		assertThat( snapshot.isEmpty() ).isFalse();
+	}
+
+	@Test
+	public void shouldGetColumnNamesOfEmptyRawDocument() {
+		MongoDBTupleSnapshot snapshot = MongoDBTupleSnapshot.fromRawDocument( raw( new Document() ), SINGLE_COLUMN_ID );
+
+		assertThat( snapshot.getColumnNames() ).isEmpty();
+		assertThat( snapshot.isEmpty() ).isTrue();
+	}
+
+	@Test
+	public void shouldDecodeRawDocumentEntirelyWhenAccessingIt() {
+		Document document = new Document( "_id", 1L ).append( "name", "Ode to a Nightingale" );
+
+		MongoDBTupleSnapshot snapshot = MongoDBTupleSnapshot.fromRawDocument( raw( document ), SINGLE_COLUMN_ID );
+		assertThat( snapshot.get( "name" ) ).isEqualTo( "Ode to a Nightingale" );
+
+		assertThat( snapshot.getDbObject() ).isEqualTo( document );
+
+		snapshot.getDbObject().put( "name", "To Autumn" );
+		snapshot.getDbObject().put( "rating", 5 );
+		assertThat( snapshot.get( "name" ) ).isEqualTo( "To Autumn" );
+		assertThat( snapshot.getColumnNames() ).containsOnly( "_id", "name", "rating" );
+	}
+
+	@Test
+	public void shouldGetColumnsOfMultiColumnIdFromRawDocument() {
+		Document document = new Document( "_id", new Document( "author", "John Keats" ).append( "title", "To Autumn" ) );
+
+		MongoDBTupleSnapshot snapshot = MongoDBTupleSnapshot.fromRawDocument( raw( document ), MULTI_COLUMN_ID );
+
+		assertThat( snapshot.get( "id.author" ) ).isEqualTo( "John Keats" );
+		assertThat( snapshot.get( "id.title" ) ).isEqualTo( "To Autumn" );
+	}
+
+	private static RawBsonDocument raw(Document document) {
+		return new RawBsonDocument( document, new DocumentCodec() );
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.hibernate.Cache;
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.type.impl.StringType;
+import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.entity.EntityMetamodel;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.MongoClient;
+import com.mongodb.MongoClientOptions;
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+
+/**
+ * Tests for {@link OplogCacheInvalidator}. Tailing the oplog requires MongoDB to run as a replica set, the
+ * corresponding test is skipped otherwise.
+ */
+public class OplogCacheInvalidatorTest {
+
+	private static final String DATABASE = "ogm_test_database";
+	private static final String COLLECTION = "OplogPoem";
+	private static final String ENTITY_NAME = "org.hibernate.ogm.test.Poem";
+
+	private SessionFactoryImplementor factory;
+	private Cache cache;
+	private OgmEntityPersister persister;
+
+	@Before
+	public void setUpMocks() throws Exception {
+		cache = mock( Cache.class );
+		persister = mock( OgmEntityPersister.class );
+		when( persister.hasCache() ).thenReturn( true );
+		setEntityName( persister, ENTITY_NAME );
+		when( persister.getEntityKeyMetadata() ).thenReturn( new DefaultEntityKeyMetadata( COLLECTION, new String[] { "id" } ) );
+		when( persister.getIdentifierColumnNames() ).thenReturn( new String[] { "id" } );
+		when( persister.getGridIdentifierType() ).thenReturn( (GridType) StringType.INSTANCE );
+
+		factory = mock( SessionFactoryImplementor.class );
+		when( factory.getCache() ).thenReturn( cache );
+		when( factory.getEntityPersisters() ).thenReturn( Collections.<String, EntityPersister>singletonMap( ENTITY_NAME, persister ) );
+		when( factory.openSession() ).thenReturn( mock( Session.class, withSettings().extraInterfaces( SessionImplementor.class ) ) );
+	}
+
+	@Test
+	public void shouldGetIdOfChangedDocument() {
+		assertThat( OplogCacheInvalidator.getDocumentId( entry( "i", new Document( "_id", "poem-1" ).append( "title", "Ode" ), null ) ) )
+				.isEqualTo( "poem-1" );
+		assertThat( OplogCacheInvalidator.getDocumentId( entry( "u", new Document( "$set", new Document( "title", "Ode" ) ), new Document( "_id", "poem-2" ) ) ) )
+				.isEqualTo( "poem-2" );
+		assertThat( OplogCacheInvalidator.getDocumentId( entry( "d", new Document( "_id", "poem-3" ), null ) ) )
+				.isEqualTo( "poem-3" );
+	}
+
+	@Test
+	public void shouldIgnoreEntriesNotChangingDocuments() {
+		assertThat( OplogCacheInvalidator.getDocumentId( entry( "c", new Document( "drop", COLLECTION ), null ) ) ).isNull();
+		assertThat( OplogCacheInvalidator.getDocumentId( entry( "n", new Document( "msg", "periodic noop" ), null ) ) ).isNull();
+		assertThat( OplogCacheInvalidator.getDocumentId( entry( "u", new Document( "$set", new Document( "title", "Ode" ) ), null ) ) ).isNull();
+	}
+
+	@Test
+	public void shouldEvictChangedEntity() {
+		OplogCacheInvalidator invalidator = new OplogCacheInvalidator( factory, null, persistersByNamespace() );
+
+		invalidator.evict( entry( "d", new Document( "_id", "poem-1" ), null ), session() );
+
+		verify( cache ).evictEntity( ENTITY_NAME, "poem-1" );
+		verify( cache, never() ).evictEntityRegion( anyString() );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldEvictEntityRegionIfDocumentIdDoesNotMatchEntityId() {
+		GridType idType = mock( GridType.class );
+		when( idType.nullSafeGet( any( Tuple.class ), any( String[].class ), any( SessionImplementor.class ), any() ) )
+				.thenThrow( new HibernateException( "Unexpected id" ) );
+		when( persister.getGridIdentifierType() ).thenReturn( idType );
+		OplogCacheInvalidator invalidator = new OplogCacheInvalidator( factory, null, persistersByNamespace() );
+
+		invalidator.evict( entry( "i", new Document( "_id", new Document( "unexpected", 1 ) ), null ), session() );
+
+		verify( cache ).evictEntityRegion( ENTITY_NAME );
+		verify( cache, never() ).evictEntity( anyString(), any( Serializable.class ) );
+	}
+
+	@Test
+	public void shouldEvictEntitiesChangedByOtherClients() {
+		MongoClient client = new MongoClient( serverAddress(), MongoClientOptions.builder().serverSelectionTimeout( 1000 ).build() );
+		OplogCacheInvalidator invalidator = null;
+		try {
+			assumeTrue( hasOplog( client ) );
+
+			invalidator = OplogCacheInvalidator.start( factory, client, DATABASE );
+			assertThat( invalidator ).isNotNull();
+
+			client.getDatabase( DATABASE ).getCollection( COLLECTION ).insertOne( new Document( "_id", "poem-1" ) );
+			client.getDatabase( DATABASE ).getCollection( COLLECTION ).deleteOne( new Document( "_id", "poem-1" ) );
+
+			verify( cache, timeout( 10_000 ).times( 2 ) ).evictEntity( ENTITY_NAME, "poem-1" );
+		}
+		finally {
+			if ( invalidator != null ) {
+				invalidator.stop();
+			}
+			client.close();
+		}
+	}
+
+	private static boolean hasOplog(MongoClient client) {
+		try {
+			for ( String collection : client.getDatabase( "local" ).listCollectionNames() ) {
+				if ( "oplog.rs".equals( collection ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+		catch (MongoException e) {
+			return false;
+		}
+	}
+
+	private static ServerAddress serverAddress() {
+		String host = System.getProperty( OgmProperties.HOST, ServerAddress.defaultHost() );
+		String port = System.getProperty( OgmProperties.PORT );
+		return port == null ? new ServerAddress( host ) : new ServerAddress( host, Integer.parseInt( port ) );
+	}
+
+	/**
+	 * The entity name is read by a final method from the entity metamodel.
+	 */
+	private static void setEntityName(OgmEntityPersister persister, String entityName) throws Exception {
+		EntityMetamodel entityMetamodel = mock( EntityMetamodel.class );
+		when( entityMetamodel.getName() ).thenReturn( entityName );
+
+		Field field = AbstractEntityPersister.class.getDeclaredField( "entityMetamodel" );
+		field.setAccessible( true );
+		field.set( persister, entityMetamodel );
+	}
+
+	private Map<String, List<OgmEntityPersister>> persistersByNamespace() {
+		return Collections.singletonMap( DATABASE + "." + COLLECTION, Arrays.asList( persister ) );
+	}
+
+	private static SessionImplementor session() {
+		return mock( SessionImplementor.class );
+	}
+
+	private static Document entry(String operation, Document o, Document o2) {
+		Document entry = new Document( "op", operation ).append( "ns", DATABASE + "." + COLLECTION ).append( "o", o );
+		if ( o2 != null ) {
+			entry.append( "o2", o2 );
+		}
+		return entry;
+	}
+}
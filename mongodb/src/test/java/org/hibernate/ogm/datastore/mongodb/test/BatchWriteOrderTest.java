@@ -0,0 +1,112 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.datastore.document.cfg.DocumentStoreProperties;
+import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
+import org.hibernate.ogm.datastore.mongodb.test.associations.delta.Poet;
+import org.hibernate.ogm.datastore.mongodb.test.associations.delta.Verse;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test that writes to the same document within one flush are applied in the order of the operations, although the
+ * writes of a flush are sent with one bulk write per collection.
+ */
+public class BatchWriteOrderTest extends OgmTestCase {
+
+	private static final String POET_ID = "keats";
+
+	@After
+	public void deletePoet() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Poet poet = session.get( Poet.class, POET_ID );
+		if ( poet != null ) {
+			session.delete( poet );
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testAssociationRemovedAndWrittenAgainInSameFlush() {
+		Poet poet = new Poet( POET_ID );
+		poet.getRhymes().addAll( Arrays.asList( "moon", "june" ) );
+		poet.getVerses().add( new Verse( 1, "A thing of beauty is a joy for ever" ) );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( poet );
+		transaction.commit();
+		session.clear();
+
+		// replacing the collections removes the association documents and writes them again
+		transaction = session.beginTransaction();
+		poet = session.get( Poet.class, POET_ID );
+		poet.setRhymes( new ArrayList<String>( Arrays.asList( "spoon" ) ) );
+		poet.setVerses( new HashSet<Verse>( Arrays.asList( new Verse( 2, "Its loveliness increases" ) ) ) );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		poet = session.get( Poet.class, POET_ID );
+		assertThat( poet.getRhymes() ).containsOnly( "spoon" );
+		assertThat( poet.getVerses() ).containsOnly( new Verse( 2, "Its loveliness increases" ) );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testAssociationsOfSeveralEntitiesRemovedAndWrittenAgainInSameFlush() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		for ( int i = 0; i < 3; i++ ) {
+			Poet poet = new Poet( POET_ID + i );
+			poet.getRhymes().add( "rhyme-" + i );
+			session.persist( poet );
+		}
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		for ( int i = 0; i < 3; i++ ) {
+			session.get( Poet.class, POET_ID + i ).setRhymes( new ArrayList<String>( Arrays.asList( "new-rhyme-" + i ) ) );
+		}
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		for ( int i = 0; i < 3; i++ ) {
+			Poet poet = session.get( Poet.class, POET_ID + i );
+			assertThat( poet.getRhymes() ).containsOnly( "new-rhyme-" + i );
+			session.delete( poet );
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( DocumentStoreProperties.ASSOCIATIONS_STORE, AssociationStorageType.ASSOCIATION_DOCUMENT );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Poet.class };
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.associations.delta;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.datastore.mongodb.utils.MongoDBTestHelper.assertDocument;
+
+import java.util.Arrays;
+
+import org.bson.Document;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the update of sets and bags by adding or removing the changed rows only.
+ */
+public class AssociationRowsDeltaTest extends OgmTestCase {
+
+	private static final String POET_ID = "shakespeare";
+
+	@After
+	public void deletePoet() {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Poet poet = session.get( Poet.class, POET_ID );
+		if ( poet != null ) {
+			session.delete( poet );
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void shouldAddAndRemoveEmbeddedRows() {
+		persistPoet();
+
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.get( Poet.class, POET_ID ).getVerses().add( new Verse( 3, "Thou art more lovely and more temperate" ) );
+		transaction.commit();
+		session.clear();
+
+		assertVerses( session, "{ 'line' : 1, 'text' : 'Shall I compare thee' }, { 'line' : 2, 'text' : 'to a summer day?' }, "
+				+ "{ 'line' : 3, 'text' : 'Thou art more lovely and more temperate' }" );
+
+		transaction = session.beginTransaction();
+		session.get( Poet.class, POET_ID ).getVerses().remove( new Verse( 1, "Shall I compare thee" ) );
+		transaction.commit();
+		session.clear();
+
+		assertVerses( session, "{ 'line' : 2, 'text' : 'to a summer day?' }, { 'line' : 3, 'text' : 'Thou art more lovely and more temperate' }" );
+		session.close();
+	}
+
+	@Test
+	public void shouldRemoveEmbeddedRowsIndependentlyOfTheOrderOfTheirFields() {
+		persistPoet();
+
+		// rows written by another client, with the fields in another order and a duplicate
+		updatePoet( new Document( "$set", new Document( "verses", Arrays.asList(
+				new Document( "text", "Shall I compare thee" ).append( "line", 1 ),
+				new Document( "line", 1 ).append( "text", "Shall I compare thee" ),
+				new Document( "text", "to a summer day?" ).append( "line", 2 ) ) ) ) );
+
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.get( Poet.class, POET_ID ).getVerses().remove( new Verse( 1, "Shall I compare thee" ) );
+		transaction.commit();
+		session.clear();
+
+		assertVerses( session, "{ 'line' : 2, 'text' : 'to a summer day?' }" );
+
+		transaction = session.beginTransaction();
+		assertThat( session.get( Poet.class, POET_ID ).getVerses() ).containsOnly( new Verse( 2, "to a summer day?" ) );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void shouldAddAndRemoveBagRows() {
+		persistPoet();
+
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.get( Poet.class, POET_ID ).getRhymes().add( "spoon" );
+		transaction.commit();
+		session.clear();
+
+		assertRhymes( session, "'moon', 'june', 'spoon'" );
+
+		transaction = session.beginTransaction();
+		session.get( Poet.class, POET_ID ).getRhymes().remove( "june" );
+		transaction.commit();
+		session.clear();
+
+		assertRhymes( session, "'moon', 'spoon'" );
+		session.close();
+	}
+
+	@Test
+	public void shouldRemoveDuplicateBagRowsAsLoaded() {
+		persistPoet();
+
+		// duplicate rows written by another client, they are loaded as a single row
+		updatePoet( new Document( "$set", new Document( "rhymes", Arrays.asList( "moon", "june", "moon" ) ) ) );
+
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Poet poet = session.get( Poet.class, POET_ID );
+		assertThat( poet.getRhymes() ).containsOnly( "moon", "june" );
+		poet.getRhymes().remove( "june" );
+		transaction.commit();
+		session.clear();
+
+		// the bag is written as seen by the session
+		assertRhymes( session, "'moon'" );
+		session.close();
+	}
+
+	private void persistPoet() {
+		Poet poet = new Poet( POET_ID );
+		poet.getVerses().add( new Verse( 1, "Shall I compare thee" ) );
+		poet.getVerses().add( new Verse( 2, "to a summer day?" ) );
+		poet.getRhymes().add( "moon" );
+		poet.getRhymes().add( "june" );
+
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( poet );
+		transaction.commit();
+		session.close();
+	}
+
+	private void updatePoet(Document update) {
+		MongoDBDatastoreProvider provider = (MongoDBDatastoreProvider) getSessionFactory().getServiceRegistry().getService( DatastoreProvider.class );
+		provider.getDatabase().getCollection( Poet.class.getSimpleName() ).updateOne( new Document( "_id", POET_ID ), update );
+	}
+
+	private static void assertVerses(OgmSession session, String expectedVerses) {
+		assertDocument( session.getSessionFactory(), Poet.class.getSimpleName(), "{ '_id' : '" + POET_ID + "' }", "{ 'verses' : 1 }",
+				"{ '_id' : '" + POET_ID + "', 'verses' : [ " + expectedVerses + " ] }" );
+	}
+
+	private static void assertRhymes(OgmSession session, String expectedRhymes) {
+		assertDocument( session.getSessionFactory(), Poet.class.getSimpleName(), "{ '_id' : '" + POET_ID + "' }", "{ 'rhymes' : 1 }",
+				"{ '_id' : '" + POET_ID + "', 'rhymes' : [ " + expectedRhymes + " ] }" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Poet.class };
+	}
+}
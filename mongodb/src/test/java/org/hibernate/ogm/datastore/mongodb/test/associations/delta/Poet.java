@@ -0,0 +1,58 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.associations.delta;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class Poet {
+
+	private String id;
+	private Set<Verse> verses = new HashSet<Verse>();
+	private List<String> rhymes = new ArrayList<String>();
+
+	Poet() {
+	}
+
+	public Poet(String id) {
+		this.id = id;
+	}
+
+	@Id
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	@ElementCollection
+	public Set<Verse> getVerses() {
+		return verses;
+	}
+
+	public void setVerses(Set<Verse> verses) {
+		this.verses = verses;
+	}
+
+	@ElementCollection
+	public List<String> getRhymes() {
+		return rhymes;
+	}
+
+	public void setRhymes(List<String> rhymes) {
+		this.rhymes = rhymes;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.associations.delta;
+
+import javax.persistence.Embeddable;
+
+@Embeddable
+public class Verse {
+
+	private int line;
+	private String text;
+
+	Verse() {
+	}
+
+	public Verse(int line, String text) {
+		this.line = line;
+		this.text = text;
+	}
+
+	public int getLine() {
+		return line;
+	}
+
+	public void setLine(int line) {
+		this.line = line;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public void setText(String text) {
+		this.text = text;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		Verse other = (Verse) obj;
+		return line == other.line && ( text == null ? other.text == null : text.equals( other.text ) );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * line + ( text == null ? 0 : text.hashCode() );
+	}
+}
@@ -48,6 +48,14 @@ public void canUseSpecificValueColumNames() {
 		assertCountQueryResult( session, "db.PianoPlayerSequence.count( { '_id' : 'pianoPlayer', 'nextPianoPlayerId' : 2 } )", 1 );
 		assertCountQueryResult( session, "db.GuitarPlayerSequence.count( { '_id' : 'guitarPlayer', 'nextGuitarPlayerId' : 2 } )", 1 );
 
+		// when the sequence document exists already
+		PianoPlayer ray = new PianoPlayer( "Ray Charles" );
+		session.persist( ray );
+
+		// then
+		assertThat( ray.getId() ).isEqualTo( 2L );
+		assertCountQueryResult( session, "db.PianoPlayerSequence.count( { '_id' : 'pianoPlayer', 'nextPianoPlayerId' : 3 } )", 1 );
+
 		tx.commit();
 		session.close();
 	}
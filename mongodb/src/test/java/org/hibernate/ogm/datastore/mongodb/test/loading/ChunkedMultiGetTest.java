@@ -0,0 +1,24 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.loading;
+
+import java.util.Map;
+
+import org.hibernate.ogm.backendtck.batchfetching.MultiGetSingleColumnIdTest;
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+
+/**
+ * Runs the multi-get tests with the ids split into chunks loaded concurrently.
+ */
+public class ChunkedMultiGetTest extends MultiGetSingleColumnIdTest {
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( MongoDBProperties.MULTIGET_CHUNK_SIZE, 2 );
+		settings.put( MongoDBProperties.MULTIGET_THREADS, 2 );
+	}
+}
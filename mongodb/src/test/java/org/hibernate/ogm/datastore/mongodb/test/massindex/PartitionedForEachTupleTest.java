@@ -0,0 +1,136 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.massindex;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
+import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.spi.PartitionedModelConsumer;
+import org.hibernate.ogm.dialect.spi.TuplesSupplier;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.client.MongoCollection;
+
+/**
+ * Tests that the partitions of a collection read in parallel during mass indexing contain each document exactly once,
+ * whatever the types of the document ids.
+ */
+public class PartitionedForEachTupleTest extends OgmTestCase {
+
+	private static final String COLLECTION = "PartitionedDocument";
+
+	private MongoDBDatastoreProvider provider;
+	private Set<Object> ids;
+
+	@Before
+	public void insertDocuments() {
+		provider = (MongoDBDatastoreProvider) getSessionFactory().getServiceRegistry().getService( DatastoreProvider.class );
+		MongoCollection<Document> collection = provider.getDatabase().getCollection( COLLECTION );
+
+		ids = new HashSet<Object>();
+		for ( int i = 0; i < 40; i++ ) {
+			ids.add( i );
+			ids.add( 100L + i );
+			ids.add( 200.5d + i );
+			ids.add( "document-" + i );
+			ids.add( new ObjectId() );
+			ids.add( new Document( "part1", i ).append( "part2", "x" ) );
+		}
+		for ( Object id : ids ) {
+			collection.insertOne( new Document( "_id", id ).append( "name", String.valueOf( id ) ) );
+		}
+	}
+
+	@After
+	public void dropCollection() {
+		provider.getDatabase().getCollection( COLLECTION ).drop();
+	}
+
+	@Test
+	public void shouldVisitEachDocumentOnceWithIdsOfDifferentTypes() {
+		for ( int partitions : new int[] { 2, 3, 7, 16, 1000 } ) {
+			CollectingConsumer consumer = new CollectingConsumer( partitions );
+			new MongoDBDialect( provider ).forEachTuple( consumer, null, new DefaultEntityKeyMetadata( COLLECTION, new String[] { "_id" } ) );
+
+			assertThat( consumer.suppliers ).as( "Suppliers for " + partitions + " partitions" ).isGreaterThan( 1 );
+			assertThat( consumer.visitedIds ).as( "Ids visited with " + partitions + " partitions" ).hasSize( ids.size() );
+			assertThat( new HashSet<Object>( consumer.visitedIds ) ).isEqualTo( ids );
+		}
+	}
+
+	@Test
+	public void shouldVisitAllDocumentsOfEmptyOrSmallCollection() {
+		provider.getDatabase().getCollection( COLLECTION ).deleteMany( new Document() );
+
+		CollectingConsumer consumer = new CollectingConsumer( 4 );
+		new MongoDBDialect( provider ).forEachTuple( consumer, null, new DefaultEntityKeyMetadata( COLLECTION, new String[] { "_id" } ) );
+		assertThat( consumer.visitedIds ).isEmpty();
+
+		provider.getDatabase().getCollection( COLLECTION ).insertOne( new Document( "_id", "single" ) );
+
+		consumer = new CollectingConsumer( 4 );
+		new MongoDBDialect( provider ).forEachTuple( consumer, null, new DefaultEntityKeyMetadata( COLLECTION, new String[] { "_id" } ) );
+		assertThat( consumer.visitedIds ).containsOnly( "single" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Hypothesis.class };
+	}
+
+	/**
+	 * Reads the suppliers of all partitions one after the other, collecting the ids of the visited documents.
+	 */
+	private static class CollectingConsumer implements PartitionedModelConsumer {
+
+		private final int partitions;
+		private final List<Object> visitedIds = new ArrayList<Object>();
+		private int suppliers;
+
+		CollectingConsumer(int partitions) {
+			this.partitions = partitions;
+		}
+
+		@Override
+		public int getPartitions() {
+			return partitions;
+		}
+
+		@Override
+		public void consume(List<TuplesSupplier> suppliers) {
+			for ( TuplesSupplier supplier : suppliers ) {
+				consume( supplier );
+			}
+		}
+
+		@Override
+		public void consume(TuplesSupplier supplier) {
+			suppliers++;
+			try ( ClosableIterator<Tuple> tuples = supplier.get( null ) ) {
+				while ( tuples.hasNext() ) {
+					visitedIds.add( tuples.next().get( "_id" ) );
+				}
+			}
+		}
+	}
+}
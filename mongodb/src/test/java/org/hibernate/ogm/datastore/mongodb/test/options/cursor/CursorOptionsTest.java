@@ -0,0 +1,93 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.options.cursor;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.ogm.datastore.mongodb.MongoDB;
+import org.hibernate.ogm.datastore.mongodb.options.CursorOptions;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorOptionsOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.CursorSettings;
+import org.hibernate.ogm.datastore.mongodb.options.navigation.MongoDBGlobalContext;
+import org.hibernate.ogm.dialect.query.spi.RowSelection;
+import org.hibernate.ogm.options.container.impl.OptionsContainer;
+import org.hibernate.ogm.options.navigation.impl.AppendableConfigurationContext;
+import org.hibernate.ogm.options.navigation.impl.ConfigurationContextImpl;
+import org.hibernate.ogm.options.navigation.source.impl.AnnotationOptionValueSource;
+import org.hibernate.ogm.options.navigation.source.impl.ProgrammaticOptionValueSource;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for setting the {@link CursorOptionsOption} via annotations and programmatically.
+ */
+public class CursorOptionsTest {
+
+	private MongoDBGlobalContext mongoOptions;
+	private AppendableConfigurationContext context;
+
+	@Before
+	public void setupBuilder() {
+		context = new AppendableConfigurationContext();
+		mongoOptions = new MongoDB().getConfigurationBuilder( new ConfigurationContextImpl( context ) );
+	}
+
+	@Test
+	public void shouldObtainCursorOptionsFromAnnotation() throws Exception {
+		OptionsContainer options = new AnnotationOptionValueSource().getEntityOptions( AnnotatedEntity.class );
+		CursorSettings settings = options.getUnique( CursorOptionsOption.class );
+
+		assertThat( settings.getBatchSize() ).isEqualTo( 500 );
+		assertThat( settings.getMaxTimeMS() ).isEqualTo( 0L );
+		assertThat( settings.isNoCursorTimeout() ).isTrue();
+		assertThat( settings.isAllowDiskUse() ).isFalse();
+	}
+
+	@Test
+	public void shouldObtainCursorOptionsGivenOnGlobalLevel() throws Exception {
+		mongoOptions.cursorOptions( 1000, 5000, false, true );
+
+		CursorSettings settings = new ProgrammaticOptionValueSource( context ).getGlobalOptions().getUnique( CursorOptionsOption.class );
+
+		assertThat( settings.getBatchSize() ).isEqualTo( 1000 );
+		assertThat( settings.getMaxTimeMS() ).isEqualTo( 5000L );
+		assertThat( settings.isNoCursorTimeout() ).isFalse();
+		assertThat( settings.isAllowDiskUse() ).isTrue();
+	}
+
+	@Test
+	public void shouldObtainCursorOptionsGivenOnEntityLevel() throws Exception {
+		mongoOptions
+			.entity( MyEntity.class )
+				.cursorOptions( 200, 0, true, false );
+
+		CursorSettings settings = new ProgrammaticOptionValueSource( context ).getEntityOptions( MyEntity.class ).getUnique( CursorOptionsOption.class );
+
+		assertThat( settings.getBatchSize() ).isEqualTo( 200 );
+		assertThat( settings.isNoCursorTimeout() ).isTrue();
+	}
+
+	@Test
+	public void shouldOverrideCursorOptionsWithFetchSizeAndTimeoutOfQuery() throws Exception {
+		CursorSettings settings = new CursorSettings( 200, 5000, true, true );
+
+		CursorSettings querySettings = settings.withRowSelection( new RowSelection( null, null, 50, 2 ) );
+		assertThat( querySettings.getBatchSize() ).isEqualTo( 50 );
+		assertThat( querySettings.getMaxTimeMS() ).isEqualTo( 2000L );
+		assertThat( querySettings.isNoCursorTimeout() ).isTrue();
+		assertThat( querySettings.isAllowDiskUse() ).isTrue();
+
+		assertThat( settings.withRowSelection( new RowSelection( 10, 20 ) ) ).isSameAs( settings );
+	}
+
+	@CursorOptions(batchSize = 500, noCursorTimeout = true)
+	private static final class AnnotatedEntity {
+	}
+
+	private static final class MyEntity {
+	}
+}
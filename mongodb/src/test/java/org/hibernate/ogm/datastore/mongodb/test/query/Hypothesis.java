@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.mongodb.test.query;
 
+import java.math.BigDecimal;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -19,6 +21,7 @@ public class Hypothesis {
 	private String id;
 	private String description;
 	private int position;
+	private BigDecimal confidence;
 
 	public Hypothesis() {
 	}
@@ -53,6 +56,14 @@ public void setPosition(int position) {
 		this.position = position;
 	}
 
+	public BigDecimal getConfidence() {
+		return confidence;
+	}
+
+	public void setConfidence(BigDecimal confidence) {
+		this.confidence = confidence;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -60,6 +71,7 @@ public int hashCode() {
 		result = prime * result + ( ( description == null ) ? 0 : description.hashCode() );
 		result = prime * result + ( ( id == null ) ? 0 : id.hashCode() );
 		result = prime * result + position;
+		result = prime * result + ( ( confidence == null ) ? 0 : confidence.hashCode() );
 		return result;
 	}
 
@@ -94,6 +106,14 @@ else if ( !id.equals( other.id ) ) {
 		if ( position != other.position ) {
 			return false;
 		}
+		if ( confidence == null ) {
+			if ( other.confidence != null ) {
+				return false;
+			}
+		}
+		else if ( !confidence.equals( other.confidence ) ) {
+			return false;
+		}
 		return true;
 	}
 }
@@ -0,0 +1,200 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.query;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.TestSessionFactory;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test for JP-QL queries with aggregation functions and {@code GROUP BY} clauses, run by MongoDB.
+ */
+public class MongoDBAggregationQueryTest extends OgmTestCase {
+
+	@TestSessionFactory
+	private static SessionFactory sessions;
+
+	private Session session;
+	private Transaction transaction;
+
+	@BeforeClass
+	public static void addTestEntities() {
+		Session session = sessions.openSession();
+		Transaction transaction = session.getTransaction();
+		transaction.begin();
+
+		Hypothesis first = hypothesis( "1", 1, "Alea iacta est." );
+		first.setConfidence( new BigDecimal( "9" ) );
+		session.persist( first );
+		Hypothesis second = hypothesis( "2", 2, "Alea iacta est." );
+		second.setConfidence( new BigDecimal( "10" ) );
+		session.persist( second );
+		session.persist( hypothesis( "3", 3, "Quo vadis?" ) );
+		session.persist( hypothesis( "4", 4, "Quo vadis?" ) );
+		session.persist( hypothesis( "5", 5, "Quo vadis?" ) );
+		session.persist( hypothesis( "6", 6, "Nomen est omen." ) );
+
+		transaction.commit();
+		session.clear();
+		session.close();
+	}
+
+	@AfterClass
+	public static void deleteTestEntities() throws Exception {
+		Session session = sessions.openSession();
+		Transaction transaction = session.getTransaction();
+		transaction.begin();
+
+		for ( int i = 1; i <= 6; i++ ) {
+			session.delete( new Hypothesis( String.valueOf( i ) ) );
+		}
+
+		transaction.commit();
+		session.clear();
+		session.close();
+	}
+
+	@Before
+	public void startTransaction() {
+		session = sessions.openSession();
+		transaction = session.getTransaction();
+		transaction.begin();
+	}
+
+	@After
+	public void commitTransaction() {
+		session.close();
+		transaction.commit();
+	}
+
+	@Test
+	public void shouldCountEntities() throws Exception {
+		assertThat( session.createQuery( "select count(h) from Hypothesis h" ).uniqueResult() ).isEqualTo( 6L );
+		assertThat( session.createQuery( "select count(h) from Hypothesis h where h.position > 3" ).uniqueResult() ).isEqualTo( 3L );
+		assertThat( session.createQuery( "select count(h) from Hypothesis h where h.position > 6" ).uniqueResult() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void shouldCountEntitiesWithParameter() throws Exception {
+		String query = "select count(h) from Hypothesis h where h.description = :description";
+
+		assertThat( session.createQuery( query ).setParameter( "description", "Quo vadis?" ).uniqueResult() ).isEqualTo( 3L );
+		assertThat( session.createQuery( query ).setParameter( "description", "Nomen est omen." ).uniqueResult() ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void shouldCountDistinctValues() throws Exception {
+		assertThat( session.createQuery( "select count(distinct h.description) from Hypothesis h" ).uniqueResult() ).isEqualTo( 3L );
+	}
+
+	@Test
+	public void shouldComputeAggregationsWithoutGroupBy() throws Exception {
+		Object[] result = (Object[]) session.createQuery( "select min(h.position), max(h.position), avg(h.position), sum(h.position) from Hypothesis h" )
+				.uniqueResult();
+
+		assertThat( result ).containsOnly( 1, 6, 3.5, 21L );
+	}
+
+	@Test
+	public void shouldReturnDefaultValuesOfAggregationsWithoutMatches() throws Exception {
+		assertThat( session.createQuery( "select count(distinct h.description) from Hypothesis h where h.position > 100" ).uniqueResult() ).isEqualTo( 0L );
+
+		Object[] result = (Object[]) session.createQuery( "select count(h.position), sum(h.position), max(h.position), avg(h.position) from Hypothesis h where h.position > 100" )
+				.uniqueResult();
+
+		assertThat( result ).isEqualTo( new Object[] { 0L, null, null, null } );
+	}
+
+	@Test
+	public void shouldReturnNoGroupsWithoutMatches() throws Exception {
+		List<?> results = session.createQuery( "select h.description, count(h) from Hypothesis h where h.position > 100 group by h.description" ).list();
+
+		assertThat( results ).isEmpty();
+	}
+
+	@Test
+	public void shouldComputeAggregationsPerGroup() throws Exception {
+		@SuppressWarnings("unchecked")
+		List<Object[]> results = session.createQuery(
+				"select h.description, count(h), sum(h.position), max(h.position) from Hypothesis h " +
+				"where h.position > 1 " +
+				"group by h.description " +
+				"order by h.description" )
+				.list();
+
+		assertThat( results ).hasSize( 3 );
+		assertThat( results.get( 0 ) ).isEqualTo( new Object[] { "Alea iacta est.", 1L, 2L, 2 } );
+		assertThat( results.get( 1 ) ).isEqualTo( new Object[] { "Nomen est omen.", 1L, 6L, 6 } );
+		assertThat( results.get( 2 ) ).isEqualTo( new Object[] { "Quo vadis?", 3L, 12L, 5 } );
+	}
+
+	@Test
+	public void shouldCountValuesOfPropertyStoredAsString() throws Exception {
+		assertThat( session.createQuery( "select count(h.confidence) from Hypothesis h" ).uniqueResult() ).isEqualTo( 2L );
+	}
+
+	@Test
+	public void shouldNotSumUpPropertyStoredAsString() throws Exception {
+		// BigDecimal values are stored as strings, which the server can neither sum up nor compare numerically
+		assertAggregationRejected( "select sum(h.confidence) from Hypothesis h" );
+	}
+
+	@Test
+	public void shouldNotComputeMaximumOfPropertyStoredAsStringInHavingClause() throws Exception {
+		assertAggregationRejected( "select h.description from Hypothesis h group by h.description having max(h.confidence) > 1" );
+	}
+
+	@Test
+	public void shouldNotCountDistinctValuesInHavingClause() throws Exception {
+		assertQueryRejected( "select h.position from Hypothesis h group by h.position having count(distinct h.description) > 1", "OGM001244" );
+	}
+
+	private void assertAggregationRejected(String query) {
+		assertQueryRejected( query, "OGM001243" );
+	}
+
+	private void assertQueryRejected(String query, String messageId) {
+		try {
+			session.createQuery( query ).list();
+			fail( "Expected the query to be rejected with " + messageId );
+		}
+		catch ( RuntimeException e ) {
+			// the error raised when translating the query may be wrapped
+			Throwable cause = e;
+			while ( cause != null && ( cause.getMessage() == null || !cause.getMessage().contains( messageId ) ) ) {
+				cause = cause.getCause();
+			}
+			assertThat( cause ).as( "Cause with the message " + messageId ).isNotNull();
+		}
+	}
+
+	private static Hypothesis hypothesis(String id, int position, String description) {
+		Hypothesis hypothesis = new Hypothesis();
+		hypothesis.setId( id );
+		hypothesis.setPosition( position );
+		hypothesis.setDescription( description );
+		return hypothesis;
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Hypothesis.class };
+	}
+}
@@ -8,13 +8,27 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.util.Collections;
 import java.util.List;
 
+import org.bson.Document;
 import org.fest.assertions.Fail;
 import org.hibernate.Query;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
 import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
+import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor.Operation;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.query.spi.RowSelection;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.utils.OgmTestCase;
 import org.hibernate.ogm.utils.TestForIssue;
 import org.junit.After;
@@ -519,6 +533,32 @@ public void testAggregateWithMatchSortAndRegexWithFirstResultAndMaxResults() {
 		}
 	}
 
+	@Test
+	public void testAggregateWithFirstResultAndMaxResultsExecutedRepeatedly() {
+		try ( OgmSession session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+
+			// the parsed query is cached, executing it must not alter it
+			String nativeQuery = "db." + OscarWildePoem.TABLE_NAME + ".aggregate([{ '$match': {'author': 'Oscar Wilde' } }, { '$sort' : { 'name' : -1 } }])";
+
+			assertThat( aggregatePage( session, nativeQuery, 0 ) ).onProperty( "id" ).containsExactly( portia.getId() );
+			assertThat( aggregatePage( session, nativeQuery, 1 ) ).onProperty( "id" ).containsExactly( imperatrix.getId() );
+			assertThat( aggregatePage( session, nativeQuery, 2 ) ).onProperty( "id" ).containsExactly( athanasia.getId() );
+			assertThat( aggregatePage( session, nativeQuery, 0 ) ).onProperty( "id" ).containsExactly( portia.getId() );
+
+			transaction.commit();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<OscarWildePoem> aggregatePage(OgmSession session, String nativeQuery, int firstResult) {
+		return session.createNativeQuery( nativeQuery )
+				.addEntity( OscarWildePoem.class )
+				.setFirstResult( firstResult )
+				.setMaxResults( 1 )
+				.list();
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "OGM-1024")
 	public void testAggregateWithMatchSortAndRegexWithOptions() {
@@ -782,4 +822,25 @@ public void testDistinctQueryWithCriteria() throws Exception {
 			session.clear();
 		}
 	}
+
+	@Test
+	public void testDistinctQueryWithParameter() throws Exception {
+		MongoDBDatastoreProvider provider = (MongoDBDatastoreProvider) getSessionFactory().getServiceRegistry().getService( DatastoreProvider.class );
+		MongoDBDialect dialect = new MongoDBDialect( provider );
+		BackendQuery<MongoDBQueryDescriptor> query = new BackendQuery<MongoDBQueryDescriptor>( new MongoDBQueryDescriptor( OscarWildePoem.TABLE_NAME,
+				Operation.DISTINCT, new Document( "author", MongoDBQueryParameter.forValue( "author" ) ), null, "name" ), null );
+
+		assertThat( distinctValues( dialect, query, "author", "Oscar Wilde" ) )
+				.containsOnly( portia.getName(), athanasia.getName(), imperatrix.getName() );
+		// the parsed query is not altered by binding its parameters
+		assertThat( distinctValues( dialect, query, "author", "Bosie" ) ).isEmpty();
+	}
+
+	private static List<?> distinctValues(MongoDBDialect dialect, BackendQuery<MongoDBQueryDescriptor> query, String parameter, String value) {
+		QueryParameters queryParameters = new QueryParameters( new RowSelection( null, null ),
+				Collections.singletonMap( parameter, new TypedGridValue( null, value ) ), Collections.<TypedGridValue>emptyList() );
+		try ( ClosableIterator<Tuple> tuples = dialect.executeBackendQuery( query, queryParameters, null ) ) {
+			return (List<?>) tuples.next().get( "n" );
+		}
+	}
 }
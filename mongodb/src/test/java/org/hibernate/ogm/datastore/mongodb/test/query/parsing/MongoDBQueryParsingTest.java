@@ -8,6 +8,7 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,6 +16,7 @@
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBProcessingChain;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryParsingResult;
 import org.hibernate.ogm.datastore.mongodb.test.query.parsing.model.IndexedEntity;
@@ -22,6 +24,7 @@
 import org.hibernate.ogm.datastore.mongodb.test.query.parsing.model.inheritance.singletable.EmployeeST;
 import org.hibernate.ogm.datastore.mongodb.test.query.parsing.model.inheritance.singletable.PersonST;
 import org.hibernate.ogm.datastore.mongodb.utils.MapBasedEntityNamesResolver;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
 import org.hibernate.ogm.utils.OgmTestCase;
 import org.junit.Before;
 import org.junit.Test;
@@ -270,6 +273,161 @@ public void shouldCreateIsNotNullQuery() {
 				" }" );
 	}
 
+	@Test
+	public void shouldCreateParameterizedQueryBoundUponExecution() {
+		MongoDBQueryDescriptor query = parseParameterizedQuery(
+				"select e from IndexedEntity e where e.title = :title and e.name not like :name" );
+
+		Map<String, TypedGridValue> parameters = new HashMap<String, TypedGridValue>();
+		parameters.put( "title", new TypedGridValue( null, "same" ) );
+		parameters.put( "name", new TypedGridValue( null, "Ali_e%" ) );
+
+		assertThat( query.bindParameters( parameters, getSessionFactory() ).getCriteria().toJson() ).isEqualTo(
+				"{ \"$and\" : [" +
+					"{ \"title\" : \"same\" }, " +
+					"{ \"entityName\" : " +
+						"{ \"$not\" : " +
+							"{ \"$regex\" : \"^\\\\QAli\\\\E.\\\\Qe\\\\E.*$\", " +
+							"\"$options\" : \"s\"" +
+							" }" +
+						" }" +
+					" }" +
+				"] }" );
+
+		// binding doesn't alter the parsed query, so it can be executed again with other values
+		parameters.put( "title", new TypedGridValue( null, "other" ) );
+		assertThat( query.bindParameters( parameters, getSessionFactory() ).getCriteria().toJson() ).startsWith( "{ \"$and\" : [{ \"title\" : \"other\" }, " );
+	}
+
+	@Test
+	public void shouldConvertParameterValuesByPropertyType() {
+		MongoDBQueryDescriptor query = parseParameterizedQuery(
+				"select e from IndexedEntity e where e.title = :title" );
+
+		Map<String, TypedGridValue> parameters = new HashMap<String, TypedGridValue>();
+		parameters.put( "title", new TypedGridValue( null, "converted by the parameter type", "same" ) );
+
+		assertThat( query.bindParameters( parameters, getSessionFactory() ).getCriteria().toJson() ).isEqualTo(
+				"{ \"title\" : \"same\" }" );
+	}
+
+	@Test
+	public void shouldNotCopyQueryWithoutParameters() {
+		MongoDBQueryDescriptor query = parseParameterizedQuery(
+				"select e from IndexedEntity e where e.title = 'same'" );
+
+		assertThat( query.bindParameters( new HashMap<String, TypedGridValue>(), getSessionFactory() ) ).isSameAs( query );
+	}
+
+	@Test
+	public void shouldBindCollectionValuedParameterOfParameterizedInQuery() {
+		MongoDBQueryDescriptor query = parseParameterizedQuery(
+				"select e from IndexedEntity e where e.title in (:titles)" );
+
+		Map<String, TypedGridValue> parameters = new HashMap<String, TypedGridValue>();
+		parameters.put( "titles", new TypedGridValue( null, Arrays.asList( "foo", "bar" ) ) );
+
+		assertThat( query.bindParameters( parameters, getSessionFactory() ).getCriteria().toJson() ).isEqualTo(
+				"{ \"title\" : " +
+					"{ \"$in\" : [\"foo\", \"bar\"] }" +
+				" }" );
+	}
+
+	@Test
+	public void shouldCreateCountQuery() {
+		MongoDBQueryParsingResult parsingResult = parseQuery( "select count(e) from IndexedEntity e where e.title = 'same'" );
+
+		assertThat( parsingResult.getPipeline() ).isNull();
+		assertThat( parsingResult.getQuery().toJson() ).isEqualTo( "{ \"title\" : \"same\" }" );
+
+		MongoDBQueryDescriptor query = (MongoDBQueryDescriptor) parsingResult.getQueryObject();
+		assertThat( query.getOperation() ).isEqualTo( MongoDBQueryDescriptor.Operation.COUNT );
+	}
+
+	@Test
+	public void shouldCreateAggregationPipelineForGroupByQuery() {
+		MongoDBQueryParsingResult parsingResult = parseQuery(
+				"select e.title, count(e), max(e.size) from IndexedEntity e where e.position > 1 group by e.title order by e.title" );
+
+		assertThat( parsingResult.getColumnNames() ).containsExactly( "c0", "c1", "c2" );
+		assertThat( parsingResult.getPipeline() ).hasSize( 4 );
+		assertThat( parsingResult.getPipeline().get( 0 ).toJson() ).isEqualTo(
+				"{ \"$match\" : { \"position\" : { \"$gt\" : { \"$numberLong\" : \"1\" } } } }" );
+		assertThat( parsingResult.getPipeline().get( 1 ).toJson() ).isEqualTo(
+				"{ \"$group\" : { " +
+					"\"_id\" : { \"g0\" : \"$title\" }, " +
+					"\"c1\" : { \"$sum\" : { \"$numberLong\" : \"1\" } }, " +
+					"\"c2\" : { \"$max\" : \"$size\" }" +
+				" } }" );
+		assertThat( parsingResult.getPipeline().get( 2 ).toJson() ).isEqualTo( "{ \"$sort\" : { \"_id.g0\" : 1 } }" );
+		assertThat( parsingResult.getPipeline().get( 3 ).toJson() ).isEqualTo(
+				"{ \"$project\" : { \"_id\" : 0, \"c0\" : \"$_id.g0\", \"c1\" : 1, \"c2\" : 1 } }" );
+
+		MongoDBQueryDescriptor query = (MongoDBQueryDescriptor) parsingResult.getQueryObject();
+		assertThat( query.getOperation() ).isEqualTo( MongoDBQueryDescriptor.Operation.AGGREGATE_PIPELINE );
+	}
+
+	@Test
+	public void shouldFilterGroupsByHavingClause() {
+		MongoDBQueryParsingResult parsingResult = parseQuery(
+				"select e.title, count(e) from IndexedEntity e group by e.title having count(e) > 1 and max(e.size) < 10" );
+
+		assertThat( parsingResult.getColumnNames() ).containsExactly( "c0", "c1" );
+		assertThat( parsingResult.getPipeline() ).hasSize( 4 );
+		assertThat( parsingResult.getPipeline().get( 1 ).toJson() ).isEqualTo(
+				"{ \"$group\" : { " +
+					"\"_id\" : { \"g0\" : \"$title\" }, " +
+					"\"c1\" : { \"$sum\" : { \"$numberLong\" : \"1\" } }, " +
+					"\"h0\" : { \"$max\" : \"$size\" }" +
+				" } }" );
+		assertThat( parsingResult.getPipeline().get( 2 ).toJson() ).isEqualTo(
+				"{ \"$match\" : { \"$and\" : [" +
+					"{ \"c1\" : { \"$gt\" : { \"$numberLong\" : \"1\" } } }, " +
+					"{ \"h0\" : { \"$lt\" : 10 } }" +
+				"] } }" );
+		assertThat( parsingResult.getPipeline().get( 3 ).toJson() ).isEqualTo(
+				"{ \"$project\" : { \"_id\" : 0, \"c0\" : \"$_id.g0\", \"c1\" : 1 } }" );
+	}
+
+	@Test
+	public void shouldReturnDefaultResultOfAggregationWithoutGroupBy() {
+		MongoDBQueryDescriptor query = (MongoDBQueryDescriptor) parseQuery(
+				"select count(distinct e.title), max(e.size) from IndexedEntity e where e.position > 1" ).getQueryObject();
+
+		assertThat( query.getDefaultResult().toJson() ).isEqualTo( "{ \"c0\" : { \"$numberLong\" : \"0\" }, \"c1\" : null }" );
+
+		query = (MongoDBQueryDescriptor) parseQuery( "select e.title, count(e) from IndexedEntity e group by e.title" ).getQueryObject();
+		assertThat( query.getDefaultResult() ).isNull();
+	}
+
+	@Test
+	public void shouldSortGroupsByAggregatedValues() {
+		MongoDBQueryParsingResult parsingResult = parseQuery(
+				"select e.title, count(e) from IndexedEntity e group by e.title order by count(e) desc, sum(e.size), e.title" );
+
+		assertThat( parsingResult.getPipeline() ).hasSize( 4 );
+		assertThat( parsingResult.getPipeline().get( 1 ).toJson() ).isEqualTo(
+				"{ \"$group\" : { " +
+					"\"_id\" : { \"g0\" : \"$title\" }, " +
+					"\"c1\" : { \"$sum\" : { \"$numberLong\" : \"1\" } }, " +
+					"\"h0\" : { \"$sum\" : { \"$multiply\" : [\"$size\", { \"$numberLong\" : \"1\" }] } }" +
+				" } }" );
+		assertThat( parsingResult.getPipeline().get( 2 ).toJson() ).isEqualTo(
+				"{ \"$sort\" : { \"c1\" : -1, \"h0\" : 1, \"_id.g0\" : 1 } }" );
+	}
+
+	@Test
+	public void shouldBindParametersOfAggregationPipeline() {
+		MongoDBQueryDescriptor query = parseParameterizedQuery(
+				"select e.title, count(e) from IndexedEntity e where e.name = :name group by e.title" );
+
+		Map<String, TypedGridValue> parameters = new HashMap<String, TypedGridValue>();
+		parameters.put( "name", new TypedGridValue( null, "Alice" ) );
+
+		assertThat( query.bindParameters( parameters, getSessionFactory() ).getPipeline().get( 0 ).toJson() ).isEqualTo(
+				"{ \"$match\" : { \"entityName\" : \"Alice\" } }" );
+	}
+
 	private void assertMongoDbQuery(String queryString, String expectedMongoDbQuery) {
 		assertMongoDbQuery( queryString, null, expectedMongoDbQuery );
 	}
@@ -310,16 +468,26 @@ private MongoDBQueryParsingResult parseQuery(String queryString, Map<String, Obj
 				);
 	}
 
+	private MongoDBQueryDescriptor parseParameterizedQuery(String queryString) {
+		MongoDBQueryParsingResult parsingResult = queryParser.parseQuery(
+				queryString,
+				new MongoDBProcessingChain( getSessionFactory(), entityNamesResolver() )
+				);
+		return (MongoDBQueryDescriptor) parsingResult.getQueryObject();
+	}
+
 	private MongoDBProcessingChain setUpMongoDbProcessingChain(Map<String, Object> namedParameters) {
+		return new MongoDBProcessingChain( getSessionFactory(), entityNamesResolver(), namedParameters );
+	}
+
+	private EntityNamesResolver entityNamesResolver() {
 		Map<String, Class<?>> entityNames = new HashMap<String, Class<?>>();
 		entityNames.put( "com.acme.IndexedEntity", IndexedEntity.class );
 		entityNames.put( "IndexedEntity", IndexedEntity.class );
 		entityNames.put( "CommunityMemberST", CommunityMemberST.class );
 		entityNames.put( "PersonST", PersonST.class );
 		entityNames.put( "EmployeeST", EmployeeST.class );
-		EntityNamesResolver nameResolver = new MapBasedEntityNamesResolver( entityNames );
-
-		return new MongoDBProcessingChain( getSessionFactory(), nameResolver, namedParameters );
+		return new MapBasedEntityNamesResolver( entityNames );
 	}
 
 	@Override
@@ -235,31 +235,41 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 	private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, ClosableIterator<NodeWithEmbeddedNodes> nodes) {
 		// The list is initialized with null because some keys might not have a corresponding node
 		Tuple[] tuples = new Tuple[keys.length];
+		Map<List<Object>, Integer> positions = positions( keys );
 		Transaction tx = transaction( tupleContext );
+		String[] keyColumnNames = keys[0].getColumnNames();
+		BoltNeo4jEntityQueries entityQueries = getEntityQueries( keys[0].getMetadata(), tupleContext );
 		while ( nodes.hasNext() ) {
 			NodeWithEmbeddedNodes node = nodes.next();
-			for ( int i = 0; i < keys.length; i++ ) {
-				if ( RemoteNeo4jHelper.matches( node.getOwner().asMap(), keys[i].getColumnNames(), keys[i].getColumnValues() ) ) {
-					EntityKeyMetadata metadata = keys[i].getMetadata();
-					EntityKey key = keys[i];
-					BoltNeo4jEntityQueries entityQueries = getEntityQueries( key.getMetadata(), tupleContext );
-					Map<String, Node> toOneEntities = BoltNeo4jAssociatedNodesHelper.findAssociatedNodes( tx, node, metadata,
-							tupleContext.getTupleTypeContext(), entityQueries );
-					tuples[i] = new Tuple(
-							new BoltNeo4jTupleSnapshot(
-									node,
-									metadata,
-									toOneEntities,
-									tupleContext.getTupleTypeContext() ),
-							SnapshotType.UPDATE );
-					// We assume there are no duplicated keys
-					break;
-				}
+			Integer position = positions.get( RemoteNeo4jHelper.lookupKey( node.getOwner().asMap(), keyColumnNames ) );
+			if ( position != null ) {
+				EntityKeyMetadata metadata = keys[position].getMetadata();
+				Map<String, Node> toOneEntities = BoltNeo4jAssociatedNodesHelper.findAssociatedNodes( tx, node, metadata,
+						tupleContext.getTupleTypeContext(), entityQueries );
+				tuples[position] = new Tuple(
+						new BoltNeo4jTupleSnapshot(
+								node,
+								metadata,
+								toOneEntities,
+								tupleContext.getTupleTypeContext() ),
+						SnapshotType.UPDATE );
 			}
 		}
 		return Arrays.asList( tuples );
 	}
 
+	private static Map<List<Object>, Integer> positions(EntityKey[] keys) {
+		Map<List<Object>, Integer> positions = new HashMap<>( (int) ( keys.length / 0.75 ) + 1 );
+		for ( int i = 0; i < keys.length; i++ ) {
+			List<Object> lookupKey = RemoteNeo4jHelper.lookupKey( keys[i].getColumnValues() );
+			// We assume there are no duplicated keys, only the first one would get a tuple otherwise
+			if ( !positions.containsKey( lookupKey ) ) {
+				positions.put( lookupKey, i );
+			}
+		}
+		return positions;
+	}
+
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) throws TupleAlreadyExistsException {
 		Tuple tuple = tuplePointer.getTuple();
@@ -153,31 +153,39 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 	private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, ClosableIterator<NodeWithEmbeddedNodes> nodes, Long txId, HttpNeo4jEntityQueries queries) {
 		// The list is initialized with null because some keys might not have a corresponding node
 		Tuple[] tuples = new Tuple[keys.length];
+		Map<List<Object>, Integer> positions = positions( keys );
+		String[] keyColumnNames = keys[0].getColumnNames();
 		while ( nodes.hasNext() ) {
 			NodeWithEmbeddedNodes node = nodes.next();
-			for ( int i = 0; i < keys.length; i++ ) {
-				String[] keyNames = keys[i].getColumnNames();
-				Object[] keyValues = keys[i].getColumnValues();
-				Map<String, Object> nodeProperties = node.getOwner().getProperties();
-				if ( RemoteNeo4jHelper.matches( nodeProperties, keyNames, keyValues ) ) {
-					EntityKeyMetadata metadata = keys[i].getMetadata();
-					Map<String, Node> toOneEntities = HttpNeo4jAssociatedNodesHelper.findAssociatedNodes( client, txId, node, metadata,
-							tupleContext.getTupleTypeContext(), queries );
-					tuples[i] = new Tuple(
-							new HttpNeo4jTupleSnapshot(
-									node,
-									metadata,
-									toOneEntities,
-									tupleContext.getTupleTypeContext() ),
-							SnapshotType.UPDATE );
-					// We assume there are no duplicated keys
-					break;
-				}
+			Integer position = positions.get( RemoteNeo4jHelper.lookupKey( node.getOwner().getProperties(), keyColumnNames ) );
+			if ( position != null ) {
+				EntityKeyMetadata metadata = keys[position].getMetadata();
+				Map<String, Node> toOneEntities = HttpNeo4jAssociatedNodesHelper.findAssociatedNodes( client, txId, node, metadata,
+						tupleContext.getTupleTypeContext(), queries );
+				tuples[position] = new Tuple(
+						new HttpNeo4jTupleSnapshot(
+								node,
+								metadata,
+								toOneEntities,
+								tupleContext.getTupleTypeContext() ),
+						SnapshotType.UPDATE );
 			}
 		}
 		return Arrays.asList( tuples );
 	}
 
+	private static Map<List<Object>, Integer> positions(EntityKey[] keys) {
+		Map<List<Object>, Integer> positions = new HashMap<>( (int) ( keys.length / 0.75 ) + 1 );
+		for ( int i = 0; i < keys.length; i++ ) {
+			List<Object> lookupKey = RemoteNeo4jHelper.lookupKey( keys[i].getColumnValues() );
+			// We assume there are no duplicated keys, only the first one would get a tuple otherwise
+			if ( !positions.containsKey( lookupKey ) ) {
+				positions.put( lookupKey, i );
+			}
+		}
+		return positions;
+	}
+
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
 		Tuple tuple = tuplePointer.getTuple();
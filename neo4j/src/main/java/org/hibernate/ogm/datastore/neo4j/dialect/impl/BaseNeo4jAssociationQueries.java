@@ -254,7 +254,7 @@ protected Object[] relationshipValues(AssociationKey associationKey, RowKey rowK
 			for ( int i = 0; i < indexColumnNames.length; i++ ) {
 				for ( int j = 0; j < rowKey.getColumnNames().length; j++ ) {
 					if ( indexColumnNames[i].equals( rowKey.getColumnNames()[j] ) ) {
-						relationshipValues[i] = rowKey.getColumnValues()[j];
+						relationshipValues[i] = rowKey.getColumnValue( j );
 					}
 				}
 			}
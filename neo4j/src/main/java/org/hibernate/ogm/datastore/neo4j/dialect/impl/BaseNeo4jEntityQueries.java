@@ -612,8 +612,8 @@ protected Map<String, Object> multiGetParams(EntityKey[] keys) {
 		int counter = 0;
 		Map<String, Object> params = new HashMap<>( numberOfParams );
 		for ( int row = 0; row < keys.length; row++ ) {
-			for ( int col = 0; col < keys[row].getColumnValues().length; col++ ) {
-				params.put( String.valueOf( counter++ ), keys[row].getColumnValues()[col] );
+			for ( int col = 0; col < keys[row].getColumnCount(); col++ ) {
+				params.put( String.valueOf( counter++ ), keys[row].getColumnValue( col ) );
 			}
 		}
 		return params;
@@ -78,7 +78,7 @@ protected Object[] relationshipValues(AssociationKey associationKey, RowKey rowK
 			for ( int i = 0; i < indexColumnNames.length; i++ ) {
 				for ( int j = 0; j < rowKey.getColumnNames().length; j++ ) {
 					if ( indexColumnNames[i].equals( rowKey.getColumnNames()[j] ) ) {
-						relationshipValues[i] = rowKey.getColumnValues()[j];
+						relationshipValues[i] = rowKey.getColumnValue( j );
 					}
 				}
 			}
@@ -160,7 +160,7 @@ protected Object[] createRelationshipForEmbeddedQueryValues(AssociationKey assoc
 		String collectionRole = associationKey.getMetadata().getCollectionRole();
 		Object[] columnValues = associationKey.getEntityKey().getColumnValues();
 		if ( isCollectionOfPrimitives( collectionRole, embeddedKey.getColumnNames() ) ) {
-			return ArrayHelper.concat( columnValues, embeddedKey.getColumnValues()[0] );
+			return ArrayHelper.concat( columnValues, embeddedKey.getColumnValue( 0 ) );
 		}
 		else {
 			return ArrayHelper.concat( columnValues, embeddedKey.getColumnValues() );
@@ -114,7 +114,7 @@ private ResourceIterator<Node> multiPropertiesIdFindEntities(GraphDatabaseServic
 	private ResourceIterator<Node> singlePropertyIdFindEntities(GraphDatabaseService executionEngine, EntityKey[] keys) {
 		Object[] paramsValues = new Object[keys.length];
 		for ( int i = 0; i < keys.length; i++ ) {
-			paramsValues[i] = keys[i].getColumnValues()[0];
+			paramsValues[i] = keys[i].getColumnValue( 0 );
 		}
 		Map<String, Object> params = Collections.singletonMap( "0", (Object) paramsValues );
 		Result result = executionEngine.execute( multiGetQuery, params );
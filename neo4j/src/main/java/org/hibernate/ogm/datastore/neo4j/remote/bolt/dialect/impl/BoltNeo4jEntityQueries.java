@@ -104,7 +104,7 @@ private ClosableIterator<NodeWithEmbeddedNodes> multiPropertiesIdFindEntities(En
 	private ClosableIterator<NodeWithEmbeddedNodes> singlePropertyIdFindEntities(EntityKey[] keys, Transaction tx) {
 		Object[] paramsValues = new Object[keys.length];
 		for ( int i = 0; i < keys.length; i++ ) {
-			paramsValues[i] = keys[i].getColumnValues()[0];
+			paramsValues[i] = keys[i].getColumnValue( 0 );
 		}
 		Map<String, Object> params = Collections.singletonMap( "0", (Object) paramsValues );
 		Statement statement = new Statement( multiGetQuery, params );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.neo4j.remote.common.util.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.ogm.model.key.spi.RowKey;
@@ -44,13 +46,52 @@ else if ( expectedValue != null ) {
 		return true;
 	}
 
+	/**
+	 * Returns a value identifying the given column values, allowing to look up the keys matching a node (in the sense
+	 * of {@link #matches(Map, String[], Object[])}) in a hash-based structure.
+	 *
+	 * @param keyColumnValues the values of the key columns
+	 * @return the lookup value for the given column values
+	 * @see #lookupKey(Map, String[])
+	 */
+	public static List<Object> lookupKey(Object[] keyColumnValues) {
+		List<Object> lookupKey = new ArrayList<>( keyColumnValues.length );
+		for ( Object value : keyColumnValues ) {
+			lookupKey.add( normalize( value ) );
+		}
+		return lookupKey;
+	}
+
+	/**
+	 * Returns a value identifying the properties of a node corresponding to the given key columns, equal to the
+	 * {@link #lookupKey(Object[])} of the column values matched by the node.
+	 *
+	 * @param nodeProperties the properties on the node
+	 * @param keyColumnNames the name of the key columns
+	 * @return the lookup value for the key columns of the node
+	 */
+	public static List<Object> lookupKey(Map<String, Object> nodeProperties, String[] keyColumnNames) {
+		List<Object> lookupKey = new ArrayList<>( keyColumnNames.length );
+		for ( String property : keyColumnNames ) {
+			lookupKey.add( normalize( nodeProperties.get( property ) ) );
+		}
+		return lookupKey;
+	}
+
+	/*
+	 * Numbers are compared via their String representation, see sameValue()
+	 */
+	private static Object normalize(Object value) {
+		return value instanceof Number ? value.toString() : value;
+	}
+
 	public static boolean matches(RowKey actual, RowKey expected) {
 		if ( actual.getColumnNames().length != expected.getColumnNames().length ) {
 			return false;
 		}
 		for ( int i = 0; i < expected.getColumnNames().length; i++ ) {
-			Object expectedValue = expected.getColumnValues()[i];
-			Object actualValue = actual.getColumnValues()[i];
+			Object expectedValue = expected.getColumnValue( i );
+			Object actualValue = actual.getColumnValue( i );
 			if ( !sameValue( expectedValue, actualValue ) ) {
 				return false;
 			}
@@ -222,7 +222,7 @@ private ClosableIterator<NodeWithEmbeddedNodes> multiPropertiesIdFindEntities(Ht
 	private ClosableIterator<NodeWithEmbeddedNodes> singlePropertyIdFindEntities(HttpNeo4jClient executionEngine, EntityKey[] keys, Long txId) {
 		Object[] paramsValues = new Object[keys.length];
 		for ( int i = 0; i < keys.length; i++ ) {
-			paramsValues[i] = keys[i].getColumnValues()[0];
+			paramsValues[i] = keys[i].getColumnValue( 0 );
 		}
 		Map<String, Object> params = Collections.singletonMap( "0", (Object) paramsValues );
 		Statements statements = new Statements();
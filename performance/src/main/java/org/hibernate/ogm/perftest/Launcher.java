@@ -20,6 +20,11 @@
  * (both under {@code src/main/resources)}
  * <li>(optional:) Adapt the includes below to run a sub-set of all benchmarks
  * </ul>
+ * <p>
+ * The benchmarks in the {@code map} package run against the in-memory map datastore and thus don't need any running
+ * datastore; they can be used to tell apart regressions in OGM itself from those caused by a datastore or its driver,
+ * e.g. by including {@code ".*perftest\\.map\\..*"} only.
+ * <p>
  * Refer to the <a href="http://openjdk.java.net/projects/code-tools/jmh/">JMH documentation</a> to learn more about the
  * Java Micro-benchmark Harness in general.
  *
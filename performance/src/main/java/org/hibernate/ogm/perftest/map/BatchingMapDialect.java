@@ -0,0 +1,76 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.map;
+
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.impl.MapDialect;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
+
+/**
+ * A {@link MapDialect} which is also a {@link BatchableGridDialect}.
+ * <p>
+ * Having this facet makes OGM wrap the dialect into a {@link BatchOperationsDelegator}, so the benchmarks using it
+ * measure the overhead of collecting the changes into the {@link OperationsQueue} and of draining it again at flush
+ * time, without any datastore latency getting in the way.
+ */
+public class BatchingMapDialect extends MapDialect implements BatchableGridDialect {
+
+	public BatchingMapDialect(MapDatastoreProvider provider) {
+		super( provider );
+	}
+
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				if ( operation instanceof GroupedChangesToEntityOperation ) {
+					for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+						executeOperation( groupedOperation );
+					}
+				}
+				else {
+					executeOperation( operation );
+				}
+
+				operation = queue.poll();
+			}
+
+			queue.clear();
+		}
+	}
+
+	private void executeOperation(Operation operation) {
+		if ( operation instanceof InsertOrUpdateTupleOperation ) {
+			InsertOrUpdateTupleOperation insertOrUpdate = (InsertOrUpdateTupleOperation) operation;
+			insertOrUpdateTuple( insertOrUpdate.getEntityKey(), insertOrUpdate.getTuplePointer(), insertOrUpdate.getTupleContext() );
+		}
+		else if ( operation instanceof RemoveTupleOperation ) {
+			RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+			removeTuple( remove.getEntityKey(), remove.getTupleContext() );
+		}
+		else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			InsertOrUpdateAssociationOperation insertOrUpdate = (InsertOrUpdateAssociationOperation) operation;
+			insertOrUpdateAssociation( insertOrUpdate.getAssociationKey(), insertOrUpdate.getAssociation(), insertOrUpdate.getContext() );
+		}
+		else if ( operation instanceof RemoveAssociationOperation ) {
+			RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+			removeAssociation( remove.getAssociationKey(), remove.getContext() );
+		}
+		else {
+			throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.map;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.jpa.HibernateEntityManagerFactory;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Context object controlling the {@link EntityManagerFactory} lifecycle and making it available to the benchmarks
+ * running against the in-memory map datastore.
+ * <p>
+ * As no datastore round trips are involved, these benchmarks measure the overhead of OGM itself (persisters, loaders,
+ * dehydration/hydration of tuples, association bookkeeping). Each benchmark is run with the plain
+ * {@code MapDialect} as well as with {@link BatchingMapDialect}, the latter exercising the operations queue.
+ */
+@State(Scope.Benchmark)
+public class MapEntityManagerFactoryHolder {
+
+	@Param({ "false", "true" })
+	public boolean batching;
+
+	EntityManagerFactory entityManagerFactory;
+	TransactionManager transactionManager;
+	Random rand;
+
+	@Setup
+	public void setupEntityManagerFactory() throws Exception {
+		Map<String, Object> properties = new HashMap<String, Object>();
+		if ( batching ) {
+			properties.put( OgmProperties.GRID_DIALECT, BatchingMapDialect.class.getName() );
+		}
+
+		entityManagerFactory = Persistence.createEntityManagerFactory( "perfTestMapPu", properties );
+		transactionManager = extractJBossTransactionManager( entityManagerFactory );
+		rand = new Random();
+	}
+
+	@TearDown
+	public void closeEntityManagerFactory() {
+		entityManagerFactory.close();
+	}
+
+	private TransactionManager extractJBossTransactionManager(EntityManagerFactory factory) {
+		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) ( (HibernateEntityManagerFactory) factory ).getSessionFactory();
+		return sessionFactory.getServiceRegistry().getService( JtaPlatform.class ).retrieveTransactionManager();
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.map;
+
+import java.util.Date;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.hibernate.ogm.perftest.model.FieldOfScience;
+import org.hibernate.ogm.perftest.model.ResearchPaper;
+import org.hibernate.ogm.perftest.model.ScientistWithSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A JMH benchmark measuring the OGM-side cost of find-by-id operations and of association loading, using the
+ * in-memory map datastore.
+ */
+public class MapFindBenchmark {
+
+	static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	private static final int NUMBER_OF_REFERENCABLE_ENTITIES = 100;
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		MapEntityManagerFactoryHolder stateHolder;
+
+		@Setup
+		public void insertTestData(MapEntityManagerFactoryHolder stateHolder) throws Exception {
+			this.stateHolder = stateHolder;
+
+			EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+			// insert referenced objects
+			stateHolder.transactionManager.begin();
+			entityManager.joinTransaction();
+
+			for ( int i = 0; i < NUMBER_OF_REFERENCABLE_ENTITIES; i++ ) {
+				entityManager.persist( new FieldOfScience( i, "The dark sciences of " + stateHolder.rand.nextInt( 26 ), stateHolder.rand.nextDouble() ) );
+			}
+
+			stateHolder.transactionManager.commit();
+
+			// insert referencing objects
+			for ( int i = 0; i <= NUMBER_OF_TEST_ENTITIES; i++ ) {
+				if ( i % 1000 == 0 ) {
+					stateHolder.transactionManager.begin();
+					entityManager.joinTransaction();
+				}
+
+				AuthorWithSequence author = new AuthorWithSequence();
+
+				author.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+				author.setDob( new Date() );
+				author.setFname( "Jessie " + stateHolder.rand.nextInt() );
+				author.setLname( "Landis " + stateHolder.rand.nextInt() );
+				author.setMname( "" + stateHolder.rand.nextInt( 26 ) );
+
+				entityManager.persist( author );
+
+				ScientistWithSequence scientist = new ScientistWithSequence();
+
+				scientist.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+				scientist.setDob( new Date() );
+				scientist.setName( "Jessie " + stateHolder.rand.nextInt() );
+
+				for ( int j = 0; j < 5; j++ ) {
+					scientist.getPublishedPapers().add( new ResearchPaper( "Highly academic vol. " + stateHolder.rand.nextLong(), new Date(), stateHolder.rand.nextInt( 8000 ) ) );
+				}
+
+				for ( int j = 0; j < 10; j++ ) {
+					scientist.getInterestedIn().add( entityManager.getReference( FieldOfScience.class, stateHolder.rand.nextInt( NUMBER_OF_REFERENCABLE_ENTITIES ) ) );
+				}
+
+				entityManager.persist( scientist );
+
+				if ( i % 1000 == 0 ) {
+					stateHolder.transactionManager.commit();
+					entityManager.clear();
+				}
+			}
+
+			entityManager.close();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityById(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		MapEntityManagerFactoryHolder stateHolder = inserter.stateHolder;
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+			AuthorWithSequence author = entityManager.find( AuthorWithSequence.class, id );
+
+			if ( author == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			blackhole.consume( author.getLname() );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void getEntitiesWithAssociationById(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		MapEntityManagerFactoryHolder stateHolder = inserter.stateHolder;
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+			ScientistWithSequence scientist = entityManager.find( ScientistWithSequence.class, id );
+
+			if ( scientist == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			blackhole.consume( scientist.getBio() );
+
+			for ( ResearchPaper paper : scientist.getPublishedPapers() ) {
+				blackhole.consume( paper.getTitle() );
+			}
+
+			for ( FieldOfScience fieldOfScience : scientist.getInterestedIn() ) {
+				blackhole.consume( fieldOfScience.getName() );
+			}
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void updateEntities(TestDataInserter inserter) throws Exception {
+		MapEntityManagerFactoryHolder stateHolder = inserter.stateHolder;
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+			AuthorWithSequence author = entityManager.find( AuthorWithSequence.class, id );
+
+			if ( author == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			author.setBio( "This is an updated bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+			author.setMname( "" + stateHolder.rand.nextInt( 26 ) );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		MapEntityManagerFactoryHolder stateHolder = new MapEntityManagerFactoryHolder();
+		stateHolder.setupEntityManagerFactory();
+
+		TestDataInserter inserter = new TestDataInserter();
+		inserter.insertTestData( stateHolder );
+
+		new MapFindBenchmark().updateEntities( inserter );
+		stateHolder.closeEntityManagerFactory();
+	}
+}